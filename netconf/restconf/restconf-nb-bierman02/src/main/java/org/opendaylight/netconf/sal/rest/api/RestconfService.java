@@ -54,6 +54,12 @@ public interface RestconfService {
 
     String XML = "+xml";
     String JSON = "+json";
+    String CBOR = "+cbor";
+
+    /**
+     * Media type of YANG-CBOR encoded data, as defined by draft-ietf-core-yang-cbor.
+     */
+    String YANG_DATA_CBOR = "application/yang-data+cbor";
 
     @GET
     Object getRoot();
@@ -192,20 +198,26 @@ public interface RestconfService {
     @Produces({
         Draft02.MediaTypes.OPERATION + JSON,
         Draft02.MediaTypes.OPERATION + XML,
+        Draft02.MediaTypes.OPERATION + CBOR,
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     @Consumes({
         Draft02.MediaTypes.OPERATION + JSON,
         Draft02.MediaTypes.OPERATION + XML,
+        Draft02.MediaTypes.OPERATION + CBOR,
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     NormalizedNodeContext invokeRpc(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
             @Context UriInfo uriInfo);
@@ -227,9 +239,11 @@ public interface RestconfService {
     @Produces({
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     NormalizedNodeContext readConfigurationData(@Encoded @PathParam("identifier") String identifier,
             @Context UriInfo uriInfo);
@@ -251,9 +265,11 @@ public interface RestconfService {
     @Produces({
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     NormalizedNodeContext readOperationalData(@Encoded @PathParam("identifier") String identifier,
             @Context UriInfo uriInfo);
@@ -275,9 +291,11 @@ public interface RestconfService {
     @Consumes({
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     Response updateConfigurationData(@Encoded @PathParam("identifier") String identifier,
             NormalizedNodeContext payload, @Context UriInfo uriInfo);
@@ -301,9 +319,11 @@ public interface RestconfService {
     @Consumes({
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     Response createConfigurationData(@Encoded @PathParam("identifier") String identifier, NormalizedNodeContext payload,
             @Context UriInfo uriInfo);
@@ -325,9 +345,11 @@ public interface RestconfService {
     @Consumes({
         Draft02.MediaTypes.DATA + JSON,
         Draft02.MediaTypes.DATA + XML,
+        Draft02.MediaTypes.DATA + CBOR,
         MediaType.APPLICATION_JSON,
         MediaType.APPLICATION_XML,
-        MediaType.TEXT_XML
+        MediaType.TEXT_XML,
+        YANG_DATA_CBOR
     })
     Response createConfigurationData(NormalizedNodeContext payload, @Context UriInfo uriInfo);
 
@@ -400,11 +422,13 @@ public interface RestconfService {
     @Path("/config/{identifier:.+}")
     @Consumes({
         MediaTypes.PATCH + JSON,
-        MediaTypes.PATCH + XML
+        MediaTypes.PATCH + XML,
+        MediaTypes.PATCH + CBOR
     })
     @Produces({
         MediaTypes.PATCH_STATUS + JSON,
-        MediaTypes.PATCH_STATUS + XML
+        MediaTypes.PATCH_STATUS + XML,
+        MediaTypes.PATCH_STATUS + CBOR
     })
     PatchStatusContext patchConfigurationData(@Encoded @PathParam("identifier") String identifier, PatchContext
             context, @Context UriInfo uriInfo);
@@ -425,11 +449,13 @@ public interface RestconfService {
     @Path("/config")
     @Consumes({
         MediaTypes.PATCH + JSON,
-        MediaTypes.PATCH + XML
+        MediaTypes.PATCH + XML,
+        MediaTypes.PATCH + CBOR
     })
     @Produces({
         MediaTypes.PATCH_STATUS + JSON,
-        MediaTypes.PATCH_STATUS + XML
+        MediaTypes.PATCH_STATUS + XML,
+        MediaTypes.PATCH_STATUS + CBOR
     })
     PatchStatusContext patchConfigurationData(PatchContext context, @Context UriInfo uriInfo);
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.gson.stream.JsonReader;
+import java.io.InputStream;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.ext.Provider;
+import org.opendaylight.netconf.sal.rest.api.Draft02;
+import org.opendaylight.netconf.sal.rest.api.RestconfService;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+
+/**
+ * Normalized node reader for YANG-CBOR with name-based member encoding.
+ */
+@Provider
+@Consumes({
+    Draft02.MediaTypes.DATA + RestconfService.CBOR,
+    Draft02.MediaTypes.OPERATION + RestconfService.CBOR,
+    RestconfService.YANG_DATA_CBOR
+})
+public class CborNormalizedNodeBodyReader extends JsonNormalizedNodeBodyReader {
+    public CborNormalizedNodeBodyReader(final ControllerContext controllerContext) {
+        super(controllerContext);
+    }
+
+    public CborNormalizedNodeBodyReader(final ControllerContext controllerContext,
+            final SchemaCodecCache schemaCodecs) {
+        super(controllerContext, schemaCodecs);
+    }
+
+    @Override
+    protected JsonReader createJsonReader(final InputStream entityStream) {
+        return new CborReader(entityStream);
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+
+/**
+ * A {@link JsonReader} decoding CBOR (RFC 8949) instead of JSON text. This allows the JSON parsers to consume
+ * YANG-CBOR with name-based member encoding. Both definite and indefinite length items are supported. Numbers are
+ * reported as {@link JsonToken#NUMBER} with their decimal string form, byte strings are reported as base64-encoded
+ * strings, matching the JSON encoding of the binary type. A null member value, which is how RFC 9254 encodes the
+ * empty type, is reported as {@code [null]}, matching its JSON encoding. Map keys have to be text strings, SID-based
+ * keys are not supported.
+ */
+final class CborReader extends JsonReader {
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_BYTES = 2;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    private static final int MAJOR_TAG = 6;
+    private static final int MAJOR_SIMPLE = 7;
+
+    private static final int INFO_INDEFINITE = 31;
+    private static final int SIMPLE_NULL = 22;
+    private static final int BREAK = 0xff;
+
+    private static final int TAG_POSITIVE_BIGNUM = 2;
+    private static final int TAG_NEGATIVE_BIGNUM = 3;
+    private static final int TAG_DECIMAL_FRACTION = 4;
+
+    private static final class Frame {
+        final boolean map;
+        // Array reported in place of a null member value, not present in the input
+        final boolean empty;
+        // Remaining items, or pairs in case of a map, negative for indefinite length
+        long remaining;
+        boolean expectName;
+
+        Frame(final boolean map, final long length, final boolean empty) {
+            this.map = map;
+            this.empty = empty;
+            remaining = length;
+            expectName = map;
+        }
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final InputStream in;
+
+    private JsonToken peeked;
+    private String value;
+    private long length;
+    private boolean empty;
+    private boolean started;
+
+    CborReader(final InputStream in) {
+        super(Reader.nullReader());
+        this.in = new BufferedInputStream(requireNonNull(in));
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (peeked == null) {
+            peeked = doPeek();
+        }
+        return peeked;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        consume(JsonToken.BEGIN_ARRAY);
+        frames.push(new Frame(false, length, empty));
+        empty = false;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        consume(JsonToken.END_ARRAY);
+        frames.pop();
+        itemConsumed();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        consume(JsonToken.BEGIN_OBJECT);
+        frames.push(new Frame(true, length, false));
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        consume(JsonToken.END_OBJECT);
+        frames.pop();
+        itemConsumed();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        consume(JsonToken.NAME);
+        itemConsumed();
+        return value;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        final JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw unexpected(JsonToken.STRING);
+        }
+        peeked = null;
+        itemConsumed();
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        consume(JsonToken.BOOLEAN);
+        itemConsumed();
+        return Boolean.parseBoolean(value);
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        consume(JsonToken.NULL);
+        itemConsumed();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return Double.parseDouble(nextString());
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return Long.parseLong(nextString());
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return Integer.parseInt(nextString());
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_DOCUMENT:
+                    return;
+                default:
+                    peeked = null;
+                    itemConsumed();
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        peeked = JsonToken.END_DOCUMENT;
+        frames.clear();
+        in.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private void consume(final JsonToken expected) throws IOException {
+        if (peek() != expected) {
+            throw unexpected(expected);
+        }
+        peeked = null;
+    }
+
+    private IllegalStateException unexpected(final JsonToken expected) {
+        return new IllegalStateException("Expected " + expected + " but was " + peeked);
+    }
+
+    private void itemConsumed() {
+        final Frame frame = frames.peek();
+        if (frame != null) {
+            if (frame.map) {
+                frame.expectName = !frame.expectName;
+                if (!frame.expectName) {
+                    // A name has been consumed, its value follows
+                    return;
+                }
+            }
+            if (frame.remaining > 0) {
+                frame.remaining--;
+            }
+        }
+    }
+
+    private JsonToken doPeek() throws IOException {
+        final Frame frame = frames.peek();
+        if (frame == null) {
+            if (started) {
+                return JsonToken.END_DOCUMENT;
+            }
+            started = true;
+        } else if (frame.remaining == 0) {
+            return frame.map ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        } else if (frame.empty) {
+            value = null;
+            return JsonToken.NULL;
+        }
+
+        int initial = read();
+        if (initial == BREAK) {
+            if (frame == null || frame.remaining >= 0 || frame.map && !frame.expectName) {
+                throw new IOException("Unexpected break");
+            }
+            frame.remaining = 0;
+            return frame.map ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        }
+
+        final boolean expectName = frame != null && frame.map && frame.expectName;
+        while (initial >>> 5 == MAJOR_TAG) {
+            final long tag = readArgument(initial);
+            if (tag == TAG_DECIMAL_FRACTION && !expectName) {
+                value = readDecimalFraction();
+                return JsonToken.NUMBER;
+            }
+            if ((tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) && !expectName) {
+                value = readBignum(tag, read()).toString();
+                return JsonToken.NUMBER;
+            }
+            // Other tags do not affect the JSON representation
+            initial = read();
+        }
+
+        final int major = initial >>> 5;
+        if (expectName) {
+            if (major != MAJOR_TEXT) {
+                throw new IOException("Only text string map keys are supported, encountered major type " + major);
+            }
+            value = readString(initial);
+            return JsonToken.NAME;
+        }
+
+        switch (major) {
+            case MAJOR_UNSIGNED:
+            case MAJOR_NEGATIVE:
+                value = readInteger(initial).toString();
+                return JsonToken.NUMBER;
+            case MAJOR_BYTES:
+                value = Base64.getEncoder().encodeToString(readBytes(initial));
+                return JsonToken.STRING;
+            case MAJOR_TEXT:
+                value = readString(initial);
+                return JsonToken.STRING;
+            case MAJOR_ARRAY:
+                length = readArgument(initial);
+                return JsonToken.BEGIN_ARRAY;
+            case MAJOR_MAP:
+                length = readArgument(initial);
+                return JsonToken.BEGIN_OBJECT;
+            case MAJOR_SIMPLE:
+                if ((initial & 0x1f) == SIMPLE_NULL && frame != null && frame.map) {
+                    // RFC 9254 encodes empty as null, report its JSON form, [null]
+                    length = 1;
+                    empty = true;
+                    return JsonToken.BEGIN_ARRAY;
+                }
+                return readSimple(initial);
+            default:
+                throw new IOException("Unexpected major type " + major);
+        }
+    }
+
+    private JsonToken readSimple(final int initial) throws IOException {
+        switch (initial & 0x1f) {
+            case 20:
+                value = Boolean.FALSE.toString();
+                return JsonToken.BOOLEAN;
+            case 21:
+                value = Boolean.TRUE.toString();
+                return JsonToken.BOOLEAN;
+            case SIMPLE_NULL:
+            case 23:
+                value = null;
+                return JsonToken.NULL;
+            case 25:
+                value = toDecimalString(halfToFloat((read() << 8) | read()));
+                return JsonToken.NUMBER;
+            case 26:
+                value = toDecimalString(Float.intBitsToFloat((int) readUnsigned(4)));
+                return JsonToken.NUMBER;
+            case 27:
+                value = toDecimalString(Double.longBitsToDouble(readUnsigned(8)));
+                return JsonToken.NUMBER;
+            default:
+                throw new IOException("Unsupported simple value " + (initial & 0x1f));
+        }
+    }
+
+    private String readDecimalFraction() throws IOException {
+        final int initial = read();
+        if (initial >>> 5 != MAJOR_ARRAY || readArgument(initial) != 2) {
+            throw new IOException("Decimal fraction has to be a two-element array");
+        }
+        final int exponent = readInteger(read()).intValueExact();
+        final int mantissa = read();
+        final BigInteger unscaled = mantissa >>> 5 == MAJOR_TAG ? readBignum(readArgument(mantissa), read())
+            : readInteger(mantissa);
+        return new BigDecimal(unscaled, -exponent).toPlainString();
+    }
+
+    private BigInteger readBignum(final long tag, final int initial) throws IOException {
+        if (initial >>> 5 != MAJOR_BYTES || tag != TAG_POSITIVE_BIGNUM && tag != TAG_NEGATIVE_BIGNUM) {
+            throw new IOException("Malformed bignum");
+        }
+        final BigInteger magnitude = new BigInteger(1, readBytes(initial));
+        return tag == TAG_POSITIVE_BIGNUM ? magnitude : magnitude.not();
+    }
+
+    private BigInteger readInteger(final int initial) throws IOException {
+        final int major = initial >>> 5;
+        if (major != MAJOR_UNSIGNED && major != MAJOR_NEGATIVE || (initial & 0x1f) == INFO_INDEFINITE) {
+            throw new IOException("Expected an integer, encountered major type " + major);
+        }
+        final long argument = readArgument(initial);
+        if (argument >= 0) {
+            return BigInteger.valueOf(major == MAJOR_UNSIGNED ? argument : -1 - argument);
+        }
+        final BigInteger unsigned = new BigInteger(Long.toUnsignedString(argument));
+        return major == MAJOR_UNSIGNED ? unsigned : unsigned.not();
+    }
+
+    private String readString(final int initial) throws IOException {
+        return new String(readBytes(initial), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(final int initial) throws IOException {
+        if ((initial & 0x1f) != INFO_INDEFINITE) {
+            return readFully(readArgument(initial));
+        }
+
+        // Indefinite length string: a sequence of definite length chunks of the same major type
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for (int chunk = read(); chunk != BREAK; chunk = read()) {
+            if (chunk >>> 5 != initial >>> 5 || (chunk & 0x1f) == INFO_INDEFINITE) {
+                throw new IOException("Malformed indefinite length string");
+            }
+            bos.write(readFully(readArgument(chunk)));
+        }
+        return bos.toByteArray();
+    }
+
+    private byte[] readFully(final long size) throws IOException {
+        if (size < 0 || size > Integer.MAX_VALUE - 8) {
+            throw new IOException("Unsupported string length " + Long.toUnsignedString(size));
+        }
+        final byte[] bytes = in.readNBytes((int) size);
+        if (bytes.length != size) {
+            throw new EOFException("Unexpected end of input");
+        }
+        return bytes;
+    }
+
+    private long readArgument(final int initial) throws IOException {
+        final int info = initial & 0x1f;
+        if (info < 24) {
+            return info;
+        }
+        switch (info) {
+            case 24:
+                return readUnsigned(1);
+            case 25:
+                return readUnsigned(2);
+            case 26:
+                return readUnsigned(4);
+            case 27:
+                return readUnsigned(8);
+            case INFO_INDEFINITE:
+                final int major = initial >>> 5;
+                if (major < MAJOR_BYTES || major > MAJOR_MAP) {
+                    throw new IOException("Indefinite length is not allowed for major type " + major);
+                }
+                return -1;
+            default:
+                throw new IOException("Reserved additional information " + info);
+        }
+    }
+
+    private long readUnsigned(final int bytes) throws IOException {
+        long ret = 0;
+        for (int i = 0; i < bytes; ++i) {
+            ret = ret << 8 | read();
+        }
+        return ret;
+    }
+
+    private int read() throws IOException {
+        final int ret = in.read();
+        if (ret == -1) {
+            throw new EOFException("Unexpected end of input");
+        }
+        return ret;
+    }
+
+    private static String toDecimalString(final float number) {
+        return Float.isFinite(number) ? new BigDecimal(Float.toString(number)).toPlainString()
+            : Float.toString(number);
+    }
+
+    private static String toDecimalString(final double number) {
+        return Double.isFinite(number) ? BigDecimal.valueOf(number).toPlainString() : Double.toString(number);
+    }
+
+    private static float halfToFloat(final int half) {
+        final int exponent = half >>> 10 & 0x1f;
+        final int mantissa = half & 0x3ff;
+        final float magnitude;
+        if (exponent == 0) {
+            magnitude = mantissa * 0x1p-24f;
+        } else if (exponent == 0x1f) {
+            magnitude = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+        } else {
+            magnitude = Float.intBitsToFloat(exponent + 112 << 23 | mantissa << 13);
+        }
+        return (half & 0x8000) == 0 ? magnitude : -magnitude;
+    }
+}
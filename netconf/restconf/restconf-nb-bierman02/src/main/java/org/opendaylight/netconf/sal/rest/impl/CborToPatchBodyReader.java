@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.gson.stream.JsonReader;
+import java.io.InputStream;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.ext.Provider;
+import org.opendaylight.netconf.sal.rest.api.Draft02;
+import org.opendaylight.netconf.sal.rest.api.RestconfService;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+
+/**
+ * Patch reader for YANG-CBOR with name-based member encoding.
+ */
+@Provider
+@Consumes({Draft02.MediaTypes.PATCH + RestconfService.CBOR})
+public class CborToPatchBodyReader extends JsonToPatchBodyReader {
+    public CborToPatchBodyReader(final ControllerContext controllerContext) {
+        super(controllerContext);
+    }
+
+    @Override
+    protected JsonReader createJsonReader(final InputStream entityStream) {
+        return new CborReader(entityStream);
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+
+/**
+ * A {@link JsonWriter} emitting CBOR (RFC 8949) instead of JSON text. This allows the JSON codecs to produce YANG-CBOR
+ * with name-based member encoding: objects and arrays are emitted as indefinite-length maps and arrays, member names
+ * as text strings and numbers as CBOR integers, floats or decimal fractions.
+ *
+ * <p>
+ * The JSON codecs emit some values in a form specific to JSON: int64, uint64 and decimal64 as strings, binary as base64
+ * text and empty as {@code [null]}. RFC 9254 encodes these natively, as integers, decimal fractions, byte strings and
+ * a simple null. To do so, the stream writer feeding the codecs is wrapped by {@link #withNativeScalars}, which hands
+ * the value of each leaf to this writer before the codec writes its JSON form, which is then replaced with the native
+ * encoding.
+ */
+final class CborWriter extends JsonWriter {
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_BYTES = 2;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_TAG = 6;
+
+    private static final int ARRAY_START = 0x9f;
+    private static final int MAP_START = 0xbf;
+    private static final int BREAK = 0xff;
+    private static final int FALSE = 0xf4;
+    private static final int TRUE = 0xf5;
+    private static final int NULL = 0xf6;
+    private static final int DOUBLE = 0xfb;
+
+    private static final int TAG_POSITIVE_BIGNUM = 2;
+    private static final int TAG_NEGATIVE_BIGNUM = 3;
+    private static final int TAG_DECIMAL_FRACTION = 4;
+
+    private final OutputStream out;
+
+    // Value of the leaf being written by the JSON codecs, if any
+    private Object scalar;
+    // Remaining tokens of the JSON form of an empty value, which was encoded as null
+    private int skippedTokens;
+
+    CborWriter(final OutputStream out) {
+        super(Writer.nullWriter());
+        this.out = new BufferedOutputStream(requireNonNull(out));
+    }
+
+    /**
+     * Wrap a stream writer writing to this writer, so that values of leaves are encoded as RFC 9254 specifies.
+     *
+     * @param writer Stream writer, writing to this writer through the JSON codecs
+     * @return Wrapped stream writer
+     */
+    NormalizedNodeStreamWriter withNativeScalars(final NormalizedNodeStreamWriter writer) {
+        return new NativeScalarWriter(writer);
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        if (takeScalar() instanceof Empty) {
+            // The codecs write [null], RFC 9254 encodes empty as a bare null
+            out.write(NULL);
+            skippedTokens = 2;
+            return this;
+        }
+        out.write(ARRAY_START);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        if (skippedTokens != 0) {
+            skippedTokens--;
+            return this;
+        }
+        out.write(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        out.write(MAP_START);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        out.write(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name) throws IOException {
+        writeText(requireNonNull(name));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final String value) throws IOException {
+        final Object pending = takeScalar();
+        if (value == null) {
+            return nullValue();
+        }
+        if (pending instanceof Long) {
+            return value(((Long) pending).longValue());
+        }
+        if (pending instanceof Uint64) {
+            // Values above Long.MAX_VALUE are written as the unsigned argument they are
+            writeHead(MAJOR_UNSIGNED, ((Uint64) pending).longValue());
+        } else if (pending instanceof Decimal64) {
+            writeDecimalFraction(new BigDecimal(pending.toString()));
+        } else if (pending instanceof byte[]) {
+            final byte[] bytes = (byte[]) pending;
+            writeHead(MAJOR_BYTES, bytes.length);
+            out.write(bytes);
+        } else {
+            writeText(value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(final String value) throws IOException {
+        throw new IOException("Raw JSON value cannot be encoded as CBOR");
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (skippedTokens != 0) {
+            skippedTokens--;
+            return this;
+        }
+        scalar = null;
+        out.write(NULL);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final boolean value) throws IOException {
+        scalar = null;
+        out.write(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Boolean value) throws IOException {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(final double value) throws IOException {
+        scalar = null;
+        out.write(DOUBLE);
+        writeLong(Double.doubleToLongBits(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final long value) throws IOException {
+        scalar = null;
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final Number value) throws IOException {
+        scalar = null;
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return value(value.doubleValue());
+        }
+
+        // BigInteger, BigDecimal and YANG-specific types, like Uint32, go through their canonical string form
+        final BigDecimal decimal = new BigDecimal(value.toString());
+        if (decimal.scale() <= 0) {
+            writeInteger(decimal.toBigIntegerExact());
+        } else {
+            writeDecimalFraction(decimal);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private Object takeScalar() {
+        final Object ret = scalar;
+        scalar = null;
+        return ret;
+    }
+
+    private void writeDecimalFraction(final BigDecimal decimal) throws IOException {
+        // Decimal fraction: [exponent, mantissa]
+        writeHead(MAJOR_TAG, TAG_DECIMAL_FRACTION);
+        out.write(0x82);
+        value(-decimal.scale());
+        writeInteger(decimal.unscaledValue());
+    }
+
+    private void writeInteger(final BigInteger value) throws IOException {
+        if (value.bitLength() < Long.SIZE) {
+            value(value.longValue());
+            return;
+        }
+
+        final boolean negative = value.signum() < 0;
+        // Negative integers are encoded as -1 - n
+        final BigInteger magnitude = negative ? value.not() : value;
+        if (magnitude.bitLength() <= Long.SIZE) {
+            writeHead(negative ? MAJOR_NEGATIVE : MAJOR_UNSIGNED, magnitude.longValue());
+            return;
+        }
+
+        writeHead(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        byte[] bytes = magnitude.toByteArray();
+        if (bytes[0] == 0) {
+            // Strip the sign byte
+            final byte[] tmp = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, tmp, 0, tmp.length);
+            bytes = tmp;
+        }
+        writeHead(MAJOR_BYTES, bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeText(final String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TEXT, bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeHead(final int major, final long argument) throws IOException {
+        final int type = major << 5;
+        if (argument >= 0 && argument < 24) {
+            out.write(type | (int) argument);
+        } else if (argument >= 0 && argument <= 0xff) {
+            out.write(type | 24);
+            out.write((int) argument);
+        } else if (argument >= 0 && argument <= 0xffff) {
+            out.write(type | 25);
+            out.write((int) (argument >>> 8));
+            out.write((int) argument);
+        } else if (argument >= 0 && argument <= 0xffffffffL) {
+            out.write(type | 26);
+            writeInt((int) argument);
+        } else {
+            // Covers unsigned values above Long.MAX_VALUE, too
+            out.write(type | 27);
+            writeLong(argument);
+        }
+    }
+
+    private void writeInt(final int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private void writeLong(final long value) throws IOException {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /**
+     * Stream writer handing values of leaves and leaf-list entries to the enclosing writer.
+     */
+    private final class NativeScalarWriter extends ForwardingNormalizedNodeStreamWriter {
+        private final NormalizedNodeStreamWriter delegate;
+
+        NativeScalarWriter(final NormalizedNodeStreamWriter delegate) {
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        protected NormalizedNodeStreamWriter delegate() {
+            return delegate;
+        }
+
+        @Override
+        public void scalarValue(final Object value) throws IOException {
+            scalar = value;
+            try {
+                super.scalarValue(value);
+            } finally {
+                scalar = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transparent {@code gzip} and {@code deflate} content coding of request and response bodies. Encoded request bodies
+ * are decoded as a stream in front of the body readers. Response bodies are compressed when the client accepts one of
+ * the codings and the body reaches a minimum size; smaller bodies are sent as-is. Deflaters and the buffers used
+ * for compression are pooled, so that compressing responses does not allocate per request.
+ */
+@Provider
+public class ContentEncodingInterceptor implements ReaderInterceptor, WriterInterceptor {
+    private static final Logger LOG = LoggerFactory.getLogger(ContentEncodingInterceptor.class);
+
+    static final int DEFAULT_MINIMUM_SIZE = 1024;
+    static final int DEFAULT_COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String IDENTITY = "identity";
+    private static final String ANY = "*";
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_POOLED = 64;
+    private static final byte[] GZIP_HEADER = {
+        0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private final Queue<Deflater> gzipDeflaters = new ArrayBlockingQueue<>(MAX_POOLED);
+    private final Queue<Deflater> deflateDeflaters = new ArrayBlockingQueue<>(MAX_POOLED);
+    private final Queue<byte[]> buffers = new ArrayBlockingQueue<>(MAX_POOLED);
+    private final int minimumSize;
+    private final int compressionLevel;
+    private final int bufferSize;
+
+    @Context
+    private HttpHeaders headers;
+
+    public ContentEncodingInterceptor() {
+        this(DEFAULT_MINIMUM_SIZE, DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    public ContentEncodingInterceptor(final int minimumSize, final int compressionLevel) {
+        checkArgument(minimumSize >= 0, "Minimum size %s is negative", minimumSize);
+        checkArgument(compressionLevel == Deflater.DEFAULT_COMPRESSION
+            || compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+            "Invalid compression level %s", compressionLevel);
+        this.minimumSize = minimumSize;
+        this.compressionLevel = compressionLevel;
+        bufferSize = Math.max(BUFFER_SIZE, minimumSize);
+    }
+
+    @Override
+    public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+        final String encoding = context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (encoding != null) {
+            context.setInputStream(decode(encoding.trim().toLowerCase(Locale.ROOT), context.getInputStream()));
+            context.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+        }
+        return context.proceed();
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        aroundWriteTo(context, headers == null ? null : headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @VisibleForTesting
+    void aroundWriteTo(final WriterInterceptorContext context, final String acceptEncoding) throws IOException {
+        final String encoding = negotiate(acceptEncoding);
+        if (encoding == null || context.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            context.proceed();
+            return;
+        }
+
+        context.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        final OutputStream original = context.getOutputStream();
+        final CompressingOutputStream compressing = new CompressingOutputStream(original, context.getHeaders(),
+            GZIP.equals(encoding));
+        context.setOutputStream(compressing);
+        try {
+            context.proceed();
+            compressing.finish();
+        } finally {
+            compressing.release();
+            context.setOutputStream(original);
+        }
+    }
+
+    private static InputStream decode(final String encoding, final InputStream body) throws IOException {
+        switch (encoding) {
+            case IDENTITY:
+                return body;
+            case GZIP:
+            case X_GZIP:
+                // GZIPInputStream reads the header eagerly, which fails on an empty body
+                final PushbackInputStream pushback = new PushbackInputStream(body);
+                final int first = pushback.read();
+                if (first == -1) {
+                    return pushback;
+                }
+                pushback.unread(first);
+                return new GZIPInputStream(pushback, BUFFER_SIZE);
+            case DEFLATE:
+                return new InflaterInputStream(body);
+            default:
+                LOG.debug("Rejecting request with unsupported content coding {}", encoding);
+                throw new RestconfDocumentedException(Status.UNSUPPORTED_MEDIA_TYPE);
+        }
+    }
+
+    /**
+     * Select the content coding for a response based on the {@code Accept-Encoding} request header, preferring
+     * {@code gzip} over {@code deflate}. A wildcard selects only codings which are not refused explicitly.
+     *
+     * @param acceptEncoding Accept-Encoding header value, may be null
+     * @return Selected coding, or null if the response should not be compressed
+     */
+    @VisibleForTesting
+    static String negotiate(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        boolean gzip = false;
+        boolean deflate = false;
+        boolean any = false;
+        boolean gzipRefused = false;
+        boolean deflateRefused = false;
+        for (final String element : acceptEncoding.split(",")) {
+            final String[] parts = element.split(";");
+            final String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            final boolean rejected = isRejected(parts);
+            switch (coding) {
+                case GZIP:
+                case X_GZIP:
+                    gzip |= !rejected;
+                    gzipRefused |= rejected;
+                    break;
+                case DEFLATE:
+                    deflate |= !rejected;
+                    deflateRefused |= rejected;
+                    break;
+                case ANY:
+                    any |= !rejected;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        // The wildcard matches only codings which are not listed explicitly, a refused coding stays refused
+        if (!gzipRefused && (gzip || any)) {
+            return GZIP;
+        }
+        return !deflateRefused && (deflate || any) ? DEFLATE : null;
+    }
+
+    private static boolean isRejected(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String param = parts[i].trim();
+            if (param.length() > 2 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    LOG.debug("Ignoring malformed quality value {}", param, e);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Deflater acquireDeflater(final boolean gzip) {
+        final Deflater pooled = (gzip ? gzipDeflaters : deflateDeflaters).poll();
+        // gzip framing is written by hand around raw deflate data
+        return pooled != null ? pooled : new Deflater(compressionLevel, gzip);
+    }
+
+    private void releaseDeflater(final Deflater deflater, final boolean gzip) {
+        deflater.reset();
+        if (!(gzip ? gzipDeflaters : deflateDeflaters).offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private byte[] acquireBuffer() {
+        final byte[] pooled = buffers.poll();
+        return pooled != null ? pooled : new byte[bufferSize];
+    }
+
+    private void releaseBuffer(final byte[] buffer) {
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Holds back the first {@code minimumSize} bytes of a response. If the response ends before that, it is written
+     * uncompressed, otherwise the {@code Content-Encoding} header is set and everything is compressed from then on.
+     */
+    private final class CompressingOutputStream extends OutputStream {
+        private final MultivaluedMap<String, Object> responseHeaders;
+        private final OutputStream out;
+        private final boolean gzip;
+        private final byte[] single = new byte[1];
+
+        private byte[] pending;
+        private int pendingCount;
+        private Deflater deflater;
+        private byte[] output;
+        private CRC32 crc;
+        private boolean passthrough;
+        private boolean finished;
+
+        CompressingOutputStream(final OutputStream out, final MultivaluedMap<String, Object> responseHeaders,
+                final boolean gzip) {
+            this.out = requireNonNull(out);
+            this.responseHeaders = requireNonNull(responseHeaders);
+            this.gzip = gzip;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            single[0] = (byte) value;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int off, final int len) throws IOException {
+            if (finished) {
+                throw new IOException("Stream already finished");
+            }
+            if (passthrough) {
+                out.write(bytes, off, len);
+                return;
+            }
+            if (deflater == null) {
+                if (pendingCount + len <= minimumSize) {
+                    if (pending == null) {
+                        pending = acquireBuffer();
+                    }
+                    System.arraycopy(bytes, off, pending, pendingCount, len);
+                    pendingCount += len;
+                    return;
+                }
+                startCompression();
+            }
+            deflate(bytes, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Flushing while below the threshold would defeat it, hence we only flush once we know the coding
+            if (passthrough) {
+                out.flush();
+            } else if (deflater != null && !finished) {
+                int count;
+                do {
+                    count = deflater.deflate(output, 0, output.length, Deflater.SYNC_FLUSH);
+                    out.write(output, 0, count);
+                } while (count == output.length);
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            out.close();
+        }
+
+        void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+
+            if (deflater == null) {
+                // Below threshold: send as-is
+                passthrough = true;
+                if (pendingCount != 0) {
+                    out.write(pending, 0, pendingCount);
+                }
+                return;
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) {
+                out.write(output, 0, deflater.deflate(output));
+            }
+            if (gzip) {
+                writeIntLE(crc.getValue());
+                writeIntLE(deflater.getBytesRead());
+            }
+        }
+
+        void release() {
+            if (pending != null) {
+                releaseBuffer(pending);
+                pending = null;
+            }
+            if (output != null) {
+                releaseBuffer(output);
+                output = null;
+            }
+            if (deflater != null) {
+                releaseDeflater(deflater, gzip);
+                deflater = null;
+            }
+        }
+
+        private void startCompression() throws IOException {
+            responseHeaders.putSingle(HttpHeaders.CONTENT_ENCODING, gzip ? GZIP : DEFLATE);
+            responseHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+            deflater = acquireDeflater(gzip);
+            output = acquireBuffer();
+            if (gzip) {
+                crc = new CRC32();
+                out.write(GZIP_HEADER);
+            }
+            if (pending != null) {
+                deflate(pending, 0, pendingCount);
+                releaseBuffer(pending);
+                pending = null;
+            }
+        }
+
+        private void deflate(final byte[] bytes, final int off, final int len) throws IOException {
+            if (crc != null) {
+                crc.update(bytes, off, len);
+            }
+            deflater.setInput(bytes, off, len);
+            while (!deflater.needsInput()) {
+                final int count = deflater.deflate(output);
+                if (count != 0) {
+                    out.write(output, 0, count);
+                }
+            }
+        }
+
+        private void writeIntLE(final long value) throws IOException {
+            out.write((int) value);
+            out.write((int) (value >>> 8));
+            out.write((int) (value >>> 16));
+            out.write((int) (value >>> 24));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Selection of data nodes requested by the {@code fields} query parameter, as defined by
+ * <a href="https://tools.ietf.org/html/rfc8040#section-4.8.3">RFC8040 section 4.8.3</a>. Each instance selects among
+ * the children of a single data node. Child names may be qualified with a module name, unqualified names match
+ * children from any module.
+ */
+public final class FieldsFilter {
+    /**
+     * Selection of all children, including all of their descendants.
+     */
+    public static final FieldsFilter ALL = new FieldsFilter(ImmutableMap.of(), false);
+
+    private final ImmutableMap<String, FieldsFilter> children;
+    private final boolean qualified;
+
+    private FieldsFilter(final ImmutableMap<String, FieldsFilter> children, final boolean qualified) {
+        this.children = children;
+        this.qualified = qualified;
+    }
+
+    /**
+     * Parse a {@code fields} expression.
+     *
+     * @param expression Value of the {@code fields} query parameter
+     * @return Selection of children of the target data node
+     * @throws IllegalArgumentException if the expression is not valid
+     */
+    public static FieldsFilter parse(final String expression) {
+        final Parser parser = new Parser(expression);
+        final FieldsFilter result = parser.parseExpression();
+        if (parser.offset != expression.length()) {
+            throw parser.unexpected();
+        }
+        return result;
+    }
+
+    /**
+     * Return the selection of a child's own children.
+     *
+     * @param child Child name
+     * @param context Model context used to resolve module names of qualified selections
+     * @return Selection of the child's children, or null if the child is not selected
+     */
+    @Nullable FieldsFilter child(final QName child, final EffectiveModelContext context) {
+        if (this == ALL) {
+            return ALL;
+        }
+        final FieldsFilter selected = children.get(child.getLocalName());
+        if (selected != null || !qualified) {
+            return selected;
+        }
+        return context.findModule(child.getModule())
+            .map(module -> children.get(qualify(module.getName(), child.getLocalName())))
+            .orElse(null);
+    }
+
+    @Override
+    public int hashCode() {
+        return children.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof FieldsFilter && children.equals(((FieldsFilter) obj).children);
+    }
+
+    @Override
+    public String toString() {
+        return this == ALL ? "*" : children.toString();
+    }
+
+    private static String qualify(final String module, final String localName) {
+        return module + ':' + localName;
+    }
+
+    /**
+     * Merge two selections of the same node's children, such as those of {@code a/b;a/c}.
+     */
+    private static FieldsFilter merge(final FieldsFilter first, final FieldsFilter second) {
+        if (first == ALL || second == ALL) {
+            return ALL;
+        }
+        final Map<String, FieldsFilter> merged = new HashMap<>(first.children);
+        second.children.forEach((name, selection) -> merged.merge(name, selection, FieldsFilter::merge));
+        return new FieldsFilter(ImmutableMap.copyOf(merged), first.qualified || second.qualified);
+    }
+
+    /**
+     * Recursive descent parser of the grammar:
+     * <pre>
+     *   fields-expr = path "(" fields-expr ")" / path ";" fields-expr / path
+     *   path = api-identifier *("/" api-identifier)
+     *   api-identifier = [module-name ":"] identifier
+     * </pre>
+     */
+    private static final class Parser {
+        private final String expression;
+        private int offset;
+
+        Parser(final String expression) {
+            this.expression = expression;
+        }
+
+        FieldsFilter parseExpression() {
+            FieldsFilter result = parseTerm();
+            while (offset < expression.length() && expression.charAt(offset) == ';') {
+                offset++;
+                result = merge(result, parseTerm());
+            }
+            return result;
+        }
+
+        private FieldsFilter parseTerm() {
+            final String name = parseIdentifier();
+            final FieldsFilter selection;
+            if (offset < expression.length() && expression.charAt(offset) == '/') {
+                offset++;
+                selection = parseTerm();
+            } else if (offset < expression.length() && expression.charAt(offset) == '(') {
+                offset++;
+                selection = parseExpression();
+                if (offset == expression.length() || expression.charAt(offset) != ')') {
+                    throw unexpected();
+                }
+                offset++;
+            } else {
+                selection = ALL;
+            }
+            return new FieldsFilter(ImmutableMap.of(name, selection), name.indexOf(':') != -1);
+        }
+
+        private String parseIdentifier() {
+            final int start = offset;
+            int colon = -1;
+            while (offset < expression.length()) {
+                final char ch = expression.charAt(offset);
+                if (ch == ':' && colon == -1 && offset != start) {
+                    colon = offset;
+                } else if (!isIdentifierChar(ch, offset == start || offset == colon + 1)) {
+                    break;
+                }
+                offset++;
+            }
+            if (offset == start || offset == colon + 1) {
+                throw unexpected();
+            }
+            return expression.substring(start, offset);
+        }
+
+        private static boolean isIdentifierChar(final char ch, final boolean first) {
+            if (ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || ch == '_') {
+                return true;
+            }
+            return !first && (ch >= '0' && ch <= '9' || ch == '-' || ch == '.');
+        }
+
+        IllegalArgumentException unexpected() {
+            return new IllegalArgumentException(offset < expression.length()
+                ? "Unexpected character '" + expression.charAt(offset) + "' at offset " + offset
+                : "Unexpected end of input");
+        }
+    }
+}
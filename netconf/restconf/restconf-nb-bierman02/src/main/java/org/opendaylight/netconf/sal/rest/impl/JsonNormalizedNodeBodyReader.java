@@ -7,6 +7,8 @@
  */
 package org.opendaylight.netconf.sal.rest.impl;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
 import com.google.gson.stream.JsonReader;
@@ -19,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
@@ -62,8 +65,16 @@ public class JsonNormalizedNodeBodyReader
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonNormalizedNodeBodyReader.class);
 
+    private final SchemaCodecCache schemaCodecs;
+
     public JsonNormalizedNodeBodyReader(final ControllerContext controllerContext) {
+        this(controllerContext, new SchemaCodecCache());
+    }
+
+    public JsonNormalizedNodeBodyReader(final ControllerContext controllerContext,
+            final SchemaCodecCache schemaCodecs) {
         super(controllerContext);
+        this.schemaCodecs = requireNonNull(schemaCodecs);
     }
 
     @Override
@@ -79,7 +90,8 @@ public class JsonNormalizedNodeBodyReader
             final MultivaluedMap<String, String> httpHeaders, final InputStream entityStream) throws
         WebApplicationException {
         try {
-            return readFrom(getInstanceIdentifierContext(), entityStream, isPost());
+            return readFrom(getInstanceIdentifierContext(), entityStream, isPost(), schemaCodecs,
+                this::createJsonReader);
         } catch (final Exception e) {
             propagateExceptionAs(e);
             return null; // no-op
@@ -88,18 +100,30 @@ public class JsonNormalizedNodeBodyReader
 
     @SuppressWarnings("checkstyle:IllegalCatch")
     public static NormalizedNodeContext readFrom(final String uriPath, final InputStream entityStream,
-            final boolean isPost, final ControllerContext controllerContext) throws RestconfDocumentedException {
+            final boolean isPost, final ControllerContext controllerContext, final SchemaCodecCache schemaCodecs)
+            throws RestconfDocumentedException {
 
         try {
-            return readFrom(controllerContext.toInstanceIdentifier(uriPath), entityStream, isPost);
+            return readFrom(controllerContext.toInstanceIdentifier(uriPath), entityStream, isPost, schemaCodecs,
+                JsonNormalizedNodeBodyReader::newJsonReader);
         } catch (final Exception e) {
             propagateExceptionAs(e);
             return null; // no-op
         }
     }
 
+    protected JsonReader createJsonReader(final InputStream entityStream) {
+        return newJsonReader(entityStream);
+    }
+
+    private static JsonReader newJsonReader(final InputStream entityStream) {
+        return new JsonReader(new InputStreamReader(entityStream, StandardCharsets.UTF_8));
+    }
+
     private static NormalizedNodeContext readFrom(final InstanceIdentifierContext path,
-                                                  final InputStream entityStream, final boolean isPost)
+                                                  final InputStream entityStream, final boolean isPost,
+                                                  final SchemaCodecCache schemaCodecs,
+                                                  final Function<InputStream, JsonReader> readerFactory)
             throws IOException {
         final Optional<InputStream> nonEmptyInputStreamOptional = RestUtil.isInputStreamEmpty(entityStream);
         if (nonEmptyInputStreamOptional.isEmpty()) {
@@ -112,21 +136,13 @@ public class JsonNormalizedNodeBodyReader
         if (isPost && !(path.getSchemaNode() instanceof RpcDefinition)) {
             parentInference = path.inference();
         } else {
-            final var inference = path.inference();
-            if (!inference.statementPath().isEmpty()) {
-                final var stack = inference.toSchemaInferenceStack();
-                stack.exit();
-                parentInference = stack.toInference();
-            } else {
-                parentInference = inference;
-            }
+            parentInference = schemaCodecs.parentInference(path.inference());
         }
 
         final JsonParserStream jsonParser = JsonParserStream.create(writer,
             JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(path.getSchemaContext()),
             parentInference);
-        final JsonReader reader = new JsonReader(new InputStreamReader(nonEmptyInputStreamOptional.get(),
-                StandardCharsets.UTF_8));
+        final JsonReader reader = readerFactory.apply(nonEmptyInputStreamOptional.get());
         jsonParser.parse(reader);
 
         NormalizedNode result = resultHolder.getResult();
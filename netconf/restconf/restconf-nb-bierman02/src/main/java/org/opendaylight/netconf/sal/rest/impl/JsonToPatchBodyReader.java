@@ -114,8 +114,7 @@ public class JsonToPatchBodyReader extends AbstractIdentifierAwareJaxRsProvider
             return new PatchContext(path, null, null);
         }
 
-        final JsonReader jsonReader = new JsonReader(new InputStreamReader(nonEmptyInputStreamOptional.get(),
-                StandardCharsets.UTF_8));
+        final JsonReader jsonReader = createJsonReader(nonEmptyInputStreamOptional.get());
         AtomicReference<String> patchId = new AtomicReference<>();
         final List<PatchEntity> resultList = read(jsonReader, path, patchId);
         jsonReader.close();
@@ -123,6 +122,10 @@ public class JsonToPatchBodyReader extends AbstractIdentifierAwareJaxRsProvider
         return new PatchContext(path, resultList, patchId.get());
     }
 
+    protected JsonReader createJsonReader(final InputStream entityStream) {
+        return new JsonReader(new InputStreamReader(entityStream, StandardCharsets.UTF_8));
+    }
+
     private static RuntimeException propagateExceptionAs(final Exception exception) throws RestconfDocumentedException {
         Throwables.throwIfInstanceOf(exception, RestconfDocumentedException.class);
         LOG.debug("Error parsing json input", exception);
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.OutputStream;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ext.Provider;
+import org.opendaylight.netconf.sal.rest.api.Draft02;
+import org.opendaylight.netconf.sal.rest.api.RestconfService;
+
+/**
+ * Normalized node writer for YANG-CBOR with name-based member encoding.
+ */
+@Provider
+@Produces({
+    Draft02.MediaTypes.DATA + RestconfService.CBOR,
+    Draft02.MediaTypes.OPERATION + RestconfService.CBOR,
+    RestconfService.YANG_DATA_CBOR
+})
+public class NormalizedNodeCborBodyWriter extends NormalizedNodeJsonBodyWriter {
+    public NormalizedNodeCborBodyWriter() {
+        // Default constructor
+    }
+
+    public NormalizedNodeCborBodyWriter(final ResponseBodyCache responseBodyCache,
+            final ParallelListSerializer parallelSerializer) {
+        super(responseBodyCache, parallelSerializer);
+    }
+
+    public NormalizedNodeCborBodyWriter(final ResponseBodyCache responseBodyCache,
+            final ParallelListSerializer parallelSerializer, final SchemaCodecCache schemaCodecs) {
+        super(responseBodyCache, parallelSerializer, schemaCodecs);
+    }
+
+    @Override
+    protected JsonWriter createJsonWriter(final OutputStream entityStream, final boolean prettyPrint) {
+        // Binary encoding, there is nothing to pretty-print
+        return new CborWriter(entityStream);
+    }
+}
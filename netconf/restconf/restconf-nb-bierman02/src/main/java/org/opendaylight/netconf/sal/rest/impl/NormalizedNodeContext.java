@@ -10,6 +10,7 @@ package org.opendaylight.netconf.sal.rest.impl;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableMap;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
@@ -20,14 +21,22 @@ public class NormalizedNodeContext {
     private final ImmutableMap<String, Object> headers;
     private final WriterParameters writerParameters;
     private final NormalizedNode data;
+    private final ResponseBodyCache.@Nullable Scope cacheScope;
 
     public NormalizedNodeContext(final InstanceIdentifierContext context,
             final NormalizedNode data, final WriterParameters writerParameters,
-            final ImmutableMap<String, Object> headers) {
+            final ImmutableMap<String, Object> headers, final ResponseBodyCache.@Nullable Scope cacheScope) {
         this.context = context;
         this.data = data;
         this.writerParameters = writerParameters;
         this.headers = requireNonNull(headers);
+        this.cacheScope = cacheScope;
+    }
+
+    public NormalizedNodeContext(final InstanceIdentifierContext context,
+            final NormalizedNode data, final WriterParameters writerParameters,
+            final ImmutableMap<String, Object> headers) {
+        this(context, data, writerParameters, headers, null);
     }
 
     public NormalizedNodeContext(final InstanceIdentifierContext context,
@@ -65,4 +74,13 @@ public class NormalizedNodeContext {
     public ImmutableMap<String, Object> getNewHeaders() {
         return headers;
     }
+
+    /**
+     * Return the scope under which the serialized body of this context may be cached.
+     *
+     * @return cache scope, or null if the body must not be cached
+     */
+    public ResponseBodyCache.@Nullable Scope getCacheScope() {
+        return cacheScope;
+    }
 }
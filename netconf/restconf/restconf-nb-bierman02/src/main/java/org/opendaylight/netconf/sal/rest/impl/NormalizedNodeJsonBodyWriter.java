@@ -7,6 +7,8 @@
  */
 package org.opendaylight.netconf.sal.rest.impl;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -15,6 +17,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map.Entry;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
@@ -23,18 +26,20 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 import javax.xml.stream.XMLStreamException;
-import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfNormalizedNodeWriter;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
 import org.opendaylight.netconf.util.NetconfUtil;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DOMSourceAnyxmlNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
@@ -45,7 +50,6 @@ import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
-import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.xml.sax.SAXException;
 
@@ -66,6 +70,26 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
 
     private static final int DEFAULT_INDENT_SPACES_NUM = 2;
 
+    private final ResponseBodyCache responseBodyCache;
+    private final ParallelListSerializer parallelSerializer;
+    private final SchemaCodecCache schemaCodecs;
+
+    public NormalizedNodeJsonBodyWriter() {
+        this(ResponseBodyCache.disabled(), ParallelListSerializer.disabled());
+    }
+
+    public NormalizedNodeJsonBodyWriter(final ResponseBodyCache responseBodyCache,
+            final ParallelListSerializer parallelSerializer) {
+        this(responseBodyCache, parallelSerializer, new SchemaCodecCache());
+    }
+
+    public NormalizedNodeJsonBodyWriter(final ResponseBodyCache responseBodyCache,
+            final ParallelListSerializer parallelSerializer, final SchemaCodecCache schemaCodecs) {
+        this.responseBodyCache = requireNonNull(responseBodyCache);
+        this.parallelSerializer = requireNonNull(parallelSerializer);
+        this.schemaCodecs = requireNonNull(schemaCodecs);
+    }
+
     @Override
     public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
             final MediaType mediaType) {
@@ -92,28 +116,80 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
             return;
         }
 
+        final OutputStream out = responseBodyCache.open(context, mediaType, entityStream);
+        if (out == null) {
+            // Written from cache
+            return;
+        }
+
         final InstanceIdentifierContext identifierCtx = context.getInstanceIdentifierContext();
+        final WriterParameters params = context.getWriterParameters();
+
+        if (parallelSerializer.accepts(data) && !identifierCtx.inference().statementPath().isEmpty()
+                && !(identifierCtx.getSchemaNode() instanceof RpcDefinition)) {
+            final Inference inference = schemaCodecs.parentInference(identifierCtx.inference());
+            parallelSerializer.write(data, (entries, chunk) -> writeChunk(identifierCtx, inference, data, entries,
+                chunk, params), out);
+        } else {
+            try (JsonWriter jsonWriter = createJsonWriter(out, params.isPrettyPrint())) {
+                jsonWriter.beginObject();
+                writeNormalizedNode(jsonWriter, identifierCtx, data, params);
+                jsonWriter.endObject();
+                jsonWriter.flush();
+            }
+        }
+        ResponseBodyCache.publish(out);
+    }
 
-        try (JsonWriter jsonWriter = createJsonWriter(entityStream, context.getWriterParameters().isPrettyPrint())) {
+    /**
+     * Write a body containing only some entries of a list, the same way {@link #writeNormalizedNode} writes the
+     * whole list.
+     */
+    private void writeChunk(final InstanceIdentifierContext context, final Inference inference,
+            final NormalizedNode list, final List<NormalizedNode> entries, final ParallelListSerializer.Chunk chunk,
+            final WriterParameters params) throws IOException {
+        try (JsonWriter jsonWriter = createJsonWriter(chunk, params.isPrettyPrint())) {
             jsonWriter.beginObject();
-            writeNormalizedNode(jsonWriter, identifierCtx, data, context.getWriterParameters().getDepth());
+            final NormalizedNodeStreamWriter streamWriter = createStreamWriter(context, inference, jsonWriter);
+            // The list itself is started here, hence entries are written as children of the target
+            final RestconfNormalizedNodeWriter nnWriter = createNormalizedNodeWriter(streamWriter, context, params,
+                true);
+            final NodeIdentifier listId = (NodeIdentifier) list.getIdentifier();
+            if (list instanceof UserMapNode) {
+                streamWriter.startOrderedMapNode(listId, entries.size());
+            } else if (list instanceof MapNode) {
+                streamWriter.startMapNode(listId, entries.size());
+            } else {
+                streamWriter.startUnkeyedList(listId, entries.size());
+            }
+
+            final int last = entries.size() - 1;
+            for (int i = 0; i <= last; ++i) {
+                nnWriter.write(entries.get(i));
+                if (i == 0 || i == last) {
+                    nnWriter.flush();
+                    chunk.markEntryEnd();
+                }
+            }
+            streamWriter.endNode();
+            nnWriter.flush();
             jsonWriter.endObject();
             jsonWriter.flush();
         }
     }
 
-    private static void writeNormalizedNode(final JsonWriter jsonWriter, final InstanceIdentifierContext context,
+    private void writeNormalizedNode(final JsonWriter jsonWriter, final InstanceIdentifierContext context,
             // Note: mutable argument
-            NormalizedNode data, final @Nullable Integer depth) throws IOException {
+            NormalizedNode data, final WriterParameters params) throws IOException {
 
-        final var stack = context.inference().toSchemaInferenceStack();
         final RestconfNormalizedNodeWriter nnWriter;
-        if (stack.isEmpty()) {
+        if (context.inference().statementPath().isEmpty()) {
             /*
              *  Creates writer without initialNs and we write children of root data container
              *  which is not visible in restconf
              */
-            nnWriter = createNormalizedNodeWriter(context, context.inference(), jsonWriter, depth);
+            nnWriter = createNormalizedNodeWriter(createStreamWriter(context, context.inference(), jsonWriter),
+                context, params, true);
             if (data instanceof ContainerNode) {
                 writeChildren(nnWriter,(ContainerNode) data);
             } else if (data instanceof DOMSourceAnyxmlNode) {
@@ -131,24 +207,22 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
              *  so we need to emit initial output declaratation..
              */
             final var rpc = (RpcDefinition) context.getSchemaNode();
-            final var tmp = SchemaInferenceStack.of(context.getSchemaContext());
-            tmp.enterSchemaTree(rpc.getQName());
-            tmp.enterSchemaTree(rpc.getOutput().getQName());
-
-            nnWriter = createNormalizedNodeWriter(context, tmp.toInference(), jsonWriter, depth);
+            nnWriter = createNormalizedNodeWriter(createStreamWriter(context,
+                schemaCodecs.rpcOutputInference(context.getSchemaContext(), rpc), jsonWriter),
+                context, params, true);
             jsonWriter.name("output");
             jsonWriter.beginObject();
             writeChildren(nnWriter, (ContainerNode) data);
             jsonWriter.endObject();
         } else {
-            stack.exit();
-
             if (data instanceof MapEntryNode) {
                 data = ImmutableNodes.mapNodeBuilder(data.getIdentifier().getNodeType())
                     .withChild((MapEntryNode) data)
                     .build();
             }
-            nnWriter = createNormalizedNodeWriter(context, stack.toInference(), jsonWriter, depth);
+            nnWriter = createNormalizedNodeWriter(createStreamWriter(context,
+                schemaCodecs.parentInference(context.inference()), jsonWriter), context, params,
+                false);
             nnWriter.write(data);
         }
         nnWriter.flush();
@@ -162,11 +236,20 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
     }
 
     private static RestconfNormalizedNodeWriter createNormalizedNodeWriter(
-            final InstanceIdentifierContext context, final Inference inference, final JsonWriter jsonWriter,
-            final @Nullable Integer depth) {
+            final NormalizedNodeStreamWriter streamWriter, final InstanceIdentifierContext context,
+            final WriterParameters params, final boolean targetChildren) {
+        if (!params.isFiltering()) {
+            return RestconfDelegatingNormalizedNodeWriter.forStreamWriter(streamWriter);
+        }
+        return targetChildren ? ParameterAwareNormalizedNodeWriter.forTargetChildren(streamWriter, context, params)
+            : ParameterAwareNormalizedNodeWriter.forTarget(streamWriter, context, params);
+    }
 
+    private static NormalizedNodeStreamWriter createStreamWriter(final InstanceIdentifierContext context,
+            final Inference inference, final JsonWriter jsonWriter) {
         final SchemaNode schema = context.getSchemaNode();
-        final JSONCodecFactory codecs = getCodecFactory(context);
+        final JSONCodecFactory codecs = JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(
+            context.getSchemaContext());
 
         final XMLNamespace initialNs;
         if (schema instanceof DataSchemaNode && !((DataSchemaNode)schema).isAugmenting()
@@ -175,16 +258,14 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
         } else {
             initialNs = null;
         }
-        final NormalizedNodeStreamWriter streamWriter =
-                JSONNormalizedNodeStreamWriter.createNestedWriter(codecs, inference, initialNs, jsonWriter);
-        if (depth != null) {
-            return DepthAwareNormalizedNodeWriter.forStreamWriter(streamWriter, depth);
-        }
-
-        return RestconfDelegatingNormalizedNodeWriter.forStreamWriter(streamWriter);
+        final NormalizedNodeStreamWriter streamWriter = JSONNormalizedNodeStreamWriter.createNestedWriter(codecs,
+            inference, initialNs, jsonWriter);
+        // CBOR encodes some values natively, rather than in their JSON form
+        return jsonWriter instanceof CborWriter ? ((CborWriter) jsonWriter).withNativeScalars(streamWriter)
+            : streamWriter;
     }
 
-    private static JsonWriter createJsonWriter(final OutputStream entityStream, final boolean prettyPrint) {
+    protected JsonWriter createJsonWriter(final OutputStream entityStream, final boolean prettyPrint) {
         if (prettyPrint) {
             return JsonWriterFactory.createJsonWriter(new OutputStreamWriter(entityStream, StandardCharsets.UTF_8),
                     DEFAULT_INDENT_SPACES_NUM);
@@ -192,9 +273,4 @@ public class NormalizedNodeJsonBodyWriter implements MessageBodyWriter<Normalize
 
         return JsonWriterFactory.createJsonWriter(new OutputStreamWriter(entityStream, StandardCharsets.UTF_8));
     }
-
-    private static JSONCodecFactory getCodecFactory(final InstanceIdentifierContext context) {
-        // TODO: Performance: Cache JSON Codec factory and schema context
-        return JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context.getSchemaContext());
-    }
 }
@@ -7,6 +7,8 @@
  */
 package org.opendaylight.netconf.sal.rest.impl;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
@@ -26,7 +28,6 @@ import javax.xml.stream.FactoryConfigurationError;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfNormalizedNodeWriter;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
@@ -42,7 +43,6 @@ import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStr
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
-import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.xml.sax.SAXException;
 
@@ -69,6 +69,23 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
         XML_FACTORY.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, true);
     }
 
+    private final ResponseBodyCache responseBodyCache;
+    private final SchemaCodecCache schemaCodecs;
+
+    public NormalizedNodeXmlBodyWriter() {
+        this(ResponseBodyCache.disabled());
+    }
+
+    public NormalizedNodeXmlBodyWriter(final ResponseBodyCache responseBodyCache) {
+        this(responseBodyCache, new SchemaCodecCache());
+    }
+
+    public NormalizedNodeXmlBodyWriter(final ResponseBodyCache responseBodyCache,
+            final SchemaCodecCache schemaCodecs) {
+        this.responseBodyCache = requireNonNull(responseBodyCache);
+        this.schemaCodecs = requireNonNull(schemaCodecs);
+    }
+
     @Override
     public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
             final MediaType mediaType) {
@@ -93,10 +110,15 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
         if (context.getData() == null) {
             return;
         }
+        final OutputStream out = responseBodyCache.open(context, mediaType, entityStream);
+        if (out == null) {
+            // Written from cache
+            return;
+        }
 
         XMLStreamWriter xmlWriter;
         try {
-            xmlWriter = XML_FACTORY.createXMLStreamWriter(entityStream, StandardCharsets.UTF_8.name());
+            xmlWriter = XML_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
             if (context.getWriterParameters().isPrettyPrint()) {
                 xmlWriter = new IndentingXMLStreamWriter(xmlWriter);
             }
@@ -105,17 +127,17 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
         }
         final NormalizedNode data = context.getData();
 
-        writeNormalizedNode(xmlWriter, pathContext.inference().toSchemaInferenceStack(), pathContext, data,
-            context.getWriterParameters().getDepth());
+        writeNormalizedNode(xmlWriter, pathContext, data, context.getWriterParameters());
+        ResponseBodyCache.publish(out);
     }
 
-    private static void writeNormalizedNode(final XMLStreamWriter xmlWriter, final SchemaInferenceStack stack,
-            final InstanceIdentifierContext pathContext, NormalizedNode data, final @Nullable Integer depth)
+    private void writeNormalizedNode(final XMLStreamWriter xmlWriter,
+            final InstanceIdentifierContext pathContext, NormalizedNode data, final WriterParameters params)
             throws IOException {
         final RestconfNormalizedNodeWriter nnWriter;
         final EffectiveModelContext schemaCtx = pathContext.getSchemaContext();
-        if (stack.isEmpty()) {
-            nnWriter = createNormalizedNodeWriter(xmlWriter, pathContext.inference(), depth);
+        if (pathContext.inference().statementPath().isEmpty()) {
+            nnWriter = createNormalizedNodeWriter(xmlWriter, pathContext.inference(), pathContext, params, true);
             if (data instanceof DOMSourceAnyxmlNode) {
                 try {
                     writeElements(xmlWriter, nnWriter,
@@ -129,15 +151,12 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
             }
         }  else if (pathContext.getSchemaNode() instanceof RpcDefinition) {
             final var rpc = (RpcDefinition) pathContext.getSchemaNode();
-            final var tmp = SchemaInferenceStack.of(pathContext.getSchemaContext());
-            tmp.enterSchemaTree(rpc.getQName());
-            tmp.enterSchemaTree(rpc.getOutput().getQName());
-
-            nnWriter = createNormalizedNodeWriter(xmlWriter, tmp.toInference(), depth);
+            nnWriter = createNormalizedNodeWriter(xmlWriter,
+                schemaCodecs.rpcOutputInference(schemaCtx, rpc), pathContext, params, true);
             writeElements(xmlWriter, nnWriter, (ContainerNode) data);
         } else {
-            stack.exit();
-            nnWriter = createNormalizedNodeWriter(xmlWriter, stack.toInference(), depth);
+            nnWriter = createNormalizedNodeWriter(xmlWriter,
+                schemaCodecs.parentInference(pathContext.inference()), pathContext, params, false);
             if (data instanceof MapEntryNode) {
                 // Restconf allows returning one list item. We need to wrap it
                 // in map node in order to serialize it properly
@@ -151,14 +170,16 @@ public class NormalizedNodeXmlBodyWriter implements MessageBodyWriter<Normalized
     }
 
     private static RestconfNormalizedNodeWriter createNormalizedNodeWriter(final XMLStreamWriter xmlWriter,
-            final Inference inference, final @Nullable Integer depth) {
+            final Inference inference, final InstanceIdentifierContext pathContext, final WriterParameters params,
+            final boolean targetChildren) {
         final NormalizedNodeStreamWriter xmlStreamWriter =
             XMLStreamNormalizedNodeStreamWriter.create(xmlWriter, inference);
-        if (depth != null) {
-            return DepthAwareNormalizedNodeWriter.forStreamWriter(xmlStreamWriter, depth);
+        if (!params.isFiltering()) {
+            return RestconfDelegatingNormalizedNodeWriter.forStreamWriter(xmlStreamWriter);
         }
-
-        return RestconfDelegatingNormalizedNodeWriter.forStreamWriter(xmlStreamWriter);
+        return targetChildren
+            ? ParameterAwareNormalizedNodeWriter.forTargetChildren(xmlStreamWriter, pathContext, params)
+            : ParameterAwareNormalizedNodeWriter.forTarget(xmlStreamWriter, pathContext, params);
     }
 
     private static void writeElements(final XMLStreamWriter xmlWriter, final RestconfNormalizedNodeWriter nnWriter,
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serializes response bodies consisting of a very large list in parallel. The list's entries are split into chunks,
+ * each of which is encoded on a {@link ForkJoinPool} as a complete body containing only that chunk's entries. The
+ * chunks are then spliced together in order, so that the result is byte-identical to sequential serialization.
+ *
+ * <p>
+ * Each chunk but the first one also encodes the last entry of the preceding chunk. Only the bytes following that
+ * entry are used, which makes them start with exactly the separator the sequential writer would emit between the two
+ * entries, whatever the encoding and pretty-printing.
+ */
+public final class ParallelListSerializer implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelListSerializer.class);
+    private static final ParallelListSerializer DISABLED = new ParallelListSerializer();
+    private static final int INITIAL_CHUNK_CAPACITY = 64 * 1024;
+    private static final int MAX_POOLED_CHUNK_CAPACITY = 4 * 1024 * 1024;
+
+    private final @Nullable ForkJoinPool pool;
+    private final Queue<Chunk> chunks;
+    private final int threshold;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+
+    /**
+     * Encoder of a single chunk.
+     */
+    @FunctionalInterface
+    interface ChunkEncoder {
+        /**
+         * Encode a complete response body containing only the specified entries. {@link Chunk#markEntryEnd()} has to
+         * be called after the first and after the last entry has been written and flushed to the chunk.
+         *
+         * @param entries Entries to encode
+         * @param chunk Chunk to encode to
+         * @throws IOException if encoding fails
+         */
+        void encode(List<NormalizedNode> entries, Chunk chunk) throws IOException;
+    }
+
+    /**
+     * Pooled buffer holding an encoded chunk.
+     */
+    static final class Chunk extends ByteArrayOutputStream {
+        private int firstEntryEnd = -1;
+        private int lastEntryEnd = -1;
+
+        Chunk(final int size) {
+            super(size);
+        }
+
+        void markEntryEnd() {
+            if (firstEntryEnd < 0) {
+                firstEntryEnd = count;
+            }
+            lastEntryEnd = count;
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            firstEntryEnd = -1;
+            lastEntryEnd = -1;
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+
+        void writeTo(final OutputStream out, final int from, final int to) throws IOException {
+            out.write(buf, from, to - from);
+        }
+    }
+
+    private static final class Pending {
+        final int start;
+        final int end;
+        final ForkJoinTask<Chunk> task;
+
+        Pending(final int start, final int end, final ForkJoinTask<Chunk> task) {
+            this.start = start;
+            this.end = end;
+            this.task = task;
+        }
+    }
+
+    private ParallelListSerializer() {
+        pool = null;
+        chunks = new ArrayBlockingQueue<>(1);
+        threshold = Integer.MAX_VALUE;
+        chunkSize = Integer.MAX_VALUE;
+        maxChunksInFlight = 1;
+    }
+
+    public ParallelListSerializer(final int threshold, final int chunkSize, final int parallelism) {
+        checkArgument(threshold > 0, "Invalid threshold %s", threshold);
+        checkArgument(chunkSize > 0, "Invalid chunk size %s", chunkSize);
+        checkArgument(parallelism >= 0, "Invalid parallelism %s", parallelism);
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+        pool = new ForkJoinPool(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+        // Bound the memory held by encoded, but not yet written chunks
+        maxChunksInFlight = pool.getParallelism() * 2;
+        chunks = new ArrayBlockingQueue<>(maxChunksInFlight);
+    }
+
+    /**
+     * Return a serializer which never serializes in parallel.
+     *
+     * @return A disabled serializer
+     */
+    public static ParallelListSerializer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Check whether a response body should be serialized in parallel.
+     *
+     * @param data Response data
+     * @return True if the data is a list reaching the threshold
+     */
+    boolean accepts(final NormalizedNode data) {
+        if (pool == null) {
+            return false;
+        }
+        final Collection<? extends NormalizedNode> body = entriesOf(data);
+        return body != null && body.size() >= threshold;
+    }
+
+    /**
+     * Serialize a list accepted by {@link #accepts(NormalizedNode)}.
+     *
+     * @param data List to serialize
+     * @param encoder Chunk encoder
+     * @param out Stream to write the serialized body to
+     * @throws IOException if encoding or writing fails
+     */
+    void write(final NormalizedNode data, final ChunkEncoder encoder, final OutputStream out) throws IOException {
+        final List<NormalizedNode> entries = new ArrayList<>(entriesOf(data));
+
+        final int size = entries.size();
+        final Deque<Pending> inFlight = new ArrayDeque<>();
+        try {
+            int next = 0;
+            while (next < size || !inFlight.isEmpty()) {
+                while (next < size && inFlight.size() < maxChunksInFlight) {
+                    final int start = next;
+                    final int end = (int) Math.min((long) start + chunkSize, size);
+                    // Overlap with the last entry of the preceding chunk
+                    final List<NormalizedNode> chunkEntries = entries.subList(start == 0 ? 0 : start - 1, end);
+                    inFlight.addLast(new Pending(start, end, pool.submit(() -> encode(encoder, chunkEntries))));
+                    next = end;
+                }
+
+                final Pending pending = inFlight.removeFirst();
+                final Chunk chunk = join(pending.task);
+                try {
+                    // The first chunk starts with the body's prologue, the last one ends with its epilogue
+                    chunk.writeTo(out, pending.start == 0 ? 0 : chunk.firstEntryEnd,
+                        pending.end == size ? chunk.size() : chunk.lastEntryEnd);
+                } finally {
+                    release(chunk);
+                }
+            }
+        } finally {
+            for (final Pending pending : inFlight) {
+                pending.task.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+            try {
+                if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                    LOG.warn("Serialization pool did not terminate in time");
+                    pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while waiting for serialization pool to terminate", e);
+                pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Chunk encode(final ChunkEncoder encoder, final List<NormalizedNode> entries) {
+        Chunk chunk = chunks.poll();
+        if (chunk == null) {
+            chunk = new Chunk(INITIAL_CHUNK_CAPACITY);
+        }
+        try {
+            encoder.encode(entries, chunk);
+        } catch (IOException e) {
+            release(chunk);
+            throw new UncheckedIOException(e);
+        }
+        return chunk;
+    }
+
+    private void release(final Chunk chunk) {
+        if (chunk.capacity() <= MAX_POOLED_CHUNK_CAPACITY) {
+            chunk.reset();
+            chunks.offer(chunk);
+        }
+    }
+
+    private static Chunk join(final ForkJoinTask<Chunk> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw new IOException("Failed to encode chunk", e);
+        }
+    }
+
+    private static @Nullable Collection<? extends NormalizedNode> entriesOf(final NormalizedNode data) {
+        if (data instanceof MapNode) {
+            return ((MapNode) data).body();
+        } else if (data instanceof UnkeyedListNode) {
+            return ((UnkeyedListNode) data).body();
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.UNKNOWN_SIZE;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.transform.dom.DOMSource;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.rest.api.RestconfNormalizedNodeWriter;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.Content;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.WithDefaults;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.AnydataNode;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyxmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+
+/**
+ * Writer of a {@link NormalizedNode} applying all read parameters in {@link WriterParameters} -- depth, fields,
+ * content and with-defaults -- while it streams the node to a {@link NormalizedNodeStreamWriter}, so that the data
+ * does not need to be pruned or rebuilt beforehand.
+ *
+ * <p>
+ * Depth counts containers, list entries and leaf-lists, nodes at the depth limit are written without their children.
+ * The content and with-defaults parameters need the schema of the written data, hence they have no effect on data
+ * outside of the data tree, such as RPC output. Keys of list entries are always written, first and in the order of
+ * the key definition.
+ */
+public final class ParameterAwareNormalizedNodeWriter implements RestconfNormalizedNodeWriter {
+    private final NormalizedNodeStreamWriter writer;
+    private final EffectiveModelContext modelContext;
+    private final @Nullable DataSchemaContextNode<?> parent;
+    private final FieldsFilter fields;
+    private final Content content;
+    private final WithDefaults withDefaults;
+    private final boolean selectTopLevel;
+    private final int maxDepth;
+
+    private ParameterAwareNormalizedNodeWriter(final NormalizedNodeStreamWriter writer,
+            final EffectiveModelContext modelContext, final @Nullable DataSchemaContextNode<?> parent,
+            final WriterParameters params, final boolean selectTopLevel) {
+        this.writer = requireNonNull(writer);
+        this.modelContext = requireNonNull(modelContext);
+        this.parent = parent;
+        this.selectTopLevel = selectTopLevel;
+        final FieldsFilter selection = params.getFields();
+        fields = selection == null ? FieldsFilter.ALL : selection;
+        content = params.getContent();
+        withDefaults = params.getWithDefaults();
+        final Integer depth = params.getDepth();
+        maxDepth = depth == null ? Integer.MAX_VALUE : depth;
+    }
+
+    /**
+     * Create a writer of the target resource of a request. A list entry target is expected to be written wrapped in
+     * its list.
+     *
+     * @param writer Back-end writer
+     * @param target Target resource
+     * @param params Read parameters
+     * @return A new instance
+     */
+    public static ParameterAwareNormalizedNodeWriter forTarget(final NormalizedNodeStreamWriter writer,
+            final InstanceIdentifierContext target, final WriterParameters params) {
+        final YangInstanceIdentifier path = dataTreePath(target);
+        YangInstanceIdentifier parentPath = null;
+        if (path != null && !path.isEmpty()) {
+            parentPath = path.getParent();
+            if (path.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
+                parentPath = parentPath.getParent();
+            }
+        }
+        return new ParameterAwareNormalizedNodeWriter(writer, target.getSchemaContext(),
+            findContext(target.getSchemaContext(), parentPath), params, false);
+    }
+
+    /**
+     * Create a writer of the children of the target resource of a request, such as the top-level nodes of the
+     * datastore, the contents of RPC output or the entries of a list.
+     *
+     * @param writer Back-end writer
+     * @param target Target resource
+     * @param params Read parameters
+     * @return A new instance
+     */
+    public static ParameterAwareNormalizedNodeWriter forTargetChildren(final NormalizedNodeStreamWriter writer,
+            final InstanceIdentifierContext target, final WriterParameters params) {
+        return new ParameterAwareNormalizedNodeWriter(writer, target.getSchemaContext(),
+            findContext(target.getSchemaContext(), dataTreePath(target)), params, true);
+    }
+
+    @Override
+    public ParameterAwareNormalizedNodeWriter write(final NormalizedNode node) throws IOException {
+        if (selectTopLevel) {
+            writeChild(node, parent, fields, 0);
+        } else {
+            writeNode(node, childContext(parent, node), fields, 0);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+        writer.close();
+    }
+
+    private static @Nullable YangInstanceIdentifier dataTreePath(final InstanceIdentifierContext target) {
+        return target.getSchemaNode() instanceof RpcDefinition ? null : target.getInstanceIdentifier();
+    }
+
+    private static @Nullable DataSchemaContextNode<?> findContext(final EffectiveModelContext modelContext,
+            final @Nullable YangInstanceIdentifier path) {
+        return path == null ? null : DataSchemaContextTree.from(modelContext).findChild(path).orElse(null);
+    }
+
+    private static @Nullable DataSchemaContextNode<?> childContext(final @Nullable DataSchemaContextNode<?> context,
+            final NormalizedNode child) {
+        return context == null ? null : context.getChild(child.getIdentifier());
+    }
+
+    private static int childSizeHint(final Iterable<?> children) {
+        return children instanceof Collection ? ((Collection<?>) children).size() : UNKNOWN_SIZE;
+    }
+
+    /**
+     * Write a child of a node, unless it is filtered out by the parameters.
+     *
+     * @param node Child node
+     * @param parentContext Schema of the parent node, if known
+     * @param selection Selection of the parent's children
+     * @param depth Depth of the child
+     */
+    private void writeChild(final NormalizedNode node, final @Nullable DataSchemaContextNode<?> parentContext,
+            final FieldsFilter selection, final int depth) throws IOException {
+        final DataSchemaContextNode<?> context = childContext(parentContext, node);
+        if (node instanceof AugmentationNode || node instanceof ChoiceNode || node instanceof MapEntryNode
+                || node instanceof UnkeyedListEntryNode || node instanceof LeafSetEntryNode) {
+            // Not data nodes on their own: they are selected by their parent or by their children
+            if (content != Content.NONCONFIG || hasNonConfigData(node, context)) {
+                writeNode(node, context, selection, depth);
+            }
+            return;
+        }
+
+        final FieldsFilter childSelection = selection.child(node.getIdentifier().getNodeType(), modelContext);
+        if (childSelection != null && isSelectedContent(node, context) && !isFilteredDefault(node, context)) {
+            writeNode(node, context, childSelection, depth);
+        }
+    }
+
+    private boolean isSelectedContent(final NormalizedNode node, final @Nullable DataSchemaContextNode<?> context) {
+        if (content == Content.ALL || context == null) {
+            return true;
+        }
+        final DataSchemaNode schema = context.getDataSchemaNode();
+        if (schema == null) {
+            return true;
+        }
+        final boolean config = schema.effectiveConfig().orElse(Boolean.TRUE);
+        if (content == Content.CONFIG) {
+            return config;
+        }
+        // Configuration interior nodes are written only to hold their non-configuration descendants
+        return !config || schema instanceof DataNodeContainer && hasNonConfigData(node, context);
+    }
+
+    /**
+     * Check whether a node holds any non-configuration data, looking ahead of the written node.
+     */
+    private static boolean hasNonConfigData(final NormalizedNode node,
+            final @Nullable DataSchemaContextNode<?> context) {
+        if (context == null) {
+            // Schema is not known, keep the node
+            return true;
+        }
+        final DataSchemaNode schema = context.getDataSchemaNode();
+        if (schema != null && !schema.effectiveConfig().orElse(Boolean.TRUE)) {
+            return true;
+        }
+        if (node instanceof NormalizedNodeContainer) {
+            for (final NormalizedNode child : ((NormalizedNodeContainer<?>) node).body()) {
+                if (hasNonConfigData(child, context.getChild(child.getIdentifier()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isFilteredDefault(final NormalizedNode node, final @Nullable DataSchemaContextNode<?> context) {
+        if (withDefaults == WithDefaults.REPORT_ALL || !(node instanceof LeafNode) || context == null
+                || !(context.getDataSchemaNode() instanceof LeafSchemaNode)) {
+            return false;
+        }
+        final Optional<?> defaultValue = ((LeafSchemaNode) context.getDataSchemaNode()).getType().getDefaultValue();
+        // Default values may be kept in their lexical form
+        final Object value = node.body();
+        final boolean isDefault = defaultValue.isPresent()
+            && (defaultValue.get().equals(value) || defaultValue.get().toString().equals(value.toString()));
+        return withDefaults == WithDefaults.TRIM ? isDefault : !isDefault;
+    }
+
+    /**
+     * Write a node which has been selected by the parameters.
+     *
+     * @param node Node to write
+     * @param context Schema of the node, if known
+     * @param selection Selection of the node's children
+     * @param depth Depth of the node
+     */
+    private void writeNode(final NormalizedNode node, final @Nullable DataSchemaContextNode<?> context,
+            final FieldsFilter selection, final int depth) throws IOException {
+        if (node instanceof LeafNode) {
+            final LeafNode<?> leaf = (LeafNode<?>) node;
+            writer.startLeafNode(leaf.getIdentifier());
+            writer.scalarValue(leaf.body());
+            writer.endNode();
+        } else if (node instanceof LeafSetEntryNode) {
+            final LeafSetEntryNode<?> entry = (LeafSetEntryNode<?>) node;
+            writer.startLeafSetEntryNode(entry.getIdentifier());
+            writer.scalarValue(entry.body());
+            writer.endNode();
+        } else if (node instanceof ContainerNode) {
+            final ContainerNode container = (ContainerNode) node;
+            writer.startContainerNode(container.getIdentifier(), childSizeHint(container.body()));
+            writeChildren(container.body(), context, selection, depth + 1);
+        } else if (node instanceof MapEntryNode) {
+            writeMapEntryNode((MapEntryNode) node, context, selection, depth + 1);
+        } else if (node instanceof UnkeyedListEntryNode) {
+            final UnkeyedListEntryNode entry = (UnkeyedListEntryNode) node;
+            writer.startUnkeyedListItem(entry.getIdentifier(), childSizeHint(entry.body()));
+            writeChildren(entry.body(), context, selection, depth + 1);
+        } else if (node instanceof ChoiceNode) {
+            final ChoiceNode choice = (ChoiceNode) node;
+            writer.startChoiceNode(choice.getIdentifier(), childSizeHint(choice.body()));
+            writeChildren(choice.body(), context, selection, depth);
+        } else if (node instanceof AugmentationNode) {
+            final AugmentationNode augmentation = (AugmentationNode) node;
+            writer.startAugmentationNode(augmentation.getIdentifier());
+            writeChildren(augmentation.body(), context, selection, depth);
+        } else if (node instanceof UnkeyedListNode) {
+            final UnkeyedListNode list = (UnkeyedListNode) node;
+            writer.startUnkeyedList(list.getIdentifier(), childSizeHint(list.body()));
+            writeChildren(list.body(), context, selection, depth);
+        } else if (node instanceof UserMapNode) {
+            final UserMapNode map = (UserMapNode) node;
+            writer.startOrderedMapNode(map.getIdentifier(), childSizeHint(map.body()));
+            writeChildren(map.body(), context, selection, depth);
+        } else if (node instanceof MapNode) {
+            final MapNode map = (MapNode) node;
+            writer.startMapNode(map.getIdentifier(), childSizeHint(map.body()));
+            writeChildren(map.body(), context, selection, depth);
+        } else if (node instanceof LeafSetNode) {
+            final LeafSetNode<?> leafSet = (LeafSetNode<?>) node;
+            if (node instanceof UserLeafSetNode) {
+                writer.startOrderedLeafSet(leafSet.getIdentifier(), childSizeHint(leafSet.body()));
+            } else {
+                writer.startLeafSet(leafSet.getIdentifier(), childSizeHint(leafSet.body()));
+            }
+            writeChildren(leafSet.body(), context, selection, depth + 1);
+        } else if (node instanceof AnyxmlNode) {
+            final AnyxmlNode<?> anyxml = (AnyxmlNode<?>) node;
+            final Class<?> objectModel = anyxml.bodyObjectModel();
+            if (writer.startAnyxmlNode(anyxml.getIdentifier(), objectModel)) {
+                if (DOMSource.class.isAssignableFrom(objectModel)) {
+                    writer.domSourceValue((DOMSource) anyxml.body());
+                } else {
+                    writer.scalarValue(anyxml.body());
+                }
+                writer.endNode();
+            }
+        } else if (node instanceof AnydataNode) {
+            final AnydataNode<?> anydata = (AnydataNode<?>) node;
+            if (writer.startAnydataNode(anydata.getIdentifier(), anydata.bodyObjectModel())) {
+                writer.scalarValue(anydata.body());
+                writer.endNode();
+            }
+        } else {
+            throw new IllegalStateException("It wasn't possible to serialize node " + node);
+        }
+    }
+
+    /**
+     * Emit events for children within the depth limit and then emit an endNode() event.
+     */
+    private void writeChildren(final Iterable<? extends NormalizedNode> children,
+            final @Nullable DataSchemaContextNode<?> context, final FieldsFilter selection, final int depth)
+            throws IOException {
+        if (depth < maxDepth) {
+            for (final NormalizedNode child : children) {
+                writeChild(child, context, selection, depth);
+            }
+        }
+        writer.endNode();
+    }
+
+    private void writeMapEntryNode(final MapEntryNode node, final @Nullable DataSchemaContextNode<?> context,
+            final FieldsFilter selection, final int depth) throws IOException {
+        writer.startMapEntryNode(node.getIdentifier(), childSizeHint(node.body()));
+
+        // Keys are written regardless of parameters
+        final Set<QName> keys = node.getIdentifier().keySet();
+        for (final QName key : keys) {
+            final DataContainerChild child = node.childByArg(NodeIdentifier.create(key));
+            if (child != null) {
+                writeNode(child, null, FieldsFilter.ALL, depth);
+            }
+        }
+
+        if (depth < maxDepth) {
+            for (final DataContainerChild child : node.body()) {
+                if (child instanceof AugmentationNode || !keys.contains(child.getIdentifier().getNodeType())) {
+                    writeChild(child, context, selection, depth);
+                }
+            }
+        }
+        writer.endNode();
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.OutputStream;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ext.Provider;
+import org.opendaylight.netconf.sal.rest.api.Draft02;
+import org.opendaylight.netconf.sal.rest.api.RestconfService;
+
+/**
+ * Patch status writer for YANG-CBOR with name-based member encoding.
+ */
+@Provider
+@Produces({ Draft02.MediaTypes.PATCH_STATUS + RestconfService.CBOR })
+public class PatchCborBodyWriter extends PatchJsonBodyWriter {
+    @Override
+    protected JsonWriter createJsonWriter(final OutputStream entityStream) {
+        return new CborWriter(entityStream);
+    }
+}
@@ -124,7 +124,7 @@ public class PatchJsonBodyWriter implements MessageBodyWriter<PatchStatusContext
         jsonWriter.endObject();
     }
 
-    private static JsonWriter createJsonWriter(final OutputStream entityStream) {
+    protected JsonWriter createJsonWriter(final OutputStream entityStream) {
         return JsonWriterFactory.createJsonWriter(new OutputStreamWriter(entityStream, StandardCharsets.UTF_8));
     }
 }
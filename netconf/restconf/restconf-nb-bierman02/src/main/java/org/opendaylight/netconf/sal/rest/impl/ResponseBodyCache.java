@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Objects;
+import javax.ws.rs.core.MediaType;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Cache of serialized response bodies of datastore reads. Bodies are keyed by the read's path and datastore, together
+ * with the response media type and {@link WriterParameters}.
+ *
+ * <p>
+ * An entry is only valid for the very {@link NormalizedNode} instance it has been encoded from. The datastore
+ * keeps unmodified subtrees as the same immutable instances across snapshots, while any modification underneath a
+ * node results in a new instance, hence the node's identity acts as the change generation of the data at the path.
+ * Entries refer to their node weakly, so that they do not retain old datastore snapshots.
+ *
+ * <p>
+ * The cache is bounded by a byte budget with least-recently-used eviction. Bodies can optionally be kept in direct
+ * buffers, so that they do not add to the heap the garbage collector has to trace.
+ */
+public final class ResponseBodyCache {
+    /**
+     * Identifies the read a response body is produced from. Only reads which return datastore content as-is are
+     * cacheable, which is why the scope is attached to the {@link NormalizedNodeContext} by the read itself.
+     */
+    public static final class Scope {
+        private final YangInstanceIdentifier path;
+        private final LogicalDatastoreType datastore;
+
+        private Scope(final YangInstanceIdentifier path, final LogicalDatastoreType datastore) {
+            this.path = requireNonNull(path);
+            this.datastore = requireNonNull(datastore);
+        }
+
+        public static Scope of(final YangInstanceIdentifier path, final LogicalDatastoreType datastore) {
+            return new Scope(path, datastore);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, datastore);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Scope)) {
+                return false;
+            }
+            final Scope other = (Scope) obj;
+            return path.equals(other.path) && datastore == other.datastore;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("path", path).add("datastore", datastore).toString();
+        }
+    }
+
+    private static final ResponseBodyCache DISABLED = new ResponseBodyCache(0, false);
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final @Nullable Cache<Key, Entry> entries;
+    private final boolean offHeap;
+    private final int maxEntryBytes;
+
+    public ResponseBodyCache(final long maxBytes, final boolean offHeap) {
+        checkArgument(maxBytes >= 0, "Invalid cache size %s", maxBytes);
+        this.offHeap = offHeap;
+        // Keep single entries well below the size of a cache segment, so they do not get evicted right away
+        maxEntryBytes = (int) Math.min(Integer.MAX_VALUE, maxBytes / 8);
+        entries = maxBytes == 0 ? null : CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Key key, Entry entry) -> entry.body.capacity() + ENTRY_OVERHEAD)
+            .build();
+    }
+
+    /**
+     * Return a cache which does not cache anything.
+     *
+     * @return A disabled cache
+     */
+    public static ResponseBodyCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Start writing a response body. If a valid body is cached, it is written to the entity stream and this method
+     * returns null. Otherwise the body should be written to the returned stream, followed by a call to
+     * {@link #publish(OutputStream)} once it has been written completely.
+     *
+     * @param context Response context
+     * @param mediaType Response media type
+     * @param entityStream Response entity stream
+     * @return Stream to write the response to, or null if it has been written from cache
+     * @throws IOException if writing the cached body fails
+     */
+    @Nullable OutputStream open(final NormalizedNodeContext context, final MediaType mediaType,
+            final OutputStream entityStream) throws IOException {
+        final Scope scope = context.getCacheScope();
+        if (entries == null || scope == null) {
+            return entityStream;
+        }
+
+        final NormalizedNode data = context.getData();
+        final Key key = new Key(scope, mediaType.toString(), context.getWriterParameters());
+        final Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.source.get() == data) {
+            final ByteBuffer body = entry.body.duplicate();
+            if (body.hasArray()) {
+                entityStream.write(body.array(), body.arrayOffset(), body.remaining());
+            } else {
+                Channels.newChannel(entityStream).write(body);
+            }
+            return null;
+        }
+        return new Capture(entityStream, key, data);
+    }
+
+    /**
+     * Store a completely written response body, if the stream has been returned by
+     * {@link #open(NormalizedNodeContext, MediaType, OutputStream)} and the body is not too large.
+     *
+     * @param stream Stream the body has been written to
+     */
+    static void publish(final OutputStream stream) {
+        if (stream instanceof Capture) {
+            ((Capture) stream).publish();
+        }
+    }
+
+    @VisibleForTesting
+    long size() {
+        return entries == null ? 0 : entries.size();
+    }
+
+    private void store(final Key key, final NormalizedNode source, final ByteArrayOutputStream bytes) {
+        final ByteBuffer body;
+        if (offHeap) {
+            body = ByteBuffer.allocateDirect(bytes.size());
+            body.put(bytes.toByteArray()).flip();
+        } else {
+            body = ByteBuffer.wrap(bytes.toByteArray());
+        }
+        entries.put(key, new Entry(source, body));
+    }
+
+    private static final class Key {
+        private final Scope scope;
+        private final String mediaType;
+        private final WriterParameters params;
+
+        Key(final Scope scope, final String mediaType, final WriterParameters params) {
+            this.scope = scope;
+            this.mediaType = mediaType;
+            this.params = params;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, mediaType, params);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return scope.equals(other.scope) && mediaType.equals(other.mediaType) && params.equals(other.params);
+        }
+    }
+
+    private static final class Entry {
+        final WeakReference<NormalizedNode> source;
+        final ByteBuffer body;
+
+        Entry(final NormalizedNode source, final ByteBuffer body) {
+            this.source = new WeakReference<>(source);
+            this.body = body;
+        }
+    }
+
+    /**
+     * Passes the body through to the entity stream while keeping a copy, until it grows beyond the entry limit.
+     */
+    private final class Capture extends FilterOutputStream {
+        private final Key key;
+        private final NormalizedNode source;
+
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        Capture(final OutputStream out, final Key key, final NormalizedNode source) {
+            super(out);
+            this.key = key;
+            this.source = source;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            out.write(value);
+            if (copy != null) {
+                copy.write(value);
+                checkSize();
+            }
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int off, final int len) throws IOException {
+            out.write(bytes, off, len);
+            if (copy != null) {
+                copy.write(bytes, off, len);
+                checkSize();
+            }
+        }
+
+        void publish() {
+            if (copy != null) {
+                store(key, source, copy);
+                copy = null;
+            }
+        }
+
+        private void checkSize() {
+            if (copy.size() > maxEntryBytes) {
+                copy = null;
+            }
+        }
+    }
+}
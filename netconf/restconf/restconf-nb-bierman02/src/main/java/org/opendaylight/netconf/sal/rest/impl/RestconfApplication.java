@@ -18,6 +18,9 @@ import org.opendaylight.netconf.md.sal.rest.schema.SchemaExportContentYinBodyWri
 import org.opendaylight.netconf.md.sal.rest.schema.SchemaRetrievalServiceImpl;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.StatisticsRestconfServiceWrapper;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
+import org.opendaylight.netconf.sal.streams.sse.SseStreamService;
+import org.opendaylight.netconf.sal.streams.sse.SseSubscribers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,12 +31,34 @@ public class RestconfApplication extends Application {
 
     private final ControllerContext controllerContext;
     private final StatisticsRestconfServiceWrapper statsServiceWrapper;
+    private final ContentEncodingInterceptor contentEncodingInterceptor;
+    private final ResponseBodyCache responseBodyCache;
+    private final ParallelListSerializer parallelSerializer;
+    private final StreamRegistry streams;
+    private final SchemaCodecCache schemaCodecs;
+    private final SseSubscribers sseSubscribers;
 
     @Inject
     public RestconfApplication(final ControllerContext controllerContext,
-            final StatisticsRestconfServiceWrapper statsServiceWrapper) {
+            final StatisticsRestconfServiceWrapper statsServiceWrapper, final StreamRegistry streams) {
+        this(controllerContext, statsServiceWrapper, new ContentEncodingInterceptor(),
+            ResponseBodyCache.disabled(), ParallelListSerializer.disabled(), streams, new SchemaCodecCache(),
+            new SseSubscribers());
+    }
+
+    public RestconfApplication(final ControllerContext controllerContext,
+            final StatisticsRestconfServiceWrapper statsServiceWrapper,
+            final ContentEncodingInterceptor contentEncodingInterceptor,
+            final ResponseBodyCache responseBodyCache, final ParallelListSerializer parallelSerializer,
+            final StreamRegistry streams, final SchemaCodecCache schemaCodecs, final SseSubscribers sseSubscribers) {
         this.controllerContext = controllerContext;
         this.statsServiceWrapper = statsServiceWrapper;
+        this.contentEncodingInterceptor = contentEncodingInterceptor;
+        this.responseBodyCache = responseBodyCache;
+        this.parallelSerializer = parallelSerializer;
+        this.streams = streams;
+        this.schemaCodecs = schemaCodecs;
+        this.sseSubscribers = sseSubscribers;
         LOG.warn("Pre-standard version of RESTCONF activated. Please note that this implementation is considered "
             + "obsoleve and WILL BE REMOVED IN THE NEXT MAJOR RELEASE. Please use the RFC8040-compliant "
             + "implementation instead.");
@@ -44,8 +69,7 @@ public class RestconfApplication extends Application {
         return ImmutableSet.<Class<?>>builder()
                 .add(PatchJsonBodyWriter.class)
                 .add(PatchXmlBodyWriter.class)
-                .add(NormalizedNodeJsonBodyWriter.class)
-                .add(NormalizedNodeXmlBodyWriter.class)
+                .add(PatchCborBodyWriter.class)
                 .add(SchemaExportContentYinBodyWriter.class)
                 .add(SchemaExportContentYangBodyWriter.class)
                 .build();
@@ -57,11 +81,18 @@ public class RestconfApplication extends Application {
         final SchemaRetrievalServiceImpl schemaRetrieval = new SchemaRetrievalServiceImpl(controllerContext);
         singletons.add(schemaRetrieval);
         singletons.add(new RestconfCompositeWrapper(statsServiceWrapper, schemaRetrieval));
+        singletons.add(new SseStreamService(sseSubscribers, streams));
         singletons.add(new RestconfDocumentedExceptionMapper(controllerContext));
-        singletons.add(new XmlNormalizedNodeBodyReader(controllerContext));
-        singletons.add(new JsonNormalizedNodeBodyReader(controllerContext));
-        singletons.add(new XmlToPatchBodyReader(controllerContext));
+        singletons.add(new NormalizedNodeJsonBodyWriter(responseBodyCache, parallelSerializer, schemaCodecs));
+        singletons.add(new NormalizedNodeXmlBodyWriter(responseBodyCache, schemaCodecs));
+        singletons.add(new NormalizedNodeCborBodyWriter(responseBodyCache, parallelSerializer, schemaCodecs));
+        singletons.add(new XmlNormalizedNodeBodyReader(controllerContext, schemaCodecs));
+        singletons.add(new JsonNormalizedNodeBodyReader(controllerContext, schemaCodecs));
+        singletons.add(new CborNormalizedNodeBodyReader(controllerContext, schemaCodecs));
+        singletons.add(new XmlToPatchBodyReader(controllerContext, schemaCodecs));
         singletons.add(new JsonToPatchBodyReader(controllerContext));
+        singletons.add(new CborToPatchBodyReader(controllerContext));
+        singletons.add(contentEncodingInterceptor);
 //        singletons.add(StructuredDataToXmlProvider.INSTANCE);
 //        singletons.add(StructuredDataToJsonProvider.INSTANCE);
 //        singletons.add(JsonToCompositeNodeProvider.INSTANCE);
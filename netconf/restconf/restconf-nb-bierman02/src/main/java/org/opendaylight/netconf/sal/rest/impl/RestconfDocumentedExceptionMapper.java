@@ -7,13 +7,11 @@
  */
 package org.opendaylight.netconf.sal.rest.impl;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.google.gson.stream.JsonWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -22,7 +20,9 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.Provider;
 import javax.xml.XMLConstants;
@@ -32,34 +32,12 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.restconf.impl.MountPointUnavailableException;
 import org.opendaylight.restconf.common.ErrorTags;
-import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError;
-import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.XMLNamespace;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
-import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
-import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
-import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
-import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
-import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
-import org.opendaylight.yangtools.yang.data.api.schema.builder.DataContainerNodeBuilder;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
-import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
-import org.opendaylight.yangtools.yang.data.impl.schema.SchemaAwareBuilders;
-import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,6 +52,15 @@ public class RestconfDocumentedExceptionMapper implements ExceptionMapper<Restco
 
     private static final Logger LOG = LoggerFactory.getLogger(RestconfDocumentedExceptionMapper.class);
 
+    private static final String NAMESPACE = Draft02.RestConfModule.NAMESPACE;
+    private static final String ERRORS = Draft02.RestConfModule.ERRORS_QNAME.getLocalName();
+    private static final String ERROR = Draft02.RestConfModule.ERROR_LIST_QNAME.getLocalName();
+    private static final String ERROR_TYPE = Draft02.RestConfModule.ERROR_TYPE_QNAME.getLocalName();
+    private static final String ERROR_TAG = Draft02.RestConfModule.ERROR_TAG_QNAME.getLocalName();
+    private static final String ERROR_APP_TAG = Draft02.RestConfModule.ERROR_APP_TAG_QNAME.getLocalName();
+    private static final String ERROR_MESSAGE = Draft02.RestConfModule.ERROR_MESSAGE_QNAME.getLocalName();
+    private static final String ERROR_INFO = Draft02.RestConfModule.ERROR_INFO_QNAME.getLocalName();
+
     private static final XMLOutputFactory XML_FACTORY;
 
     static {
@@ -86,6 +73,8 @@ public class RestconfDocumentedExceptionMapper implements ExceptionMapper<Restco
 
     private final ControllerContext controllerContext;
 
+    private volatile ErrorsSchema errorsSchema;
+
     public RestconfDocumentedExceptionMapper(final ControllerContext controllerContext) {
         this.controllerContext = requireNonNull(controllerContext);
     }
@@ -112,319 +101,118 @@ public class RestconfDocumentedExceptionMapper implements ExceptionMapper<Restco
             // the tomcat front-end will send back an html error report. To prevent that, set a
             // single space char in the entity.
 
-            return Response.status(exception.getStatus()).type(MediaType.TEXT_PLAIN_TYPE).entity(" ").build();
+            return withRetryAfter(Response.status(exception.getStatus()), exception)
+                .type(MediaType.TEXT_PLAIN_TYPE).entity(" ").build();
         }
 
         final Status status = ErrorTags.statusOf(errors.iterator().next().getErrorTag());
-        final var errorsEntry = controllerContext.getRestconfModuleErrorsSchemaNode();
-        if (errorsEntry == null) {
-            return Response.status(status).type(MediaType.TEXT_PLAIN_TYPE).entity(exception.getMessage()).build();
+        if (!supportsErrors(controllerContext.getGlobalSchema())) {
+            return withRetryAfter(Response.status(status), exception)
+                .type(MediaType.TEXT_PLAIN_TYPE).entity(exception.getMessage()).build();
         }
 
-        final var errorsSchemaNode = errorsEntry.getValue();
-        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> errContBuild =
-                SchemaAwareBuilders.containerBuilder(errorsSchemaNode);
-
-        final var schemaList = ControllerContext.findInstanceDataChildrenByName(errorsSchemaNode,
-                Draft02.RestConfModule.ERROR_LIST_SCHEMA_NODE);
-        final DataSchemaNode errListSchemaNode = ControllerContext.getFirst(schemaList);
-        checkState(errListSchemaNode instanceof ListSchemaNode, "Found Error SchemaNode isn't ListSchemaNode");
-        final CollectionNodeBuilder<MapEntryNode, SystemMapNode> listErorsBuilder = SchemaAwareBuilders
-                .mapBuilder((ListSchemaNode) errListSchemaNode);
-
-
-        for (final RestconfError error : errors) {
-            listErorsBuilder.withChild(toErrorEntryNode(error, errListSchemaNode));
-        }
-        errContBuild.withChild(listErorsBuilder.build());
-
-        final NormalizedNodeContext errContext = new NormalizedNodeContext(
-            InstanceIdentifierContext.ofStack(errorsEntry.getKey(), null), errContBuild.build());
-
-        final String responseBody;
+        final StreamingOutput body;
         if (mediaType.getSubtype().endsWith("json")) {
-            responseBody = toJsonResponseBody(errContext);
+            body = out -> writeJsonErrors(errors, out);
         } else {
-            responseBody = toXMLResponseBody(errContext);
+            body = out -> writeXmlErrors(errors, out);
         }
 
-        return Response.status(status).type(mediaType).entity(responseBody).build();
+        return withRetryAfter(Response.status(status), exception).type(mediaType).entity(body).build();
     }
 
-    private static MapEntryNode toErrorEntryNode(final RestconfError error, final DataSchemaNode errListSchemaNode) {
-        checkArgument(errListSchemaNode instanceof ListSchemaNode,
-                "errListSchemaNode has to be of type ListSchemaNode");
-        final ListSchemaNode listStreamSchemaNode = (ListSchemaNode) errListSchemaNode;
-        final DataContainerNodeBuilder<NodeIdentifierWithPredicates, MapEntryNode> errNodeValues = SchemaAwareBuilders
-                .mapEntryBuilder(listStreamSchemaNode);
-
-        var lsChildDataSchemaNode = ControllerContext.findInstanceDataChildrenByName(
-                listStreamSchemaNode, "error-type");
-        final DataSchemaNode errTypSchemaNode = ControllerContext.getFirst(lsChildDataSchemaNode);
-        checkState(errTypSchemaNode instanceof LeafSchemaNode);
-        errNodeValues.withChild(SchemaAwareBuilders.leafBuilder((LeafSchemaNode) errTypSchemaNode)
-                .withValue(error.getErrorType().elementBody()).build());
-
-        lsChildDataSchemaNode = ControllerContext.findInstanceDataChildrenByName(
-                listStreamSchemaNode, "error-tag");
-        final DataSchemaNode errTagSchemaNode = ControllerContext.getFirst(lsChildDataSchemaNode);
-        checkState(errTagSchemaNode instanceof LeafSchemaNode);
-        errNodeValues.withChild(SchemaAwareBuilders.leafBuilder((LeafSchemaNode) errTagSchemaNode)
-                .withValue(error.getErrorTag().elementBody()).build());
-
-        if (error.getErrorAppTag() != null) {
-            lsChildDataSchemaNode = ControllerContext.findInstanceDataChildrenByName(
-                    listStreamSchemaNode, "error-app-tag");
-            final DataSchemaNode errAppTagSchemaNode = ControllerContext.getFirst(lsChildDataSchemaNode);
-            checkState(errAppTagSchemaNode instanceof LeafSchemaNode);
-            errNodeValues.withChild(SchemaAwareBuilders.leafBuilder((LeafSchemaNode) errAppTagSchemaNode)
-                    .withValue(error.getErrorAppTag()).build());
-        }
-
-        lsChildDataSchemaNode = ControllerContext.findInstanceDataChildrenByName(
-                listStreamSchemaNode, "error-message");
-        final DataSchemaNode errMsgSchemaNode = ControllerContext.getFirst(lsChildDataSchemaNode);
-        checkState(errMsgSchemaNode instanceof LeafSchemaNode);
-        errNodeValues.withChild(SchemaAwareBuilders.leafBuilder((LeafSchemaNode) errMsgSchemaNode)
-                .withValue(error.getErrorMessage()).build());
-
-        if (error.getErrorInfo() != null) {
-            // Oddly, error-info is defined as an empty container in the restconf yang. Apparently the
-            // intention is for implementors to define their own data content so we'll just treat it as a leaf
-            // with string data.
-            errNodeValues.withChild(ImmutableNodes.leafNode(Draft02.RestConfModule.ERROR_INFO_QNAME,
-                    error.getErrorInfo()));
+    private static ResponseBuilder withRetryAfter(final ResponseBuilder builder,
+            final RestconfDocumentedException exception) {
+        if (exception instanceof MountPointUnavailableException) {
+            builder.header(HttpHeaders.RETRY_AFTER,
+                ((MountPointUnavailableException) exception).getRetryAfterSeconds());
         }
-
-        // TODO : find how could we add possible "error-path"
-
-        return errNodeValues.build();
+        return builder;
     }
 
-    private static String toJsonResponseBody(final NormalizedNodeContext errorsNode) {
-        final ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        NormalizedNode data = errorsNode.getData();
-        final InstanceIdentifierContext context = errorsNode.getInstanceIdentifierContext();
-        final DataSchemaNode schema = (DataSchemaNode) context.getSchemaNode();
-
-        final OutputStreamWriter outputWriter = new OutputStreamWriter(outStream, StandardCharsets.UTF_8);
-        if (data == null) {
-            throw new RestconfDocumentedException(Response.Status.NOT_FOUND);
-        }
-
-        final boolean isDataRoot;
-        final var stack = context.inference().toSchemaInferenceStack();
-        if (stack.isEmpty()) {
-            isDataRoot = true;
-        } else {
-            isDataRoot = false;
-            stack.exit();
-            // FIXME: Add proper handling of reading root.
-        }
-
-        XMLNamespace initialNs = null;
-        if (!schema.isAugmenting() && !(schema instanceof SchemaContext)) {
-            initialNs = schema.getQName().getNamespace();
-        }
+    /**
+     * Check whether a model context defines the errors container, so that errors can be reported as data. The result
+     * is computed once per model context, as it does not change until the context is replaced.
+     */
+    private boolean supportsErrors(final EffectiveModelContext schema) {
+        if (schema == null) {
+            return false;
+        }
+        final ErrorsSchema cached = errorsSchema;
+        if (cached != null && cached.context == schema) {
+            return cached.supported;
+        }
+        final ErrorsSchema computed = new ErrorsSchema(schema,
+            schema.findModule(Draft02.RestConfModule.ERRORS_QNAME.getModule()).isPresent());
+        errorsSchema = computed;
+        return computed.supported;
+    }
 
+    // error-info is defined as an empty container in the restconf yang. Apparently the intention is for implementors
+    // to define their own data content so we'll just treat it as a leaf with string data. All other leaves are
+    // strings or enumerations, hence errors are written directly, without going through the schema-aware writers.
+    private static void writeJsonErrors(final List<RestconfError> errors, final OutputStream out) throws IOException {
+        final OutputStreamWriter outputWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
         final JsonWriter jsonWriter = JsonWriterFactory.createJsonWriter(outputWriter);
-        final NormalizedNodeStreamWriter jsonStreamWriter = JSONNormalizedNodeStreamWriter.createExclusiveWriter(
-            JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context.getSchemaContext()),
-            stack.toInference(), initialNs, jsonWriter);
-
-        // We create a delegating writer to special-case error-info as error-info is defined as an empty
-        // container in the restconf yang schema but we create a leaf node so we can output it. The delegate
-        // stream writer validates the node type against the schema and thus will expect a LeafSchemaNode but
-        // the schema has a ContainerSchemaNode so, to avoid an error, we override the leafNode behavior
-        // for error-info.
-        final NormalizedNodeStreamWriter streamWriter = new ForwardingNormalizedNodeStreamWriter() {
-            private boolean inOurLeaf;
-
-            @Override
-            protected NormalizedNodeStreamWriter delegate() {
-                return jsonStreamWriter;
-            }
-
-            @Override
-            public void startLeafNode(final NodeIdentifier name) throws IOException {
-                if (name.getNodeType().equals(Draft02.RestConfModule.ERROR_INFO_QNAME)) {
-                    inOurLeaf = true;
-                    jsonWriter.name(Draft02.RestConfModule.ERROR_INFO_QNAME.getLocalName());
-                } else {
-                    super.startLeafNode(name);
-                }
-            }
-
-            @Override
-            public void scalarValue(final Object value) throws IOException {
-                if (inOurLeaf) {
-                    jsonWriter.value(value.toString());
-                } else {
-                    super.scalarValue(value);
-                }
-            }
-
-            @Override
-            public void endNode() throws IOException {
-                if (inOurLeaf) {
-                    inOurLeaf = false;
-                } else {
-                    super.endNode();
-                }
-            }
-        };
-
-        final NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(streamWriter);
-        try {
-            if (isDataRoot) {
-                writeDataRoot(outputWriter,nnWriter,(ContainerNode) data);
-            } else {
-                if (data instanceof MapEntryNode) {
-                    data = ImmutableNodes.mapNodeBuilder(data.getIdentifier().getNodeType())
-                        .withChild((MapEntryNode) data)
-                        .build();
-                }
-                nnWriter.write(data);
-            }
-            nnWriter.flush();
-            outputWriter.flush();
-        } catch (final IOException e) {
-            LOG.warn("Error writing error response body", e);
-        }
-
-        try {
-            streamWriter.close();
-        } catch (IOException e) {
-            LOG.warn("Failed to close stream writer", e);
-        }
-
-        return outStream.toString(StandardCharsets.UTF_8);
+        jsonWriter.beginObject().name(ERRORS).beginObject().name(ERROR).beginArray();
+        for (final RestconfError error : errors) {
+            jsonWriter.beginObject()
+                .name(ERROR_TYPE).value(error.getErrorType().elementBody())
+                .name(ERROR_TAG).value(error.getErrorTag().elementBody());
+            writeJsonLeaf(jsonWriter, ERROR_APP_TAG, error.getErrorAppTag());
+            writeJsonLeaf(jsonWriter, ERROR_MESSAGE, error.getErrorMessage());
+            writeJsonLeaf(jsonWriter, ERROR_INFO, error.getErrorInfo());
+            // TODO : find how could we add possible "error-path"
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray().endObject().endObject();
+        jsonWriter.flush();
     }
 
-    private static String toXMLResponseBody(final NormalizedNodeContext errorsNode) {
-        final InstanceIdentifierContext pathContext = errorsNode.getInstanceIdentifierContext();
-        final ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-
-        final XMLStreamWriter xmlWriter;
-        try {
-            xmlWriter = XML_FACTORY.createXMLStreamWriter(outStream, StandardCharsets.UTF_8.name());
-        } catch (final XMLStreamException | FactoryConfigurationError e) {
-            throw new IllegalStateException(e);
-        }
-        NormalizedNode data = errorsNode.getData();
-
-        final boolean isDataRoot;
-        final var stack = pathContext.inference().toSchemaInferenceStack();
-        if (stack.isEmpty()) {
-            isDataRoot = true;
-        } else {
-            isDataRoot = false;
-            stack.exit();
+    private static void writeJsonLeaf(final JsonWriter jsonWriter, final String name, final String value)
+            throws IOException {
+        if (value != null) {
+            jsonWriter.name(name).value(value);
         }
+    }
 
-        final NormalizedNodeStreamWriter xmlStreamWriter = XMLStreamNormalizedNodeStreamWriter.create(xmlWriter,
-                stack.toInference());
-
-        // We create a delegating writer to special-case error-info as error-info is defined as an empty
-        // container in the restconf yang schema but we create a leaf node so we can output it. The delegate
-        // stream writer validates the node type against the schema and thus will expect a LeafSchemaNode but
-        // the schema has a ContainerSchemaNode so, to avoid an error, we override the leafNode behavior
-        // for error-info.
-        final NormalizedNodeStreamWriter streamWriter = new ForwardingNormalizedNodeStreamWriter() {
-            private boolean inOurLeaf;
-
-            @Override
-            protected NormalizedNodeStreamWriter delegate() {
-                return xmlStreamWriter;
-            }
-
-            @Override
-            public void startLeafNode(final NodeIdentifier name) throws IOException {
-                if (name.getNodeType().equals(Draft02.RestConfModule.ERROR_INFO_QNAME)) {
-                    String ns = Draft02.RestConfModule.ERROR_INFO_QNAME.getNamespace().toString();
-                    try {
-                        xmlWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX,
-                                Draft02.RestConfModule.ERROR_INFO_QNAME.getLocalName(), ns);
-                    } catch (XMLStreamException e) {
-                        throw new IOException("Error writing error-info", e);
-                    }
-                    inOurLeaf = true;
-                } else {
-                    super.startLeafNode(name);
-                }
-            }
-
-            @Override
-            public void scalarValue(final Object value) throws IOException {
-                if (inOurLeaf) {
-                    try {
-                        xmlWriter.writeCharacters(value.toString());
-                    } catch (XMLStreamException e) {
-                        throw new IOException("Error writing error-info", e);
-                    }
-                } else {
-                    super.scalarValue(value);
-                }
-            }
-
-            @Override
-            public void endNode() throws IOException {
-                if (inOurLeaf) {
-                    try {
-                        xmlWriter.writeEndElement();
-                    } catch (XMLStreamException e) {
-                        throw new IOException("Error writing error-info", e);
-                    }
-                    inOurLeaf = false;
-                } else {
-                    super.endNode();
-                }
-            }
-        };
-
-        final NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(streamWriter);
+    private static void writeXmlErrors(final List<RestconfError> errors, final OutputStream out) throws IOException {
         try {
-            if (isDataRoot) {
-                writeRootElement(xmlWriter, nnWriter, (ContainerNode) data);
-            } else {
-                if (data instanceof MapEntryNode) {
-                    // Restconf allows returning one list item. We need to wrap it
-                    // in map node in order to serialize it properly
-                    data = ImmutableNodes.mapNodeBuilder(data.getIdentifier().getNodeType())
-                        .addChild((MapEntryNode) data)
-                        .build();
-                }
-                nnWriter.write(data);
-                nnWriter.flush();
+            final XMLStreamWriter xmlWriter = XML_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            xmlWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, ERRORS, NAMESPACE);
+            for (final RestconfError error : errors) {
+                xmlWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, ERROR, NAMESPACE);
+                writeXmlLeaf(xmlWriter, ERROR_TYPE, error.getErrorType().elementBody());
+                writeXmlLeaf(xmlWriter, ERROR_TAG, error.getErrorTag().elementBody());
+                writeXmlLeaf(xmlWriter, ERROR_APP_TAG, error.getErrorAppTag());
+                writeXmlLeaf(xmlWriter, ERROR_MESSAGE, error.getErrorMessage());
+                writeXmlLeaf(xmlWriter, ERROR_INFO, error.getErrorInfo());
+                xmlWriter.writeEndElement();
             }
-        } catch (final IOException e) {
-            LOG.warn("Error writing error response body.", e);
+            xmlWriter.writeEndElement();
+            xmlWriter.flush();
+            xmlWriter.close();
+        } catch (final XMLStreamException | FactoryConfigurationError e) {
+            throw new IOException("Failed to write error response body", e);
         }
-
-        return outStream.toString(StandardCharsets.UTF_8);
     }
 
-    private static void writeRootElement(final XMLStreamWriter xmlWriter, final NormalizedNodeWriter nnWriter,
-                                         final ContainerNode data) throws IOException {
-        final QName name = SchemaContext.NAME;
-        try {
-            xmlWriter.writeStartElement(name.getNamespace().toString(), name.getLocalName());
-            for (final DataContainerChild child : data.body()) {
-                nnWriter.write(child);
-            }
-            nnWriter.flush();
+    private static void writeXmlLeaf(final XMLStreamWriter xmlWriter, final String name, final String value)
+            throws XMLStreamException {
+        if (value != null) {
+            xmlWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, name, NAMESPACE);
+            xmlWriter.writeCharacters(value);
             xmlWriter.writeEndElement();
-            xmlWriter.flush();
-        } catch (final XMLStreamException e) {
-            throw new IOException("Failed to write elements", e);
         }
     }
 
-    private static void writeDataRoot(final OutputStreamWriter outputWriter, final NormalizedNodeWriter nnWriter,
-                                      final ContainerNode data) throws IOException {
-        for (final DataContainerChild child : data.body()) {
-            nnWriter.write(child);
-            nnWriter.flush();
+    private static final class ErrorsSchema {
+        final EffectiveModelContext context;
+        final boolean supported;
+
+        ErrorsSchema(final EffectiveModelContext context, final boolean supported) {
+            this.context = context;
+            this.supported = supported;
         }
     }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
+import org.opendaylight.mdsal.dom.api.DOMMountPointService;
+import org.opendaylight.mdsal.dom.api.DOMSchemaService;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.SchemaCodecCacheRuntimeMXBean;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContextListener;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+
+/**
+ * XML codecs, instance identifier codecs and schema inferences shared by the body readers and body writers. Entries
+ * are kept per {@link EffectiveModelContext}, so that requests towards a mount point reuse what has been resolved
+ * against the device's model context by previous requests. JSON codecs are shared by
+ * {@link org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier#getShared(EffectiveModelContext)}.
+ *
+ * <p>
+ * Entries refer back to their model context, hence they are dropped when the model changes: all of them once
+ * the global model context is updated and those of a mount point's model context once the mount point is removed.
+ * Model contexts of mount points are tracked as the mount points are created, a context shared by several mount
+ * points is dropped with the last of them. The number of model contexts kept is bounded, the least recently used
+ * are dropped first.
+ */
+public final class SchemaCodecCache extends AbstractMXBean implements SchemaCodecCacheRuntimeMXBean,
+        EffectiveModelContextListener, DOMMountPointListener {
+    private static final int MAX_INFERENCES_PER_CONTEXT = 1024;
+
+    static final int DEFAULT_MAX_CONTEXTS = 64;
+
+    private final Map<YangInstanceIdentifier, EffectiveModelContext> mountPointContexts = new ConcurrentHashMap<>();
+    private final LongAdder codecHits = new LongAdder();
+    private final LongAdder codecMisses = new LongAdder();
+    private final LongAdder inferenceHits = new LongAdder();
+    private final LongAdder inferenceMisses = new LongAdder();
+
+    private volatile Cache<EffectiveModelContext, Schema> schemas = newSchemas(DEFAULT_MAX_CONTEXTS);
+    private volatile EffectiveModelContext globalContext;
+    private DOMSchemaService schemaService;
+    private DOMMountPointService mountPointService;
+    private Registration schemaRegistration;
+    private Registration mountPointRegistration;
+
+    public SchemaCodecCache() {
+        super("SchemaCodecCache", "restconf-connector", null);
+    }
+
+    public void setSchemaService(final DOMSchemaService schemaService) {
+        this.schemaService = schemaService;
+    }
+
+    public void setMountPointService(final DOMMountPointService mountPointService) {
+        this.mountPointService = mountPointService;
+    }
+
+    /**
+     * Set the maximum number of model contexts entries are kept for. Entries kept so far are dropped.
+     *
+     * @param maxContexts Number of model contexts
+     */
+    public void setMaxContexts(final int maxContexts) {
+        checkArgument(maxContexts > 0, "Invalid maximum contexts %s", maxContexts);
+        schemas = newSchemas(maxContexts);
+    }
+
+    public synchronized void start() {
+        registerMBean();
+        if (schemaService != null) {
+            schemaRegistration = schemaService.registerSchemaContextListener(this);
+        }
+        if (mountPointService != null) {
+            mountPointRegistration = mountPointService.registerProvisionListener(this);
+        }
+    }
+
+    public synchronized void close() {
+        if (schemaRegistration != null) {
+            schemaRegistration.close();
+            schemaRegistration = null;
+        }
+        if (mountPointRegistration != null) {
+            mountPointRegistration.close();
+            mountPointRegistration = null;
+        }
+        schemas.invalidateAll();
+        mountPointContexts.clear();
+        unregisterMBean();
+    }
+
+    @Override
+    public void onModelContextUpdated(final EffectiveModelContext newModelContext) {
+        globalContext = newModelContext;
+        schemas.invalidateAll();
+    }
+
+    @Override
+    public void onMountPointCreated(final YangInstanceIdentifier path) {
+        // Entries are created on first request, only remember which model context they will belong to
+        final DOMMountPointService service = mountPointService;
+        if (service != null) {
+            service.getMountPoint(path)
+                .flatMap(mountPoint -> mountPoint.getService(DOMSchemaService.class))
+                .map(DOMSchemaService::getGlobalContext)
+                .ifPresent(context -> mountPointContexts.put(path, context));
+        }
+    }
+
+    @Override
+    public void onMountPointRemoved(final YangInstanceIdentifier path) {
+        final EffectiveModelContext context = mountPointContexts.remove(path);
+        // Contexts of mount points not tracked are dropped once they are least recently used
+        if (context != null && context != globalContext && !mountPointContexts.containsValue(context)) {
+            schemas.invalidate(context);
+        }
+    }
+
+    /**
+     * Return the XML codec factory for a model context.
+     *
+     * @param context Model context
+     * @return XML codec factory
+     */
+    XmlCodecFactory xmlCodecs(final EffectiveModelContext context) {
+        final Schema schema = schemaOf(context);
+        XmlCodecFactory codecs = schema.xmlCodecs;
+        if (codecs != null) {
+            codecHits.increment();
+            return codecs;
+        }
+        codecMisses.increment();
+        codecs = XmlCodecFactory.create(context);
+        schema.xmlCodecs = codecs;
+        return codecs;
+    }
+
+    /**
+     * Return the instance identifier codec for a model context, using a module's name as the default prefix.
+     *
+     * @param context Model context
+     * @param moduleName Name of the module
+     * @return Instance identifier codec
+     */
+    StringModuleInstanceIdentifierCodec instanceIdentifierCodec(final EffectiveModelContext context,
+            final String moduleName) {
+        final Map<String, StringModuleInstanceIdentifierCodec> codecs = schemaOf(context).instanceIdentifierCodecs;
+        final StringModuleInstanceIdentifierCodec cached = codecs.get(moduleName);
+        if (cached != null) {
+            codecHits.increment();
+            return cached;
+        }
+        codecMisses.increment();
+        return codecs.computeIfAbsent(moduleName, name -> new StringModuleInstanceIdentifierCodec(context, name));
+    }
+
+    /**
+     * Return the inference of the parent of the statement an inference points to, i.e. the equivalent of exiting
+     * a {@link SchemaInferenceStack} created from it. An inference pointing to the data tree root is returned as-is.
+     *
+     * @param inference Inference of a statement
+     * @return Inference of its parent
+     */
+    Inference parentInference(final Inference inference) {
+        final List<?> path = inference.statementPath();
+        if (path.isEmpty()) {
+            return inference;
+        }
+
+        final Cache<Object, Inference> inferences = schemaOf(inference.getEffectiveModelContext()).inferences;
+        final Inference cached = inferences.getIfPresent(path);
+        if (cached != null) {
+            inferenceHits.increment();
+            return cached;
+        }
+
+        inferenceMisses.increment();
+        final SchemaInferenceStack stack = inference.toSchemaInferenceStack();
+        stack.exit();
+        final Inference parent = stack.toInference();
+        inferences.put(path, parent);
+        return parent;
+    }
+
+    /**
+     * Return the inference of an RPC's output statement.
+     *
+     * @param context Model context
+     * @param rpc RPC definition
+     * @return Inference of the RPC's output
+     */
+    Inference rpcOutputInference(final EffectiveModelContext context, final RpcDefinition rpc) {
+        final Cache<Object, Inference> inferences = schemaOf(context).inferences;
+        final QName key = rpc.getQName();
+        final Inference cached = inferences.getIfPresent(key);
+        if (cached != null) {
+            inferenceHits.increment();
+            return cached;
+        }
+
+        inferenceMisses.increment();
+        final SchemaInferenceStack stack = SchemaInferenceStack.of(context);
+        stack.enterSchemaTree(key);
+        stack.enterSchemaTree(rpc.getOutput().getQName());
+        final Inference output = stack.toInference();
+        inferences.put(key, output);
+        return output;
+    }
+
+    @Override
+    public long getCachedContexts() {
+        return schemas.size();
+    }
+
+    @Override
+    public long getCodecHits() {
+        return codecHits.sum();
+    }
+
+    @Override
+    public long getCodecMisses() {
+        return codecMisses.sum();
+    }
+
+    @Override
+    public long getInferenceHits() {
+        return inferenceHits.sum();
+    }
+
+    @Override
+    public long getInferenceMisses() {
+        return inferenceMisses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        final long hits = codecHits.sum() + inferenceHits.sum();
+        final long total = hits + codecMisses.sum() + inferenceMisses.sum();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    private static Cache<EffectiveModelContext, Schema> newSchemas(final int maxContexts) {
+        return CacheBuilder.newBuilder().maximumSize(maxContexts).build();
+    }
+
+    private Schema schemaOf(final EffectiveModelContext context) {
+        try {
+            return schemas.get(context, Schema::new);
+        } catch (ExecutionException e) {
+            // Schema::new does not throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Schema {
+        // Keyed by statement path for parent inferences and by RPC QName for RPC outputs
+        final Cache<Object, Inference> inferences = CacheBuilder.newBuilder()
+            .maximumSize(MAX_INFERENCES_PER_CONTEXT)
+            .build();
+
+        final Map<String, StringModuleInstanceIdentifierCodec> instanceIdentifierCodecs = new ConcurrentHashMap<>();
+
+        // Benign race: concurrent misses create equivalent factories
+        volatile XmlCodecFactory xmlCodecs;
+    }
+}
@@ -7,16 +7,55 @@
  */
 package org.opendaylight.netconf.sal.rest.impl;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import org.eclipse.jdt.annotation.Nullable;
+
 @Deprecated(forRemoval = true, since = "2.0.6")
 public final class WriterParameters {
     static final WriterParameters EMPTY = new WriterParametersBuilder().build();
 
+    /**
+     * Values of the {@code content} query parameter.
+     */
+    public enum Content {
+        ALL,
+        CONFIG,
+        NONCONFIG
+    }
+
+    /**
+     * Values of the {@code with-defaults} query parameter. Tagging of default values is not supported, hence
+     * {@code report-all-tagged} is reported as {@link #REPORT_ALL}.
+     */
+    public enum WithDefaults {
+        /**
+         * Leaves are written as they are.
+         */
+        REPORT_ALL,
+        /**
+         * Leaves equal to their default value are left out.
+         */
+        TRIM,
+        /**
+         * Only leaves equal to their default value and keys of list entries are written.
+         */
+        EXPLICIT
+    }
+
     private final Integer depth;
     private final boolean prettyPrint;
+    private final @Nullable FieldsFilter fields;
+    private final Content content;
+    private final WithDefaults withDefaults;
 
     private WriterParameters(final WriterParametersBuilder builder) {
         depth = builder.depth;
         prettyPrint = builder.prettyPrint;
+        fields = builder.fields;
+        content = builder.content;
+        withDefaults = builder.withDefaults;
     }
 
     public Integer getDepth() {
@@ -27,10 +66,52 @@ public final class WriterParameters {
         return prettyPrint;
     }
 
+    public @Nullable FieldsFilter getFields() {
+        return fields;
+    }
+
+    public Content getContent() {
+        return content;
+    }
+
+    public WithDefaults getWithDefaults() {
+        return withDefaults;
+    }
+
+    /**
+     * Check whether these parameters select only a part of the data being written.
+     *
+     * @return True if depth, fields, content or with-defaults other than report-all is in effect
+     */
+    boolean isFiltering() {
+        return depth != null || fields != null || content != Content.ALL || withDefaults != WithDefaults.REPORT_ALL;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(depth, prettyPrint, fields, content, withDefaults);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WriterParameters)) {
+            return false;
+        }
+        final WriterParameters other = (WriterParameters) obj;
+        return prettyPrint == other.prettyPrint && withDefaults == other.withDefaults && content == other.content
+            && Objects.equals(depth, other.depth) && Objects.equals(fields, other.fields);
+    }
+
     @Deprecated(forRemoval = true, since = "2.0.6")
     public static final class WriterParametersBuilder {
         private Integer depth;
         private boolean prettyPrint;
+        private FieldsFilter fields;
+        private Content content = Content.ALL;
+        private WithDefaults withDefaults = WithDefaults.REPORT_ALL;
 
         public WriterParametersBuilder setDepth(final int depth) {
             this.depth = depth;
@@ -42,6 +123,21 @@ public final class WriterParameters {
             return this;
         }
 
+        public WriterParametersBuilder setFields(final FieldsFilter fields) {
+            this.fields = requireNonNull(fields);
+            return this;
+        }
+
+        public WriterParametersBuilder setContent(final Content content) {
+            this.content = requireNonNull(content);
+            return this;
+        }
+
+        public WriterParametersBuilder setWithDefaults(final WithDefaults withDefaults) {
+            this.withDefaults = requireNonNull(withDefaults);
+            return this;
+        }
+
         public WriterParameters build() {
             return new WriterParameters(this);
         }
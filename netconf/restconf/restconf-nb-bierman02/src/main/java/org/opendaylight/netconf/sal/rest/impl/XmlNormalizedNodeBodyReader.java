@@ -8,6 +8,7 @@
 package org.opendaylight.netconf.sal.rest.impl;
 
 import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -23,9 +24,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.Provider;
-import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.dom.DOMSource;
+import javax.xml.stream.XMLStreamReader;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
@@ -55,7 +55,6 @@ import org.opendaylight.yangtools.yang.model.api.stmt.ListEffectiveStatement;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 @Provider
@@ -70,8 +69,16 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
 
     private static final Logger LOG = LoggerFactory.getLogger(XmlNormalizedNodeBodyReader.class);
 
+    private final SchemaCodecCache schemaCodecs;
+
     public XmlNormalizedNodeBodyReader(final ControllerContext controllerContext) {
+        this(controllerContext, new SchemaCodecCache());
+    }
+
+    public XmlNormalizedNodeBodyReader(final ControllerContext controllerContext,
+            final SchemaCodecCache schemaCodecs) {
         super(controllerContext);
+        this.schemaCodecs = requireNonNull(schemaCodecs);
     }
 
     @Override
@@ -99,7 +106,7 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
     }
 
     private NormalizedNodeContext readFrom(final InputStream entityStream) throws IOException, SAXException,
-            XMLStreamException, ParserConfigurationException, URISyntaxException {
+            XMLStreamException, URISyntaxException {
         final InstanceIdentifierContext path = getInstanceIdentifierContext();
         final Optional<InputStream> nonEmptyInputStreamOptional = RestUtil.isInputStreamEmpty(entityStream);
         if (nonEmptyInputStreamOptional.isEmpty()) {
@@ -107,11 +114,23 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
             return new NormalizedNodeContext(path, null);
         }
 
-        final Document doc = UntrustedXML.newDocumentBuilder().parse(nonEmptyInputStreamOptional.get());
-        return parse(path, doc);
+        final XMLStreamReader reader = UntrustedXML.createXMLStreamReader(nonEmptyInputStreamOptional.get());
+        try {
+            // Position the reader at the document element, so it can be validated before it is parsed
+            reader.nextTag();
+            final NormalizedNodeContext result = parse(path, reader);
+
+            // Make sure the rest of the document is well-formed, too
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            return result;
+        } finally {
+            reader.close();
+        }
     }
 
-    private NormalizedNodeContext parse(final InstanceIdentifierContext pathContext,final Document doc)
+    private NormalizedNodeContext parse(final InstanceIdentifierContext pathContext, final XMLStreamReader reader)
             throws XMLStreamException, IOException, SAXException, URISyntaxException {
         final SchemaNode schemaNodeContext = pathContext.getSchemaNode();
         DataSchemaNode schemaNode;
@@ -123,8 +142,8 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
         } else if (schemaNodeContext instanceof DataSchemaNode) {
             schemaNode = (DataSchemaNode) schemaNodeContext;
 
-            final String docRootElm = doc.getDocumentElement().getLocalName();
-            final XMLNamespace docRootNamespace = XMLNamespace.of(doc.getDocumentElement().getNamespaceURI());
+            final String docRootElm = reader.getLocalName();
+            final XMLNamespace docRootNamespace = XMLNamespace.of(reader.getNamespaceURI());
 
             if (isPost()) {
                 final var context = pathContext.getSchemaContext();
@@ -172,8 +191,9 @@ public class XmlNormalizedNodeBodyReader extends AbstractIdentifierAwareJaxRsPro
 
         if (schemaNode instanceof ContainerLike || schemaNode instanceof ListSchemaNode
                 || schemaNode instanceof LeafSchemaNode) {
-            final XmlParserStream xmlParser = XmlParserStream.create(writer, inference);
-            xmlParser.traverse(new DOMSource(doc.getDocumentElement()));
+            final XmlParserStream xmlParser = XmlParserStream.create(writer,
+                schemaCodecs.xmlCodecs(pathContext.getSchemaContext()), inference);
+            xmlParser.parse(new XmlSubtreeStreamReader(reader));
             parsed = resultHolder.getResult();
 
             // When parsing an XML source with a list root node
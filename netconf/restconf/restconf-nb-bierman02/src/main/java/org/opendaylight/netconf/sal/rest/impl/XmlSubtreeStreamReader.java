@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+/**
+ * An {@link XMLStreamReader} exposing a single element of an underlying reader as a standalone document. The
+ * underlying reader has to be positioned at the element's {@code START_ELEMENT}. This reader then reports
+ * {@code START_DOCUMENT}, the element with all of its content and {@code END_DOCUMENT}, leaving the underlying reader
+ * positioned at the element's {@code END_ELEMENT}.
+ *
+ * <p>
+ * This allows a subtree of a large document to be handed to
+ * {@link org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream} without building an intermediate DOM, while
+ * the caller keeps processing the rest of the document from the same stream.
+ */
+final class XmlSubtreeStreamReader extends StreamReaderDelegate {
+    private enum State {
+        BEFORE,
+        INSIDE,
+        AFTER
+    }
+
+    private State state = State.BEFORE;
+    private int depth;
+
+    XmlSubtreeStreamReader(final XMLStreamReader reader) {
+        super(reader);
+        checkArgument(reader.isStartElement(), "Reader %s is not positioned at an element", reader);
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        switch (state) {
+            case BEFORE:
+                state = State.INSIDE;
+                depth = 1;
+                return XMLStreamConstants.START_ELEMENT;
+            case INSIDE:
+                if (depth == 0) {
+                    state = State.AFTER;
+                    return XMLStreamConstants.END_DOCUMENT;
+                }
+                final int event = super.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+                return event;
+            default:
+                throw new XMLStreamException("Reached end of element", getLocation());
+        }
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while (event == XMLStreamConstants.CHARACTERS && isWhiteSpace()
+                || event == XMLStreamConstants.CDATA && isWhiteSpace()
+                || event == XMLStreamConstants.SPACE
+                || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+                || event == XMLStreamConstants.COMMENT) {
+            event = next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (state != State.INSIDE) {
+            throw new XMLStreamException("Not positioned at an element", getLocation());
+        }
+        // Consumes everything up to and including the matching END_ELEMENT
+        final String text = super.getElementText();
+        depth--;
+        return text;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return state != State.AFTER;
+    }
+
+    @Override
+    public int getEventType() {
+        switch (state) {
+            case BEFORE:
+                return XMLStreamConstants.START_DOCUMENT;
+            case INSIDE:
+                return super.getEventType();
+            default:
+                return XMLStreamConstants.END_DOCUMENT;
+        }
+    }
+
+    @Override
+    public boolean isStartElement() {
+        return getEventType() == XMLStreamConstants.START_ELEMENT;
+    }
+
+    @Override
+    public boolean isEndElement() {
+        return getEventType() == XMLStreamConstants.END_ELEMENT;
+    }
+
+    @Override
+    public boolean isCharacters() {
+        return getEventType() == XMLStreamConstants.CHARACTERS;
+    }
+
+    @Override
+    public void close() {
+        // The underlying reader is owned by our caller
+    }
+}
@@ -7,19 +7,26 @@
  */
 package org.opendaylight.netconf.sal.rest.impl;
 
-import static com.google.common.base.Verify.verify;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.WebApplicationException;
@@ -27,9 +34,11 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.Provider;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.dom.DOMSource;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
@@ -48,6 +57,7 @@ import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream;
@@ -56,17 +66,13 @@ import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.SchemaNode;
-import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 /**
@@ -81,9 +87,17 @@ public class XmlToPatchBodyReader extends AbstractIdentifierAwareJaxRsProvider i
         MessageBodyReader<PatchContext> {
 
     private static final Logger LOG = LoggerFactory.getLogger(XmlToPatchBodyReader.class);
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final SchemaCodecCache schemaCodecs;
 
     public XmlToPatchBodyReader(final ControllerContext controllerContext) {
+        this(controllerContext, new SchemaCodecCache());
+    }
+
+    public XmlToPatchBodyReader(final ControllerContext controllerContext, final SchemaCodecCache schemaCodecs) {
         super(controllerContext);
+        this.schemaCodecs = requireNonNull(schemaCodecs);
     }
 
     @Override
@@ -107,8 +121,19 @@ public class XmlToPatchBodyReader extends AbstractIdentifierAwareJaxRsProvider i
                 return new PatchContext(path, null, null);
             }
 
-            final Document doc = UntrustedXML.newDocumentBuilder().parse(nonEmptyInputStreamOptional.get());
-            return parse(path, doc);
+            final XMLStreamReader reader = UntrustedXML.createXMLStreamReader(nonEmptyInputStreamOptional.get());
+            try {
+                reader.nextTag();
+                final PatchContext result = parse(path, reader);
+
+                // Make sure the rest of the document is well-formed, too
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+                return result;
+            } finally {
+                reader.close();
+            }
         } catch (final RestconfDocumentedException e) {
             throw e;
         } catch (final Exception e) {
@@ -119,181 +144,360 @@ public class XmlToPatchBodyReader extends AbstractIdentifierAwareJaxRsProvider i
         }
     }
 
-    private static PatchContext parse(final InstanceIdentifierContext pathContext, final Document doc)
-            throws XMLStreamException, IOException, ParserConfigurationException, SAXException, URISyntaxException {
+    /**
+     * Parse the yang-patch document element the reader is positioned at. Edits are parsed one at a time as they
+     * appear in the stream, so that only the resulting {@link PatchEntity} instances are retained.
+     *
+     * @param pathContext Context of the request path
+     * @param reader Reader positioned at the document element
+     * @return Parsed patch
+     */
+    private PatchContext parse(final InstanceIdentifierContext pathContext, final XMLStreamReader reader)
+            throws XMLStreamException, IOException, SAXException, URISyntaxException {
         final List<PatchEntity> resultCollection = new ArrayList<>();
-        final String patchId = doc.getElementsByTagName("patch-id").item(0).getFirstChild().getNodeValue();
-        final NodeList editNodes = doc.getElementsByTagName("edit");
-
-        for (int i = 0; i < editNodes.getLength(); i++) {
-            DataSchemaNode schemaNode = (DataSchemaNode) pathContext.getSchemaNode();
-            final Element element = (Element) editNodes.item(i);
-            final String operation = element.getElementsByTagName("operation").item(0).getFirstChild().getNodeValue();
-            final PatchEditOperation oper = PatchEditOperation.valueOf(operation.toUpperCase(Locale.ROOT));
-
-            final String editId = element.getElementsByTagName("edit-id").item(0).getFirstChild().getNodeValue();
-            final String target = element.getElementsByTagName("target").item(0).getFirstChild().getNodeValue();
-            final List<Element> values = readValueNodes(element, oper);
-            final Element firstValueElement = values != null ? values.get(0) : null;
-
-            // get namespace according to schema node from path context or value
-            final String namespace = firstValueElement == null
-                    ? schemaNode.getQName().getNamespace().toString() : firstValueElement.getNamespaceURI();
-
-            // find module according to namespace
-            final Module module = pathContext.getSchemaContext().findModules(XMLNamespace.of(namespace)).iterator()
-                .next();
-
-            // initialize codec + set default prefix derived from module name
-            final StringModuleInstanceIdentifierCodec codec = new StringModuleInstanceIdentifierCodec(
-                    pathContext.getSchemaContext(), module.getName());
-
-            // find complete path to target and target schema node
-            // target can be also empty (only slash)
-            YangInstanceIdentifier targetII;
-            final SchemaNode targetNode;
-            final Inference inference;
-            if (target.equals("/")) {
-                targetII = pathContext.getInstanceIdentifier();
-                targetNode = pathContext.getSchemaContext();
-                inference = pathContext.inference();
-            } else {
-                targetII = codec.deserialize(codec.serialize(pathContext.getInstanceIdentifier())
-                        .concat(prepareNonCondXpath(schemaNode, target.replaceFirst("/", ""), firstValueElement,
-                                namespace,
-                                module.getQNameModule().getRevision().map(Revision::toString).orElse(null))));
-                // move schema node
-                final var result = codec.getDataContextTree().enterPath(targetII).orElseThrow();
-                schemaNode = result.node().getDataSchemaNode();
-
-                final var stack = result.stack();
-                inference = stack.toInference();
-
-                stack.exit();
-                final EffectiveStatement<?, ?> parentStmt = stack.currentStatement();
-                verify(parentStmt instanceof SchemaNode, "Unexpected parent %s", parentStmt);
-                targetNode = (SchemaNode) parentStmt;
+        final Map<String, String> namespaces = declaredNamespaces(reader, Map.of());
+        String patchId = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "patch-id":
+                    patchId = reader.getElementText();
+                    break;
+                case "edit":
+                    resultCollection.add(parseEdit(pathContext, reader, namespaces));
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
             }
+        }
 
-            if (targetNode == null) {
-                LOG.debug("Target node {} not found in path {} ", target, pathContext.getSchemaNode());
-                throw new RestconfDocumentedException("Error parsing input", ErrorType.PROTOCOL,
-                        ErrorTag.MALFORMED_MESSAGE);
-            }
+        return new PatchContext(pathContext, ImmutableList.copyOf(resultCollection), requireValue(patchId));
+    }
 
-            if (oper.isWithValue()) {
-                final NormalizedNode parsed;
-                if (schemaNode instanceof ContainerSchemaNode || schemaNode instanceof ListSchemaNode) {
-                    final NormalizedNodeResult resultHolder = new NormalizedNodeResult();
-                    final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(resultHolder);
-                    final XmlParserStream xmlParser = XmlParserStream.create(writer, inference);
-                    xmlParser.traverse(new DOMSource(firstValueElement));
-                    parsed = resultHolder.getResult();
-                } else {
-                    parsed = null;
-                }
+    /**
+     * Parse a single edit. The reader is positioned at the edit's start element and is left at its end element. The
+     * value is parsed directly from the stream if the edit's operation and target precede it. Otherwise it is
+     * buffered and parsed once the whole edit has been read, as the order of the edit's children is not fixed.
+     *
+     * @param pathContext Context of the request path
+     * @param reader Reader positioned at the edit element
+     * @param namespaces Namespaces declared by the edit's ancestors, indexed by prefix
+     * @return Parsed edit
+     */
+    private PatchEntity parseEdit(final InstanceIdentifierContext pathContext, final XMLStreamReader reader,
+            final Map<String, String> namespaces)
+            throws XMLStreamException, IOException, SAXException, URISyntaxException {
+        final Map<String, String> editNamespaces = declaredNamespaces(reader, namespaces);
+        String editId = null;
+        PatchEditOperation oper = null;
+        String target = null;
+        boolean withValue = false;
+        Value value = null;
+        byte[] bufferedValue = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "edit-id":
+                    editId = reader.getElementText();
+                    break;
+                case "operation":
+                    oper = PatchEditOperation.valueOf(reader.getElementText().toUpperCase(Locale.ROOT));
+                    break;
+                case "target":
+                    target = reader.getElementText();
+                    break;
+                case "value":
+                    if (withValue || oper != null && !oper.isWithValue()) {
+                        throw malformedInput();
+                    }
+                    withValue = true;
+                    if (oper != null && target != null) {
+                        value = readValue(pathContext, target, reader);
+                    } else {
+                        bufferedValue = bufferElement(reader, declaredNamespaces(reader, editNamespaces));
+                    }
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
 
-                // for lists allow to manipulate with list items through their parent
-                if (targetII.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
-                    targetII = targetII.getParent();
+        requireValue(editId);
+        requireValue(oper);
+        if (oper.isWithValue()) {
+            if (!withValue) {
+                throw malformedInput();
+            }
+            if (bufferedValue != null) {
+                final XMLStreamReader valueReader = UntrustedXML.createXMLStreamReader(
+                    new ByteArrayInputStream(bufferedValue));
+                try {
+                    valueReader.nextTag();
+                    value = readValue(pathContext, requireValue(target), valueReader);
+                } finally {
+                    valueReader.close();
                 }
-
-                resultCollection.add(new PatchEntity(editId, oper, targetII, parsed));
-            } else {
-                resultCollection.add(new PatchEntity(editId, oper, targetII));
             }
+            return new PatchEntity(editId, oper, value.path, value.data);
+        }
+        if (withValue) {
+            throw malformedInput();
         }
 
-        return new PatchContext(pathContext, ImmutableList.copyOf(resultCollection), patchId);
+        // get namespace according to schema node from path context
+        final Target noValueTarget = resolveTarget(pathContext, requireValue(target),
+            pathContext.getSchemaNode().getQName().getNamespace().toString(), false);
+        return new PatchEntity(editId, oper, noValueTarget.path);
     }
 
     /**
-     * Read value nodes.
+     * Read the value of an edit. The reader is positioned at the value element and is left at its end element. Only
+     * the first child of the value element is taken into account.
      *
-     * @param element Element of current edit operation
-     * @param operation Name of current operation
-     * @return List of value elements
+     * @param pathContext Context of the request path
+     * @param target Edit operation target
+     * @param reader Reader positioned at the value element
+     * @return Resolved target path and parsed value
      */
-    private static List<Element> readValueNodes(final @NonNull Element element,
-            final @NonNull PatchEditOperation operation) {
-        final Node valueNode = element.getElementsByTagName("value").item(0);
-
-        if (operation.isWithValue() && valueNode == null) {
-            throw new RestconfDocumentedException("Error parsing input",
-                    ErrorType.PROTOCOL, ErrorTag.MALFORMED_MESSAGE);
+    private Value readValue(final InstanceIdentifierContext pathContext, final String target,
+            final XMLStreamReader reader) throws XMLStreamException, IOException, SAXException, URISyntaxException {
+        if (reader.nextTag() != XMLStreamConstants.START_ELEMENT) {
+            throw malformedInput();
         }
 
-        if (!operation.isWithValue() && valueNode != null) {
-            throw new RestconfDocumentedException("Error parsing input",
-                    ErrorType.PROTOCOL, ErrorTag.MALFORMED_MESSAGE);
-        }
+        // get namespace according to value
+        final Target resolved = resolveTarget(pathContext, target, reader.getNamespaceURI(), true);
+        final NormalizedNode data = readData(resolved, reader);
 
-        if (valueNode == null) {
-            return null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            skipElement(reader);
         }
+        return new Value(resolved.path, data);
+    }
 
-        final List<Element> result = new ArrayList<>();
-        final NodeList childNodes = valueNode.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            if (childNodes.item(i) instanceof Element) {
-                result.add((Element) childNodes.item(i));
+    /**
+     * Copy the element the reader is positioned at into a standalone document, leaving the reader at its end element.
+     * Namespaces in scope are declared on the copied element, so that prefixes used in its content resolve the same.
+     *
+     * @param reader Reader positioned at a start element
+     * @param namespaces Namespaces in scope of the element, indexed by prefix
+     * @return Serialized document
+     */
+    private static byte[] bufferElement(final XMLStreamReader reader, final Map<String, String> namespaces)
+            throws XMLStreamException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+        writer.writeStartDocument();
+
+        int depth = 0;
+        int event = reader.getEventType();
+        while (true) {
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    writer.writeStartElement(nonNull(reader.getPrefix()), reader.getLocalName(),
+                        nonNull(reader.getNamespaceURI()));
+                    if (depth == 0) {
+                        for (final Map.Entry<String, String> namespace : namespaces.entrySet()) {
+                            writer.writeNamespace(namespace.getKey(), namespace.getValue());
+                        }
+                    } else {
+                        for (int i = 0; i < reader.getNamespaceCount(); ++i) {
+                            writer.writeNamespace(nonNull(reader.getNamespacePrefix(i)), reader.getNamespaceURI(i));
+                        }
+                    }
+                    for (int i = 0; i < reader.getAttributeCount(); ++i) {
+                        final String attributeNamespace = reader.getAttributeNamespace(i);
+                        if (attributeNamespace == null || attributeNamespace.isEmpty()) {
+                            writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                        } else {
+                            writer.writeAttribute(nonNull(reader.getAttributePrefix(i)), attributeNamespace,
+                                reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                        }
+                    }
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    writer.writeEndElement();
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                default:
+                    // comments and processing instructions are not part of the value
+                    break;
+            }
+            if (depth == 0) {
+                break;
             }
+            event = reader.next();
         }
 
-        return result;
+        writer.writeEndDocument();
+        writer.close();
+        return out.toByteArray();
     }
 
     /**
-     * Prepare non-conditional XPath suitable for deserialization with {@link StringModuleInstanceIdentifierCodec}.
+     * Return namespaces in scope of the element the reader is positioned at, given those in scope of its parent.
      *
-     * @param schemaNode Top schema node
+     * @param reader Reader positioned at a start element
+     * @param parent Namespaces in scope of the parent element, indexed by prefix
+     * @return Namespaces in scope of the element, indexed by prefix
+     */
+    private static Map<String, String> declaredNamespaces(final XMLStreamReader reader,
+            final Map<String, String> parent) {
+        final int count = reader.getNamespaceCount();
+        if (count == 0) {
+            return parent;
+        }
+        final Map<String, String> ret = new HashMap<>(parent);
+        for (int i = 0; i < count; ++i) {
+            ret.put(nonNull(reader.getNamespacePrefix(i)), nonNull(reader.getNamespaceURI(i)));
+        }
+        return ret;
+    }
+
+    private static String nonNull(final String str) {
+        return str == null ? "" : str;
+    }
+
+    /**
+     * Find complete path to target and target schema node. Target can be also empty (only slash).
+     *
+     * @param pathContext Context of the request path
      * @param target Edit operation target
-     * @param value Element with value
      * @param namespace Module namespace
-     * @param revision Module revision
-     * @return Non-conditional XPath
+     * @param withValue True if the edit carries a value
+     * @return Resolved target
      */
-    private static String prepareNonCondXpath(final @NonNull DataSchemaNode schemaNode, final @NonNull String target,
-            final @NonNull Element value, final @NonNull String namespace, final @NonNull String revision) {
-        final Iterator<String> args = Splitter.on("/").split(target.substring(target.indexOf(':') + 1)).iterator();
+    private Target resolveTarget(final InstanceIdentifierContext pathContext, final String target,
+            final String namespace, final boolean withValue) {
+        final DataSchemaNode schemaNode = (DataSchemaNode) pathContext.getSchemaNode();
+        if (target.equals("/")) {
+            return new Target(pathContext.getInstanceIdentifier(), schemaNode, pathContext.inference());
+        }
+
+        // find module according to namespace
+        final EffectiveModelContext schemaContext = pathContext.getSchemaContext();
+        final Module module = schemaContext.findModules(XMLNamespace.of(namespace)).iterator().next();
+        final String revision = module.getQNameModule().getRevision().map(Revision::toString).orElse(null);
+
+        // reuse codec with default prefix derived from module name
+        final StringModuleInstanceIdentifierCodec codec = schemaCodecs.instanceIdentifierCodec(
+            schemaContext, module.getName());
 
-        final StringBuilder nonCondXpath = new StringBuilder();
+        // prepare non-conditional XPath suitable for deserialization
+        final Iterator<String> args = Splitter.on("/").split(target.substring(target.indexOf(':') + 1)).iterator();
+        final StringBuilder nonCondXpath = new StringBuilder(codec.serialize(pathContext.getInstanceIdentifier()));
         SchemaNode childNode = schemaNode;
+        int lastArgStart = nonCondXpath.length();
+        boolean lastArgKeyed = false;
 
         while (args.hasNext()) {
             final String s = args.next();
+            lastArgStart = nonCondXpath.length();
             nonCondXpath.append('/').append(s);
             childNode = ((DataNodeContainer) childNode).getDataChildByName(QName.create(namespace, revision, s));
 
-            if (childNode instanceof ListSchemaNode && args.hasNext()) {
+            lastArgKeyed = childNode instanceof ListSchemaNode && args.hasNext();
+            if (lastArgKeyed) {
                 appendKeys(nonCondXpath, ((ListSchemaNode) childNode).getKeyDefinition().iterator(), args);
             }
         }
 
-        if (childNode instanceof ListSchemaNode && value != null) {
-            final Iterator<String> keyValues = readKeyValues(value,
-                    ((ListSchemaNode) childNode).getKeyDefinition().iterator());
-            appendKeys(nonCondXpath, ((ListSchemaNode) childNode).getKeyDefinition().iterator(), keyValues);
+        if (childNode == null) {
+            LOG.debug("Target node {} not found in path {} ", target, pathContext.getSchemaNode());
+            throw malformedInput();
+        }
+
+        if (withValue && childNode instanceof ListSchemaNode && !lastArgKeyed) {
+            // Key values are part of the value, which has not been read yet. The edit manipulates list items through
+            // their parent anyway, so resolve the list's parent and enter the list from there.
+            final String parentXpath = nonCondXpath.substring(0, lastArgStart);
+            final YangInstanceIdentifier parentII = parentXpath.isEmpty() ? pathContext.getInstanceIdentifier()
+                : codec.deserialize(parentXpath);
+            final var nodeAndStack = codec.getDataContextTree().enterPath(parentII).orElseThrow();
+            final var stack = nodeAndStack.stack();
+            final List<PathArgument> targetArgs = new ArrayList<>(parentII.getPathArguments());
+            var current = nodeAndStack.node();
+            do {
+                current = current.enterChild(stack, childNode.getQName());
+                checkState(current != null, "Child \"%s\" was not found in parent schema node \"%s\"",
+                    childNode.getQName(), parentII);
+                targetArgs.add(current.getIdentifier());
+            } while (current.isMixin());
+
+            // drop the entry identifier, it does not have any predicates
+            targetArgs.remove(targetArgs.size() - 1);
+            return new Target(YangInstanceIdentifier.create(targetArgs), (DataSchemaNode) childNode,
+                stack.toInference());
+        }
+
+        YangInstanceIdentifier targetII = codec.deserialize(nonCondXpath.toString());
+        // move schema node
+        final var result = codec.getDataContextTree().enterPath(targetII).orElseThrow();
+        final Inference inference = result.stack().toInference();
+
+        // for lists allow to manipulate with list items through their parent
+        if (withValue && targetII.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
+            targetII = targetII.getParent();
+        }
+        return new Target(targetII, result.node().getDataSchemaNode(), inference);
+    }
+
+    /**
+     * Read the data of an edit. The reader is positioned at the value's first element and is left at its end element.
+     *
+     * @param target Resolved edit target
+     * @param reader Reader positioned at the value's first element
+     * @return Parsed data, or null if the target is not a container nor a list
+     */
+    private NormalizedNode readData(final Target target, final XMLStreamReader reader)
+            throws XMLStreamException, IOException, SAXException, URISyntaxException {
+        if (!(target.schemaNode instanceof ContainerSchemaNode) && !(target.schemaNode instanceof ListSchemaNode)) {
+            skipElement(reader);
+            return null;
         }
 
-        return nonCondXpath.toString();
+        final NormalizedNodeResult resultHolder = new NormalizedNodeResult();
+        final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(resultHolder);
+        final XmlParserStream xmlParser = XmlParserStream.create(writer,
+            schemaCodecs.xmlCodecs(target.inference.getEffectiveModelContext()), target.inference);
+        xmlParser.parse(new XmlSubtreeStreamReader(reader));
+        return resultHolder.getResult();
     }
 
     /**
-     * Read value for every list key.
+     * Skip the element the reader is positioned at, leaving the reader at its end element.
      *
-     * @param value Value element
-     * @param keys Iterator of list keys names
-     * @return Iterator of list keys values
+     * @param reader Reader positioned at a start element
      */
-    private static Iterator<String> readKeyValues(final @NonNull Element value, final @NonNull Iterator<QName> keys) {
-        final List<String> result = new ArrayList<>();
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth != 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
 
-        while (keys.hasNext()) {
-            result.add(value.getElementsByTagName(keys.next().getLocalName()).item(0).getFirstChild().getNodeValue());
+    private static <T> @NonNull T requireValue(final T value) {
+        if (value == null) {
+            throw malformedInput();
         }
+        return value;
+    }
 
-        return result.iterator();
+    private static RestconfDocumentedException malformedInput() {
+        return new RestconfDocumentedException("Error parsing input", ErrorType.PROTOCOL, ErrorTag.MALFORMED_MESSAGE);
     }
 
     /**
@@ -310,4 +514,26 @@ public class XmlToPatchBodyReader extends AbstractIdentifierAwareJaxRsProvider i
                 .append("']");
         }
     }
+
+    private static final class Value {
+        final YangInstanceIdentifier path;
+        final NormalizedNode data;
+
+        Value(final YangInstanceIdentifier path, final NormalizedNode data) {
+            this.path = path;
+            this.data = data;
+        }
+    }
+
+    private static final class Target {
+        final YangInstanceIdentifier path;
+        final DataSchemaNode schemaNode;
+        final Inference inference;
+
+        Target(final YangInstanceIdentifier path, final DataSchemaNode schemaNode, final Inference inference) {
+            this.path = path;
+            this.schemaNode = schemaNode;
+            this.inference = inference;
+        }
+    }
 }
@@ -27,4 +27,32 @@ public interface RestConfConfig {
      * TCP port which the WebSocket server will listen on.
      */
     int webSocketPort();
+
+    /**
+     * Netty transport of the WebSocket server, one of {@code auto}, {@code epoll} or {@code nio}.
+     */
+    default String webSocketTransport() {
+        return "auto";
+    }
+
+    /**
+     * Number of threads accepting WebSocket connections.
+     */
+    default int webSocketAcceptThreads() {
+        return 1;
+    }
+
+    /**
+     * Number of threads serving WebSocket connections, 0 for Netty's default.
+     */
+    default int webSocketWorkerThreads() {
+        return 0;
+    }
+
+    /**
+     * Whether WebSocket connections allocate buffers from the pooled allocator rather than Netty's default one.
+     */
+    default boolean webSocketPooledAllocator() {
+        return false;
+    }
 }
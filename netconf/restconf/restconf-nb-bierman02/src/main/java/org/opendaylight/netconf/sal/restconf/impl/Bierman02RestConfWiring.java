@@ -19,6 +19,8 @@ import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.netconf.sal.rest.impl.RestconfApplication;
 import org.opendaylight.netconf.sal.restconf.api.RestConfConfig;
 import org.opendaylight.netconf.sal.restconf.web.WebInitializer;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
+import org.opendaylight.netconf.sal.streams.websockets.WebSocketServerConfig;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
@@ -54,13 +56,15 @@ public class Bierman02RestConfWiring {
             final DOMNotificationService domNotificationService, final ControllerContext controllerContext,
             final RestconfApplication application, final BrokerFacade broker, final RestconfImpl restconf,
             final StatisticsRestconfServiceWrapper stats, final JSONRestconfServiceImpl jsonRestconfServiceImpl,
-            final WebInitializer webInitializer) {
+            final WebInitializer webInitializer, final StreamRegistry streams) {
 
         // WebSocket
         LOG.info("webSocketAddress = {}, webSocketPort = {}", config.webSocketAddress(), config.webSocketPort());
         IpAddress wsIpAddress = IetfInetUtil.ipAddressFor(config.webSocketAddress().getHostAddress());
         this.webSocketServer = new RestconfProviderImpl(stats, wsIpAddress,
-            new PortNumber(Uint16.valueOf(config.webSocketPort())));
+            new PortNumber(Uint16.valueOf(config.webSocketPort())),
+            new WebSocketServerConfig(config.webSocketTransport(), config.webSocketAcceptThreads(),
+                config.webSocketWorkerThreads(), config.webSocketPooledAllocator()), streams);
     }
 
     @PostConstruct
@@ -35,9 +35,9 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeService;
-import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadOperations;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
@@ -48,8 +48,10 @@ import org.opendaylight.mdsal.dom.api.DOMNotificationService;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
+import org.opendaylight.netconf.sal.streams.listeners.DataChangeSubscriptions;
 import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
 import org.opendaylight.netconf.sal.streams.listeners.NotificationListenerAdapter;
+import org.opendaylight.restconf.common.ErrorTags;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError;
@@ -63,33 +65,22 @@ import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.common.ErrorTag;
 import org.opendaylight.yangtools.yang.common.ErrorType;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
-import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
-import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
-import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UserLeafSetNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
-import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
-import org.opendaylight.yangtools.yang.data.api.schema.builder.DataContainerNodeBuilder;
-import org.opendaylight.yangtools.yang.data.api.schema.builder.NormalizedNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
-import org.opendaylight.yangtools.yang.data.impl.schema.SchemaAwareBuilders;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
-import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -102,16 +93,33 @@ public class BrokerFacade implements Closeable {
     private final DOMNotificationService domNotification;
     private final ControllerContext controllerContext;
     private final DOMDataBroker domDataBroker;
+    private final MountPointBulkhead mountPointBulkhead;
+    private final boolean ownsMountPointBulkhead;
+    private final DataChangeSubscriptions dataChangeSubscriptions = new DataChangeSubscriptions();
 
     private volatile DOMRpcService rpcService;
 
     @Inject
     public BrokerFacade(final DOMRpcService rpcService, final DOMDataBroker domDataBroker,
             final DOMNotificationService domNotification, final ControllerContext controllerContext) {
+        this(rpcService, domDataBroker, domNotification, controllerContext, new MountPointBulkhead(), true);
+    }
+
+    public BrokerFacade(final DOMRpcService rpcService, final DOMDataBroker domDataBroker,
+            final DOMNotificationService domNotification, final ControllerContext controllerContext,
+            final MountPointBulkhead mountPointBulkhead) {
+        this(rpcService, domDataBroker, domNotification, controllerContext, mountPointBulkhead, false);
+    }
+
+    private BrokerFacade(final DOMRpcService rpcService, final DOMDataBroker domDataBroker,
+            final DOMNotificationService domNotification, final ControllerContext controllerContext,
+            final MountPointBulkhead mountPointBulkhead, final boolean ownsMountPointBulkhead) {
         this.rpcService = requireNonNull(rpcService);
         this.domDataBroker = requireNonNull(domDataBroker);
         this.domNotification = requireNonNull(domNotification);
         this.controllerContext = requireNonNull(controllerContext);
+        this.mountPointBulkhead = requireNonNull(mountPointBulkhead);
+        this.ownsMountPointBulkhead = ownsMountPointBulkhead;
     }
 
     /**
@@ -130,6 +138,9 @@ public class BrokerFacade implements Closeable {
     @Override
     @PreDestroy
     public void close() {
+        if (ownsMountPointBulkhead) {
+            mountPointBulkhead.close();
+        }
     }
 
     /**
@@ -140,21 +151,8 @@ public class BrokerFacade implements Closeable {
      * @return read date
      */
     public NormalizedNode readConfigurationData(final YangInstanceIdentifier path) {
-        return readConfigurationData(path, null);
-    }
-
-    /**
-     * Read config data by path.
-     *
-     * @param path
-     *            path of data
-     * @param withDefa
-     *            value of with-defaults parameter
-     * @return read date
-     */
-    public NormalizedNode readConfigurationData(final YangInstanceIdentifier path, final String withDefa) {
         try (DOMDataTreeReadTransaction tx = domDataBroker.newReadOnlyTransaction()) {
-            return readDataViaTransaction(tx, CONFIGURATION, path, withDefa);
+            return readDataViaTransaction(tx, CONFIGURATION, path);
         }
     }
 
@@ -168,26 +166,10 @@ public class BrokerFacade implements Closeable {
      * @return read data
      */
     public NormalizedNode readConfigurationData(final DOMMountPoint mountPoint, final YangInstanceIdentifier path) {
-        return readConfigurationData(mountPoint, path, null);
-    }
-
-    /**
-     * Read config data from mount point by path.
-     *
-     * @param mountPoint
-     *            mount point for reading data
-     * @param path
-     *            path of data
-     * @param withDefa
-     *            value of with-defaults parameter
-     * @return read data
-     */
-    public NormalizedNode readConfigurationData(final DOMMountPoint mountPoint, final YangInstanceIdentifier path,
-            final String withDefa) {
         final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
         if (domDataBrokerService.isPresent()) {
             try (DOMDataTreeReadTransaction tx = domDataBrokerService.get().newReadOnlyTransaction()) {
-                return readDataViaTransaction(tx, CONFIGURATION, path, withDefa);
+                return readDataViaTransaction(mountPoint, tx, CONFIGURATION, path);
             }
         }
         throw dataBrokerUnavailable(path);
@@ -219,7 +201,7 @@ public class BrokerFacade implements Closeable {
         final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
         if (domDataBrokerService.isPresent()) {
             try (DOMDataTreeReadTransaction tx = domDataBrokerService.get().newReadOnlyTransaction()) {
-                return readDataViaTransaction(tx, OPERATIONAL, path);
+                return readDataViaTransaction(mountPoint, tx, OPERATIONAL, path);
             }
         }
         throw dataBrokerUnavailable(path);
@@ -291,11 +273,17 @@ public class BrokerFacade implements Closeable {
         if (domDataBrokerService.isPresent()) {
             final DOMDataTreeReadWriteTransaction newReadWriteTransaction =
                     domDataBrokerService.get().newReadWriteTransaction();
-            final Status status = readDataViaTransaction(newReadWriteTransaction, CONFIGURATION, path) != null
-                    ? Status.OK : Status.CREATED;
-            final FluentFuture<? extends CommitInfo> future = putDataViaTransaction(
-                    newReadWriteTransaction, CONFIGURATION, path, payload, modelContext(mountPoint), insert, point);
-            isMounted.remove();
+            final FluentFuture<? extends CommitInfo> future;
+            final Status status;
+            try {
+                status = readDataViaTransaction(mountPoint, newReadWriteTransaction, CONFIGURATION, path) != null
+                        ? Status.OK : Status.CREATED;
+                future = mountPointBulkhead.submit(mountPoint, () -> putDataViaTransaction(newReadWriteTransaction,
+                    CONFIGURATION, path, payload, modelContext(mountPoint), insert, point),
+                    BrokerFacade::commitTimedOut);
+            } finally {
+                isMounted.remove();
+            }
             return new PutResult(status, future);
         }
         isMounted.remove();
@@ -429,7 +417,8 @@ public class BrokerFacade implements Closeable {
 
         // if no errors commit transaction
         final CountDownLatch waiter = new CountDownLatch(1);
-        final FluentFuture<? extends CommitInfo> future = patchTransaction.commit();
+        final FluentFuture<? extends CommitInfo> future = mountPoint == null ? patchTransaction.commit()
+            : mountPointBulkhead.submit(mountPoint, patchTransaction::commit, BrokerFacade::commitTimedOut);
         final PatchStatusContextHelper status = new PatchStatusContextHelper();
 
         future.addCallback(new FutureCallback<CommitInfo>() {
@@ -473,11 +462,13 @@ public class BrokerFacade implements Closeable {
         isMounted.set(true);
         final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
         if (domDataBrokerService.isPresent()) {
-            FluentFuture<? extends CommitInfo> future =
-                    postDataViaTransaction(domDataBrokerService.get().newReadWriteTransaction(), CONFIGURATION, path,
-                                           payload, modelContext(mountPoint), insert, point);
-            isMounted.remove();
-            return future;
+            try {
+                return mountPointBulkhead.submit(mountPoint, () -> postDataViaTransaction(
+                    domDataBrokerService.get().newReadWriteTransaction(), CONFIGURATION, path, payload,
+                    modelContext(mountPoint), insert, point), BrokerFacade::commitTimedOut);
+            } finally {
+                isMounted.remove();
+            }
         }
         isMounted.remove();
         throw dataBrokerUnavailable(path);
@@ -492,7 +483,9 @@ public class BrokerFacade implements Closeable {
             final DOMMountPoint mountPoint, final YangInstanceIdentifier path) {
         final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
         if (domDataBrokerService.isPresent()) {
-            return deleteDataViaTransaction(domDataBrokerService.get().newReadWriteTransaction(), CONFIGURATION, path);
+            return mountPointBulkhead.submit(mountPoint, () -> deleteDataViaTransaction(
+                domDataBrokerService.get().newReadWriteTransaction(), CONFIGURATION, path),
+                BrokerFacade::commitTimedOut);
         }
         throw dataBrokerUnavailable(path);
     }
@@ -507,38 +500,57 @@ public class BrokerFacade implements Closeable {
         return rpcService.invokeRpc(type, input);
     }
 
+    public ListenableFuture<? extends DOMRpcResult> invokeRpc(final @NonNull DOMMountPoint mountPoint,
+            final @NonNull QName type, final @NonNull NormalizedNode input) {
+        final Optional<DOMRpcService> mountRpcService = mountPoint.getService(DOMRpcService.class);
+        if (mountRpcService.isEmpty()) {
+            LOG.debug("Error: Rpc service is missing.");
+            throw new RestconfDocumentedException("Rpc service is missing.");
+        }
+        LOG.trace("Invoke RPC {} on mount point {} with input: {}", type, mountPoint.getIdentifier(), input);
+        return mountPointBulkhead.submit(mountPoint, () -> mountRpcService.get().invokeRpc(type, input),
+            message -> new RestconfDocumentedException(message, ErrorType.TRANSPORT,
+                ErrorTags.RESOURCE_DENIED_TRANSPORT));
+    }
+
     public void registerToListenDataChanges(final LogicalDatastoreType datastore, final Scope scope,
             final ListenerAdapter listener) {
         if (listener.isListening()) {
             return;
         }
 
-        final YangInstanceIdentifier path = listener.getPath();
         DOMDataTreeChangeService changeService = domDataBroker.getExtensions()
                 .getInstance(DOMDataTreeChangeService.class);
         if (changeService == null) {
             throw new UnsupportedOperationException("DOMDataBroker does not support the DOMDataTreeChangeService"
                                                         + domDataBroker);
         }
-        DOMDataTreeIdentifier root = new DOMDataTreeIdentifier(datastore, path);
+        // Streams of the same top-level node share a single registration
         ListenerRegistration<ListenerAdapter> registration =
-                                    changeService.registerDataTreeChangeListener(root, listener);
+                                    dataChangeSubscriptions.subscribe(changeService, datastore, listener);
         listener.setRegistration(registration);
     }
 
     private NormalizedNode readDataViaTransaction(final DOMDataTreeReadOperations transaction,
             final LogicalDatastoreType datastore, final YangInstanceIdentifier path) {
-        return readDataViaTransaction(transaction, datastore, path, null);
+        LOG.trace("Read {} via Restconf: {}", datastore.name(), path);
+        return readData(transaction.read(datastore, path), datastore, path);
     }
 
-    private NormalizedNode readDataViaTransaction(final DOMDataTreeReadOperations transaction,
-            final LogicalDatastoreType datastore, final YangInstanceIdentifier path, final String withDefa) {
-        LOG.trace("Read {} via Restconf: {}", datastore.name(), path);
+    private NormalizedNode readDataViaTransaction(final DOMMountPoint mountPoint,
+            final DOMDataTreeReadOperations transaction, final LogicalDatastoreType datastore,
+            final YangInstanceIdentifier path) {
+        LOG.trace("Read {} via Restconf from mount point {}: {}", datastore.name(), mountPoint.getIdentifier(), path);
+        return readData(mountPointBulkhead.submit(mountPoint, () -> transaction.read(datastore, path),
+            message -> new ReadFailedException(message,
+                RpcResultBuilder.newError(ErrorType.TRANSPORT, ErrorTag.RESOURCE_DENIED, message))),
+            datastore, path);
+    }
 
+    private static NormalizedNode readData(final ListenableFuture<Optional<NormalizedNode>> future,
+            final LogicalDatastoreType datastore, final YangInstanceIdentifier path) {
         try {
-            final Optional<NormalizedNode> optional = transaction.read(datastore, path).get();
-            return optional.map(normalizedNode -> withDefa == null ? normalizedNode :
-                prepareDataByParamWithDef(normalizedNode, path, withDefa)).orElse(null);
+            return future.get().orElse(null);
         } catch (InterruptedException e) {
             LOG.warn("Error reading {} from datastore {}", path, datastore.name(), e);
             throw new RestconfDocumentedException("Error reading data.", e);
@@ -549,131 +561,6 @@ public class BrokerFacade implements Closeable {
         }
     }
 
-    private NormalizedNode prepareDataByParamWithDef(final NormalizedNode result,
-            final YangInstanceIdentifier path, final String withDefa) {
-        boolean trim;
-        switch (withDefa) {
-            case "trim":
-                trim = true;
-                break;
-            case "explicit":
-                trim = false;
-                break;
-            default:
-                throw new RestconfDocumentedException("Bad value used with with-defaults parameter : " + withDefa);
-        }
-
-        final EffectiveModelContext ctx = controllerContext.getGlobalSchema();
-        final DataSchemaContextTree baseSchemaCtxTree = DataSchemaContextTree.from(ctx);
-        final DataSchemaNode baseSchemaNode = baseSchemaCtxTree.findChild(path).orElseThrow().getDataSchemaNode();
-        if (result instanceof ContainerNode) {
-            final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> builder =
-                SchemaAwareBuilders.containerBuilder((ContainerSchemaNode) baseSchemaNode);
-            buildCont(builder, (ContainerNode) result, baseSchemaCtxTree, path, trim);
-            return builder.build();
-        }
-
-        final DataContainerNodeBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder =
-            SchemaAwareBuilders.mapEntryBuilder((ListSchemaNode) baseSchemaNode);
-        buildMapEntryBuilder(builder, (MapEntryNode) result, baseSchemaCtxTree, path, trim,
-            ((ListSchemaNode) baseSchemaNode).getKeyDefinition());
-        return builder.build();
-    }
-
-    private void buildMapEntryBuilder(
-            final DataContainerNodeBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder,
-            final MapEntryNode result, final DataSchemaContextTree baseSchemaCtxTree,
-            final YangInstanceIdentifier actualPath, final boolean trim, final List<QName> keys) {
-        for (final DataContainerChild child : result.body()) {
-            final YangInstanceIdentifier path = actualPath.node(child.getIdentifier());
-            final DataSchemaNode childSchema = baseSchemaCtxTree.findChild(path).orElseThrow().getDataSchemaNode();
-            if (child instanceof ContainerNode) {
-                final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> childBuilder =
-                        SchemaAwareBuilders.containerBuilder((ContainerSchemaNode) childSchema);
-                buildCont(childBuilder, (ContainerNode) child, baseSchemaCtxTree, path, trim);
-                builder.withChild(childBuilder.build());
-            } else if (child instanceof MapNode) {
-                final CollectionNodeBuilder<MapEntryNode, SystemMapNode> childBuilder =
-                        SchemaAwareBuilders.mapBuilder((ListSchemaNode) childSchema);
-                buildList(childBuilder, (MapNode) child, baseSchemaCtxTree, path, trim,
-                        ((ListSchemaNode) childSchema).getKeyDefinition());
-                builder.withChild(childBuilder.build());
-            } else if (child instanceof LeafNode) {
-                final Object defaultVal = ((LeafSchemaNode) childSchema).getType().getDefaultValue().orElse(null);
-                final Object nodeVal = child.body();
-                final NormalizedNodeBuilder<NodeIdentifier, Object, LeafNode<Object>> leafBuilder =
-                        SchemaAwareBuilders.leafBuilder((LeafSchemaNode) childSchema);
-                if (keys.contains(child.getIdentifier().getNodeType())) {
-                    leafBuilder.withValue(child.body());
-                    builder.withChild(leafBuilder.build());
-                } else {
-                    if (trim) {
-                        if (defaultVal == null || !defaultVal.equals(nodeVal)) {
-                            leafBuilder.withValue(child.body());
-                            builder.withChild(leafBuilder.build());
-                        }
-                    } else {
-                        if (defaultVal != null && defaultVal.equals(nodeVal)) {
-                            leafBuilder.withValue(child.body());
-                            builder.withChild(leafBuilder.build());
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private void buildList(final CollectionNodeBuilder<MapEntryNode, SystemMapNode> builder, final MapNode result,
-            final DataSchemaContextTree baseSchemaCtxTree, final YangInstanceIdentifier path, final boolean trim,
-            final List<QName> keys) {
-        for (final MapEntryNode mapEntryNode : result.body()) {
-            final YangInstanceIdentifier actualNode = path.node(mapEntryNode.getIdentifier());
-            final DataSchemaNode childSchema = baseSchemaCtxTree.findChild(actualNode).orElseThrow()
-                    .getDataSchemaNode();
-            final DataContainerNodeBuilder<NodeIdentifierWithPredicates, MapEntryNode> mapEntryBuilder =
-                    SchemaAwareBuilders.mapEntryBuilder((ListSchemaNode) childSchema);
-            buildMapEntryBuilder(mapEntryBuilder, mapEntryNode, baseSchemaCtxTree, actualNode, trim, keys);
-            builder.withChild(mapEntryBuilder.build());
-        }
-    }
-
-    private void buildCont(final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> builder,
-            final ContainerNode result, final DataSchemaContextTree baseSchemaCtxTree,
-            final YangInstanceIdentifier actualPath, final boolean trim) {
-        for (final DataContainerChild child : result.body()) {
-            final YangInstanceIdentifier path = actualPath.node(child.getIdentifier());
-            final DataSchemaNode childSchema = baseSchemaCtxTree.findChild(path).orElseThrow().getDataSchemaNode();
-            if (child instanceof ContainerNode) {
-                final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> builderChild =
-                        SchemaAwareBuilders.containerBuilder((ContainerSchemaNode) childSchema);
-                buildCont(builderChild, result, baseSchemaCtxTree, actualPath, trim);
-                builder.withChild(builderChild.build());
-            } else if (child instanceof MapNode) {
-                final CollectionNodeBuilder<MapEntryNode, SystemMapNode> childBuilder =
-                        SchemaAwareBuilders.mapBuilder((ListSchemaNode) childSchema);
-                buildList(childBuilder, (MapNode) child, baseSchemaCtxTree, path, trim,
-                        ((ListSchemaNode) childSchema).getKeyDefinition());
-                builder.withChild(childBuilder.build());
-            } else if (child instanceof LeafNode) {
-                final Object defaultVal = ((LeafSchemaNode) childSchema).getType().getDefaultValue().orElse(null);
-                final Object nodeVal = child.body();
-                final NormalizedNodeBuilder<NodeIdentifier, Object, LeafNode<Object>> leafBuilder =
-                        SchemaAwareBuilders.leafBuilder((LeafSchemaNode) childSchema);
-                if (trim) {
-                    if (defaultVal == null || !defaultVal.equals(nodeVal)) {
-                        leafBuilder.withValue(child.body());
-                        builder.withChild(leafBuilder.build());
-                    }
-                } else {
-                    if (defaultVal != null && defaultVal.equals(nodeVal)) {
-                        leafBuilder.withValue(child.body());
-                        builder.withChild(leafBuilder.build());
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * POST data and submit transaction {@link DOMDataReadWriteTransaction}.
      */
@@ -1252,6 +1139,11 @@ public class BrokerFacade implements Closeable {
             YangInstanceIdentifier.create(normalizedPathWithoutChildArgs)));
     }
 
+    private static TransactionCommitFailedException commitTimedOut(final String message) {
+        return new TransactionCommitFailedException(message,
+            RpcResultBuilder.newError(ErrorType.TRANSPORT, ErrorTag.RESOURCE_DENIED, message));
+    }
+
     private static RestconfDocumentedException dataBrokerUnavailable(final YangInstanceIdentifier path) {
         LOG.warn("DOM data broker service is not available for mount point {}", path);
         return new RestconfDocumentedException("DOM data broker service is not available for mount point " + path);
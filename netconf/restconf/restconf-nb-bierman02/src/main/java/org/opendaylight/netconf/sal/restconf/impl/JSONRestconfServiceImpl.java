@@ -30,7 +30,10 @@ import org.opendaylight.netconf.sal.rest.impl.JsonNormalizedNodeBodyReader;
 import org.opendaylight.netconf.sal.rest.impl.JsonToPatchBodyReader;
 import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
 import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeJsonBodyWriter;
+import org.opendaylight.netconf.sal.rest.impl.ParallelListSerializer;
 import org.opendaylight.netconf.sal.rest.impl.PatchJsonBodyWriter;
+import org.opendaylight.netconf.sal.rest.impl.ResponseBodyCache;
+import org.opendaylight.netconf.sal.rest.impl.SchemaCodecCache;
 import org.opendaylight.netconf.sal.restconf.api.JSONRestconfService;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError;
@@ -59,11 +62,18 @@ public class JSONRestconfServiceImpl implements JSONRestconfService {
 
     private final ControllerContext controllerContext;
     private final RestconfService restconfService;
+    private final SchemaCodecCache schemaCodecs;
 
     @Inject
     public JSONRestconfServiceImpl(final ControllerContext controllerContext, final RestconfImpl restconfService) {
+        this(controllerContext, restconfService, new SchemaCodecCache());
+    }
+
+    public JSONRestconfServiceImpl(final ControllerContext controllerContext, final RestconfImpl restconfService,
+            final SchemaCodecCache schemaCodecs) {
         this.controllerContext = controllerContext;
         this.restconfService = restconfService;
+        this.schemaCodecs = requireNonNull(schemaCodecs);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -75,7 +85,7 @@ public class JSONRestconfServiceImpl implements JSONRestconfService {
 
         final InputStream entityStream = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
         final NormalizedNodeContext context = JsonNormalizedNodeBodyReader.readFrom(uriPath, entityStream, false,
-                controllerContext);
+                controllerContext, schemaCodecs);
 
         LOG.debug("Parsed YangInstanceIdentifier: {}", context.getInstanceIdentifierContext().getInstanceIdentifier());
         LOG.debug("Parsed NormalizedNode: {}", context.getData());
@@ -96,7 +106,7 @@ public class JSONRestconfServiceImpl implements JSONRestconfService {
 
         final InputStream entityStream = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
         final NormalizedNodeContext context = JsonNormalizedNodeBodyReader.readFrom(uriPath, entityStream, true,
-                controllerContext);
+                controllerContext, schemaCodecs);
 
         LOG.debug("Parsed YangInstanceIdentifier: {}", context.getInstanceIdentifierContext().getInstanceIdentifier());
         LOG.debug("Parsed NormalizedNode: {}", context.getData());
@@ -167,7 +177,8 @@ public class JSONRestconfServiceImpl implements JSONRestconfService {
             if (actualInput != null) {
                 final InputStream entityStream = new ByteArrayInputStream(actualInput.getBytes(StandardCharsets.UTF_8));
                 final NormalizedNodeContext inputContext =
-                        JsonNormalizedNodeBodyReader.readFrom(uriPath, entityStream, true, controllerContext);
+                        JsonNormalizedNodeBodyReader.readFrom(uriPath, entityStream, true, controllerContext,
+                            schemaCodecs);
 
                 LOG.debug("Parsed YangInstanceIdentifier: {}", inputContext.getInstanceIdentifierContext()
                         .getInstanceIdentifier());
@@ -244,8 +255,9 @@ public class JSONRestconfServiceImpl implements JSONRestconfService {
         return outputStream.toString(StandardCharsets.UTF_8);
     }
 
-    private static String toJson(final NormalizedNodeContext readData) throws IOException {
-        final NormalizedNodeJsonBodyWriter writer = new NormalizedNodeJsonBodyWriter();
+    private String toJson(final NormalizedNodeContext readData) throws IOException {
+        final NormalizedNodeJsonBodyWriter writer = new NormalizedNodeJsonBodyWriter(ResponseBodyCache.disabled(),
+            ParallelListSerializer.disabled(), schemaCodecs);
         final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         writer.writeTo(readData, NormalizedNodeContext.class, null, EMPTY_ANNOTATIONS,
                 MediaType.APPLICATION_JSON_TYPE, null, outputStream);
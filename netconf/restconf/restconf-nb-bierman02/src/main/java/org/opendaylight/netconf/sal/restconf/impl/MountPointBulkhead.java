@@ -0,0 +1,587 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import com.google.common.base.Splitter.MapSplitter;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.ws.rs.core.Response.Status.Family;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.mdsal.common.api.OperationFailedException;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
+import org.opendaylight.mdsal.dom.api.DOMMountPointService;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.MountPointBulkheadRuntimeMXBean;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.MountPointRequests;
+import org.opendaylight.restconf.common.ErrorTags;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.common.errors.RestconfError;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcError;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Isolates requests towards individual mount points, so that a single unresponsive device cannot absorb all request
+ * threads. Each mount point gets its own compartment with a limited number of concurrent requests, a bounded number
+ * of requests waiting briefly for a free slot and a circuit breaker, which rejects requests outright after a number
+ * of consecutive device failures until a reset timeout elapses. Only transport failures, timeouts and server errors
+ * count as device failures, errors caused by the request itself show that the device is responding. Requests which
+ * cannot be admitted fail fast with a {@link MountPointUnavailableException}, i.e. HTTP 503 with a Retry-After
+ * header, and admitted requests are bounded by a timeout. Compartments of mount points are dropped when the mount
+ * points are removed.
+ *
+ * <p>
+ * All compartments share the same {@link Limits} unless they are overridden for individual mount points, either by
+ * their identifier or by their RESTCONF path, which is resolved once the global model context is available.
+ * Overrides apply to compartments created afterwards.
+ */
+public class MountPointBulkhead extends AbstractMXBean implements AutoCloseable, MountPointBulkheadRuntimeMXBean,
+        DOMMountPointListener {
+    private static final Logger LOG = LoggerFactory.getLogger(MountPointBulkhead.class);
+
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+    static final int DEFAULT_MAX_QUEUED_REQUESTS = 32;
+    static final long DEFAULT_QUEUE_TIMEOUT_MILLIS = 500;
+    static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 60000;
+    static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    static final long DEFAULT_BREAKER_RESET_MILLIS = 30000;
+
+    // Retry-After reported for requests rejected by a busy compartment
+    private static final long BUSY_RETRY_AFTER_SECONDS = 1;
+    private static final Splitter OVERRIDE_SPLITTER = Splitter.on(';').trimResults().omitEmptyStrings();
+    private static final MapSplitter SETTINGS_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings()
+        .withKeyValueSeparator(Splitter.on('=').trimResults());
+
+    enum BreakerState {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final ConcurrentMap<YangInstanceIdentifier, Compartment> compartments = new ConcurrentHashMap<>();
+    private final Map<YangInstanceIdentifier, Limits> overrides = new ConcurrentHashMap<>();
+    // Overrides by RESTCONF path, waiting for the global model context
+    private final Map<String, Limits> pathOverrides = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final DOMMountPointService mountPointService;
+    private final ControllerContext controllerContext;
+    private final Limits defaults;
+
+    private ListenerRegistration<?> mountPointRegistration;
+
+    public MountPointBulkhead() {
+        this(null, DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_QUEUED_REQUESTS, DEFAULT_QUEUE_TIMEOUT_MILLIS,
+            DEFAULT_REQUEST_TIMEOUT_MILLIS, DEFAULT_FAILURE_THRESHOLD, DEFAULT_BREAKER_RESET_MILLIS);
+    }
+
+    public MountPointBulkhead(final @Nullable DOMMountPointService mountPointService, final int maxConcurrentRequests,
+            final int maxQueuedRequests, final long queueTimeoutMillis, final long requestTimeoutMillis,
+            final int failureThreshold, final long breakerResetMillis) {
+        this(mountPointService, null, maxConcurrentRequests, maxQueuedRequests, queueTimeoutMillis,
+            requestTimeoutMillis, failureThreshold, breakerResetMillis);
+    }
+
+    public MountPointBulkhead(final @Nullable DOMMountPointService mountPointService,
+            final @Nullable ControllerContext controllerContext, final int maxConcurrentRequests,
+            final int maxQueuedRequests, final long queueTimeoutMillis, final long requestTimeoutMillis,
+            final int failureThreshold, final long breakerResetMillis) {
+        super("MountPointBulkhead", "restconf-connector", null);
+        this.mountPointService = mountPointService;
+        this.controllerContext = controllerContext;
+        defaults = new Limits(maxConcurrentRequests, maxQueuedRequests, queueTimeoutMillis, requestTimeoutMillis,
+            failureThreshold, breakerResetMillis);
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("restconf-mount-point-timer-%d").setDaemon(true).build());
+    }
+
+    public synchronized void start() {
+        registerMBean();
+        if (mountPointService != null) {
+            mountPointRegistration = mountPointService.registerProvisionListener(this);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (mountPointRegistration != null) {
+            mountPointRegistration.close();
+            mountPointRegistration = null;
+        }
+        unregisterMBean();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Set the limits of mount points identified by their RESTCONF paths. Overrides are
+     * separated by semicolons, each of them is the path followed by a comma separated list of settings, which are
+     * not set take the global defaults. Settings are {@code max-concurrent-requests}, {@code max-queued-requests},
+     * {@code queue-timeout}, {@code request-timeout}, {@code failure-threshold} and {@code breaker-reset-timeout},
+     * for example:
+     * <pre>
+     *   network-topology:network-topology/topology/topology-netconf/node/slow-device request-timeout=120000,
+     *       max-concurrent-requests=4; network-topology:network-topology/topology/topology-netconf/node/other
+     *       queue-timeout=0
+     * </pre>
+     *
+     * @param overrides Overrides of mount point limits, empty for none
+     * @throws IllegalArgumentException if the overrides cannot be parsed
+     * @throws IllegalStateException if no controller context is available to resolve the paths
+     */
+    public void setOverrides(final String overrides) {
+        final Map<String, Limits> parsed = new HashMap<>();
+        for (String override : OVERRIDE_SPLITTER.split(overrides)) {
+            final int separator = CharMatcher.whitespace().indexIn(override);
+            checkArgument(separator > 0, "Invalid mount point override \"%s\"", override);
+            parsed.put(override.substring(0, separator), defaults.with(override.substring(separator + 1)));
+        }
+        checkState(parsed.isEmpty() || controllerContext != null, "Mount point paths cannot be resolved");
+        pathOverrides.putAll(parsed);
+    }
+
+    /**
+     * Override the limits of a single mount point. These take precedence over limits set by RESTCONF path.
+     *
+     * @param mountPoint identifier of the mount point
+     * @param limits limits of the mount point, {@code null} to use the global defaults
+     */
+    public void setLimits(final YangInstanceIdentifier mountPoint, final @Nullable Limits limits) {
+        if (limits != null) {
+            overrides.put(mountPoint, limits);
+        } else {
+            overrides.remove(mountPoint);
+        }
+    }
+
+    /**
+     * Return the global default limits of mount points.
+     *
+     * @return default limits
+     */
+    public @NonNull Limits getDefaults() {
+        return defaults;
+    }
+
+    @Override
+    public void onMountPointCreated(final YangInstanceIdentifier path) {
+        // Compartments are created on first request
+    }
+
+    @Override
+    public void onMountPointRemoved(final YangInstanceIdentifier path) {
+        if (compartments.remove(path) != null) {
+            LOG.debug("Mount point {} removed, dropped its compartment", path);
+        }
+    }
+
+    /**
+     * Submit an asynchronous operation towards a mount point. The operation is started only after it has been
+     * admitted into the mount point's compartment and its result is failed with the exception produced by
+     * {@code timeoutFailure} if it does not complete within the configured timeout.
+     *
+     * @param mountPoint target mount point
+     * @param operation operation to start
+     * @param timeoutFailure factory for the exception reported when the operation times out
+     * @return Future completing with the result of the operation
+     * @throws MountPointUnavailableException if the request cannot be admitted
+     */
+    public <T> @NonNull FluentFuture<T> submit(final DOMMountPoint mountPoint,
+            final Supplier<? extends ListenableFuture<? extends T>> operation,
+            final Function<String, ? extends Exception> timeoutFailure) {
+        final Compartment compartment = compartmentOf(mountPoint);
+        compartment.acquire();
+
+        final ListenableFuture<? extends T> future;
+        try {
+            future = operation.get();
+        } catch (RuntimeException e) {
+            // Synchronous failures are caused by the request, not by the device
+            compartment.release();
+            compartment.abortTrial();
+            throw e;
+        }
+
+        final FluentFuture<T> result = FluentFuture.from(Futures.catchingAsync(
+            Futures.withTimeout(future, compartment.limits.requestTimeoutNanos, TimeUnit.NANOSECONDS, scheduler),
+            TimeoutException.class, cause -> {
+                compartment.timedOut.increment();
+                final String message = "Mount point " + compartment.name + " did not respond within "
+                    + TimeUnit.NANOSECONDS.toMillis(compartment.limits.requestTimeoutNanos) + "ms";
+                LOG.warn("{}", message);
+                return Futures.immediateFailedFuture(timeoutFailure.apply(message));
+            }, MoreExecutors.directExecutor()));
+
+        result.addCallback(new FutureCallback<T>() {
+            @Override
+            public void onSuccess(final T value) {
+                compartment.release();
+                compartment.onSuccess();
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                compartment.release();
+                if (isRequestError(cause)) {
+                    compartment.onRequestError();
+                } else {
+                    compartment.onFailure();
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    @Override
+    public List<MountPointRequests> getMountPoints() {
+        final List<MountPointRequests> ret = new ArrayList<>(compartments.size());
+        for (Compartment compartment : compartments.values()) {
+            ret.add(compartment.toRequests());
+        }
+        return ret;
+    }
+
+    @VisibleForTesting
+    BreakerState breakerState(final DOMMountPoint mountPoint) {
+        return compartmentOf(mountPoint).state.get();
+    }
+
+    @VisibleForTesting
+    Limits limitsOf(final DOMMountPoint mountPoint) {
+        return compartmentOf(mountPoint).limits;
+    }
+
+    private Compartment compartmentOf(final DOMMountPoint mountPoint) {
+        return compartments.computeIfAbsent(requireNonNull(mountPoint).getIdentifier(),
+            identifier -> new Compartment(identifier, limitsOf(identifier)));
+    }
+
+    private Limits limitsOf(final YangInstanceIdentifier identifier) {
+        if (!pathOverrides.isEmpty()) {
+            resolvePathOverrides();
+        }
+        return overrides.getOrDefault(identifier, defaults);
+    }
+
+    private void resolvePathOverrides() {
+        pathOverrides.entrySet().removeIf(entry -> {
+            final InstanceIdentifierContext context;
+            try {
+                context = controllerContext.toInstanceIdentifier(entry.getKey());
+            } catch (RestconfDocumentedException e) {
+                // Retried with the next compartment, the model may not be complete yet
+                LOG.debug("Mount point {} cannot be resolved", entry.getKey(), e);
+                return false;
+            }
+            if (context != null) {
+                overrides.putIfAbsent(context.getInstanceIdentifier(), entry.getValue());
+            } else {
+                LOG.warn("Mount point path {} is empty, its limits are ignored", entry.getKey());
+            }
+            return true;
+        });
+    }
+
+    @VisibleForTesting
+    int compartments() {
+        return compartments.size();
+    }
+
+    /**
+     * Check whether a failure was caused by the request rather than by the device, i.e. whether it is reported with
+     * errors mapping to a 4xx status only. Failures without errors, such as timeouts and transport failures, count
+     * against the device.
+     */
+    @VisibleForTesting
+    static boolean isRequestError(final Throwable cause) {
+        if (cause instanceof RestconfDocumentedException) {
+            final List<RestconfError> errors = ((RestconfDocumentedException) cause).getErrors();
+            return !errors.isEmpty() && errors.stream()
+                .allMatch(error -> isRequestError(error.getErrorType(), error.getErrorTag()));
+        }
+        if (cause instanceof OperationFailedException) {
+            final List<RpcError> errors = ((OperationFailedException) cause).getErrorList();
+            return !errors.isEmpty() && errors.stream()
+                .allMatch(error -> isRequestError(error.getErrorType(), error.getTag()));
+        }
+        return false;
+    }
+
+    private static boolean isRequestError(final ErrorType type, final ErrorTag tag) {
+        return type != ErrorType.TRANSPORT && ErrorTags.statusOf(tag).getFamily() == Family.CLIENT_ERROR;
+    }
+
+    private static MountPointUnavailableException rejected(final String message, final long retryAfterSeconds) {
+        LOG.debug("{}", message);
+        return new MountPointUnavailableException(message, retryAfterSeconds);
+    }
+
+    /**
+     * Limits of a mount point's compartment.
+     */
+    public static final class Limits {
+        final int maxConcurrentRequests;
+        final int maxQueuedRequests;
+        final long queueTimeoutNanos;
+        final long requestTimeoutNanos;
+        final int failureThreshold;
+        final long breakerResetNanos;
+
+        public Limits(final int maxConcurrentRequests, final int maxQueuedRequests, final long queueTimeoutMillis,
+                final long requestTimeoutMillis, final int failureThreshold, final long breakerResetMillis) {
+            checkArgument(maxConcurrentRequests > 0, "Invalid maximum concurrent requests %s", maxConcurrentRequests);
+            checkArgument(maxQueuedRequests >= 0, "Invalid maximum queued requests %s", maxQueuedRequests);
+            checkArgument(queueTimeoutMillis >= 0, "Invalid queue timeout %s", queueTimeoutMillis);
+            checkArgument(requestTimeoutMillis > 0, "Invalid request timeout %s", requestTimeoutMillis);
+            checkArgument(failureThreshold > 0, "Invalid failure threshold %s", failureThreshold);
+            checkArgument(breakerResetMillis >= 0, "Invalid breaker reset timeout %s", breakerResetMillis);
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.maxQueuedRequests = maxQueuedRequests;
+            queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+            requestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(requestTimeoutMillis);
+            this.failureThreshold = failureThreshold;
+            breakerResetNanos = TimeUnit.MILLISECONDS.toNanos(breakerResetMillis);
+        }
+
+        /**
+         * Return these limits with some of them replaced.
+         *
+         * @param settings comma separated settings, see {@link MountPointBulkhead#setOverrides(String)}
+         * @return overridden limits
+         * @throws IllegalArgumentException if the settings cannot be parsed
+         */
+        public Limits with(final String settings) {
+            int concurrent = maxConcurrentRequests;
+            int queuedRequests = maxQueuedRequests;
+            long queueTimeout = TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos);
+            long requestTimeout = TimeUnit.NANOSECONDS.toMillis(requestTimeoutNanos);
+            int threshold = failureThreshold;
+            long breakerReset = TimeUnit.NANOSECONDS.toMillis(breakerResetNanos);
+
+            for (Entry<String, String> setting : SETTINGS_SPLITTER.split(settings).entrySet()) {
+                final String value = setting.getValue();
+                try {
+                    switch (setting.getKey()) {
+                        case "max-concurrent-requests":
+                            concurrent = Integer.parseInt(value);
+                            break;
+                        case "max-queued-requests":
+                            queuedRequests = Integer.parseInt(value);
+                            break;
+                        case "queue-timeout":
+                            queueTimeout = Long.parseLong(value);
+                            break;
+                        case "request-timeout":
+                            requestTimeout = Long.parseLong(value);
+                            break;
+                        case "failure-threshold":
+                            threshold = Integer.parseInt(value);
+                            break;
+                        case "breaker-reset-timeout":
+                            breakerReset = Long.parseLong(value);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unknown mount point setting " + setting.getKey());
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid value of mount point setting " + setting.getKey(),
+                        e);
+                }
+            }
+            return new Limits(concurrent, queuedRequests, queueTimeout, requestTimeout, threshold, breakerReset);
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public int getMaxQueuedRequests() {
+            return maxQueuedRequests;
+        }
+
+        public long getQueueTimeoutMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos);
+        }
+
+        public long getRequestTimeoutMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(requestTimeoutNanos);
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public long getBreakerResetMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(breakerResetNanos);
+        }
+    }
+
+    private final class Compartment {
+        final String name;
+        final Limits limits;
+        final Semaphore permits;
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicInteger consecutiveFailures = new AtomicInteger();
+        final AtomicReference<BreakerState> state = new AtomicReference<>(BreakerState.CLOSED);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder timedOut = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+
+        volatile long openedAt;
+
+        Compartment(final YangInstanceIdentifier identifier, final Limits limits) {
+            name = identifier.toString();
+            this.limits = limits;
+            permits = new Semaphore(limits.maxConcurrentRequests);
+        }
+
+        void acquire() {
+            if (!allowRequest()) {
+                rejected.increment();
+                throw rejected("Mount point " + name + " is not available, circuit breaker is open",
+                    retryAfterOpen());
+            }
+
+            if (permits.tryAcquire()) {
+                return;
+            }
+
+            if (queued.incrementAndGet() > limits.maxQueuedRequests) {
+                queued.decrementAndGet();
+                rejectRequest("Mount point " + name + " is busy, too many requests are pending");
+            }
+
+            // Wait only briefly for a slot, a busy device should not hold on to request threads
+            final boolean acquired;
+            try {
+                acquired = limits.queueTimeoutNanos != 0
+                    && permits.tryAcquire(limits.queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abortTrial();
+                throw new RestconfDocumentedException("Interrupted while waiting for mount point " + name, e);
+            } finally {
+                queued.decrementAndGet();
+            }
+
+            if (!acquired) {
+                rejectRequest("Mount point " + name + " is busy, timed out waiting for a request slot");
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        private void rejectRequest(final String message) {
+            rejected.increment();
+            abortTrial();
+            throw rejected(message, BUSY_RETRY_AFTER_SECONDS);
+        }
+
+        private long retryAfterOpen() {
+            final long remaining = limits.breakerResetNanos - (System.nanoTime() - openedAt);
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        private boolean allowRequest() {
+            switch (state.get()) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    // Let a single trial request through once the reset timeout elapses
+                    return System.nanoTime() - openedAt >= limits.breakerResetNanos
+                        && state.compareAndSet(BreakerState.OPEN, BreakerState.HALF_OPEN);
+                default:
+                    return false;
+            }
+        }
+
+        void abortTrial() {
+            // A trial request which did not make it to the device does not tell us anything, let another one try
+            state.compareAndSet(BreakerState.HALF_OPEN, BreakerState.OPEN);
+        }
+
+        void onSuccess() {
+            succeeded.increment();
+            onResponse();
+        }
+
+        void onRequestError() {
+            // The device has responded, the request was wrong
+            failed.increment();
+            onResponse();
+        }
+
+        private void onResponse() {
+            consecutiveFailures.set(0);
+            if (state.getAndSet(BreakerState.CLOSED) != BreakerState.CLOSED) {
+                LOG.info("Mount point {} recovered, circuit breaker closed", name);
+            }
+        }
+
+        void onFailure() {
+            failed.increment();
+            if (consecutiveFailures.incrementAndGet() >= limits.failureThreshold
+                    || state.get() == BreakerState.HALF_OPEN) {
+                openedAt = System.nanoTime();
+                if (state.getAndSet(BreakerState.OPEN) == BreakerState.CLOSED) {
+                    LOG.warn("Mount point {} failed {} consecutive requests, circuit breaker opened", name,
+                        consecutiveFailures.get());
+                }
+            }
+        }
+
+        MountPointRequests toRequests() {
+            final MountPointRequests ret = new MountPointRequests();
+            ret.setMountPoint(name);
+            ret.setBreakerState(state.get().name());
+            ret.setActiveRequests(limits.maxConcurrentRequests - permits.availablePermits());
+            ret.setQueuedRequests(queued.get());
+            ret.setRejectedRequests(rejected.sum());
+            ret.setTimedOutRequests(timedOut.sum());
+            ret.setFailedResponses(failed.sum());
+            ret.setSuccessfulResponses(succeeded.sum());
+            return ret;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl;
+
+import org.opendaylight.restconf.common.ErrorTags;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+
+/**
+ * Request towards a mount point rejected by {@link MountPointBulkhead}. It is reported as HTTP 503 with a
+ * {@code Retry-After} header telling the client when the mount point is expected to accept requests again.
+ */
+public final class MountPointUnavailableException extends RestconfDocumentedException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public MountPointUnavailableException(final String message, final long retryAfterSeconds) {
+        super(message, ErrorType.TRANSPORT, ErrorTags.RESOURCE_DENIED_TRANSPORT);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Return the number of seconds after which the request may be retried.
+     *
+     * @return Number of seconds, at least one
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -8,8 +8,15 @@
 package org.opendaylight.netconf.sal.restconf.impl;
 
 import com.google.common.base.Strings;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.UriInfo;
+import org.opendaylight.netconf.sal.rest.impl.FieldsFilter;
 import org.opendaylight.netconf.sal.rest.impl.WriterParameters;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.Content;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.WithDefaults;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError;
 import org.opendaylight.yangtools.yang.common.ErrorTag;
@@ -19,7 +26,10 @@ public final class QueryParametersParser {
 
     private enum UriParameters {
         PRETTY_PRINT("prettyPrint"),
-        DEPTH("depth");
+        DEPTH("depth"),
+        FIELDS("fields"),
+        CONTENT("content"),
+        WITH_DEFAULTS("with-defaults");
 
         private final String uriParameterName;
 
@@ -38,12 +48,24 @@ public final class QueryParametersParser {
     }
 
     public static WriterParameters parseWriterParameters(final UriInfo info) {
+        return parseWriterParameters(info, false);
+    }
+
+    /**
+     * Parse parameters of a read request.
+     *
+     * @param info URI of the request
+     * @param withDefaults True if the with-defaults parameter applies to the request, i.e. it reads configuration
+     * @return Parsed parameters
+     */
+    public static WriterParameters parseWriterParameters(final UriInfo info, final boolean withDefaults) {
         final WriterParameters.WriterParametersBuilder wpBuilder = new WriterParameters.WriterParametersBuilder();
         if (info == null) {
             return wpBuilder.build();
         }
 
-        String param = info.getQueryParameters(false).getFirst(UriParameters.DEPTH.toString());
+        final MultivaluedMap<String, String> params = info.getQueryParameters(false);
+        String param = params.getFirst(UriParameters.DEPTH.toString());
         if (!Strings.isNullOrEmpty(param) && !"unbounded".equals(param)) {
             try {
                 final int depth = Integer.parseInt(param);
@@ -61,9 +83,64 @@ public final class QueryParametersParser {
                         "The depth parameter must be an integer > 1 or \"unbounded\""));
             }
         }
-        param = info.getQueryParameters(false).getFirst(UriParameters.PRETTY_PRINT.toString());
+        param = params.getFirst(UriParameters.PRETTY_PRINT.toString());
         wpBuilder.setPrettyPrint("true".equals(param));
+
+        param = params.getFirst(UriParameters.FIELDS.toString());
+        if (param != null) {
+            try {
+                // Delimiters of the expression are likely to be percent-encoded
+                wpBuilder.setFields(FieldsFilter.parse(URLDecoder.decode(param, StandardCharsets.UTF_8)));
+            } catch (final IllegalArgumentException e) {
+                throw new RestconfDocumentedException(e, new RestconfError(
+                        ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE,
+                        "Invalid fields parameter: " + e.getMessage(), null,
+                        "The fields parameter must be a valid fields expression"));
+            }
+        }
+
+        param = params.getFirst(UriParameters.CONTENT.toString());
+        if (param != null) {
+            wpBuilder.setContent(parseContent(param));
+        }
+
+        final List<String> withDefaultsParams = params.get(UriParameters.WITH_DEFAULTS.toString());
+        if (withDefaults && withDefaultsParams != null && !withDefaultsParams.isEmpty()) {
+            if (withDefaultsParams.size() > 1) {
+                throw new RestconfDocumentedException("With-defaults parameter can be used only once.");
+            }
+            wpBuilder.setWithDefaults(parseWithDefaults(withDefaultsParams.get(0)));
+        }
         return wpBuilder.build();
     }
 
+    private static Content parseContent(final String param) {
+        switch (param) {
+            case "all":
+                return Content.ALL;
+            case "config":
+                return Content.CONFIG;
+            case "nonconfig":
+                return Content.NONCONFIG;
+            default:
+                throw new RestconfDocumentedException(new RestconfError(ErrorType.PROTOCOL,
+                        ErrorTag.INVALID_VALUE, "Invalid content parameter: " + param, null,
+                        "The content parameter must be \"all\", \"config\" or \"nonconfig\""));
+        }
+    }
+
+    private static WithDefaults parseWithDefaults(final String param) {
+        switch (param) {
+            case "trim":
+                return WithDefaults.TRIM;
+            case "explicit":
+                return WithDefaults.EXPLICIT;
+            case "report-all":
+            case "report-all-tagged":
+                return WithDefaults.REPORT_ALL;
+            default:
+                throw new RestconfDocumentedException("Bad value used with with-defaults parameter : " + param);
+        }
+    }
+
 }
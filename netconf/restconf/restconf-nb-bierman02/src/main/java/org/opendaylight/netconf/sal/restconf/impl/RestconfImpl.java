@@ -61,16 +61,18 @@ import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMRpcImplementationNotAvailableException;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
-import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
 import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
+import org.opendaylight.netconf.sal.rest.impl.ResponseBodyCache;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext.FoundChild;
 import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
+import org.opendaylight.netconf.sal.streams.listeners.NotificationFilter;
 import org.opendaylight.netconf.sal.streams.listeners.NotificationListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams;
 import org.opendaylight.netconf.sal.streams.websockets.WebSocketServer;
 import org.opendaylight.restconf.common.OperationsContent;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
@@ -187,20 +189,26 @@ public final class RestconfImpl implements RestconfService {
 
     private final ControllerContext controllerContext;
 
+    private final StreamRegistry streams;
+
     @Inject
-    public RestconfImpl(final BrokerFacade broker, final ControllerContext controllerContext) {
+    public RestconfImpl(final BrokerFacade broker, final ControllerContext controllerContext,
+            final StreamRegistry streams) {
         this.broker = broker;
         this.controllerContext = controllerContext;
+        this.streams = requireNonNull(streams);
     }
 
     /**
      * Factory method.
      *
-     * @deprecated Just use {@link #RestconfImpl(BrokerFacade, ControllerContext)} constructor instead.
+     * @deprecated Just use {@link #RestconfImpl(BrokerFacade, ControllerContext, StreamRegistry)} constructor
+     *             instead.
      */
     @Deprecated
-    public static RestconfImpl newInstance(final BrokerFacade broker, final ControllerContext controllerContext) {
-        return new RestconfImpl(broker, controllerContext);
+    public static RestconfImpl newInstance(final BrokerFacade broker, final ControllerContext controllerContext,
+            final StreamRegistry streams) {
+        return new RestconfImpl(broker, controllerContext, streams);
     }
 
     @Override
@@ -299,7 +307,7 @@ public final class RestconfImpl implements RestconfService {
     @Override
     @Deprecated
     public NormalizedNodeContext getAvailableStreams(final UriInfo uriInfo) {
-        final Set<String> availableStreams = Notificator.getStreamNames();
+        final Set<String> availableStreams = streams.getStreamNames();
         final Module restconfModule = getRestconfModule();
         final DataSchemaNode streamSchemaNode = controllerContext
                 .getRestconfModuleRestConfSchemaNode(restconfModule, Draft02.RestConfModule.STREAM_LIST_SCHEMA_NODE);
@@ -415,13 +423,8 @@ public final class RestconfImpl implements RestconfService {
         final EffectiveModelContext schemaContext;
 
         if (mountPoint != null) {
-            final Optional<DOMRpcService> mountRpcServices = mountPoint.getService(DOMRpcService.class);
-            if (mountRpcServices.isEmpty()) {
-                LOG.debug("Error: Rpc service is missing.");
-                throw new RestconfDocumentedException("Rpc service is missing.");
-            }
             schemaContext = modelContext(mountPoint);
-            response = mountRpcServices.get().invokeRpc(schema.getQName(), input);
+            response = broker.invokeRpc(mountPoint, schema.getQName(), input);
         } else {
             final XMLNamespace namespace = schema.getQName().getNamespace();
             if (namespace.toString().equals(SAL_REMOTE_NAMESPACE)) {
@@ -508,11 +511,7 @@ public final class RestconfImpl implements RestconfService {
         final ContainerNode input = defaultInput(rpc.getQName());
         final ListenableFuture<? extends DOMRpcResult> response;
         if (mountPoint != null) {
-            final Optional<DOMRpcService> mountRpcServices = mountPoint.getService(DOMRpcService.class);
-            if (mountRpcServices.isEmpty()) {
-                throw new RestconfDocumentedException("Rpc service is missing.");
-            }
-            response = mountRpcServices.get().invokeRpc(rpc.getQName(), input);
+            response = broker.invokeRpc(mountPoint, rpc.getQName(), input);
         } else {
             response = broker.invokeRpc(rpc.getQName(), input);
         }
@@ -565,6 +564,10 @@ public final class RestconfImpl implements RestconfService {
                 throw new RestconfDocumentedException("The operation encountered an unexpected error while executing.",
                     e);
             }
+            if (cause instanceof RestconfDocumentedException) {
+                // Already reported in terms of RESTCONF, e.g. a mount point which did not respond in time
+                throw (RestconfDocumentedException) cause;
+            }
             while (cause.getCause() != null) {
                 cause = cause.getCause();
             }
@@ -624,7 +627,7 @@ public final class RestconfImpl implements RestconfService {
             outputType = parseEnumTypeParameter(value, NotificationOutputType.class, OUTPUT_TYPE_PARAM_NAME);
             outputType = outputType == null ? NotificationOutputType.XML : outputType;
 
-            streamName = Notificator
+            streamName = StreamRegistry
                     .createStreamNameFromUri(fullRestconfIdentifier + "/datastore=" + datastore + "/scope=" + scope);
         } else {
             streamName = CREATE_DATA_SUBSCR;
@@ -637,9 +640,7 @@ public final class RestconfImpl implements RestconfService {
                     + "built-in type.", ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
         }
 
-        if (!Notificator.existListenerFor(streamName)) {
-            Notificator.createListener(pathIdentifier, streamName, outputType, controllerContext);
-        }
+        streams.createListener(pathIdentifier, streamName, outputType, controllerContext);
 
         return Futures.immediateFuture(new DefaultDOMRpcResult(Builders.containerBuilder()
             .withNodeIdentifier(new NodeIdentifier(QName.create(rpcQName, "output")))
@@ -668,50 +669,23 @@ public final class RestconfImpl implements RestconfService {
 
     @Override
     public NormalizedNodeContext readConfigurationData(final String identifier, final UriInfo uriInfo) {
-        boolean withDefaUsed = false;
-        String withDefa = null;
-
-        for (final Entry<String, List<String>> entry : uriInfo.getQueryParameters().entrySet()) {
-            switch (entry.getKey()) {
-                case "with-defaults":
-                    if (!withDefaUsed) {
-                        withDefaUsed = true;
-                        withDefa = entry.getValue().iterator().next();
-                    } else {
-                        throw new RestconfDocumentedException("With-defaults parameter can be used only once.");
-                    }
-                    break;
-                default:
-                    LOG.info("Unknown key : {}.", entry.getKey());
-                    break;
-            }
-        }
-
-        // TODO: this flag is always ignored
-        boolean tagged = false;
-        if (withDefaUsed) {
-            if ("report-all-tagged".equals(withDefa)) {
-                tagged = true;
-                withDefa = null;
-            }
-            if ("report-all".equals(withDefa)) {
-                withDefa = null;
-            }
-        }
-
         final InstanceIdentifierContext iiWithData = controllerContext.toInstanceIdentifier(identifier);
         final DOMMountPoint mountPoint = iiWithData.getMountPoint();
         NormalizedNode data = null;
         final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
+        final ResponseBodyCache.Scope cacheScope;
         if (mountPoint != null) {
-            data = broker.readConfigurationData(mountPoint, normalizedII, withDefa);
+            data = broker.readConfigurationData(mountPoint, normalizedII);
+            cacheScope = null;
         } else {
-            data = broker.readConfigurationData(normalizedII, withDefa);
+            data = broker.readConfigurationData(normalizedII);
+            cacheScope = ResponseBodyCache.Scope.of(normalizedII, LogicalDatastoreType.CONFIGURATION);
         }
         if (data == null) {
             throw dataMissing(identifier);
         }
-        return new NormalizedNodeContext(iiWithData, data, QueryParametersParser.parseWriterParameters(uriInfo));
+        return new NormalizedNodeContext(iiWithData, data,
+            QueryParametersParser.parseWriterParameters(uriInfo, true), ImmutableMap.of(), cacheScope);
     }
 
     @Override
@@ -720,15 +694,19 @@ public final class RestconfImpl implements RestconfService {
         final DOMMountPoint mountPoint = iiWithData.getMountPoint();
         NormalizedNode data = null;
         final YangInstanceIdentifier normalizedII = iiWithData.getInstanceIdentifier();
+        final ResponseBodyCache.Scope cacheScope;
         if (mountPoint != null) {
             data = broker.readOperationalData(mountPoint, normalizedII);
+            cacheScope = null;
         } else {
             data = broker.readOperationalData(normalizedII);
+            cacheScope = ResponseBodyCache.Scope.of(normalizedII, LogicalDatastoreType.OPERATIONAL);
         }
         if (data == null) {
             throw dataMissing(identifier);
         }
-        return new NormalizedNodeContext(iiWithData, data, QueryParametersParser.parseWriterParameters(uriInfo));
+        return new NormalizedNodeContext(iiWithData, data, QueryParametersParser.parseWriterParameters(uriInfo),
+            ImmutableMap.of(), cacheScope);
     }
 
     private static RestconfDocumentedException dataMissing(final String identifier) {
@@ -1070,6 +1048,10 @@ public final class RestconfImpl implements RestconfService {
         boolean leafNodesOnly = false;
         boolean skipNotificationDataUsed = false;
         boolean skipNotificationData = false;
+        boolean batchWindowUsed = false;
+        long batchWindow = 0;
+        boolean batchSizeUsed = false;
+        int batchSize = 0;
 
         for (final Entry<String, List<String>> entry : uriInfo.getQueryParameters().entrySet()) {
             switch (entry.getKey()) {
@@ -1114,6 +1096,22 @@ public final class RestconfImpl implements RestconfService {
                                 "Odl-skip-notification-data parameter can be used only once.");
                     }
                     break;
+                case "odl-batch-window":
+                    if (!batchWindowUsed) {
+                        batchWindowUsed = true;
+                        batchWindow = parseNonNegativeFromQueryParam(entry);
+                    } else {
+                        throw new RestconfDocumentedException("Odl-batch-window parameter can be used only once.");
+                    }
+                    break;
+                case "odl-batch-size":
+                    if (!batchSizeUsed) {
+                        batchSizeUsed = true;
+                        batchSize = (int) Math.min(parseNonNegativeFromQueryParam(entry), Integer.MAX_VALUE);
+                    } else {
+                        throw new RestconfDocumentedException("Odl-batch-size parameter can be used only once.");
+                    }
+                    break;
                 default:
                     throw new RestconfDocumentedException("Bad parameter used with notifications: " + entry.getKey());
             }
@@ -1121,10 +1119,23 @@ public final class RestconfImpl implements RestconfService {
         if (!startTimeUsed && stopTimeUsed) {
             throw new RestconfDocumentedException("Stop-time parameter has to be used with start-time parameter.");
         }
+        if (!batchWindowUsed && batchSizeUsed) {
+            throw new RestconfDocumentedException(
+                "Odl-batch-size parameter has to be used with odl-batch-window parameter.");
+        }
+        if (filter != null) {
+            // Compiled again once the subscriber connects, but any error is reported right away
+            NotificationFilter.compile(filter, controllerContext::getGlobalSchema);
+        }
         URI response = null;
         if (identifier.contains(DATA_SUBSCR)) {
-            response = dataSubs(identifier, uriInfo, start, stop, filter, leafNodesOnly, skipNotificationData);
+            response = dataSubs(identifier, uriInfo, start, stop, filter, leafNodesOnly, skipNotificationData,
+                batchWindow, batchSize);
         } else if (identifier.contains(NOTIFICATION_STREAM)) {
+            if (batchWindowUsed) {
+                throw new RestconfDocumentedException(
+                    "Odl-batch-window parameter can be used only with data change streams.");
+            }
             response = notifStream(identifier, uriInfo, start, stop, filter);
         }
 
@@ -1160,6 +1171,22 @@ public final class RestconfImpl implements RestconfService {
         return Instant.from(p);
     }
 
+    private static long parseNonNegativeFromQueryParam(final Entry<String, List<String>> entry) {
+        final String value = entry.getValue().iterator().next();
+        final long parsed;
+        try {
+            parsed = Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            throw new RestconfDocumentedException("Cannot parse value of " + entry.getKey() + ": " + value,
+                ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE, e);
+        }
+        if (parsed < 0) {
+            throw new RestconfDocumentedException("Value of " + entry.getKey() + " cannot be negative: " + value,
+                ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
+        }
+        return parsed;
+    }
+
     /**
      * Register notification listener by stream name.
      *
@@ -1177,30 +1204,44 @@ public final class RestconfImpl implements RestconfService {
      */
     private URI notifStream(final String identifier, final UriInfo uriInfo, final Instant start,
             final Instant stop, final String filter) {
-        final String streamName = Notificator.createStreamNameFromUri(identifier);
+        final String streamName = StreamRegistry.createStreamNameFromUri(identifier);
         if (Strings.isNullOrEmpty(streamName)) {
             throw new RestconfDocumentedException("Stream name is empty.", ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
         }
-        final List<NotificationListenerAdapter> listeners = Notificator.getNotificationListenerFor(streamName);
-        if (listeners == null || listeners.isEmpty()) {
+        final List<NotificationListenerAdapter> listeners = streams.getNotificationListenerFor(streamName);
+        if (listeners.isEmpty()) {
             throw new RestconfDocumentedException("Stream was not found.", ErrorType.PROTOCOL,
                     ErrorTag.UNKNOWN_ELEMENT);
         }
 
         for (final NotificationListenerAdapter listener : listeners) {
             broker.registerToListenNotification(listener);
-            listener.setQueryParams(start, Optional.ofNullable(stop), Optional.ofNullable(filter), false, false);
         }
 
         final UriBuilder uriBuilder = uriInfo.getAbsolutePathBuilder();
 
-        final WebSocketServer webSocketServerInstance = WebSocketServer.getInstance(NOTIFICATION_PORT);
+        final WebSocketServer webSocketServerInstance = WebSocketServer.getInstance(NOTIFICATION_PORT, streams);
         final int notificationPort = webSocketServerInstance.getPort();
 
 
         final UriBuilder uriToWebsocketServerBuilder = uriBuilder.port(notificationPort).scheme(getWsScheme(uriInfo));
 
-        return uriToWebsocketServerBuilder.replacePath(streamName).build();
+        return withSubscriberParams(uriToWebsocketServerBuilder.replacePath(streamName).build(),
+            SubscriberParams.toQuery(start, stop, filter, false, false, 0, 0));
+    }
+
+    /**
+     * Append query parameters of a subscriber to the location of its stream. They are appended as an already encoded
+     * query, since {@link UriBuilder} would treat braces in filter expressions as templates.
+     *
+     * @param location
+     *            location of the stream
+     * @param query
+     *            encoded query parameters
+     * @return {@link URI} of location with the query
+     */
+    private static URI withSubscriberParams(final URI location, final String query) {
+        return URI.create(location + "?" + query);
     }
 
     private static String getWsScheme(final UriInfo uriInfo) {
@@ -1225,22 +1266,25 @@ public final class RestconfImpl implements RestconfService {
      *            stop-time of getting notification
      * @param filter
      *            indicate which subset of all possible events are of interest
+     * @param batchWindow
+     *            time window of events batched for the subscriber in milliseconds, 0 if events are not batched
+     * @param batchSize
+     *            maximum number of events batched for the subscriber, 0 for no limit
      * @return {@link URI} of location
      */
     private URI dataSubs(final String identifier, final UriInfo uriInfo, final Instant start, final Instant stop,
-            final String filter, final boolean leafNodesOnly, final boolean skipNotificationData) {
-        final String streamName = Notificator.createStreamNameFromUri(identifier);
+            final String filter, final boolean leafNodesOnly, final boolean skipNotificationData,
+            final long batchWindow, final int batchSize) {
+        final String streamName = StreamRegistry.createStreamNameFromUri(identifier);
         if (Strings.isNullOrEmpty(streamName)) {
             throw new RestconfDocumentedException("Stream name is empty.", ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
         }
 
-        final ListenerAdapter listener = Notificator.getListenerFor(streamName);
+        final ListenerAdapter listener = streams.getListenerFor(streamName);
         if (listener == null) {
             throw new RestconfDocumentedException("Stream was not found.", ErrorType.PROTOCOL,
                     ErrorTag.UNKNOWN_ELEMENT);
         }
-        listener.setQueryParams(start, Optional.ofNullable(stop), Optional.ofNullable(filter), leafNodesOnly,
-                skipNotificationData);
 
         final Map<String, String> paramToValues = resolveValuesFromUri(identifier);
         final LogicalDatastoreType datastore =
@@ -1259,12 +1303,14 @@ public final class RestconfImpl implements RestconfService {
 
         final UriBuilder uriBuilder = uriInfo.getAbsolutePathBuilder();
 
-        final WebSocketServer webSocketServerInstance = WebSocketServer.getInstance(NOTIFICATION_PORT);
+        final WebSocketServer webSocketServerInstance = WebSocketServer.getInstance(NOTIFICATION_PORT, streams);
         final int notificationPort = webSocketServerInstance.getPort();
 
         final UriBuilder uriToWebsocketServerBuilder = uriBuilder.port(notificationPort).scheme(getWsScheme(uriInfo));
 
-        return uriToWebsocketServerBuilder.replacePath(streamName).build();
+        return withSubscriberParams(uriToWebsocketServerBuilder.replacePath(streamName).build(),
+            SubscriberParams.toQuery(start, stop, filter, leafNodesOnly, skipNotificationData, batchWindow,
+                batchSize));
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -1517,9 +1563,7 @@ public final class RestconfImpl implements RestconfService {
         final String streamName = streamNameBuilder.toString();
         final QName rpcQName = payload.getInstanceIdentifierContext().getSchemaNode().getQName();
 
-        if (!Notificator.existNotificationListenerFor(streamName)) {
-            Notificator.createNotificationListener(paths, streamName, outputType, controllerContext);
-        }
+        streams.createNotificationListener(paths, streamName, outputType, controllerContext);
 
         return Futures.immediateFuture(new DefaultDOMRpcResult(Builders.containerBuilder()
             .withNodeIdentifier(new NodeIdentifier(QName.create(rpcQName, "output")))
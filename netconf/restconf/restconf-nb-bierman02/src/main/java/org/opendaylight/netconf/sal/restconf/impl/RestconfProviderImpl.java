@@ -20,7 +20,11 @@ import org.opendaylight.netconf.sal.restconf.impl.jmx.Post;
 import org.opendaylight.netconf.sal.restconf.impl.jmx.Put;
 import org.opendaylight.netconf.sal.restconf.impl.jmx.RestConnectorRuntimeMXBean;
 import org.opendaylight.netconf.sal.restconf.impl.jmx.Rpcs;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
+import org.opendaylight.netconf.sal.streams.websockets.SubscriberQueues;
+import org.opendaylight.netconf.sal.streams.websockets.WebSocketCompression;
 import org.opendaylight.netconf.sal.streams.websockets.WebSocketServer;
+import org.opendaylight.netconf.sal.streams.websockets.WebSocketServerConfig;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 
@@ -28,20 +32,38 @@ public class RestconfProviderImpl extends AbstractMXBean
         implements AutoCloseable, RestConnector, RestConnectorRuntimeMXBean {
     private final IpAddress websocketAddress;
     private final PortNumber websocketPort;
+    private final WebSocketServerConfig websocketConfig;
     private final StatisticsRestconfServiceWrapper stats;
+    private final StreamRegistry streams;
+    private final SubscriberQueues subscriberQueues;
+    private final WebSocketCompression compression;
     private Thread webSocketServerThread;
 
     public RestconfProviderImpl(final StatisticsRestconfServiceWrapper stats, final IpAddress websocketAddress,
-            final PortNumber websocketPort) {
+            final PortNumber websocketPort, final WebSocketServerConfig websocketConfig,
+            final StreamRegistry streams) {
+        this(stats, websocketAddress, websocketPort, websocketConfig, streams, new SubscriberQueues(),
+            new WebSocketCompression());
+    }
+
+    public RestconfProviderImpl(final StatisticsRestconfServiceWrapper stats, final IpAddress websocketAddress,
+            final PortNumber websocketPort, final WebSocketServerConfig websocketConfig,
+            final StreamRegistry streams, final SubscriberQueues subscriberQueues,
+            final WebSocketCompression compression) {
         super("Draft02ProviderStatistics", "restconf-connector", null);
         this.stats = requireNonNull(stats);
         this.websocketAddress = requireNonNull(websocketAddress);
         this.websocketPort = requireNonNull(websocketPort);
+        this.websocketConfig = requireNonNull(websocketConfig);
+        this.streams = requireNonNull(streams);
+        this.subscriberQueues = requireNonNull(subscriberQueues);
+        this.compression = requireNonNull(compression);
     }
 
     public void start() {
         this.webSocketServerThread = new Thread(WebSocketServer.createInstance(
-                websocketAddress.stringValue(), websocketPort.getValue().toJava()));
+                websocketAddress.stringValue(), websocketPort.getValue().toJava(), websocketConfig, streams,
+                subscriberQueues, compression));
         this.webSocketServerThread.setName("Web socket server on port " + websocketPort);
         this.webSocketServerThread.start();
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl.jmx;
+
+public class MountPointRequests {
+    private String mountPoint;
+
+    private String breakerState;
+
+    private int activeRequests;
+
+    private int queuedRequests;
+
+    private long rejectedRequests;
+
+    private long timedOutRequests;
+
+    private long failedResponses;
+
+    private long successfulResponses;
+
+    public String getMountPoint() {
+        return mountPoint;
+    }
+
+    public void setMountPoint(String mountPoint) {
+        this.mountPoint = mountPoint;
+    }
+
+    public String getBreakerState() {
+        return breakerState;
+    }
+
+    public void setBreakerState(String breakerState) {
+        this.breakerState = breakerState;
+    }
+
+    public int getActiveRequests() {
+        return activeRequests;
+    }
+
+    public void setActiveRequests(int activeRequests) {
+        this.activeRequests = activeRequests;
+    }
+
+    public int getQueuedRequests() {
+        return queuedRequests;
+    }
+
+    public void setQueuedRequests(int queuedRequests) {
+        this.queuedRequests = queuedRequests;
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests;
+    }
+
+    public void setRejectedRequests(long rejectedRequests) {
+        this.rejectedRequests = rejectedRequests;
+    }
+
+    public long getTimedOutRequests() {
+        return timedOutRequests;
+    }
+
+    public void setTimedOutRequests(long timedOutRequests) {
+        this.timedOutRequests = timedOutRequests;
+    }
+
+    public long getFailedResponses() {
+        return failedResponses;
+    }
+
+    public void setFailedResponses(long failedResponses) {
+        this.failedResponses = failedResponses;
+    }
+
+    public long getSuccessfulResponses() {
+        return successfulResponses;
+    }
+
+    public void setSuccessfulResponses(long successfulResponses) {
+        this.successfulResponses = successfulResponses;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(mountPoint, breakerState, activeRequests, queuedRequests, rejectedRequests,
+            timedOutRequests, failedResponses, successfulResponses);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final MountPointRequests that = (MountPointRequests) obj;
+        if (!java.util.Objects.equals(mountPoint, that.mountPoint)) {
+            return false;
+        }
+
+        if (!java.util.Objects.equals(breakerState, that.breakerState)) {
+            return false;
+        }
+
+        return activeRequests == that.activeRequests && queuedRequests == that.queuedRequests
+            && rejectedRequests == that.rejectedRequests && timedOutRequests == that.timedOutRequests
+            && failedResponses == that.failedResponses && successfulResponses == that.successfulResponses;
+    }
+}
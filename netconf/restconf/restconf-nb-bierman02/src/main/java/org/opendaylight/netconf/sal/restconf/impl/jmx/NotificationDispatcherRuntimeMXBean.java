@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl.jmx;
+
+public interface NotificationDispatcherRuntimeMXBean {
+    int getMaxThreads();
+
+    int getThreads();
+
+    int getActiveThreads();
+
+    long getStreams();
+
+    long getQueuedEvents();
+
+    long getDispatchedEvents();
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl.jmx;
+
+public class WebSocketSubscriber {
+    private String remoteAddress;
+
+    private boolean writable;
+
+    private int queuedEvents;
+
+    private long sentEvents;
+
+    private long droppedEvents;
+
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public void setRemoteAddress(String remoteAddress) {
+        this.remoteAddress = remoteAddress;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    public void setWritable(boolean writable) {
+        this.writable = writable;
+    }
+
+    public int getQueuedEvents() {
+        return queuedEvents;
+    }
+
+    public void setQueuedEvents(int queuedEvents) {
+        this.queuedEvents = queuedEvents;
+    }
+
+    public long getSentEvents() {
+        return sentEvents;
+    }
+
+    public void setSentEvents(long sentEvents) {
+        this.sentEvents = sentEvents;
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    public void setDroppedEvents(long droppedEvents) {
+        this.droppedEvents = droppedEvents;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(remoteAddress, writable, queuedEvents, sentEvents, droppedEvents);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final WebSocketSubscriber that = (WebSocketSubscriber) obj;
+        if (!java.util.Objects.equals(remoteAddress, that.remoteAddress)) {
+            return false;
+        }
+
+        return writable == that.writable && queuedEvents == that.queuedEvents && sentEvents == that.sentEvents
+            && droppedEvents == that.droppedEvents;
+    }
+}
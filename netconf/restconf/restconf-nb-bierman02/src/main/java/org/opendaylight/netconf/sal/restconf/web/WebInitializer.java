@@ -40,7 +40,8 @@ public class WebInitializer {
 
         WebContextBuilder webContextBuilder = WebContext.builder().contextPath("restconf").supportsSessions(false)
                 .addServlet(ServletDetails.builder().servlet(servletSupport.createHttpServletBuilder(webApp).build())
-                    .addUrlPattern("/*").build())
+                    // Server-Sent Events streams are written from suspended requests
+                    .addUrlPattern("/*").asyncSupported(true).build())
 
                 // Allows user to add javax.servlet.Filter(s) in front of REST services
                 .addFilter(FilterDetails.builder().filter(new CustomFilterAdapter(customFilterAdapterConfig))
@@ -7,12 +7,22 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 import io.netty.channel.Channel;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.streams.sse.SseSubscriber;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +35,12 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
     private static final Logger LOG = LoggerFactory.getLogger(AbstractCommonSubscriber.class);
 
     private final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<SseSubscriber, SubscriberParams> sseSubscribers = new ConcurrentHashMap<>();
+    private final NotificationDispatcher dispatcher;
+    private final NotificationDispatcher.StreamExecutor executor;
     private final EventBus eventBus;
+    private final ReplayBuffers replayBuffers;
+    private final EventJournals journals;
 
     @SuppressWarnings("rawtypes")
     private EventBusChangeRecorder eventBusChangeRecorder;
@@ -33,15 +48,31 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
     private ListenerRegistration registration;
 
     /**
-     * Creating {@link EventBus}.
+     * Creating {@link EventBus}, delivering events on a {@link NotificationDispatcher}.
+     *
+     * @param dispatcher
+     *            dispatcher delivering events
+     * @param replayBuffers
+     *            replay buffers events are recorded in
+     * @param journals
+     *            journals events are recorded in, if the stream is journaled
      */
-    protected AbstractCommonSubscriber() {
-        this.eventBus = new AsyncEventBus(Executors.newSingleThreadExecutor());
+    protected AbstractCommonSubscriber(final NotificationDispatcher dispatcher, final ReplayBuffers replayBuffers,
+            final EventJournals journals) {
+        this.dispatcher = requireNonNull(dispatcher);
+        this.replayBuffers = requireNonNull(replayBuffers);
+        this.journals = requireNonNull(journals);
+        this.executor = dispatcher.newStreamExecutor();
+        this.eventBus = new AsyncEventBus(this.executor);
+    }
+
+    final NotificationDispatcher getDispatcher() {
+        return this.dispatcher;
     }
 
     @Override
     public final boolean hasSubscribers() {
-        return !this.subscribers.isEmpty();
+        return !this.subscribers.isEmpty() || !this.sseSubscribers.isEmpty();
     }
 
     @Override
@@ -49,6 +80,11 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
         return this.subscribers;
     }
 
+    @Override
+    public final Map<SseSubscriber, SubscriberParams> getSseSubscribers() {
+        return this.sseSubscribers;
+    }
+
     @Override
     public final void close() {
         if (registration != null) {
@@ -57,24 +93,110 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
         }
 
         unregister();
+        this.executor.close();
     }
 
     /**
      * Creates event of type {@link EventType#REGISTER}, set {@link Channel}
-     * subscriber to the event and post event into event bus.
+     * subscriber to the event and post event into event bus. The subscriber
+     * gets events with the default query parameters of this listener.
      *
      * @param subscriber
      *            Channel
      */
     public void addSubscriber(final Channel subscriber) {
+        addSubscriber(subscriber, SubscriberParams.of(subscriber, getDefaultParams()));
+    }
+
+    /**
+     * Creates event of type {@link EventType#REGISTER} for a subscriber with
+     * query parameters of its own, parsed from the query of the stream location
+     * it has connected to. The parameters are attached to the subscriber, hence
+     * they are parsed only once if it subscribes to several listeners.
+     *
+     * @param subscriber
+     *            Channel
+     * @param query
+     *            decoded query parameters
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    public void addSubscriber(final Channel subscriber, final Map<String, List<String>> query) {
+        SubscriberParams params = subscriber.attr(SubscriberParams.KEY).get();
+        if (params == null) {
+            params = parseSubscriberParams(query);
+            subscriber.attr(SubscriberParams.KEY).set(params);
+        }
+        addSubscriber(subscriber, params);
+    }
+
+    /**
+     * Creates event of type {@link EventType#REGISTER} for a Server-Sent
+     * Events subscriber with query parameters of its own. A subscriber
+     * resuming after it has reconnected gets events recorded after the last
+     * one it has got instead of those since its start-time. The subscriber is
+     * removed once it is closed.
+     *
+     * @param subscriber
+     *            SseSubscriber
+     * @param query
+     *            decoded query parameters
+     * @param lastEventId
+     *            id of the last event the subscriber has got, or null if it
+     *            does not resume
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    public void addSubscriber(final SseSubscriber subscriber, final Map<String, List<String>> query,
+            final @Nullable Long lastEventId) {
+        SubscriberParams params = parseSubscriberParams(query);
+        if (lastEventId != null) {
+            // Event ids are the times events have been recorded at, see EventBusChangeRecorder
+            params = params.withStart(Instant.ofEpochMilli(lastEventId + 1));
+        }
+        final Event event = new Event(EventType.REGISTER);
+        event.setSseSubscriber(subscriber, params);
+        setReplay(event, params, subscriber);
+        subscriber.addCloseListener(() -> removeSubscriber(subscriber));
+        this.eventBus.post(event);
+    }
+
+    /**
+     * Post the registration of a subscriber.
+     */
+    private void addSubscriber(final Channel subscriber, final SubscriberParams params) {
         if (!subscriber.isActive()) {
             LOG.debug("Channel is not active between websocket server and subscriber {}", subscriber.remoteAddress());
         }
         final Event event = new Event(EventType.REGISTER);
         event.setSubscriber(subscriber);
+        setReplay(event, params, subscriber.remoteAddress());
         this.eventBus.post(event);
     }
 
+    /**
+     * Recorded events sent since start-time of a subscriber are replayed to
+     * it, provided they have been recorded in the form it asks for. The
+     * filter of the subscriber is evaluated against each replayed event,
+     * which is possible only for events recorded as XML. Replayed events
+     * are sent one by one, regardless of batching the subscriber asks for.
+     */
+    private void setReplay(final Event event, final SubscriberParams params, final Object subscriber) {
+        final SubscriberParams recorded = getDefaultParams();
+        final NotificationFilter filter = params.getFilter();
+        if (params != recorded && (params.variant() != recorded.variant()
+                || filter != null && NotificationOutputType.JSON.getName().equals(getOutputType()))) {
+            if (params.getStart() != null) {
+                LOG.debug("Subscriber {} asks for events in another form than recorded, they are not replayed",
+                    subscriber);
+            }
+            return;
+        }
+        event.setReplayFrom(params.getStart());
+        event.setReplayUntil(params.getStop());
+        if (params != recorded) {
+            event.setReplayFilter(filter);
+        }
+    }
+
     /**
      * Creates event of type {@link EventType#DEREGISTER}, sets {@link Channel}
      * subscriber to the event and posts event into event bus.
@@ -88,6 +210,19 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
         this.eventBus.post(event);
     }
 
+    /**
+     * Creates event of type {@link EventType#DEREGISTER} for a Server-Sent
+     * Events subscriber and posts event into event bus.
+     *
+     * @param subscriber SseSubscriber
+     */
+    public void removeSubscriber(final SseSubscriber subscriber) {
+        LOG.debug("Subscriber {} is removed.", subscriber);
+        final Event event = new Event(EventType.DEREGISTER);
+        event.setSseSubscriber(subscriber, null);
+        this.eventBus.post(event);
+    }
+
     /**
      * Sets {@link ListenerRegistration} registration.
      *
@@ -117,10 +252,68 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected <T extends BaseListenerInterface> void register(final T listener) {
-        this.eventBusChangeRecorder = new EventBusChangeRecorder(listener);
+        this.eventBusChangeRecorder = new EventBusChangeRecorder(listener, this.replayBuffers, this.journals);
         this.eventBus.register(this.eventBusChangeRecorder);
     }
 
+    /**
+     * Post an event, which is encoded for each subscriber once delivered.
+     *
+     * @param time
+     *            time the event has been sent
+     * @param eventElement
+     *            local name of the event element, against which filters are evaluated
+     * @param source
+     *            source of the encoded forms of the event
+     */
+    final void postEvent(final Instant time, final String eventElement, final EncodedEvent.Source source) {
+        postEvent(time, eventElement, SubscriberParams.Batching.NONE, source);
+    }
+
+    /**
+     * Post an event to subscribers asking for the specified batching only.
+     *
+     * @param time
+     *            time the event has been sent
+     * @param eventElement
+     *            local name of the event element, against which filters are evaluated
+     * @param batching
+     *            batching of subscribers the event is sent to
+     * @param source
+     *            source of the encoded forms of the event
+     */
+    final void postEvent(final Instant time, final String eventElement, final SubscriberParams.Batching batching,
+            final EncodedEvent.Source source) {
+        final Event event = new Event(EventType.NOTIFY);
+        event.setEncoded(new EncodedEvent(time, eventElement, source, getDefaultParams(), batching));
+        post(event);
+    }
+
+    /**
+     * Return variants of encoded events asked for by subscribers of batched events, by their batching.
+     *
+     * @return Variants in use by batching, empty if no subscriber asks for batched events
+     */
+    final Map<SubscriberParams.Batching, Set<SubscriberParams.Variant>> batchedVariantsInUse() {
+        final SubscriberParams defaults = getDefaultParams();
+        final Map<SubscriberParams.Batching, Set<SubscriberParams.Variant>> ret = new HashMap<>();
+        for (final Channel subscriber : this.subscribers) {
+            addBatchedVariant(ret, SubscriberParams.of(subscriber, defaults));
+        }
+        for (final SubscriberParams params : this.sseSubscribers.values()) {
+            addBatchedVariant(ret, params);
+        }
+        return ret;
+    }
+
+    private static void addBatchedVariant(final Map<SubscriberParams.Batching, Set<SubscriberParams.Variant>> variants,
+            final SubscriberParams params) {
+        if (params.getBatching() != SubscriberParams.Batching.NONE) {
+            variants.computeIfAbsent(params.getBatching(), key -> EnumSet.noneOf(SubscriberParams.Variant.class))
+                .add(params.variant());
+        }
+    }
+
     /**
      * Post event to event bus.
      *
@@ -133,10 +326,14 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
 
     /**
      * Removes all subscribers and unregisters event bus change recorder form
-     * event bus.
+     * event bus. Server-Sent Events subscribers are closed, as they would not
+     * get any more events.
      */
     protected void unregister() {
+        final List<SseSubscriber> closed = List.copyOf(this.sseSubscribers.keySet());
         this.subscribers.clear();
+        this.sseSubscribers.clear();
         this.eventBus.unregister(this.eventBusChangeRecorder);
+        closed.forEach(SseSubscriber::close);
     }
 }
@@ -14,35 +14,42 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import javax.xml.XMLConstants;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 import org.opendaylight.yangtools.util.xml.UntrustedXML;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
-import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 /**
  * Abstract class for processing and preparing data.
  *
+ * <p>
+ * Notifications are written straight through an {@link XMLStreamWriter} into a per-thread buffer, which is reused
+ * across notifications unless it has grown too large. Notifications which only need to be inspected are written into
+ * a DOM document instead.
  */
 abstract class AbstractNotificationsData {
-    private static final Logger LOG = LoggerFactory.getLogger(AbstractNotificationsData.class);
-    private static final TransformerFactory TF = TransformerFactory.newInstance();
     private static final XMLOutputFactory OF = XMLOutputFactory.newFactory();
+    private static final String NOTIFICATION_NAMESPACE = "urn:ietf:params:xml:ns:netconf:notification:1.0";
+    static final String SAL_REMOTE_NAMESPACE = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote";
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER =
+        ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    /**
+     * Writer of the content of a notification's event element.
+     */
+    @FunctionalInterface
+    interface EventContentWriter {
+        void write(XMLStreamWriter writer) throws IOException, XMLStreamException;
+    }
 
     /**
      * Formats data specified by RFC3339.
@@ -55,99 +62,108 @@ abstract class AbstractNotificationsData {
     }
 
     /**
-     * Creates {@link Document} document.
+     * Write a notification, consisting of the event time and an event element.
      *
-     * @return {@link Document} document.
+     * @param eventElement
+     *            local name of the event element in the sal-remote namespace
+     * @param content
+     *            writer of the content of the event element
+     * @return notification as XML string
      */
-    protected static Document createDocument() {
-        return UntrustedXML.newDocumentBuilder().newDocument();
+    protected static String writeNotification(final String eventElement, final EventContentWriter content)
+            throws IOException, XMLStreamException {
+        final ByteArrayOutputStream buffer = BUFFER.get();
+        buffer.reset();
+
+        final XMLStreamWriter writer = OF.createXMLStreamWriter(buffer, StandardCharsets.UTF_8.name());
+        try {
+            writeNotification(writer, eventElement, content);
+        } finally {
+            writer.close();
+        }
+
+        final String result = buffer.toString(StandardCharsets.UTF_8);
+        if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+            BUFFER.remove();
+        }
+        return result;
     }
 
     /**
-     * Write normalized node to {@link DOMResult}.
+     * Write a notification into a DOM document, the same way {@link #writeNotification(String, EventContentWriter)}
+     * writes it as XML string, but without serializing it.
      *
-     * @param normalized
-     *            data
-     * @param inference
-     *            SchemaInferenceStack state for the data
-     * @return {@link DOMResult}
+     * @param eventElement
+     *            local name of the event element in the sal-remote namespace
+     * @param content
+     *            writer of the content of the event element
+     * @return notification as DOM document
      */
-    protected DOMResult writeNormalizedNode(final NormalizedNode normalized, final Inference inference)
+    protected static Document writeNotificationDocument(final String eventElement, final EventContentWriter content)
             throws IOException, XMLStreamException {
-        final Document doc = UntrustedXML.newDocumentBuilder().newDocument();
-        final DOMResult result = new DOMResult(doc);
-        NormalizedNodeWriter normalizedNodeWriter = null;
-        NormalizedNodeStreamWriter normalizedNodeStreamWriter = null;
-        XMLStreamWriter writer = null;
-
+        final Document document = UntrustedXML.newDocumentBuilder().newDocument();
+        final XMLStreamWriter writer = OF.createXMLStreamWriter(new DOMResult(document));
         try {
-            writer = OF.createXMLStreamWriter(result);
-            normalizedNodeStreamWriter = XMLStreamNormalizedNodeStreamWriter.create(writer, inference);
-            normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(normalizedNodeStreamWriter);
-
-            normalizedNodeWriter.write(normalized);
-
-            normalizedNodeWriter.flush();
+            writeNotification(writer, eventElement, content);
         } finally {
-            if (normalizedNodeWriter != null) {
-                normalizedNodeWriter.close();
-            }
-            if (normalizedNodeStreamWriter != null) {
-                normalizedNodeStreamWriter.close();
-            }
-            if (writer != null) {
-                writer.close();
-            }
+            writer.close();
         }
+        return document;
+    }
 
-        return result;
+    private static void writeNotification(final XMLStreamWriter writer, final String eventElement,
+            final EventContentWriter content) throws IOException, XMLStreamException {
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "notification", NOTIFICATION_NAMESPACE);
+        writer.writeDefaultNamespace(NOTIFICATION_NAMESPACE);
+        writeTextElement(writer, NOTIFICATION_NAMESPACE, "eventTime", toRFC3339(Instant.now()));
+
+        writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, eventElement, SAL_REMOTE_NAMESPACE);
+        writer.writeDefaultNamespace(SAL_REMOTE_NAMESPACE);
+        content.write(writer);
+        writer.writeEndElement();
+
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
     }
 
     /**
-     * Generating base element of every notification.
+     * Write an element with text content. The element is written in the default namespace of its parent, which has
+     * to be the specified namespace.
      *
-     * @param doc
-     *            base {@link Document}
-     * @return element of {@link Document}
+     * @param writer
+     *            XML stream writer
+     * @param namespace
+     *            namespace of the element
+     * @param localName
+     *            local name of the element
+     * @param text
+     *            text content of the element
      */
-    protected Element basePartDoc(final Document doc) {
-        final Element notificationElement =
-                doc.createElementNS("urn:ietf:params:xml:ns:netconf:notification:1.0", "notification");
-
-        doc.appendChild(notificationElement);
-
-        final Element eventTimeElement = doc.createElement("eventTime");
-        eventTimeElement.setTextContent(toRFC3339(Instant.now()));
-        notificationElement.appendChild(eventTimeElement);
-
-        return notificationElement;
+    protected static void writeTextElement(final XMLStreamWriter writer, final String namespace,
+            final String localName, final String text) throws XMLStreamException {
+        writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, localName, namespace);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
     }
 
     /**
-     * Generating of {@link Document} transforming to string.
+     * Write normalized node to {@link XMLStreamWriter}.
      *
-     * @param doc
-     *            {@link Document} with data
-     * @return - string from {@link Document}
+     * @param writer
+     *            XML stream writer
+     * @param normalized
+     *            data
+     * @param inference
+     *            SchemaInferenceStack state for the data
      */
-    protected String transformDoc(final Document doc) {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-        try {
-            final Transformer transformer = TF.newTransformer();
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
-            transformer.setOutputProperty(OutputKeys.METHOD, "xml");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
-            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-            transformer.transform(new DOMSource(doc), new StreamResult(out));
-        } catch (final TransformerException e) {
-            // FIXME: this should raise an exception
-            final String msg = "Error during transformation of Document into String";
-            LOG.error(msg, e);
-            return msg;
-        }
-
-        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    protected static void writeNormalizedNode(final XMLStreamWriter writer, final NormalizedNode normalized,
+            final Inference inference) throws IOException {
+        // Only flush, closing the stream writer would close the underlying XML writer, too
+        final NormalizedNodeWriter normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(
+            XMLStreamNormalizedNodeStreamWriter.create(writer, inference));
+        normalizedNodeWriter.write(normalized);
+        normalizedNodeWriter.flush();
     }
 }
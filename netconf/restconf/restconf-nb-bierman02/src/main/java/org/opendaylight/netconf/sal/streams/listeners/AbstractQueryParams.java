@@ -10,59 +10,29 @@ package org.opendaylight.netconf.sal.streams.listeners;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.io.StringReader;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathFactory;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
-import org.w3c.dom.Document;
-import org.xml.sax.InputSource;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 /**
- * Features of query parameters part of both notifications.
+ * Features of query parameters part of both notifications. Each subscriber has {@link SubscriberParams} of its own,
+ * the listener only keeps defaults for subscribers without them.
  *
  */
 abstract class AbstractQueryParams extends AbstractNotificationsData {
-    // FIXME: BUG-7956: switch to using UntrustedXML
-    private static final DocumentBuilderFactory DBF;
-
-    static {
-        final DocumentBuilderFactory f = DocumentBuilderFactory.newInstance();
-        f.setCoalescing(true);
-        f.setExpandEntityReferences(false);
-        f.setIgnoringElementContentWhitespace(true);
-        f.setIgnoringComments(true);
-        f.setXIncludeAware(false);
-        try {
-            f.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            f.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            f.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            f.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-        } catch (final ParserConfigurationException e) {
-            throw new ExceptionInInitializerError(e);
-        }
-        DBF = f;
-    }
-
-    // FIXME: these should be final
-    private Instant start = null;
-    private Instant stop = null;
-    private String filter = null;
-    private boolean leafNodesOnly = false;
-    private boolean skipNotificationData = false;
+    private volatile SubscriberParams defaults = SubscriberParams.DEFAULT;
 
     @VisibleForTesting
     public final Instant getStart() {
-        return start;
+        return defaults.getStart();
     }
 
     /**
-     * Set query parameters for listener.
+     * Set default query parameters of the listener. They apply to subscribers which have connected without query
+     * parameters of their own, and to the events recorded for replay.
      *
      * @param start
      *            start-time of getting notification
@@ -74,88 +44,65 @@ abstract class AbstractQueryParams extends AbstractNotificationsData {
      *            if true, notifications will contain changes to leaf nodes only
      * @param skipNotificationData
      *            if true, notification will not contain changed data
+     * @throws RestconfDocumentedException if the filter is not valid
      */
-    @SuppressWarnings("checkstyle:hiddenField")
     public void setQueryParams(final Instant start, final Optional<Instant> stop, final Optional<String> filter,
                                final boolean leafNodesOnly, final boolean skipNotificationData) {
-        this.start = requireNonNull(start);
-        this.stop = stop.orElse(null);
-        this.filter = filter.orElse(null);
-        this.leafNodesOnly = leafNodesOnly;
-        this.skipNotificationData = skipNotificationData;
+        defaults = SubscriberParams.of(requireNonNull(start), stop.orElse(null), filter.orElse(null), leafNodesOnly,
+            skipNotificationData, this::getFilterSchemaContext);
+    }
+
+    /**
+     * Return the default query parameters.
+     *
+     * @return Default query parameters
+     */
+    final SubscriberParams getDefaultParams() {
+        return defaults;
+    }
+
+    /**
+     * Parse query parameters of a subscriber from the query of the stream location it has connected to.
+     *
+     * @param query
+     *            decoded query parameters
+     * @return Subscriber parameters
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    final SubscriberParams parseSubscriberParams(final Map<String, List<String>> query) {
+        return SubscriberParams.fromQuery(query, this::getFilterSchemaContext, hasDataOptions());
     }
 
     /**
-     * Check whether this query should only notify about leaf node changes.
+     * Check whether the default query parameters request changes to leaf nodes only.
      *
      * @return true if this query should only notify about leaf node changes
      */
     public boolean getLeafNodesOnly() {
-        return leafNodesOnly;
+        return defaults.isLeafNodesOnly();
     }
 
     /**
-     * Check whether this query should notify changes without data.
+     * Check whether the default query parameters request changes without data.
      *
      * @return true if this query should notify about changes with  data
      */
     public boolean isSkipNotificationData() {
-        return skipNotificationData;
-    }
-
-    @SuppressWarnings("checkstyle:IllegalCatch")
-    <T extends BaseListenerInterface> boolean checkStartStop(final Instant now, final T listener) {
-        if (this.stop != null) {
-            if (this.start.compareTo(now) < 0 && this.stop.compareTo(now) > 0) {
-                return true;
-            }
-            if (this.stop.compareTo(now) < 0) {
-                try {
-                    listener.close();
-                } catch (final Exception e) {
-                    throw new RestconfDocumentedException("Problem with unregister listener." + e);
-                }
-            }
-        } else if (this.start != null) {
-            if (this.start.compareTo(now) < 0) {
-                this.start = null;
-                return true;
-            }
-        } else {
-            return true;
-        }
-        return false;
+        return defaults.isSkipNotificationData();
     }
 
     /**
-     * Check if is filter used and then prepare and post data do client.
+     * Return the model context used to resolve prefixes of filter expressions.
      *
-     * @param xml   data of notification
+     * @return Model context
      */
-    @SuppressWarnings("checkstyle:IllegalCatch")
-    boolean checkFilter(final String xml) {
-        if (this.filter == null) {
-            return true;
-        }
-
-        try {
-            return parseFilterParam(xml);
-        } catch (final Exception e) {
-            throw new RestconfDocumentedException("Problem while parsing filter.", e);
-        }
-    }
+    abstract EffectiveModelContext getFilterSchemaContext();
 
     /**
-     * Parse and evaluate filter value by xml.
+     * Check whether events of this listener support {@code odl-leaf-nodes-only} and
+     * {@code odl-skip-notification-data}.
      *
-     * @return true or false - depends on filter expression and data of
-     *         notifiaction
-     * @throws Exception if operation fails
+     * @return true if the options are supported
      */
-    private boolean parseFilterParam(final String xml) throws Exception {
-        final Document docOfXml = DBF.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
-        final XPath xPath = XPathFactory.newInstance().newXPath();
-        // FIXME: BUG-7956: xPath.setNamespaceContext(nsContext);
-        return (boolean) xPath.compile(this.filter).evaluate(docOfXml, XPathConstants.BOOLEAN);
-    }
+    abstract boolean hasDataOptions();
 }
@@ -8,7 +8,9 @@
 package org.opendaylight.netconf.sal.streams.listeners;
 
 import io.netty.channel.Channel;
+import java.util.Map;
 import java.util.Set;
+import org.opendaylight.netconf.sal.streams.sse.SseSubscriber;
 
 /**
  * Base interface for both listeners({@link ListenerAdapter},
@@ -24,10 +26,16 @@ interface BaseListenerInterface extends AutoCloseable {
     Set<Channel> getSubscribers();
 
     /**
-     * Checks if exists at least one {@link Channel} subscriber.
+     * Return all Server-Sent Events subscribers of listener, with their query parameters.
      *
-     * @return True if exist at least one {@link Channel} subscriber, false
-     *         otherwise.
+     * @return map of subscribers to their parameters
+     */
+    Map<SseSubscriber, SubscriberParams> getSseSubscribers();
+
+    /**
+     * Checks if exists at least one {@link Channel} or {@link SseSubscriber} subscriber.
+     *
+     * @return True if exist at least one subscriber, false otherwise.
      */
     boolean hasSubscribers();
 
@@ -38,6 +46,15 @@ interface BaseListenerInterface extends AutoCloseable {
      */
     String getStreamName();
 
+    /**
+     * Get key of the replay buffer of this listener's events.
+     *
+     * @return replay buffer key
+     */
+    default String getReplayKey() {
+        return getStreamName();
+    }
+
     /**
      * Get output type.
      *
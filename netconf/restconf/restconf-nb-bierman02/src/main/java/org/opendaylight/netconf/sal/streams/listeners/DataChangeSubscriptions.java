@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.ClusteredDOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeService;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data tree change listener registrations shared by data change streams. Instead of each {@link ListenerAdapter}
+ * registering a listener of its own, streams are grouped by their datastore and the top-level node of their path,
+ * and each group registers a single listener, so that the datastore computes the changes of a commit once for all of
+ * them. The listener is registered at the longest common ancestor of the group's paths rather than at the top-level
+ * node, so that the group is not notified of changes none of its streams is interested in. Changes are fanned out
+ * through a trie of the streams' paths, each stream getting the changes at or under its path rooted at its path, as if
+ * it had registered itself. The registration is closed once the group's last stream is gone.
+ *
+ * <p>
+ * As streams come and go, the common ancestor moves and the listener is registered anew there. The previous
+ * registration keeps delivering changes until the new one has caught up with the datastore, as signalled by its
+ * initial data, which is not delivered, since the streams have already seen it. Listeners are registered with and
+ * unregistered from the change service outside of any operation on the map of groups and outside of any lock.
+ */
+public final class DataChangeSubscriptions {
+    private static final Logger LOG = LoggerFactory.getLogger(DataChangeSubscriptions.class);
+
+    // Depth of the paths streams are grouped by, top-level nodes
+    private static final int ROOT_DEPTH = 1;
+
+    private final ConcurrentMap<DOMDataTreeIdentifier, Root> roots = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribe a stream to changes of data at its path. The listener of the stream's group is registered with
+     * the change service, or moved to cover the stream's path.
+     *
+     * @param changeService
+     *            Service to register the listener with
+     * @param datastore
+     *            Datastore of the data
+     * @param listener
+     *            Listener of the stream
+     * @return Registration of the stream, closing it unsubscribes the stream
+     */
+    public ListenerRegistration<ListenerAdapter> subscribe(final DOMDataTreeChangeService changeService,
+            final LogicalDatastoreType datastore, final ListenerAdapter listener) {
+        final YangInstanceIdentifier path = listener.getPath();
+        final DOMDataTreeIdentifier key = new DOMDataTreeIdentifier(datastore, rootOf(path));
+        final List<PathArgument> relative = List.copyOf(path.getPathArguments().subList(
+            key.getRootIdentifier().getPathArguments().size(), path.getPathArguments().size()));
+
+        while (true) {
+            final Root root = roots.computeIfAbsent(key, rootKey -> new Root(changeService, rootKey));
+            if (root.add(relative, listener)) {
+                root.reconcile();
+                return new Subscription(key, root, relative, listener);
+            }
+            // Its last stream is gone, it is being closed
+            roots.remove(key, root);
+        }
+    }
+
+    @VisibleForTesting
+    int registrations() {
+        return roots.size();
+    }
+
+    private void unsubscribe(final Subscription subscription) {
+        final Root root = subscription.root;
+        if (root.remove(subscription.relative, subscription.listener)) {
+            LOG.debug("Last stream of {} is gone, closing its shared listener", subscription.key);
+            roots.remove(subscription.key, root);
+        }
+        root.reconcile();
+    }
+
+    private static YangInstanceIdentifier rootOf(final YangInstanceIdentifier path) {
+        return path.getPathArguments().size() <= ROOT_DEPTH ? path : path.getAncestor(ROOT_DEPTH);
+    }
+
+    /**
+     * Registration of a stream.
+     */
+    private final class Subscription implements ListenerRegistration<ListenerAdapter> {
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final DOMDataTreeIdentifier key;
+        private final Root root;
+        private final List<PathArgument> relative;
+        private final ListenerAdapter listener;
+
+        Subscription(final DOMDataTreeIdentifier key, final Root root, final List<PathArgument> relative,
+                final ListenerAdapter listener) {
+            this.key = requireNonNull(key);
+            this.root = requireNonNull(root);
+            this.relative = requireNonNull(relative);
+            this.listener = requireNonNull(listener);
+        }
+
+        @Override
+        public ListenerAdapter getInstance() {
+            return listener;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                unsubscribe(this);
+            }
+        }
+    }
+
+    /**
+     * Node of the trie of streams' paths.
+     */
+    private static final class PathNode {
+        final Map<PathArgument, PathNode> children = new ConcurrentHashMap<>();
+        final Set<ListenerAdapter> listeners = new CopyOnWriteArraySet<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && listeners.isEmpty();
+        }
+    }
+
+    /**
+     * Streams of a top-level node and the listener registered for them. The trie is modified while holding the lock
+     * of the root, while changes are fanned out concurrently. A single thread at a time reconciles the registration
+     * with the trie, other threads leave it to that thread.
+     */
+    private static final class Root {
+        private final PathNode trie = new PathNode();
+        private final DOMDataTreeChangeService changeService;
+        private final DOMDataTreeIdentifier key;
+
+        // Written while holding the lock, read by listeners without it
+        private volatile Registration current;
+
+        // Guarded by this
+        private Registration pending;
+        private int streams;
+        private boolean closed;
+        private boolean reconciling;
+        private boolean dirty;
+
+        Root(final DOMDataTreeChangeService changeService, final DOMDataTreeIdentifier key) {
+            this.changeService = requireNonNull(changeService);
+            this.key = requireNonNull(key);
+        }
+
+        synchronized boolean add(final List<PathArgument> relative, final ListenerAdapter listener) {
+            if (closed) {
+                return false;
+            }
+            PathNode node = trie;
+            for (final PathArgument arg : relative) {
+                node = node.children.computeIfAbsent(arg, argKey -> new PathNode());
+            }
+            if (node.listeners.add(listener)) {
+                streams++;
+            }
+            return true;
+        }
+
+        /**
+         * Remove a stream.
+         *
+         * @return True if it was the last stream and the root is closed
+         */
+        synchronized boolean remove(final List<PathArgument> relative, final ListenerAdapter listener) {
+            final Deque<PathNode> nodes = new ArrayDeque<>(relative.size() + 1);
+            PathNode node = trie;
+            nodes.push(node);
+            for (final PathArgument arg : relative) {
+                node = node.children.get(arg);
+                if (node == null) {
+                    return false;
+                }
+                nodes.push(node);
+            }
+            if (!node.listeners.remove(listener)) {
+                return false;
+            }
+
+            // Prune nodes left without streams, from the bottom up
+            for (int i = relative.size() - 1; i >= 0; i--) {
+                final PathNode child = nodes.pop();
+                if (!child.isEmpty()) {
+                    break;
+                }
+                nodes.peek().children.remove(relative.get(i), child);
+            }
+
+            if (--streams != 0) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        /**
+         * Register the listener at the common ancestor of the streams' paths, or close it once the streams are gone.
+         */
+        void reconcile() {
+            synchronized (this) {
+                if (reconciling) {
+                    dirty = true;
+                    return;
+                }
+                reconciling = true;
+            }
+
+            while (true) {
+                final List<Registration> stale = new ArrayList<>(2);
+                final Registration created;
+                synchronized (this) {
+                    created = update(stale);
+                }
+                stale.forEach(Registration::close);
+                if (created != null) {
+                    LOG.debug("Registering shared listener of {} at {}", key, created.path);
+                    created.register();
+                }
+                synchronized (this) {
+                    if (!dirty) {
+                        reconciling = false;
+                        return;
+                    }
+                    dirty = false;
+                }
+            }
+        }
+
+        // Called while holding the lock
+        private Registration update(final List<Registration> stale) {
+            final YangInstanceIdentifier wanted = closed ? null : commonAncestor();
+            final Registration target = pending != null ? pending : current;
+            if (target != null && target.path.equals(wanted)) {
+                return null;
+            }
+            if (pending != null) {
+                stale.add(pending);
+                pending = null;
+            }
+            if (wanted == null) {
+                if (current != null) {
+                    stale.add(current);
+                    current = null;
+                }
+                return null;
+            }
+            if (current != null && current.path.equals(wanted)) {
+                return null;
+            }
+
+            final Registration created = new Registration(wanted);
+            if (current == null) {
+                current = created;
+            } else {
+                pending = created;
+            }
+            return created;
+        }
+
+        // Called while holding the lock
+        private YangInstanceIdentifier commonAncestor() {
+            YangInstanceIdentifier path = key.getRootIdentifier();
+            PathNode node = trie;
+            while (node.listeners.isEmpty() && node.children.size() == 1) {
+                final Map.Entry<PathArgument, PathNode> child = node.children.entrySet().iterator().next();
+                path = path.node(child.getKey());
+                node = child.getValue();
+            }
+            return path;
+        }
+
+        /**
+         * Make a pending registration current once it has caught up with the datastore.
+         */
+        private void caughtUp(final Registration registration) {
+            final Registration previous;
+            synchronized (this) {
+                if (registration != pending) {
+                    return;
+                }
+                previous = current;
+                current = registration;
+                pending = null;
+            }
+            LOG.debug("Moved shared listener of {} to {}", key, registration.path);
+            if (previous != null) {
+                previous.close();
+            }
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private void fanOut(final List<DataTreeCandidate> candidates) {
+            final Map<ListenerAdapter, List<DataTreeCandidate>> changes = new LinkedHashMap<>();
+            for (final DataTreeCandidate candidate : candidates) {
+                fanOut(changes, candidate);
+            }
+            changes.forEach((listener, streamChanges) -> {
+                try {
+                    listener.onDataTreeChanged(streamChanges);
+                } catch (RuntimeException e) {
+                    LOG.warn("Stream {} failed to process changes", listener.getStreamName(), e);
+                }
+            });
+        }
+
+        private void fanOut(final Map<ListenerAdapter, List<DataTreeCandidate>> changes,
+                final DataTreeCandidate candidate) {
+            // Changes are rooted at the registered path or below it, walk down the trie to the changed node
+            final YangInstanceIdentifier rootPath = key.getRootIdentifier();
+            final YangInstanceIdentifier candidatePath = candidate.getRootPath();
+            final List<PathArgument> below = candidatePath.getPathArguments().subList(
+                Math.min(rootPath.getPathArguments().size(), candidatePath.getPathArguments().size()),
+                candidatePath.getPathArguments().size());
+            PathNode node = trie;
+            for (final PathArgument arg : below) {
+                // Streams above the changed node get it as it is
+                for (final ListenerAdapter listener : node.listeners) {
+                    changes.computeIfAbsent(listener, listenerKey -> new ArrayList<>()).add(candidate);
+                }
+                node = node.children.get(arg);
+                if (node == null) {
+                    return;
+                }
+            }
+            fanOut(changes, node, candidatePath, candidate.getRootNode());
+        }
+
+        private static void fanOut(final Map<ListenerAdapter, List<DataTreeCandidate>> changes, final PathNode node,
+                final YangInstanceIdentifier nodePath, final DataTreeCandidateNode candidateNode) {
+            if (candidateNode.getModificationType() == ModificationType.UNMODIFIED) {
+                return;
+            }
+            if (!node.listeners.isEmpty()) {
+                final DataTreeCandidate rerooted = new StreamCandidate(nodePath, candidateNode);
+                for (final ListenerAdapter listener : node.listeners) {
+                    changes.computeIfAbsent(listener, listenerKey -> new ArrayList<>()).add(rerooted);
+                }
+            }
+            for (final Map.Entry<PathArgument, PathNode> child : node.children.entrySet()) {
+                candidateNode.getModifiedChild(child.getKey()).ifPresent(modified ->
+                    fanOut(changes, child.getValue(), nodePath.node(child.getKey()), modified));
+            }
+        }
+
+        /**
+         * Listener registered at a path. Its registration is closed by whichever comes last, the registering thread
+         * or the thread closing it.
+         */
+        private final class Registration implements ClusteredDOMDataTreeChangeListener {
+            final YangInstanceIdentifier path;
+
+            // Guarded by Root.this
+            private ListenerRegistration<Registration> handle;
+            private boolean released;
+
+            Registration(final YangInstanceIdentifier path) {
+                this.path = requireNonNull(path);
+            }
+
+            void register() {
+                final ListenerRegistration<Registration> reg = changeService.registerDataTreeChangeListener(
+                    new DOMDataTreeIdentifier(key.getDatastoreType(), path), this);
+                synchronized (Root.this) {
+                    if (!released) {
+                        handle = reg;
+                        return;
+                    }
+                }
+                // Superseded or its streams are gone while registering
+                reg.close();
+            }
+
+            void close() {
+                final ListenerRegistration<Registration> reg;
+                synchronized (Root.this) {
+                    released = true;
+                    reg = handle;
+                    handle = null;
+                }
+                if (reg != null) {
+                    reg.close();
+                }
+            }
+
+            @Override
+            public void onInitialData() {
+                caughtUp(this);
+            }
+
+            @Override
+            public void onDataTreeChanged(final List<DataTreeCandidate> candidates) {
+                if (current == this) {
+                    fanOut(candidates);
+                } else {
+                    // Either the initial data of a pending registration or the tail of a superseded one
+                    caughtUp(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Changes at or under the path of a stream, rooted at that path.
+     */
+    private static final class StreamCandidate implements DataTreeCandidate {
+        private final YangInstanceIdentifier rootPath;
+        private final DataTreeCandidateNode rootNode;
+
+        StreamCandidate(final YangInstanceIdentifier rootPath, final DataTreeCandidateNode rootNode) {
+            this.rootPath = requireNonNull(rootPath);
+            this.rootNode = requireNonNull(rootNode);
+        }
+
+        @Override
+        public DataTreeCandidateNode getRootNode() {
+            return rootNode;
+        }
+
+        @Override
+        public YangInstanceIdentifier getRootPath() {
+            return rootPath;
+        }
+    }
+}
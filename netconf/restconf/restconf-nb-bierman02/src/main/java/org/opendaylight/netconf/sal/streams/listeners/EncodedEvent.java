@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.Channel;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.xpath.XPathExpressionException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.streams.listeners.AbstractNotificationsData.EventContentWriter;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Batching;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Variant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+
+/**
+ * An event encoded on demand for subscribers with different {@link SubscriberParams}. Each {@link Variant} is encoded
+ * at most once and shared by all subscribers asking for it. Filters are evaluated against a DOM document of the
+ * variant, which is written at most once for filters using prefixes and once for those which do not, and each filter
+ * is evaluated at most once. An event is sent only to subscribers with the same {@link Batching} as the event, batched
+ * events are recorded for replay in their unbatched form only.
+ *
+ * <p>
+ * Instances are not thread-safe, they are used by the thread delivering the event.
+ */
+final class EncodedEvent {
+    /**
+     * Source of the encoded forms of an event.
+     */
+    interface Source {
+        /**
+         * Encode a variant of the event in the output type of the stream.
+         *
+         * @param variant requested variant
+         * @return Encoded event, or null if there is nothing to send
+         */
+        @Nullable String encode(Variant variant);
+
+        /**
+         * Return the writer of the content of the event element of a variant, against which filters are evaluated.
+         *
+         * @param variant requested variant
+         * @return Writer of the event element's content
+         */
+        EventContentWriter content(Variant variant);
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(EncodedEvent.class);
+
+    private final Map<Variant, Encoded> variants = new EnumMap<>(Variant.class);
+    private final Instant time;
+    private final String eventElement;
+    private final Source source;
+    private final SubscriberParams defaults;
+    private final Batching batching;
+
+    /**
+     * Create an event.
+     *
+     * @param time time the event has been sent
+     * @param eventElement local name of the event element, against which filters are evaluated
+     * @param source source of the encoded forms of the event
+     * @param defaults parameters of subscribers without parameters of their own and of recorded events
+     * @param batching batching of subscribers the event is sent to
+     */
+    EncodedEvent(final Instant time, final String eventElement, final Source source,
+            final SubscriberParams defaults, final Batching batching) {
+        this.time = requireNonNull(time);
+        this.eventElement = requireNonNull(eventElement);
+        this.source = requireNonNull(source);
+        this.defaults = requireNonNull(defaults);
+        this.batching = requireNonNull(batching);
+    }
+
+    /**
+     * Return the event in the form it is recorded for replay.
+     *
+     * @return Encoded event, or null if it is not of interest with default parameters
+     */
+    @Nullable String recorded() {
+        return encodeFor(defaults);
+    }
+
+    /**
+     * Return the event in the form a subscriber gets it.
+     *
+     * @param subscriber subscriber channel
+     * @return Encoded event, or null if it is not of interest to the subscriber
+     */
+    @Nullable String encodeFor(final Channel subscriber) {
+        return encodeFor(SubscriberParams.of(subscriber, defaults));
+    }
+
+    /**
+     * Check whether stop-time of a subscriber has passed.
+     *
+     * @param subscriber subscriber channel
+     * @param now current time
+     * @return true if the subscriber is not interested in any more events
+     */
+    boolean isExpired(final Channel subscriber, final Instant now) {
+        return SubscriberParams.of(subscriber, defaults).isExpired(now);
+    }
+
+    /**
+     * Return the event in the form a subscriber with the specified parameters gets it.
+     *
+     * @param params subscriber parameters
+     * @return Encoded event, or null if it is not of interest to the subscriber
+     */
+    @Nullable String encodeFor(final SubscriberParams params) {
+        if (!params.isActive(time) || !batching.equals(params.getBatching())) {
+            return null;
+        }
+        final Encoded encoded = variants.computeIfAbsent(params.variant(), Encoded::new);
+        final NotificationFilter filter = params.getFilter();
+        return filter == null || encoded.test(filter) ? encoded.data() : null;
+    }
+
+    private final class Encoded {
+        private final Map<NotificationFilter, Boolean> results = new IdentityHashMap<>();
+        private final Variant variant;
+
+        private boolean encoded;
+        private String data;
+        private Document qualified;
+        private Document unqualified;
+
+        Encoded(final Variant variant) {
+            this.variant = requireNonNull(variant);
+        }
+
+        String data() {
+            if (!encoded) {
+                data = source.encode(variant);
+                encoded = true;
+            }
+            return data;
+        }
+
+        boolean test(final NotificationFilter filter) {
+            return results.computeIfAbsent(filter, this::evaluate);
+        }
+
+        private boolean evaluate(final NotificationFilter filter) {
+            try {
+                return filter.test(document(filter.isQualified()));
+            } catch (final IOException | XMLStreamException | XPathExpressionException e) {
+                LOG.warn("Failed to evaluate filter of {}, the event is not sent to its subscribers", eventElement, e);
+                return false;
+            }
+        }
+
+        /**
+         * Return the document filters are evaluated against. Unqualified filters strip namespaces of the document,
+         * hence they get a document of their own.
+         */
+        private Document document(final boolean forQualified) throws IOException, XMLStreamException {
+            if (forQualified) {
+                if (qualified == null) {
+                    qualified = AbstractNotificationsData.writeNotificationDocument(eventElement,
+                        source.content(variant));
+                }
+                return qualified;
+            }
+            if (unqualified == null) {
+                unqualified = AbstractNotificationsData.writeNotificationDocument(eventElement,
+                    source.content(variant));
+            }
+            return unqualified;
+        }
+    }
+}
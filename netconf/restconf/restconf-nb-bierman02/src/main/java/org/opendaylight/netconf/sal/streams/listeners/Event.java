@@ -8,15 +8,23 @@
 package org.opendaylight.netconf.sal.streams.listeners;
 
 import io.netty.channel.Channel;
+import java.time.Instant;
+import org.opendaylight.netconf.sal.streams.sse.SseSubscriber;
 
 /**
  * Represents event of specific {@link EventType} type, holds data and
- * {@link Channel} subscriber.
+ * {@link Channel} or {@link SseSubscriber} subscriber.
  */
 class Event {
     private final EventType type;
     private Channel subscriber;
+    private SseSubscriber sseSubscriber;
+    private SubscriberParams params;
     private String data;
+    private EncodedEvent encoded;
+    private Instant replayFrom;
+    private Instant replayUntil;
+    private NotificationFilter replayFilter;
 
     /**
      * Creates new event specified by {@link EventType} type.
@@ -48,16 +56,47 @@ class Event {
     }
 
     /**
-     * Gets event String.
+     * Gets the {@link SseSubscriber} subscriber.
      *
-     * @return String representation of event data.
+     * @return SseSubscriber, or null if the subscriber is a {@link Channel}
+     */
+    SseSubscriber getSseSubscriber() {
+        return this.sseSubscriber;
+    }
+
+    /**
+     * Gets query parameters of the {@link SseSubscriber} subscriber.
+     *
+     * @return SubscriberParams
+     */
+    SubscriberParams getParams() {
+        return this.params;
+    }
+
+    /**
+     * Sets Server-Sent Events subscriber for event.
+     *
+     * @param sseSubscriber
+     *            SseSubscriber
+     * @param params
+     *            query parameters of the subscriber
+     */
+    void setSseSubscriber(final SseSubscriber sseSubscriber, final SubscriberParams params) {
+        this.sseSubscriber = sseSubscriber;
+        this.params = params;
+    }
+
+    /**
+     * Gets event String, in the form it is recorded for replay.
+     *
+     * @return String representation of event data, or null if there is none.
      */
     public String getData() {
-        return this.data;
+        return this.encoded != null ? this.encoded.recorded() : this.data;
     }
 
     /**
-     * Sets event data.
+     * Sets event data, which is the same for all subscribers.
      *
      * @param data
      *            String.
@@ -66,6 +105,121 @@ class Event {
         this.data = data;
     }
 
+    /**
+     * Gets event String in the form a subscriber gets it.
+     *
+     * @param subscriber
+     *            Channel
+     * @return String representation of event data, or null if the event is not of interest to the subscriber.
+     */
+    String getData(final Channel subscriber) {
+        return this.encoded != null ? this.encoded.encodeFor(subscriber) : this.data;
+    }
+
+    /**
+     * Gets event String in the form a subscriber with the specified query parameters gets it.
+     *
+     * @param subscriberParams
+     *            SubscriberParams
+     * @return String representation of event data, or null if the event is not of interest to the subscriber.
+     */
+    String getData(final SubscriberParams subscriberParams) {
+        return this.encoded != null ? this.encoded.encodeFor(subscriberParams) : this.data;
+    }
+
+    /**
+     * Sets event encoded for each subscriber separately.
+     *
+     * @param encoded
+     *            EncodedEvent
+     */
+    void setEncoded(final EncodedEvent encoded) {
+        this.encoded = encoded;
+    }
+
+    /**
+     * Checks whether stop-time of a subscriber has passed.
+     *
+     * @param subscriber
+     *            Channel
+     * @param now
+     *            current time
+     * @return True if the subscriber is not interested in any more events.
+     */
+    boolean isExpired(final Channel subscriber, final Instant now) {
+        return this.encoded != null && this.encoded.isExpired(subscriber, now);
+    }
+
+    /**
+     * Checks whether stop-time of a subscriber with the specified query parameters has passed.
+     *
+     * @param subscriberParams
+     *            SubscriberParams
+     * @param now
+     *            current time
+     * @return True if the subscriber is not interested in any more events.
+     */
+    boolean isExpired(final SubscriberParams subscriberParams, final Instant now) {
+        return this.encoded != null && subscriberParams.isExpired(now);
+    }
+
+    /**
+     * Gets time from which buffered events are replayed to a new subscriber.
+     *
+     * @return Time of the first replayed event, or null if nothing is replayed
+     */
+    public Instant getReplayFrom() {
+        return this.replayFrom;
+    }
+
+    /**
+     * Sets time from which buffered events are replayed to a new subscriber.
+     *
+     * @param replayFrom
+     *            Instant
+     */
+    public void setReplayFrom(final Instant replayFrom) {
+        this.replayFrom = replayFrom;
+    }
+
+    /**
+     * Gets time until which buffered events are replayed to a new subscriber.
+     *
+     * @return Time of the last replayed event, or null to replay all events since {@link #getReplayFrom()}
+     */
+    public Instant getReplayUntil() {
+        return this.replayUntil;
+    }
+
+    /**
+     * Sets time until which buffered events are replayed to a new subscriber.
+     *
+     * @param replayUntil
+     *            Instant
+     */
+    public void setReplayUntil(final Instant replayUntil) {
+        this.replayUntil = replayUntil;
+    }
+
+    /**
+     * Gets filter of the events replayed to a new subscriber.
+     *
+     * @return Filter the subscriber has asked for, or null to replay events as they have been recorded
+     */
+    NotificationFilter getReplayFilter() {
+        return this.replayFilter;
+    }
+
+    /**
+     * Sets filter of the events replayed to a new subscriber.
+     *
+     * @param replayFilter
+     *            NotificationFilter
+     */
+    void setReplayFilter(final NotificationFilter replayFilter) {
+        this.replayFilter = replayFilter;
+    }
+
     /**
      * Gets event type.
      *
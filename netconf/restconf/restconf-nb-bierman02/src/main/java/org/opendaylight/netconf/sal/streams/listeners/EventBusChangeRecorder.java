@@ -7,47 +7,292 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.Iterators;
 import com.google.common.eventbus.Subscribe;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import javax.xml.xpath.XPathExpressionException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.streams.sse.SseSubscriber;
+import org.opendaylight.netconf.sal.streams.websockets.CompressedContents;
+import org.opendaylight.netconf.sal.streams.websockets.SubscriberQueues;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
 
 class EventBusChangeRecorder<T extends BaseListenerInterface> {
 
     private static final Logger LOG = LoggerFactory.getLogger(EventBusChangeRecorder.class);
     private final T listener;
+    private final ReplayBuffers replayBuffers;
+    private final EventJournals journals;
+
+    // Time the last event has been recorded at, in milliseconds, which is also its id
+    private long lastEventId;
 
     /**
      * Event bus change recorder of specific listener of notifications.
      *
      * @param listener
      *             specific listener
+     * @param replayBuffers
+     *             replay buffers events are recorded in
+     * @param journals
+     *             journals events are recorded in, if the stream is journaled
      */
-    EventBusChangeRecorder(final T listener) {
+    EventBusChangeRecorder(final T listener, final ReplayBuffers replayBuffers, final EventJournals journals) {
         this.listener = listener;
+        this.replayBuffers = requireNonNull(replayBuffers);
+        this.journals = requireNonNull(journals);
     }
 
     @Subscribe
     public void recordCustomerChange(final Event event) {
         if (event.getType() == EventType.REGISTER) {
+            final SseSubscriber sseSubscriber = event.getSseSubscriber();
+            if (sseSubscriber != null) {
+                if (this.listener.getSseSubscribers().putIfAbsent(sseSubscriber, event.getParams()) == null) {
+                    replay(sseSubscriber, event);
+                }
+                return;
+            }
             final Channel subscriber = event.getSubscriber();
             if (!this.listener.getSubscribers().contains(subscriber)) {
                 this.listener.getSubscribers().add(subscriber);
+                replay(subscriber, event);
             }
         } else if (event.getType() == EventType.DEREGISTER) {
-            this.listener.getSubscribers().remove(event.getSubscriber());
-            Notificator.removeListenerIfNoSubscriberExists(this.listener);
+            if (event.getSseSubscriber() != null) {
+                this.listener.getSseSubscribers().remove(event.getSseSubscriber());
+            } else {
+                this.listener.getSubscribers().remove(event.getSubscriber());
+            }
         } else if (event.getType() == EventType.NOTIFY) {
-            for (final Channel subscriber : this.listener.getSubscribers()) {
-                if (subscriber.isActive()) {
+            notifySubscribers(event);
+        }
+    }
+
+    /**
+     * Replay journaled or buffered events to a new subscriber. Replayed events are handed over to the subscriber's
+     * event loop before any live event, which is posted after the subscriber has been registered.
+     */
+    private void replay(final Channel subscriber, final Event register) {
+        final Iterator<ByteBuf> contents = replayed(register);
+        if (contents == null) {
+            return;
+        }
+
+        LOG.debug("Replaying events since {} to subscriber {}", register.getReplayFrom(),
+            subscriber.remoteAddress());
+        try {
+            subscriber.eventLoop().execute(
+                () -> SubscriberQueues.replay(subscriber, Iterators.transform(contents, TextWebSocketFrame::new)));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Event loop of subscriber {} is shut down", subscriber, e);
+            contents.forEachRemaining(ByteBuf::release);
+        }
+    }
+
+    /**
+     * Replay journaled or buffered events to a new Server-Sent Events subscriber, ahead of any live event.
+     */
+    private void replay(final SseSubscriber subscriber, final Event register) {
+        final Iterator<ByteBuf> contents = replayed(register);
+        if (contents != null) {
+            LOG.debug("Replaying events since {} to subscriber {}", register.getReplayFrom(), subscriber);
+            subscriber.replay(contents);
+        }
+    }
+
+    /**
+     * Return journaled or buffered events a new subscriber asks for, which pass its filter. Events which do not pass
+     * are released as they are skipped.
+     */
+    private @Nullable Iterator<ByteBuf> replayed(final Event register) {
+        final Instant replayFrom = register.getReplayFrom();
+        if (replayFrom == null) {
+            return null;
+        }
+        final Instant replayUntil = register.getReplayUntil();
+
+        final Iterator<ByteBuf> contents;
+        final EventJournal journal = journal();
+        if (journal != null) {
+            contents = journal.read(replayFrom, replayUntil);
+        } else {
+            final String key = this.listener.getReplayKey();
+            final ReplayBuffer buffer = key == null ? null : this.replayBuffers.findBuffer(key);
+            if (buffer == null) {
+                return null;
+            }
+            contents = buffer.between(replayFrom, replayUntil, Instant.now()).iterator();
+        }
+        final NotificationFilter filter = register.getReplayFilter();
+        final Iterator<ByteBuf> filtered = filter == null ? contents
+            : Iterators.filter(contents, content -> passes(filter, content));
+        return filtered.hasNext() ? filtered : null;
+    }
+
+    /**
+     * Evaluate a filter against a replayed event, which has been recorded as XML. The event is released if it does
+     * not pass.
+     */
+    private boolean passes(final NotificationFilter filter, final ByteBuf content) {
+        try (InputStream in = new ByteBufInputStream(content.duplicate())) {
+            if (filter.test(UntrustedXML.newDocumentBuilder().parse(in))) {
+                return true;
+            }
+        } catch (final IOException | SAXException | XPathExpressionException e) {
+            LOG.warn("Failed to evaluate filter of a replayed event of stream {}, it is not replayed",
+                this.listener.getStreamName(), e);
+        }
+        content.release();
+        return false;
+    }
+
+    private EventJournal journal() {
+        final String key = this.listener.getReplayKey();
+        return key == null ? null : this.journals.journalFor(this.listener.getStreamName(), key);
+    }
+
+    private String replayBufferKey() {
+        final String key = this.listener.getReplayKey();
+        return key != null && this.replayBuffers.isEnabled() ? key : null;
+    }
+
+    /**
+     * Send data to all active subscribers. Each form of the data is encoded only once, subscribers getting the same
+     * form get frames sharing the encoded content, which is also kept in the stream's journal or replay buffer, or its
+     * compressed form if they have negotiated compression with the same parameters.
+     * Subscribers are grouped by their event loop, so that writes are handed over to each event loop in a single task,
+     * where they go through the subscribers' bounded queues. Server-Sent Events subscribers get the event with its id,
+     * which is the time it is recorded at, made unique within the stream, so that a subscriber resuming from it gets
+     * exactly the events recorded afterwards. Subscribers whose stop-time has passed are disconnected, which releases
+     * their references to the stream, see {@link StreamRegistry}.
+     */
+    private void notifySubscribers(final Event event) {
+        final Instant now = Instant.now();
+        final long eventId = Math.max(now.toEpochMilli(), lastEventId + 1);
+        lastEventId = eventId;
+        final Map<EventLoop, List<Channel>> byEventLoop = new HashMap<>();
+        final Map<Channel, String> dataBySubscriber = new HashMap<>();
+        final List<Channel> expired = new ArrayList<>();
+        for (final Channel subscriber : this.listener.getSubscribers()) {
+            if (!subscriber.isActive()) {
+                LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
+                this.listener.getSubscribers().remove(subscriber);
+            } else if (event.isExpired(subscriber, now)) {
+                expired.add(subscriber);
+            } else {
+                final String data = event.getData(subscriber);
+                if (data != null) {
                     LOG.debug("Data are sent to subscriber {}:", subscriber.remoteAddress());
-                    subscriber.writeAndFlush(new TextWebSocketFrame(event.getData()));
+                    dataBySubscriber.put(subscriber, data);
+                    byEventLoop.computeIfAbsent(subscriber.eventLoop(), loop -> new ArrayList<>()).add(subscriber);
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            disconnect(expired);
+        }
+        notifySseSubscribers(event, eventId, now);
+
+        final EventJournal journal = journal();
+        final String bufferKey = journal == null ? replayBufferKey() : null;
+        final String recorded = journal != null || bufferKey != null ? event.getData() : null;
+        if (byEventLoop.isEmpty() && recorded == null) {
+            return;
+        }
+
+        // Keyed by identity, the same form of an event is the same instance
+        final Map<String, ByteBuf> contents = new IdentityHashMap<>();
+        try (CompressedContents compressed = new CompressedContents()) {
+            if (recorded != null) {
+                final ByteBuf content = encode(contents, recorded);
+                final Instant recordedAt = Instant.ofEpochMilli(eventId);
+                if (journal != null) {
+                    appendToJournal(journal, recordedAt, content);
                 } else {
-                    LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
-                    this.listener.getSubscribers().remove(subscriber);
+                    this.replayBuffers.add(bufferKey, recordedAt, content);
                 }
             }
+            byEventLoop.forEach((loop, subscribers) -> {
+                final List<TextWebSocketFrame> frames = new ArrayList<>(subscribers.size());
+                for (final Channel subscriber : subscribers) {
+                    frames.add(compressed.newFrame(subscriber, encode(contents, dataBySubscriber.get(subscriber))));
+                }
+                try {
+                    loop.execute(() -> {
+                        for (int i = 0; i < subscribers.size(); i++) {
+                            SubscriberQueues.write(subscribers.get(i), frames.get(i));
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Event loop of subscribers {} is shut down", subscribers, e);
+                    frames.forEach(TextWebSocketFrame::release);
+                }
+            });
+        } finally {
+            contents.values().forEach(ByteBuf::release);
+        }
+    }
+
+    private void notifySseSubscribers(final Event event, final long eventId, final Instant now) {
+        for (final Map.Entry<SseSubscriber, SubscriberParams> entry : this.listener.getSseSubscribers().entrySet()) {
+            final SseSubscriber subscriber = entry.getKey();
+            if (subscriber.isClosed()) {
+                LOG.debug("Subscriber {} is removed - it is closed.", subscriber);
+                this.listener.getSseSubscribers().remove(subscriber);
+            } else if (event.isExpired(entry.getValue(), now)) {
+                LOG.debug("Stop-time of subscriber {} has passed, disconnecting it", subscriber);
+                this.listener.getSseSubscribers().remove(subscriber);
+                subscriber.close();
+            } else {
+                final String data = event.getData(entry.getValue());
+                if (data != null) {
+                    subscriber.send(eventId, data);
+                }
+            }
+        }
+    }
+
+    private static ByteBuf encode(final Map<String, ByteBuf> contents, final String data) {
+        return contents.computeIfAbsent(data, str -> ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, str));
+    }
+
+    private void disconnect(final List<Channel> expired) {
+        for (final Channel subscriber : expired) {
+            LOG.debug("Stop-time of subscriber {} has passed, disconnecting it", subscriber.remoteAddress());
+            this.listener.getSubscribers().remove(subscriber);
+            subscriber.writeAndFlush(new CloseWebSocketFrame()).addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    private void appendToJournal(final EventJournal journal, final Instant time, final ByteBuf content) {
+        try {
+            journal.append(time, content);
+        } catch (IOException e) {
+            LOG.warn("Failed to journal event of stream {}", this.listener.getStreamName(), e);
         }
     }
 }
@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledDirectByteBuf;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.internal.PlatformDependent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent journal of the events of a single stream. The journal is an append-only log split into segment files,
+ * each of which is memory-mapped as a whole. Each record consists of the length of the event, the time it has been
+ * sent in milliseconds since the epoch and the event in its encoded form. The length is written last, so that a record
+ * interrupted by a crash is not recovered. Each segment keeps a sparse index from event time to record offset, which
+ * is rebuilt when the journal is opened.
+ *
+ * <p>
+ * Events are read as slices of the mapped segments, so that they can be written to subscribers without being copied
+ * or decoded. Segments are deleted oldest first once the journal exceeds its configured size, or once their newest
+ * event exceeds the configured age.
+ *
+ * <p>
+ * Segments are reference counted by the journal and by events read from them. Once a segment is dropped and every
+ * event read from it is released, its mapping is freed and its channel closed before its file is deleted, rather than
+ * leaving the mapping, and with it the disk space of the file, to the garbage collector.
+ */
+final class EventJournal implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(EventJournal.class);
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int INDEX_INTERVAL = 64;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Path directory;
+    private final EventJournals limits;
+
+    private long bytes;
+    private boolean closed;
+
+    private EventJournal(final Path directory, final EventJournals limits) {
+        this.directory = requireNonNull(directory);
+        this.limits = requireNonNull(limits);
+    }
+
+    /**
+     * Open the journal in a directory, recovering any segments it contains.
+     *
+     * @param directory Journal directory, created if it does not exist
+     * @param limits Segment size and retention limits
+     * @return Opened journal
+     * @throws IOException if the journal cannot be opened
+     */
+    static EventJournal open(final Path directory, final EventJournals limits) throws IOException {
+        Files.createDirectories(directory);
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+
+        final EventJournal journal = new EventJournal(directory, limits);
+        try {
+            for (final Path file : files) {
+                final Segment segment = Segment.recover(file, sequenceOf(file));
+                journal.segments.add(segment);
+                journal.bytes += segment.capacity();
+            }
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+        LOG.debug("Opened journal {} with {} segments", directory, files.size());
+        return journal;
+    }
+
+    /**
+     * Append an event to the journal.
+     *
+     * @param time Time the event has been sent
+     * @param content Encoded event, not released by this method
+     * @throws IOException if a new segment cannot be created
+     */
+    synchronized void append(final Instant time, final ByteBuf content) throws IOException {
+        if (closed || !content.isReadable()) {
+            return;
+        }
+
+        final int recordBytes = HEADER_BYTES + content.readableBytes();
+        Segment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        // Keep records ordered by time even if the clock goes backwards
+        final long millis = active == null ? time.toEpochMilli() : Math.max(time.toEpochMilli(), active.lastTime);
+        if (active == null || !active.hasRoom(recordBytes)) {
+            final long sequence = active == null ? 0 : active.sequence + 1;
+            active = Segment.create(directory.resolve(String.format("%019d%s", sequence, SEGMENT_SUFFIX)), sequence,
+                Math.max(limits.getSegmentBytes(), recordBytes));
+            segments.add(active);
+            bytes += active.capacity();
+        }
+        active.append(millis, content);
+        retain(millis);
+    }
+
+    /**
+     * Return events sent between the specified times, oldest first. Events appended afterwards are not returned.
+     *
+     * @param start Time of the first event of interest
+     * @param stop Time of the last event of interest, or null for all events since start
+     * @return Encoded events, backed by the journal's segments. Events have to be released and the iterator has to
+     *         be exhausted for the segments to be freed once they are dropped.
+     */
+    synchronized Iterator<ByteBuf> read(final Instant start, final @Nullable Instant stop) {
+        final long startMillis = start.toEpochMilli();
+        final long stopMillis = stop == null ? Long.MAX_VALUE : stop.toEpochMilli();
+        final List<SegmentRange> ranges = new ArrayList<>();
+        for (final Segment segment : segments) {
+            if (segment.records != 0 && segment.lastTime >= startMillis && segment.firstTime <= stopMillis) {
+                ranges.add(new SegmentRange(segment.retain(), segment.floorOffset(startMillis), segment.end));
+            }
+        }
+        return new RecordIterator(ranges, startMillis, stopMillis);
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            for (final Segment segment : segments) {
+                segment.buffer.force();
+                segment.release();
+            }
+            segments.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Delete the oldest segments while the journal is too large or their events are too old. The active segment is
+     * always kept.
+     */
+    private void retain(final long now) {
+        final long maxBytes = limits.getMaxBytes();
+        final long oldest = now - limits.getMaxAgeMillis();
+        while (segments.size() > 1) {
+            final Segment first = segments.get(0);
+            if (bytes <= maxBytes && first.lastTime >= oldest) {
+                break;
+            }
+            segments.remove(0);
+            bytes -= first.capacity();
+            // Deleted once readers release it as well
+            first.delete();
+        }
+    }
+
+    private static long sequenceOf(final Path file) throws IOException {
+        final String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected journal segment " + file, e);
+        }
+    }
+
+    private static final class Segment extends AbstractReferenceCounted {
+        final Path file;
+        final long sequence;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+
+        private volatile boolean delete;
+
+        // Guarded by the journal
+        int end;
+        int records;
+        long firstTime;
+        long lastTime;
+        long[] indexTimes = new long[8];
+        int[] indexOffsets = new int[8];
+        int indexSize;
+
+        private Segment(final Path file, final long sequence, final FileChannel channel,
+                final MappedByteBuffer buffer) {
+            this.file = requireNonNull(file);
+            this.sequence = sequence;
+            this.channel = requireNonNull(channel);
+            this.buffer = requireNonNull(buffer);
+        }
+
+        static Segment create(final Path file, final long sequence, final int size) throws IOException {
+            return map(file, sequence, FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE), size);
+        }
+
+        static Segment recover(final Path file, final long sequence) throws IOException {
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final Segment segment;
+            try {
+                segment = map(file, sequence, channel, channel.size());
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+
+            final MappedByteBuffer buffer = segment.buffer;
+            int offset = 0;
+            while (offset + HEADER_BYTES <= buffer.capacity()) {
+                final int length = buffer.getInt(offset);
+                if (length <= 0 || length > buffer.capacity() - offset - HEADER_BYTES) {
+                    break;
+                }
+                segment.recordAt(offset, buffer.getLong(offset + Integer.BYTES), length);
+                offset = segment.end;
+            }
+            return segment;
+        }
+
+        private static Segment map(final Path file, final long sequence, final FileChannel channel, final long size)
+                throws IOException {
+            try {
+                return new Segment(file, sequence, channel, channel.map(MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+
+        /**
+         * Release the journal's reference to the segment, deleting its file once it is freed.
+         */
+        void delete() {
+            delete = true;
+            release();
+        }
+
+        @Override
+        public Segment retain() {
+            super.retain();
+            return this;
+        }
+
+        @Override
+        public Segment touch(final Object hint) {
+            return this;
+        }
+
+        @Override
+        protected void deallocate() {
+            PlatformDependent.freeDirectBuffer(buffer);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.warn("Failed to close journal segment {}", file, e);
+            }
+            if (delete) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    LOG.warn("Failed to delete journal segment {}", file, e);
+                }
+            }
+        }
+
+        boolean hasRoom(final int recordBytes) {
+            return recordBytes <= buffer.capacity() - end;
+        }
+
+        void append(final long time, final ByteBuf content) {
+            final int length = content.readableBytes();
+            final ByteBuffer target = buffer.duplicate();
+            target.position(end + HEADER_BYTES).limit(end + HEADER_BYTES + length);
+            content.getBytes(content.readerIndex(), target);
+            buffer.putLong(end + Integer.BYTES, time);
+            buffer.putInt(end, length);
+            recordAt(end, time, length);
+        }
+
+        /**
+         * Return the offset to start looking for events at or after the specified time from.
+         */
+        int floorOffset(final long time) {
+            int index = Arrays.binarySearch(indexTimes, 0, indexSize, time);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            // Move to the last indexed record older than time, all records before it are older as well
+            while (index > 0 && indexTimes[index - 1] >= time) {
+                index--;
+            }
+            return index == 0 ? 0 : indexOffsets[index - 1];
+        }
+
+        private void recordAt(final int offset, final long time, final int length) {
+            if (records % INDEX_INTERVAL == 0) {
+                if (indexSize == indexTimes.length) {
+                    indexTimes = Arrays.copyOf(indexTimes, indexSize * 2);
+                    indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+                }
+                indexTimes[indexSize] = time;
+                indexOffsets[indexSize] = offset;
+                indexSize++;
+            }
+            if (records == 0) {
+                firstTime = time;
+            }
+            records++;
+            lastTime = time;
+            end = offset + HEADER_BYTES + length;
+        }
+    }
+
+    private static final class SegmentRange {
+        final Segment segment;
+        final int start;
+        final int end;
+
+        SegmentRange(final Segment segment, final int start, final int end) {
+            this.segment = segment;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Event read from a segment, holding a reference to the segment until it is released.
+     */
+    private static final class SegmentEvent extends UnpooledDirectByteBuf {
+        private final Segment segment;
+
+        SegmentEvent(final Segment segment, final ByteBuffer content) {
+            super(UnpooledByteBufAllocator.DEFAULT, content, content.remaining());
+            this.segment = segment.retain();
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            segment.release();
+        }
+    }
+
+    /**
+     * Iterates over records of a snapshot of segments. Records below the snapshotted end offsets are never modified,
+     * hence they are read without holding the journal's lock. The iterator holds a reference to each segment until it
+     * is done with it.
+     */
+    private static final class RecordIterator implements Iterator<ByteBuf> {
+        private final Iterator<SegmentRange> ranges;
+        private final long startMillis;
+        private final long stopMillis;
+
+        private SegmentRange range;
+        private int offset;
+        private ByteBuf next;
+
+        RecordIterator(final List<SegmentRange> ranges, final long startMillis, final long stopMillis) {
+            this.ranges = ranges.iterator();
+            this.startMillis = startMillis;
+            this.stopMillis = stopMillis;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (range == null || offset >= range.end) {
+                    if (range != null) {
+                        range.segment.release();
+                        range = null;
+                    }
+                    if (!ranges.hasNext()) {
+                        return false;
+                    }
+                    range = ranges.next();
+                    offset = range.start;
+                    continue;
+                }
+
+                final MappedByteBuffer buffer = range.segment.buffer;
+                final int length = buffer.getInt(offset);
+                final long time = buffer.getLong(offset + Integer.BYTES);
+                final int dataOffset = offset + HEADER_BYTES;
+                offset = dataOffset + length;
+                if (time > stopMillis) {
+                    // Records are ordered by time, there is nothing more of interest
+                    range.segment.release();
+                    range = null;
+                    ranges.forEachRemaining(remaining -> remaining.segment.release());
+                    return false;
+                }
+                if (time >= startMillis) {
+                    final ByteBuffer slice = buffer.duplicate();
+                    slice.position(dataOffset).limit(dataOffset + length);
+                    next = new SegmentEvent(range.segment, slice.slice());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ByteBuf next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ByteBuf ret = next;
+            next = null;
+            return ret;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent {@link EventJournal}s of selected streams, which allow subscribers to resume from a {@code start-time}
+ * older than what {@link ReplayBuffers} keep, even across restarts. Streams are selected by a regular expression
+ * matched against their names, each journaled stream gets its own subdirectory of the configured directory. Journaling
+ * is disabled unless both are configured.
+ */
+public final class EventJournals {
+    private static final Logger LOG = LoggerFactory.getLogger(EventJournals.class);
+    private static final String STREAM_FILE = "stream";
+
+    static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+    static final long DEFAULT_MAX_BYTES = 1024L * 1024 * 1024;
+    static final long DEFAULT_MAX_AGE_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final ConcurrentMap<String, EventJournal> journals = new ConcurrentHashMap<>();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    private volatile Path directory;
+    private volatile Pattern streams;
+    private volatile int segmentBytes = DEFAULT_SEGMENT_BYTES;
+    private volatile long maxBytes = DEFAULT_MAX_BYTES;
+    private volatile long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+
+    public EventJournals() {
+        // Configured through setters
+    }
+
+    /**
+     * Set the directory journals are kept in.
+     *
+     * @param directory Directory path, empty to disable journaling
+     */
+    public void setDirectory(final String directory) {
+        this.directory = directory.isEmpty() ? null : Paths.get(directory);
+    }
+
+    /**
+     * Set the streams which are journaled.
+     *
+     * @param streams Regular expression matching whole stream names, empty to disable journaling
+     */
+    public void setStreams(final String streams) {
+        this.streams = streams.isEmpty() ? null : Pattern.compile(streams);
+    }
+
+    /**
+     * Set the size of journal segments.
+     *
+     * @param segmentBytes Number of bytes
+     */
+    public void setSegmentBytes(final int segmentBytes) {
+        checkArgument(segmentBytes > 0, "Invalid segment size %s", segmentBytes);
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Set the maximum size of a single stream's journal. The journal may exceed it by its active segment.
+     *
+     * @param maxBytes Number of bytes
+     */
+    public void setMaxBytes(final long maxBytes) {
+        checkArgument(maxBytes > 0, "Invalid maximum bytes %s", maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Set the maximum age of journaled events. Events are deleted a segment at a time, once the segment's most recent
+     * event is older.
+     *
+     * @param maxAgeMillis Age in milliseconds
+     */
+    public void setMaxAgeMillis(final long maxAgeMillis) {
+        checkArgument(maxAgeMillis > 0, "Invalid maximum age %s", maxAgeMillis);
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    public void close() {
+        journals.values().forEach(EventJournal::close);
+        journals.clear();
+        failed.clear();
+    }
+
+    int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * Return the journal of a stream.
+     *
+     * @param streamName Name of the stream
+     * @param streamKey Key of the stream's events
+     * @return Journal, or null if the stream is not journaled
+     */
+    @Nullable EventJournal journalFor(final String streamName, final String streamKey) {
+        final Path root = directory;
+        final Pattern pattern = streams;
+        if (root == null || pattern == null || !pattern.matcher(streamName).matches() || failed.contains(streamKey)) {
+            return null;
+        }
+
+        try {
+            return journals.computeIfAbsent(streamKey, key -> {
+                // Stream names are too long and contain too many special characters to be used as file names
+                final Path dir = root.resolve(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8))
+                    .toString());
+                try {
+                    final EventJournal journal = EventJournal.open(dir, this);
+                    final Path streamFile = dir.resolve(STREAM_FILE);
+                    if (!Files.exists(streamFile)) {
+                        Files.writeString(streamFile, key);
+                    }
+                    return journal;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            LOG.warn("Failed to open journal of stream {}, it will not be journaled", streamKey, e);
+            failed.add(streamKey);
+            return null;
+        }
+    }
+}
@@ -10,28 +10,48 @@ package org.opendaylight.netconf.sal.streams.listeners;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.google.gson.stream.JsonWriter;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import javax.xml.XMLConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.dom.DOMResult;
-import org.json.XML;
+import javax.xml.stream.XMLStreamWriter;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.ClusteredDOMDataTreeChangeListener;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Batching;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Variant;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
@@ -40,9 +60,6 @@ import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
 /**
  * {@link ListenerAdapter} is responsible to track events, which occurred by
@@ -51,15 +68,20 @@ import org.w3c.dom.Node;
 public class ListenerAdapter extends AbstractCommonSubscriber implements ClusteredDOMDataTreeChangeListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(ListenerAdapter.class);
+    private static final String DATA_CHANGED_NOTIFICATION = "data-changed-notification";
     private static final String DATA_CHANGE_EVENT = "data-change-event";
     private static final String PATH = "path";
     private static final String OPERATION = "operation";
+    private static final String DATA = "data";
 
     private final ControllerContext controllerContext;
     private final YangInstanceIdentifier path;
     private final String streamName;
     private final NotificationOutputType outputType;
 
+    // Pending batches of subscribers asking for batched events, guarded by this
+    private final Map<Batching, PendingBatch> batches = new HashMap<>();
+
     /**
      * Creates new {@link ListenerAdapter} listener specified by path and stream
      * name and register for subscribing.
@@ -70,10 +92,18 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
      *            The name of the stream.
      * @param outputType
      *            Type of output on notification (JSON, XML)
+     * @param dispatcher
+     *            Dispatcher delivering events
+     * @param replayBuffers
+     *            Replay buffers events are recorded in
+     * @param journals
+     *            Journals events are recorded in, if the stream is journaled
      */
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR", justification = "non-final for testing")
     ListenerAdapter(final YangInstanceIdentifier path, final String streamName,
-            final NotificationOutputType outputType, final ControllerContext controllerContext) {
+            final NotificationOutputType outputType, final ControllerContext controllerContext,
+            final NotificationDispatcher dispatcher, final ReplayBuffers replayBuffers, final EventJournals journals) {
+        super(dispatcher, replayBuffers, journals);
         this.outputType = requireNonNull(outputType);
         this.path = requireNonNull(path);
         checkArgument(streamName != null && !streamName.isEmpty());
@@ -89,15 +119,11 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
 
     @Override
     public void onDataTreeChanged(final List<DataTreeCandidate> dataTreeCandidates) {
-        final Instant now = Instant.now();
-        if (!checkStartStop(now, this)) {
-            return;
-        }
-
-        final String xml = prepareXml(dataTreeCandidates);
-        if (checkFilter(xml)) {
-            prepareAndPostData(xml);
-        }
+        final Function<Variant, DataChangeEventSource> events =
+            variant -> writer -> addValuesToDataChangedNotificationEventElement(dataTreeCandidates, variant, writer);
+        // Encoded only if there are unbatched subscribers, or the stream records its events
+        postEvent(Instant.now(), Batching.NONE, events);
+        addToBatches(events);
     }
 
     /**
@@ -115,6 +141,16 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
         return outputType.getName();
     }
 
+    @Override
+    EffectiveModelContext getFilterSchemaContext() {
+        return controllerContext.getGlobalSchema();
+    }
+
+    @Override
+    boolean hasDataOptions() {
+        return true;
+    }
+
     /**
      * Get path pointed to data in data store.
      *
@@ -125,58 +161,157 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
     }
 
     /**
-     * Prepare data of notification and data to client.
+     * Post data change events, which are encoded and filtered for subscribers once delivered.
      *
-     * @param xml   data
+     * @param time     time the events have been sent
+     * @param batching batching of subscribers the events are sent to
+     * @param events   source of data change events of each variant, which may return null if there are none
      */
-    private void prepareAndPostData(final String xml) {
-        final Event event = new Event(EventType.NOTIFY);
-        if (outputType.equals(NotificationOutputType.JSON)) {
-            event.setData(XML.toJSONObject(xml).toString());
-        } else {
-            event.setData(xml);
+    private void postEvent(final Instant time, final Batching batching,
+            final Function<Variant, DataChangeEventSource> events) {
+        postEvent(time, DATA_CHANGED_NOTIFICATION, batching, new EncodedEvent.Source() {
+            @Override
+            public String encode(final Variant variant) {
+                final DataChangeEventSource source = events.apply(variant);
+                return source == null ? null : prepareData(source);
+            }
+
+            @Override
+            public EventContentWriter content(final Variant variant) {
+                final DataChangeEventSource source = events.apply(variant);
+                return source == null ? writer -> { } : dataChangedNotificationContent(source);
+            }
+        });
+    }
+
+    /**
+     * Add data change events to the pending batch of each batching subscribers ask for, starting a new batch if there
+     * is none. Events are collected for the batching's time window and sent together in a single notification, in
+     * which repeated changes of the same path are collapsed into a single event with the latest state. A batch keeps
+     * events of each variant currently in use, subscribers asking for another variant miss the batch. The batch is
+     * sent once its time window elapses, or right away once it reaches the maximum number of events. Filters of
+     * subscribers are evaluated against the batched notification.
+     *
+     * @param events
+     *            source of data change events of each variant
+     */
+    private synchronized void addToBatches(final Function<Variant, DataChangeEventSource> events) {
+        for (final Entry<Batching, Set<Variant>> entry : batchedVariantsInUse().entrySet()) {
+            final Batching batching = entry.getKey();
+            PendingBatch pending = batches.get(batching);
+            if (pending == null) {
+                pending = new PendingBatch(batching);
+                batches.put(batching, pending);
+                final PendingBatch scheduled = pending;
+                pending.flush = getDispatcher().schedule(() -> flushBatch(scheduled),
+                    batching.getWindowMillis());
+            }
+
+            int size = 0;
+            for (final Variant variant : entry.getValue()) {
+                final DataChangeBatch variantBatch = pending.variants.computeIfAbsent(variant,
+                    key -> new DataChangeBatch());
+                try {
+                    events.apply(variant).writeTo(variantBatch);
+                } catch (final IOException | XMLStreamException e) {
+                    throw new IllegalStateException("Collecting data change events cannot fail", e);
+                }
+                size = Math.max(size, variantBatch.size());
+            }
+            // Without a timer the batch is sent right away
+            if (pending.flush == null || batching.getMaxEvents() != 0 && size >= batching.getMaxEvents()) {
+                flushBatch(pending);
+            }
         }
-        post(event);
     }
 
     /**
-     * Tracks events of data change by customer.
+     * Send a batch of data change events, unless it has already been sent.
+     *
+     * @param expected
+     *            batch to send
      */
+    private synchronized void flushBatch(final PendingBatch expected) {
+        if (!batches.remove(expected.batching, expected)) {
+            return;
+        }
+        if (expected.flush != null) {
+            expected.flush.cancel(false);
+        }
+        if (expected.variants.values().stream().anyMatch(variantBatch -> !variantBatch.isEmpty())) {
+            postEvent(Instant.now(), expected.batching, variant -> {
+                final DataChangeBatch variantBatch = expected.variants.get(variant);
+                return variantBatch == null || variantBatch.isEmpty() ? null : variantBatch;
+            });
+        }
+    }
+
+    private String prepareData(final DataChangeEventSource events) {
+        return outputType.equals(NotificationOutputType.JSON) ? prepareJson(events) : prepareXml(events);
+    }
 
     /**
      * Prepare data in printable form and transform it to String.
      *
-     * @return Data in printable form.
+     * @return Data in printable form, or null if it could not be written.
      */
-    private String prepareXml(final Collection<DataTreeCandidate> candidates) {
-        final EffectiveModelContext schemaContext = controllerContext.getGlobalSchema();
-        final DataSchemaContextTree dataContextTree = DataSchemaContextTree.from(schemaContext);
-        final Document doc = createDocument();
-        final Element notificationElement = basePartDoc(doc);
+    private String prepareXml(final DataChangeEventSource events) {
+        try {
+            return writeNotification(DATA_CHANGED_NOTIFICATION, dataChangedNotificationContent(events));
+        } catch (final IOException e) {
+            LOG.error("Error in writer ", e);
+        } catch (final XMLStreamException e) {
+            LOG.error("Error processing stream", e);
+        }
+        return null;
+    }
 
-        final Element dataChangedNotificationEventElement = doc.createElementNS(
-                "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote", "data-changed-notification");
+    private EventContentWriter dataChangedNotificationContent(final DataChangeEventSource events) {
+        final DataSchemaContextTree dataContextTree = DataSchemaContextTree.from(controllerContext.getGlobalSchema());
+        return writer -> events.writeTo(
+            (eventPath, operation, data) -> writeXmlEvent(writer, dataContextTree, eventPath, operation, data));
+    }
 
-        addValuesToDataChangedNotificationEventElement(doc, dataChangedNotificationEventElement, candidates,
-            schemaContext, dataContextTree);
-        notificationElement.appendChild(dataChangedNotificationEventElement);
-        return transformDoc(doc);
+    /**
+     * Prepare data as JSON, as specified by
+     * <a href="https://tools.ietf.org/html/rfc8040#section-6.4">RFC8040 section 6.4</a>. Data are encoded as specified
+     * by RFC7951, directly from the data tree candidates.
+     *
+     * @return Data as JSON, or null if they could not be written.
+     */
+    private String prepareJson(final DataChangeEventSource events) {
+        final EffectiveModelContext schemaContext = controllerContext.getGlobalSchema();
+        final DataSchemaContextTree dataContextTree = DataSchemaContextTree.from(schemaContext);
+        final JSONCodecFactory codecs = JSONCodecFactorySupplier.RFC7951.getShared(schemaContext);
+        final StringWriter buffer = new StringWriter();
+        try (JsonWriter writer = JsonWriterFactory.createJsonWriter(buffer)) {
+            writer.beginObject().name("ietf-restconf:notification").beginObject()
+                .name("eventTime").value(toRFC3339(Instant.now()))
+                .name("sal-remote:" + DATA_CHANGED_NOTIFICATION).beginObject()
+                .name(DATA_CHANGE_EVENT).beginArray();
+            events.writeTo((eventPath, operation, data) -> writeJsonEvent(writer, codecs, dataContextTree, eventPath,
+                operation, data));
+            writer.endArray().endObject().endObject().endObject();
+        } catch (final IOException | XMLStreamException e) {
+            LOG.error("Error writing JSON notification", e);
+            return null;
+        }
+        return buffer.toString();
     }
 
     /**
      * Adds values to data changed notification event element.
      *
-     * @param doc
-     *            {@link Document}
-     * @param dataChangedNotificationEventElement
-     *            {@link Element}
      * @param dataTreeCandidates
      *            {@link DataTreeCandidate}
+     * @param variant
+     *            {@link Variant} of the events
+     * @param events
+     *            {@link DataChangeEventWriter} of the event element's data change events
      */
-    private void addValuesToDataChangedNotificationEventElement(final Document doc,
-            final Element dataChangedNotificationEventElement,
-            final Collection<DataTreeCandidate> dataTreeCandidates,
-            final EffectiveModelContext schemaContext, final DataSchemaContextTree dataSchemaContextTree) {
+    private void addValuesToDataChangedNotificationEventElement(
+            final Collection<DataTreeCandidate> dataTreeCandidates, final Variant variant,
+            final DataChangeEventWriter events) throws IOException, XMLStreamException {
 
         for (DataTreeCandidate dataTreeCandidate : dataTreeCandidates) {
             DataTreeCandidateNode candidateNode = dataTreeCandidate.getRootNode();
@@ -185,21 +320,18 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
             }
             YangInstanceIdentifier yiid = dataTreeCandidate.getRootPath();
 
-            boolean isSkipNotificationData = this.isSkipNotificationData();
-            if (isSkipNotificationData) {
-                createCreatedChangedDataChangeEventElementWithoutData(doc,
-                        dataChangedNotificationEventElement, dataTreeCandidate.getRootNode());
+            if (variant == Variant.WITHOUT_DATA) {
+                createCreatedChangedDataChangeEventElementWithoutData(events, dataTreeCandidate.getRootNode());
             } else {
-                addNodeToDataChangeNotificationEventElement(doc, dataChangedNotificationEventElement, candidateNode,
-                        yiid.getParent(), schemaContext, dataSchemaContextTree);
+                addNodeToDataChangeNotificationEventElement(events, candidateNode, yiid.getParent(),
+                    variant == Variant.LEAF_NODES_ONLY);
             }
         }
     }
 
-    private void addNodeToDataChangeNotificationEventElement(final Document doc,
-            final Element dataChangedNotificationEventElement, final DataTreeCandidateNode candidateNode,
-            final YangInstanceIdentifier parentYiid, final EffectiveModelContext schemaContext,
-            final DataSchemaContextTree dataSchemaContextTree) {
+    private void addNodeToDataChangeNotificationEventElement(final DataChangeEventWriter events,
+            final DataTreeCandidateNode candidateNode, final YangInstanceIdentifier parentYiid,
+            final boolean leafNodesOnly) throws IOException, XMLStreamException {
 
         Optional<NormalizedNode> optionalNormalizedNode = Optional.empty();
         switch (candidateNode.getModificationType()) {
@@ -227,73 +359,40 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
                                                             .append(normalizedNode.getIdentifier()).build();
 
         boolean isNodeMixin = controllerContext.isNodeMixin(yiid);
-        boolean isSkippedNonLeaf = getLeafNodesOnly() && !(normalizedNode instanceof LeafNode);
+        boolean isSkippedNonLeaf = leafNodesOnly && !(normalizedNode instanceof LeafNode);
         if (!isNodeMixin && !isSkippedNonLeaf) {
-            Node node = null;
             switch (candidateNode.getModificationType()) {
                 case APPEARED:
                 case SUBTREE_MODIFIED:
                 case WRITE:
                     Operation op = candidateNode.getDataBefore().isPresent() ? Operation.UPDATED : Operation.CREATED;
-                    node = createCreatedChangedDataChangeEventElement(doc, yiid, normalizedNode, op,
-                            schemaContext, dataSchemaContextTree);
+                    events.write(yiid, op, normalizedNode);
                     break;
                 case DELETE:
                 case DISAPPEARED:
-                    node = createDataChangeEventElement(doc, yiid, Operation.DELETED);
+                    events.write(yiid, Operation.DELETED, null);
                     break;
                 case UNMODIFIED:
                 default:
                     break;
             }
-            if (node != null) {
-                dataChangedNotificationEventElement.appendChild(node);
-            }
         }
 
         for (DataTreeCandidateNode childNode : candidateNode.getChildNodes()) {
-            addNodeToDataChangeNotificationEventElement(doc, dataChangedNotificationEventElement, childNode,
-                                                                        yiid, schemaContext, dataSchemaContextTree);
+            addNodeToDataChangeNotificationEventElement(events, childNode, yiid, leafNodesOnly);
         }
     }
 
     /**
-     * Creates changed event element from data.
+     * Writes data change notification element without data element.
      *
-     * @param doc
-     *            {@link Document}
-     * @param dataPath
-     *            Path to data in data store.
-     * @param operation
-     *            {@link Operation}
-     * @return {@link Node} node represented by changed event element.
-     */
-    private Node createDataChangeEventElement(final Document doc, final YangInstanceIdentifier dataPath,
-            final Operation operation) {
-        final Element dataChangeEventElement = doc.createElement(DATA_CHANGE_EVENT);
-        final Element pathElement = doc.createElement(PATH);
-        addPathAsValueToElement(dataPath, pathElement);
-        dataChangeEventElement.appendChild(pathElement);
-
-        final Element operationElement = doc.createElement(OPERATION);
-        operationElement.setTextContent(operation.value);
-        dataChangeEventElement.appendChild(operationElement);
-
-        return dataChangeEventElement;
-    }
-
-    /**
-     * Creates data change notification element without data element.
-     *
-     * @param doc
-     *       {@link Document}
-     * @param dataChangedNotificationEventElement
-     *       {@link Element}
+     * @param events
+     *       {@link DataChangeEventWriter}
      * @param candidateNode
      *       {@link DataTreeCandidateNode}
      */
-    private void createCreatedChangedDataChangeEventElementWithoutData(final Document doc,
-            final Element dataChangedNotificationEventElement, final DataTreeCandidateNode candidateNode) {
+    private void createCreatedChangedDataChangeEventElementWithoutData(final DataChangeEventWriter events,
+            final DataTreeCandidateNode candidateNode) throws IOException, XMLStreamException {
         final Operation operation;
         switch (candidateNode.getModificationType()) {
             case APPEARED:
@@ -309,56 +408,118 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
             default:
                 return;
         }
-        Node dataChangeEventElement = createDataChangeEventElement(doc, getPath(), operation);
-        dataChangedNotificationEventElement.appendChild(dataChangeEventElement);
-
+        events.write(getPath(), operation, null);
     }
 
-    private Node createCreatedChangedDataChangeEventElement(final Document doc,
-            final YangInstanceIdentifier eventPath, final NormalizedNode normalized, final Operation operation,
-            final EffectiveModelContext schemaContext, final DataSchemaContextTree dataSchemaContextTree) {
-        final Element dataChangeEventElement = doc.createElement(DATA_CHANGE_EVENT);
-        final Element pathElement = doc.createElement(PATH);
-        addPathAsValueToElement(eventPath, pathElement);
-        dataChangeEventElement.appendChild(pathElement);
-
-        final Element operationElement = doc.createElement(OPERATION);
-        operationElement.setTextContent(operation.value);
-        dataChangeEventElement.appendChild(operationElement);
-
-        final SchemaInferenceStack stack = dataSchemaContextTree.enterPath(eventPath).orElseThrow().stack();
-        if (!(normalized instanceof MapEntryNode) && !(normalized instanceof UnkeyedListEntryNode)
-            && !stack.isEmpty()) {
-            stack.exit();
+    /**
+     * Writes data change event element.
+     *
+     * @param writer
+     *            {@link XMLStreamWriter} positioned in data changed notification event element
+     * @param dataSchemaContextTree
+     *            {@link DataSchemaContextTree} of the global schema
+     * @param eventPath
+     *            Path to data in data store.
+     * @param operation
+     *            {@link Operation}
+     * @param normalized
+     *            changed data, or null if the event is written without data
+     */
+    private void writeXmlEvent(final XMLStreamWriter writer, final DataSchemaContextTree dataSchemaContextTree,
+            final YangInstanceIdentifier eventPath, final Operation operation,
+            final @Nullable NormalizedNode normalized) throws IOException, XMLStreamException {
+        writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, DATA_CHANGE_EVENT, SAL_REMOTE_NAMESPACE);
+        writeTextElement(writer, SAL_REMOTE_NAMESPACE, PATH, pathToString(eventPath));
+        writeTextElement(writer, SAL_REMOTE_NAMESPACE, OPERATION, operation.value);
+
+        if (normalized != null) {
+            final SchemaInferenceStack stack = dataSchemaContextTree.enterPath(eventPath).orElseThrow().stack();
+            if (!(normalized instanceof MapEntryNode) && !(normalized instanceof UnkeyedListEntryNode)
+                && !stack.isEmpty()) {
+                stack.exit();
+            }
+
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, DATA, SAL_REMOTE_NAMESPACE);
+            writeNormalizedNode(writer, normalized, stack.toInference());
+            writer.writeEndElement();
         }
 
-        final var inference = stack.toInference();
+        writer.writeEndElement();
+    }
 
-        try {
-            final DOMResult domResult = writeNormalizedNode(normalized, inference);
-            final Node result = doc.importNode(domResult.getNode().getFirstChild(), true);
-            final Element dataElement = doc.createElement("data");
-            dataElement.appendChild(result);
-            dataChangeEventElement.appendChild(dataElement);
-        } catch (final IOException e) {
-            LOG.error("Error in writer ", e);
-        } catch (final XMLStreamException e) {
-            LOG.error("Error processing stream", e);
+    /**
+     * Writes data change event object. Data are written as a member of the data object, hence list and leaf-list
+     * entries are written as single-element arrays.
+     *
+     * @param writer
+     *            {@link JsonWriter} positioned in the data change event array
+     * @param codecs
+     *            RFC7951 {@link JSONCodecFactory} of the global schema
+     * @param dataSchemaContextTree
+     *            {@link DataSchemaContextTree} of the global schema
+     * @param eventPath
+     *            Path to data in data store.
+     * @param operation
+     *            {@link Operation}
+     * @param normalized
+     *            changed data, or null if the event is written without data
+     */
+    private void writeJsonEvent(final JsonWriter writer, final JSONCodecFactory codecs,
+            final DataSchemaContextTree dataSchemaContextTree, final YangInstanceIdentifier eventPath,
+            final Operation operation, final @Nullable NormalizedNode normalized) throws IOException {
+        writer.beginObject()
+            .name(PATH).value(pathToString(eventPath))
+            .name(OPERATION).value(operation.value);
+
+        if (normalized != null) {
+            final SchemaInferenceStack stack = dataSchemaContextTree.enterPath(eventPath).orElseThrow().stack();
+            if (!stack.isEmpty()) {
+                stack.exit();
+            }
+
+            writer.name(DATA).beginObject();
+            // Only flush, closing the stream writer would close the underlying JSON writer, too
+            final NormalizedNodeWriter normalizedNodeWriter = NormalizedNodeWriter.forStreamWriter(
+                JSONNormalizedNodeStreamWriter.createNestedWriter(codecs, stack.toInference(), null, writer));
+            normalizedNodeWriter.write(wrapEntry(normalized));
+            normalizedNodeWriter.flush();
+            writer.endObject();
         }
 
-        return dataChangeEventElement;
+        writer.endObject();
     }
 
     /**
-     * Adds path as value to element.
+     * Wraps list and leaf-list entries in their parent node, so that they are written as members of the data object.
+     *
+     * @param normalized
+     *            changed data
+     * @return data, wrapped if necessary
+     */
+    @SuppressWarnings("unchecked")
+    private static NormalizedNode wrapEntry(final NormalizedNode normalized) {
+        final NodeIdentifier parentId = NodeIdentifier.create(normalized.getIdentifier().getNodeType());
+        if (normalized instanceof MapEntryNode) {
+            return Builders.mapBuilder().withNodeIdentifier(parentId).withChild((MapEntryNode) normalized).build();
+        } else if (normalized instanceof UnkeyedListEntryNode) {
+            return Builders.unkeyedListBuilder().withNodeIdentifier(parentId)
+                .withChild((UnkeyedListEntryNode) normalized).build();
+        } else if (normalized instanceof LeafSetEntryNode) {
+            return Builders.<Object>leafSetBuilder().withNodeIdentifier(parentId)
+                .withChild((LeafSetEntryNode<Object>) normalized).build();
+        }
+        return normalized;
+    }
+
+    /**
+     * Converts path to its textual representation.
      *
      * @param dataPath
      *            Path to data in data store.
-     * @param element
-     *            {@link Element}
+     * @return Path with module names as prefixes.
      */
     @SuppressWarnings("rawtypes")
-    private void addPathAsValueToElement(final YangInstanceIdentifier dataPath, final Element element) {
+    private String pathToString(final YangInstanceIdentifier dataPath) {
         final YangInstanceIdentifier normalizedPath = controllerContext.toXpathRepresentation(dataPath);
         final StringBuilder textContent = new StringBuilder();
 
@@ -367,13 +528,13 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
                 continue;
             }
             textContent.append("/");
-            writeIdentifierWithNamespacePrefix(element, textContent, pathArgument.getNodeType());
+            writeIdentifierWithNamespacePrefix(textContent, pathArgument.getNodeType());
             if (pathArgument instanceof NodeIdentifierWithPredicates) {
                 for (final Entry<QName, Object> entry : ((NodeIdentifierWithPredicates) pathArgument).entrySet()) {
                     final QName keyValue = entry.getKey();
                     final String predicateValue = String.valueOf(entry.getValue());
                     textContent.append("[");
-                    writeIdentifierWithNamespacePrefix(element, textContent, keyValue);
+                    writeIdentifierWithNamespacePrefix(textContent, keyValue);
                     textContent.append("='");
                     textContent.append(predicateValue);
                     textContent.append("'");
@@ -386,21 +547,18 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
                 textContent.append("]");
             }
         }
-        element.setTextContent(textContent.toString());
+        return textContent.toString();
     }
 
     /**
      * Writes identifier that consists of prefix and QName.
      *
-     * @param element
-     *            {@link Element}
      * @param textContent
      *            StringBuilder
      * @param qualifiedName
      *            QName
      */
-    private void writeIdentifierWithNamespacePrefix(final Element element, final StringBuilder textContent,
-            final QName qualifiedName) {
+    private void writeIdentifierWithNamespacePrefix(final StringBuilder textContent, final QName qualifiedName) {
         final Module module = controllerContext.getGlobalSchema().findModule(qualifiedName.getModule())
                 .get();
 
@@ -409,6 +567,88 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
         textContent.append(qualifiedName.getLocalName());
     }
 
+    /**
+     * Writer of a single data change event, in the form of the output type.
+     */
+    @FunctionalInterface
+    private interface DataChangeEventWriter {
+        void write(YangInstanceIdentifier eventPath, Operation operation, @Nullable NormalizedNode data)
+            throws IOException, XMLStreamException;
+    }
+
+    /**
+     * Source of data change events, replaying them into a {@link DataChangeEventWriter}.
+     */
+    @FunctionalInterface
+    private interface DataChangeEventSource {
+        void writeTo(DataChangeEventWriter events) throws IOException, XMLStreamException;
+    }
+
+    /**
+     * Data change events collected during a batching window. Events are kept in the order their paths have first
+     * changed, each path with its latest state and the operation accumulated over the window.
+     */
+    private static final class DataChangeBatch implements DataChangeEventWriter, DataChangeEventSource {
+        private final Map<YangInstanceIdentifier, PendingEvent> events = new LinkedHashMap<>();
+
+        @Override
+        public void write(final YangInstanceIdentifier eventPath, final Operation operation,
+                final @Nullable NormalizedNode data) {
+            final PendingEvent previous = events.get(eventPath);
+            if (previous == null) {
+                events.put(eventPath, new PendingEvent(operation, data));
+            } else if (previous.operation == Operation.CREATED && operation == Operation.DELETED) {
+                // Created and deleted within the window, there is nothing to report
+                events.remove(eventPath);
+            } else if (previous.operation == Operation.CREATED) {
+                events.put(eventPath, new PendingEvent(Operation.CREATED, data));
+            } else if (previous.operation == Operation.DELETED && operation != Operation.DELETED) {
+                events.put(eventPath, new PendingEvent(Operation.UPDATED, data));
+            } else {
+                events.put(eventPath, new PendingEvent(operation, data));
+            }
+        }
+
+        @Override
+        public void writeTo(final DataChangeEventWriter writer) throws IOException, XMLStreamException {
+            for (final Entry<YangInstanceIdentifier, PendingEvent> entry : events.entrySet()) {
+                writer.write(entry.getKey(), entry.getValue().operation, entry.getValue().data);
+            }
+        }
+
+        int size() {
+            return events.size();
+        }
+
+        boolean isEmpty() {
+            return events.isEmpty();
+        }
+    }
+
+    /**
+     * Batch of data change events of subscribers with the same batching, collected until it is sent.
+     */
+    private static final class PendingBatch {
+        final Map<Variant, DataChangeBatch> variants = new EnumMap<>(Variant.class);
+        final Batching batching;
+
+        @Nullable ScheduledFuture<?> flush;
+
+        PendingBatch(final Batching batching) {
+            this.batching = requireNonNull(batching);
+        }
+    }
+
+    private static final class PendingEvent {
+        final Operation operation;
+        final @Nullable NormalizedNode data;
+
+        PendingEvent(final Operation operation, final @Nullable NormalizedNode data) {
+            this.operation = operation;
+            this.data = data;
+        }
+    }
+
     /**
      * Consists of three types {@link Operation#CREATED},
      * {@link Operation#UPDATED} and {@link Operation#DELETED}.
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.NotificationDispatcherRuntimeMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of threads delivering events of all notification streams. Each stream gets its own {@link StreamExecutor},
+ * which runs the stream's events one at a time and in the order they have been posted, while streams are served
+ * concurrently by at most the configured number of threads. Idle threads are released, so that streams without any
+ * traffic do not hold any threads at all. A single timer thread sends batches of data change events once their time
+ * windows elapse, it is shut down along with the pool.
+ */
+public final class NotificationDispatcher extends AbstractMXBean implements NotificationDispatcherRuntimeMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final LongAdder streams = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+
+    private volatile ThreadPoolExecutor pool;
+    private volatile ScheduledThreadPoolExecutor timer;
+    private volatile int maxThreads = Runtime.getRuntime().availableProcessors();
+
+    public NotificationDispatcher() {
+        super("NotificationDispatcher", "restconf-connector", null);
+        pool = newPool(maxThreads);
+        timer = newTimer();
+    }
+
+    /**
+     * Set the maximum number of threads delivering events.
+     *
+     * @param threads Number of threads, 0 for the number of available processors
+     */
+    public synchronized void setThreads(final int threads) {
+        checkArgument(threads >= 0, "Invalid number of threads %s", threads);
+        final int newMax = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        final ThreadPoolExecutor current = pool;
+        // Keep core <= maximum at every step
+        if (newMax > current.getMaximumPoolSize()) {
+            current.setMaximumPoolSize(newMax);
+            current.setCorePoolSize(newMax);
+        } else {
+            current.setCorePoolSize(newMax);
+            current.setMaximumPoolSize(newMax);
+        }
+        maxThreads = newMax;
+    }
+
+    public synchronized void start() {
+        if (pool.isShutdown()) {
+            pool = newPool(maxThreads);
+        }
+        if (timer.isShutdown()) {
+            timer = newTimer();
+        }
+        registerMBean();
+    }
+
+    public synchronized void close() {
+        unregisterMBean();
+        // Batches pending at this point are still flushed once their windows elapse, so that their streams do not
+        // keep stale batches around
+        timer.shutdown();
+        final ThreadPoolExecutor current = pool;
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOG.warn("Notification dispatcher did not terminate in time");
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for notification dispatcher to terminate", e);
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Create an executor for the events of a single stream.
+     *
+     * @return A new executor
+     */
+    StreamExecutor newStreamExecutor() {
+        streams.increment();
+        return new StreamExecutor();
+    }
+
+    /**
+     * Schedule a task on the timer.
+     *
+     * @param task task to run
+     * @param delayMillis delay in milliseconds
+     * @return Future of the task, or null if the dispatcher is closed
+     */
+    @Nullable ScheduledFuture<?> schedule(final Runnable task, final long delayMillis) {
+        try {
+            return timer.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Notification dispatcher is closed, task {} is not scheduled", task, e);
+            return null;
+        }
+    }
+
+    @Override
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    @Override
+    public int getThreads() {
+        return pool.getPoolSize();
+    }
+
+    @Override
+    public int getActiveThreads() {
+        return pool.getActiveCount();
+    }
+
+    @Override
+    public long getStreams() {
+        return streams.sum();
+    }
+
+    @Override
+    public long getQueuedEvents() {
+        return queued.sum();
+    }
+
+    @Override
+    public long getDispatchedEvents() {
+        return dispatched.sum();
+    }
+
+    private static ThreadPoolExecutor newPool(final int threads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setNameFormat("restconf-notification-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ScheduledThreadPoolExecutor newTimer() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+            .setNameFormat("restconf-batch-timer-%d").setDaemon(true).build());
+        // Batches reaching their maximum size are sent right away, do not keep their cancelled tasks around
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Executor running the events of a single stream in order. Events executed after it has been closed are dropped,
+     * events queued before that are still delivered.
+     */
+    final class StreamExecutor implements Executor, AutoCloseable {
+        // Resolve the pool on each execution, so that streams survive a restart of the dispatcher
+        private final Executor sequential = MoreExecutors.newSequentialExecutor(command -> pool.execute(command));
+
+        private volatile boolean closed;
+
+        @Override
+        public void execute(final Runnable command) {
+            if (closed) {
+                LOG.debug("Dropping event of a closed stream");
+                return;
+            }
+            queued.increment();
+            try {
+                sequential.execute(() -> {
+                    queued.decrement();
+                    dispatched.increment();
+                    command.run();
+                });
+            } catch (RuntimeException e) {
+                queued.decrement();
+                throw e;
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                streams.decrement();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * XPath filter of notifications, as requested by the {@code filter} query parameter of a stream subscription. The
+ * expression is compiled once and evaluated against notifications written into a DOM document.
+ *
+ * <p>
+ * Prefixes used by the expression are resolved as names of YANG modules, {@code sal-remote:data-change-event} thus
+ * selects data change events. Expressions without any prefix are evaluated against elements stripped of their
+ * namespaces, so that they can select elements by their plain names.
+ */
+public final class NotificationFilter {
+    private final XPathExpression expression;
+    private final boolean qualified;
+
+    private NotificationFilter(final XPathExpression expression, final boolean qualified) {
+        this.expression = requireNonNull(expression);
+        this.qualified = qualified;
+    }
+
+    /**
+     * Compile a filter expression.
+     *
+     * @param expression XPath expression
+     * @param schemaContext Supplier of the model context used to resolve prefixes, invoked only if the expression
+     *                      uses any
+     * @return Compiled filter
+     * @throws RestconfDocumentedException if the expression is not valid
+     */
+    public static NotificationFilter compile(final String expression,
+            final Supplier<EffectiveModelContext> schemaContext) {
+        final ModuleNamespaceContext namespaceContext = new ModuleNamespaceContext(schemaContext);
+        final XPath xpath = XPathFactory.newInstance().newXPath();
+        xpath.setNamespaceContext(namespaceContext);
+        try {
+            // Prefixes are resolved while compiling, hence by now we know whether there were any
+            return new NotificationFilter(xpath.compile(expression), namespaceContext.used);
+        } catch (final XPathExpressionException e) {
+            throw new RestconfDocumentedException("Invalid filter " + expression, ErrorType.PROTOCOL,
+                ErrorTag.INVALID_VALUE, e);
+        }
+    }
+
+    /**
+     * Evaluate the filter against a notification. The document is modified if the filter does not use prefixes.
+     *
+     * @param notification Notification document
+     * @return true if the notification passes the filter
+     * @throws XPathExpressionException if the evaluation fails
+     */
+    public synchronized boolean test(final Document notification) throws XPathExpressionException {
+        if (!qualified) {
+            dropNamespaces(notification, notification.getDocumentElement());
+        }
+        return (Boolean) expression.evaluate(notification, XPathConstants.BOOLEAN);
+    }
+
+    /**
+     * Check whether the expression uses any prefix, in which case it is evaluated against qualified elements.
+     *
+     * @return true if the expression uses any prefix
+     */
+    boolean isQualified() {
+        return qualified;
+    }
+
+    private static void dropNamespaces(final Document document, final Element element) {
+        final Element renamed = element.getNamespaceURI() == null || element.getPrefix() != null ? element
+            : (Element) document.renameNode(element, null, element.getLocalName());
+        for (Node child = renamed.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                dropNamespaces(document, (Element) child);
+            }
+        }
+    }
+
+    /**
+     * Resolves prefixes as module names, remembering whether any prefix has been used.
+     */
+    private static final class ModuleNamespaceContext implements NamespaceContext {
+        private final Supplier<EffectiveModelContext> schemaContext;
+
+        boolean used;
+
+        ModuleNamespaceContext(final Supplier<EffectiveModelContext> schemaContext) {
+            this.schemaContext = requireNonNull(schemaContext);
+        }
+
+        @Override
+        public String getNamespaceURI(final String prefix) {
+            used = true;
+            if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+                return XMLConstants.XML_NS_URI;
+            }
+            final Iterator<? extends Module> modules = schemaContext.get().findModules(prefix).iterator();
+            return modules.hasNext() ? modules.next().getNamespace().toString() : XMLConstants.NULL_NS_URI;
+        }
+
+        @Override
+        public String getPrefix(final String namespaceURI) {
+            return null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(final String namespaceURI) {
+            return Collections.emptyIterator();
+        }
+    }
+}
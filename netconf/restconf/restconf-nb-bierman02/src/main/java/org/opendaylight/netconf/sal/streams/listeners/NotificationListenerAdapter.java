@@ -17,11 +17,12 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.time.Instant;
+import javax.xml.XMLConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.transform.dom.DOMResult;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Variant;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
@@ -33,15 +34,13 @@ import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absol
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
 /**
  * {@link NotificationListenerAdapter} is responsible to track events on notifications.
  */
 public final class NotificationListenerAdapter extends AbstractCommonSubscriber implements DOMNotificationListener {
     private static final Logger LOG = LoggerFactory.getLogger(NotificationListenerAdapter.class);
+    private static final String CREATE_NOTIFICATION_STREAM = "create-notification-stream";
 
     private final ControllerContext controllerContext;
     private final String streamName;
@@ -57,9 +56,17 @@ public final class NotificationListenerAdapter extends AbstractCommonSubscriber
      *             stream name of listener
      * @param outputType
      *             type of output on notification (JSON, XML)
+     * @param dispatcher
+     *             dispatcher delivering notifications
+     * @param replayBuffers
+     *             replay buffers notifications are recorded in
+     * @param journals
+     *             journals notifications are recorded in, if the stream is journaled
      */
     NotificationListenerAdapter(final Absolute path, final String streamName, final String outputType,
-            final ControllerContext controllerContext) {
+            final ControllerContext controllerContext, final NotificationDispatcher dispatcher,
+            final ReplayBuffers replayBuffers, final EventJournals journals) {
+        super(dispatcher, replayBuffers, journals);
         register(this);
         this.outputType = requireNonNull(outputType);
         this.path = requireNonNull(path);
@@ -80,16 +87,19 @@ public final class NotificationListenerAdapter extends AbstractCommonSubscriber
 
     @Override
     public void onNotification(final DOMNotification notification) {
-        final Instant now = Instant.now();
-        if (!checkStartStop(now, this)) {
-            return;
-        }
-
         final EffectiveModelContext schemaContext = controllerContext.getGlobalSchema();
-        final String xml = prepareXml(schemaContext, notification);
-        if (checkFilter(xml)) {
-            prepareAndPostData(outputType.equals("JSON") ? prepareJson(schemaContext, notification) : xml);
-        }
+        postEvent(Instant.now(), CREATE_NOTIFICATION_STREAM, new EncodedEvent.Source() {
+            @Override
+            public String encode(final Variant variant) {
+                return outputType.equals("JSON") ? prepareJson(schemaContext, notification)
+                    : prepareXml(schemaContext, notification);
+            }
+
+            @Override
+            public EventContentWriter content(final Variant variant) {
+                return notificationContent(schemaContext, notification);
+            }
+        });
     }
 
     /**
@@ -103,23 +113,32 @@ public final class NotificationListenerAdapter extends AbstractCommonSubscriber
     }
 
     /**
-     * Get schema path of notification.
+     * Get key of the replay buffer. Listeners of a stream share their subscribers, hence each keeps its own buffer.
      *
-     * @return {@link Absolute} SchemaNodeIdentifier
+     * @return {@link String}
      */
-    public Absolute getSchemaPath() {
-        return path;
+    @Override
+    public String getReplayKey() {
+        return streamName + path;
+    }
+
+    @Override
+    EffectiveModelContext getFilterSchemaContext() {
+        return controllerContext.getGlobalSchema();
+    }
+
+    @Override
+    boolean hasDataOptions() {
+        return false;
     }
 
     /**
-     * Prepare data of notification and data to client.
+     * Get schema path of notification.
      *
-     * @param data   data
+     * @return {@link Absolute} SchemaNodeIdentifier
      */
-    private void prepareAndPostData(final String data) {
-        final Event event = new Event(EventType.NOTIFY);
-        event.setData(data);
-        post(event);
+    public Absolute getSchemaPath() {
+        return path;
     }
 
     /**
@@ -152,30 +171,23 @@ public final class NotificationListenerAdapter extends AbstractCommonSubscriber
     }
 
     private String prepareXml(final EffectiveModelContext schemaContext, final DOMNotification notification) {
-        final Document doc = createDocument();
-        final Element notificationElement = basePartDoc(doc);
-
-        final Element notificationEventElement = doc.createElementNS(
-                "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote", "create-notification-stream");
-        addValuesToNotificationEventElement(doc, notificationEventElement, schemaContext, notification);
-        notificationElement.appendChild(notificationEventElement);
-
-        return transformDoc(doc);
-    }
-
-    private void addValuesToNotificationEventElement(final Document doc, final Element element,
-            final EffectiveModelContext schemaContext, final DOMNotification notification) {
         try {
-            final DOMResult domResult = writeNormalizedNode(notification.getBody(),
-                SchemaInferenceStack.of(schemaContext, path).toInference());
-            final Node result = doc.importNode(domResult.getNode().getFirstChild(), true);
-            final Element dataElement = doc.createElement("notification");
-            dataElement.appendChild(result);
-            element.appendChild(dataElement);
+            return writeNotification(CREATE_NOTIFICATION_STREAM, notificationContent(schemaContext, notification));
         } catch (final IOException e) {
             LOG.error("Error in writer ", e);
         } catch (final XMLStreamException e) {
             LOG.error("Error processing stream", e);
         }
+        return null;
+    }
+
+    private EventContentWriter notificationContent(final EffectiveModelContext schemaContext,
+            final DOMNotification notification) {
+        return writer -> {
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "notification", SAL_REMOTE_NAMESPACE);
+            writeNormalizedNode(writer, notification.getBody(),
+                SchemaInferenceStack.of(schemaContext, path).toInference());
+            writer.writeEndElement();
+        };
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Ring buffer of recently sent events of a single stream, bounded by the number of events, their total size and their
+ * age as configured in {@link ReplayBuffers}. Events are kept in their encoded form, sharing the content of the frames
+ * they have been sent in.
+ */
+final class ReplayBuffer {
+    private static final class BufferedEvent {
+        final Instant time;
+        final ByteBuf content;
+
+        BufferedEvent(final Instant time, final ByteBuf content) {
+            this.time = requireNonNull(time);
+            this.content = requireNonNull(content);
+        }
+    }
+
+    private final ArrayDeque<BufferedEvent> events = new ArrayDeque<>();
+    private final ReplayBuffers limits;
+
+    private long bytes;
+    private boolean closed;
+
+    ReplayBuffer(final ReplayBuffers limits) {
+        this.limits = requireNonNull(limits);
+    }
+
+    /**
+     * Add an event, evicting the oldest events as needed to stay within limits.
+     *
+     * @param time Time the event has been sent
+     * @param content Encoded event, not released by this method
+     * @return false if the buffer is closed and the event has not been added
+     */
+    synchronized boolean add(final Instant time, final ByteBuf content) {
+        if (closed) {
+            return false;
+        }
+        final ByteBuf retained = content.retainedDuplicate();
+        events.addLast(new BufferedEvent(time, retained));
+        bytes += retained.readableBytes();
+        trim(time);
+        return true;
+    }
+
+    /**
+     * Return events sent between the specified times, oldest first. The caller is responsible for releasing them.
+     *
+     * @param start Time of the first event of interest
+     * @param stop Time of the last event of interest, or null for all events since start
+     * @param now Current time
+     * @return Encoded events
+     */
+    synchronized List<ByteBuf> between(final Instant start, final @Nullable Instant stop, final Instant now) {
+        trim(now);
+        int count = 0;
+        for (final Iterator<BufferedEvent> it = events.descendingIterator(); it.hasNext(); count++) {
+            if (it.next().time.isBefore(start)) {
+                break;
+            }
+        }
+
+        final List<ByteBuf> ret = new ArrayList<>(count);
+        final Iterator<BufferedEvent> it = events.iterator();
+        for (int i = events.size() - count; i > 0; i--) {
+            it.next();
+        }
+        while (it.hasNext()) {
+            final BufferedEvent event = it.next();
+            if (stop != null && event.time.isAfter(stop)) {
+                break;
+            }
+            ret.add(event.content.retainedDuplicate());
+        }
+        return ret;
+    }
+
+    synchronized int size() {
+        return events.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Release events past their maximum age, and close the buffer if none are left.
+     *
+     * @param now Current time
+     * @return true if the buffer has been closed
+     */
+    synchronized boolean closeIfEmpty(final Instant now) {
+        trim(now);
+        if (events.isEmpty()) {
+            closed = true;
+        }
+        return closed;
+    }
+
+    /**
+     * Release all events. Events added afterwards are ignored.
+     */
+    synchronized void close() {
+        closed = true;
+        events.forEach(event -> event.content.release());
+        events.clear();
+        bytes = 0;
+    }
+
+    private void trim(final Instant now) {
+        final int maxEvents = limits.getMaxEvents();
+        final long maxBytes = limits.getMaxBytes();
+        final Instant oldest = now.minusMillis(limits.getMaxAgeMillis());
+        while (!events.isEmpty()
+                && (events.size() > maxEvents || bytes > maxBytes || events.peekFirst().time.isBefore(oldest))) {
+            final BufferedEvent evicted = events.removeFirst();
+            bytes -= evicted.content.readableBytes();
+            evicted.content.release();
+        }
+    }
+}
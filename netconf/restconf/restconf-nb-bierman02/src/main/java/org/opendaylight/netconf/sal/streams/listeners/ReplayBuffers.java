@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.buffer.ByteBuf;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Replay buffers of all streams, which allow subscribers with a {@code start-time} in the past to receive the events
+ * they have missed. Buffers are kept by the replay keys of the streams' listeners. A buffer is released once its
+ * stream is torn down by the {@link StreamRegistry} it is given to. Events past their maximum age are released
+ * periodically, even if their stream is idle, and buffers left empty are removed.
+ */
+public final class ReplayBuffers {
+    private static final long TRIM_INTERVAL_MILLIS = 10000;
+
+    static final int DEFAULT_MAX_EVENTS = 1024;
+    static final long DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+    static final long DEFAULT_MAX_AGE_MILLIS = 300000;
+
+    private final ConcurrentMap<String, ReplayBuffer> buffers = new ConcurrentHashMap<>();
+
+    private volatile int maxEvents = DEFAULT_MAX_EVENTS;
+    private volatile long maxBytes = DEFAULT_MAX_BYTES;
+    private volatile long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+    private ScheduledExecutorService trimmer;
+
+    public ReplayBuffers() {
+        // Configured through setters
+    }
+
+    /**
+     * Set the maximum number of events buffered for a single stream.
+     *
+     * @param maxEvents Number of events, 0 to disable replay
+     */
+    public void setMaxEvents(final int maxEvents) {
+        checkArgument(maxEvents >= 0, "Invalid maximum events %s", maxEvents);
+        this.maxEvents = maxEvents;
+        if (maxEvents == 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Set the maximum total size of events buffered for a single stream.
+     *
+     * @param maxBytes Number of bytes
+     */
+    public void setMaxBytes(final long maxBytes) {
+        checkArgument(maxBytes > 0, "Invalid maximum bytes %s", maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Set the maximum age of buffered events.
+     *
+     * @param maxAgeMillis Age in milliseconds
+     */
+    public void setMaxAgeMillis(final long maxAgeMillis) {
+        checkArgument(maxAgeMillis > 0, "Invalid maximum age %s", maxAgeMillis);
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    public synchronized void start() {
+        if (trimmer == null) {
+            trimmer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("restconf-replay-trimmer-%d").setDaemon(true).build());
+            trimmer.scheduleAtFixedRate(() -> trim(Instant.now()), TRIM_INTERVAL_MILLIS, TRIM_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void close() {
+        if (trimmer != null) {
+            trimmer.shutdownNow();
+            trimmer = null;
+        }
+        clear();
+    }
+
+    int getMaxEvents() {
+        return maxEvents;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    boolean isEnabled() {
+        return maxEvents != 0;
+    }
+
+    /**
+     * Return the replay buffer of a stream, creating it if it does not exist.
+     *
+     * @param streamKey Key of the stream
+     * @return Replay buffer, or null if replay is disabled
+     */
+    @Nullable ReplayBuffer bufferFor(final String streamKey) {
+        return maxEvents == 0 ? null : buffers.computeIfAbsent(streamKey, key -> new ReplayBuffer(this));
+    }
+
+    /**
+     * Return the replay buffer of a stream, if there is one.
+     *
+     * @param streamKey Key of the stream
+     * @return Replay buffer, or null if the stream has not buffered any events
+     */
+    @Nullable ReplayBuffer findBuffer(final String streamKey) {
+        return buffers.get(streamKey);
+    }
+
+    /**
+     * Add an event to the replay buffer of a stream, unless replay is disabled.
+     *
+     * @param streamKey Key of the stream
+     * @param time Time the event has been sent
+     * @param content Encoded event, not released by this method
+     */
+    void add(final String streamKey, final Instant time, final ByteBuf content) {
+        while (true) {
+            final ReplayBuffer buffer = bufferFor(streamKey);
+            if (buffer == null || buffer.add(time, content)) {
+                return;
+            }
+            // Closed meanwhile, as it has been left empty or its stream has been torn down
+            buffers.remove(streamKey, buffer);
+        }
+    }
+
+    /**
+     * Release and remove the replay buffer of a stream.
+     *
+     * @param streamKey Key of the stream
+     */
+    void remove(final String streamKey) {
+        final ReplayBuffer buffer = buffers.remove(streamKey);
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+
+    /**
+     * Release events past their maximum age and remove buffers left empty.
+     *
+     * @param now Current time
+     */
+    @VisibleForTesting
+    void trim(final Instant now) {
+        buffers.forEach((key, buffer) -> {
+            if (buffer.closeIfEmpty(now)) {
+                buffers.remove(key, buffer);
+            }
+        });
+    }
+
+    /**
+     * Release all buffered events.
+     */
+    void clear() {
+        buffers.values().forEach(ReplayBuffer::close);
+        buffers.clear();
+    }
+
+    @VisibleForTesting
+    int buffers() {
+        return buffers.size();
+    }
+}
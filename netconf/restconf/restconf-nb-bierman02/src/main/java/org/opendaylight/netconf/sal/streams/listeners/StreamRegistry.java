@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.Channel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.streams.sse.SseSubscriber;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of streams and their listeners, either a {@link ListenerAdapter} of a data change stream or
+ * {@link NotificationListenerAdapter}s of a notification stream. Streams are kept in a single map keyed by their
+ * names, as parsed from request URIs by {@link #createStreamNameFromUri(String)}, hence subscribers find the listeners
+ * of a stream by a single lookup, whatever its kind. A stream is created on its first request and is shared by later
+ * ones. Each subscriber holds a reference to the stream it has subscribed to, which is released once the subscriber
+ * disconnects. Once its last subscriber is gone, a data change stream is kept, still recording events into its replay
+ * buffers, for the maximum replay age configured in {@link ReplayBuffers}, so that subscribers reconnecting meanwhile
+ * can catch up on what they have missed. Data change streams idle for longer are torn down periodically, releasing
+ * their replay buffers, as are those whose last subscriber is gone while replay is disabled. Notification streams
+ * stay registered until they are removed. None of the operations takes a lock, a stream being torn down is replaced
+ * rather than waited for.
+ */
+@Singleton
+public final class StreamRegistry implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(StreamRegistry.class);
+    private static final long EXPIRY_INTERVAL_MILLIS = 10000;
+
+    private final ConcurrentMap<String, Stream> streams = new ConcurrentHashMap<>();
+    private final ReplayBuffers replayBuffers;
+    private final EventJournals journals;
+    private final NotificationDispatcher dispatcher;
+    private final boolean ownsDispatcher;
+
+    private ScheduledExecutorService expiry;
+
+    @Inject
+    public StreamRegistry(final ReplayBuffers replayBuffers, final EventJournals journals) {
+        this(replayBuffers, journals, new NotificationDispatcher(), true);
+    }
+
+    public StreamRegistry(final ReplayBuffers replayBuffers, final EventJournals journals,
+            final NotificationDispatcher dispatcher) {
+        this(replayBuffers, journals, dispatcher, false);
+    }
+
+    private StreamRegistry(final ReplayBuffers replayBuffers, final EventJournals journals,
+            final NotificationDispatcher dispatcher, final boolean ownsDispatcher) {
+        this.replayBuffers = requireNonNull(replayBuffers);
+        this.journals = requireNonNull(journals);
+        this.dispatcher = requireNonNull(dispatcher);
+        this.ownsDispatcher = ownsDispatcher;
+    }
+
+    /**
+     * Creates String representation of stream name from URI. Removes slash from URI in start and end position.
+     *
+     * @param uri
+     *            URI for creation stream name.
+     * @return String representation of stream name.
+     */
+    public static String createStreamNameFromUri(final String uri) {
+        if (uri == null) {
+            return null;
+        }
+        String result = uri;
+        if (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        if (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns names of all data change streams.
+     *
+     * @return Stream names
+     */
+    public Set<String> getStreamNames() {
+        final ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+        for (final Stream stream : streams.values()) {
+            if (stream.dataListener != null && !stream.isRetired()) {
+                builder.add(stream.name);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets {@link ListenerAdapter} of a data change stream.
+     *
+     * @param streamName
+     *            The name of the stream.
+     * @return {@link ListenerAdapter} of the stream, or null if there is no such data change stream
+     */
+    public @Nullable ListenerAdapter getListenerFor(final String streamName) {
+        final Stream stream = live(streamName);
+        return stream == null ? null : stream.dataListener;
+    }
+
+    /**
+     * Gets {@link NotificationListenerAdapter}s of a notification stream.
+     *
+     * @param streamName
+     *            The name of the stream.
+     * @return Listeners of the stream, empty if there is no such notification stream
+     */
+    public List<NotificationListenerAdapter> getNotificationListenerFor(final String streamName) {
+        final Stream stream = live(streamName);
+        return stream == null ? List.of() : stream.notificationListeners;
+    }
+
+    /**
+     * Gets the {@link ListenerAdapter} of a data change stream, creating the stream if it does not exist.
+     *
+     * @param path
+     *            Path to data in data repository.
+     * @param streamName
+     *            The name of the stream.
+     * @param outputType
+     *            Specific type of output for notifications - XML or JSON
+     * @param controllerContext
+     *            Controller context
+     * @return {@link ListenerAdapter} of the stream
+     * @throws IllegalStateException if a notification stream of the same name exists
+     */
+    public ListenerAdapter createListener(final YangInstanceIdentifier path, final String streamName,
+            final NotificationOutputType outputType, final ControllerContext controllerContext) {
+        final Stream stream = createOrGet(streamName,
+            () -> Stream.ofData(streamName, new ListenerAdapter(path, streamName, outputType, controllerContext,
+                dispatcher, replayBuffers, journals)));
+        checkState(stream.dataListener != null, "Stream %s is not a data change stream", streamName);
+        return stream.dataListener;
+    }
+
+    /**
+     * Gets {@link NotificationListenerAdapter}s of a notification stream, creating the stream with a listener for
+     * each of notifications if it does not exist.
+     *
+     * @param paths
+     *            paths of notifications
+     * @param streamName
+     *            name of stream (generated by paths)
+     * @param outputType
+     *            type of output for onNotification - XML or JSON
+     * @param controllerContext
+     *            Controller context
+     * @return Listeners of the stream
+     * @throws IllegalStateException if a data change stream of the same name exists
+     */
+    public List<NotificationListenerAdapter> createNotificationListener(final List<Absolute> paths,
+            final String streamName, final String outputType, final ControllerContext controllerContext) {
+        final Stream stream = createOrGet(streamName,
+            () -> Stream.ofNotifications(streamName, newNotificationListeners(paths, streamName, outputType,
+                controllerContext)));
+        checkState(stream.dataListener == null, "Stream %s is not a notification stream", streamName);
+        return stream.notificationListeners;
+    }
+
+    /**
+     * Subscribe a websocket channel to all listeners of a stream. The channel is unsubscribed once it is closed, until
+     * then it holds a reference to the stream.
+     *
+     * @param streamName
+     *            The name of the stream.
+     * @param subscriber
+     *            Channel of the subscriber
+     * @param query
+     *            decoded query parameters of the subscription
+     * @return True if the subscriber has been subscribed, false if there is no such stream
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    public boolean subscribe(final String streamName, final Channel subscriber,
+            final Map<String, List<String>> query) {
+        final Stream stream = acquire(streamName);
+        if (stream == null) {
+            return false;
+        }
+        subscriber.closeFuture().addListener(future -> {
+            for (final AbstractCommonSubscriber listener : stream.listeners()) {
+                listener.removeSubscriber(subscriber);
+            }
+            release(stream);
+        });
+        for (final AbstractCommonSubscriber listener : stream.listeners()) {
+            listener.addSubscriber(subscriber, query);
+        }
+        return true;
+    }
+
+    /**
+     * Subscribe a Server-Sent Events subscriber to all listeners of a stream. The subscriber holds a reference to the
+     * stream until it is closed.
+     *
+     * @param streamName
+     *            The name of the stream.
+     * @param subscriber
+     *            SseSubscriber
+     * @param query
+     *            decoded query parameters of the subscription
+     * @param lastEventId
+     *            id of the last event the subscriber has got, or null if it does not resume
+     * @return True if the subscriber has been subscribed, false if there is no such stream
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    public boolean subscribe(final String streamName, final SseSubscriber subscriber,
+            final Map<String, List<String>> query, final @Nullable Long lastEventId) {
+        final Stream stream = acquire(streamName);
+        if (stream == null) {
+            return false;
+        }
+        subscriber.addCloseListener(() -> release(stream));
+        for (final AbstractCommonSubscriber listener : stream.listeners()) {
+            listener.addSubscriber(subscriber, query, lastEventId);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all streams and closes their listeners.
+     */
+    public void removeAll() {
+        for (final Stream stream : streams.values()) {
+            if (stream.retire()) {
+                tearDown(stream);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (expiry != null) {
+                expiry.shutdownNow();
+                expiry = null;
+            }
+        }
+        removeAll();
+        if (ownsDispatcher) {
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * Replace a data change stream, without closing the listener it replaces.
+     */
+    ListenerAdapter putListener(final YangInstanceIdentifier path, final String streamName,
+            final NotificationOutputType outputType, final ControllerContext controllerContext) {
+        final ListenerAdapter listener = new ListenerAdapter(path, streamName, outputType, controllerContext,
+            dispatcher, replayBuffers, journals);
+        streams.put(streamName, Stream.ofData(streamName, listener));
+        return listener;
+    }
+
+    /**
+     * Replace a notification stream, without closing the listeners it replaces.
+     */
+    List<NotificationListenerAdapter> putNotificationListener(final List<Absolute> paths, final String streamName,
+            final String outputType, final ControllerContext controllerContext) {
+        final List<NotificationListenerAdapter> listeners =
+            newNotificationListeners(paths, streamName, outputType, controllerContext);
+        streams.put(streamName, Stream.ofNotifications(streamName, listeners));
+        return listeners;
+    }
+
+    /**
+     * Tear down the stream of a listener if the listener has no subscribers, regardless of references held to it.
+     */
+    void removeIfUnused(final BaseListenerInterface listener) {
+        if (listener.hasSubscribers()) {
+            return;
+        }
+        final Stream stream = streams.get(listener.getStreamName());
+        if (stream != null && stream.listeners().contains(listener) && stream.retire()) {
+            tearDown(stream);
+        }
+    }
+
+    /**
+     * Acquire a reference to a stream, which is not being torn down.
+     */
+    @Nullable Stream acquire(final String streamName) {
+        while (true) {
+            final Stream stream = streams.get(streamName);
+            if (stream == null || stream.acquire()) {
+                return stream;
+            }
+            // Help removing a stream being torn down, a new one may be created meanwhile
+            streams.remove(streamName, stream);
+        }
+    }
+
+    /**
+     * Release a reference to a stream. If it has been the last one, a data change stream is kept for the maximum replay
+     * age, or torn down right away if replay is disabled.
+     */
+    void release(final Stream stream) {
+        if (!stream.release(Instant.now()) || stream.dataListener == null) {
+            return;
+        }
+        if (replayBuffers.isEnabled()) {
+            LOG.debug("Last subscriber of stream {} is gone, keeping it for replay", stream.name);
+            startExpiry();
+        } else if (stream.retireIfIdle()) {
+            LOG.debug("Last subscriber of stream {} is gone, removing it", stream.name);
+            tearDown(stream);
+        }
+    }
+
+    /**
+     * Tear down data change streams which have had no subscribers for longer than the maximum replay age.
+     *
+     * @param now Current time
+     */
+    @VisibleForTesting
+    void expireIdle(final Instant now) {
+        final Instant oldest = now.minusMillis(replayBuffers.getMaxAgeMillis());
+        for (final Stream stream : streams.values()) {
+            final Instant idleSince = stream.idleSince();
+            if (stream.dataListener != null && idleSince != null && idleSince.isBefore(oldest)
+                    && stream.retireIfIdle()) {
+                LOG.debug("Stream {} has been idle since {}, removing it", stream.name, idleSince);
+                tearDown(stream);
+            }
+        }
+    }
+
+    private synchronized void startExpiry() {
+        if (expiry == null) {
+            expiry = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("restconf-stream-expiry-%d").setDaemon(true).build());
+            expiry.scheduleAtFixedRate(() -> expireIdle(Instant.now()), EXPIRY_INTERVAL_MILLIS,
+                EXPIRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private @Nullable Stream live(final String streamName) {
+        final Stream stream = streams.get(streamName);
+        return stream == null || stream.isRetired() ? null : stream;
+    }
+
+    private Stream createOrGet(final String streamName, final Supplier<Stream> factory) {
+        return streams.compute(streamName,
+            (name, existing) -> existing == null || existing.isRetired() ? factory.get() : existing);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void tearDown(final Stream stream) {
+        streams.remove(stream.name, stream);
+        for (final AbstractCommonSubscriber listener : stream.listeners()) {
+            try {
+                listener.close();
+            } catch (final Exception e) {
+                LOG.error("Failed to close listener", e);
+            }
+            final String replayKey = listener.getReplayKey();
+            if (replayKey != null) {
+                replayBuffers.remove(replayKey);
+            }
+        }
+    }
+
+    private List<NotificationListenerAdapter> newNotificationListeners(final List<Absolute> paths,
+            final String streamName, final String outputType, final ControllerContext controllerContext) {
+        final List<NotificationListenerAdapter> listeners = new ArrayList<>(paths.size());
+        for (final Absolute path : paths) {
+            listeners.add(new NotificationListenerAdapter(path, streamName, outputType, controllerContext,
+                dispatcher, replayBuffers, journals));
+        }
+        return List.copyOf(listeners);
+    }
+
+    /**
+     * A stream with its listeners and the number of references held to it by its subscribers.
+     */
+    static final class Stream {
+        // References once the stream is torn down
+        private static final int RETIRED = -1;
+
+        private final AtomicInteger references = new AtomicInteger();
+        private final String name;
+        // Time the last reference has been released at, null while references are held
+        private volatile Instant idleSince;
+        private final @Nullable ListenerAdapter dataListener;
+        private final List<NotificationListenerAdapter> notificationListeners;
+
+        private Stream(final String name, final @Nullable ListenerAdapter dataListener,
+                final List<NotificationListenerAdapter> notificationListeners) {
+            this.name = requireNonNull(name);
+            this.dataListener = dataListener;
+            this.notificationListeners = requireNonNull(notificationListeners);
+        }
+
+        static Stream ofData(final String name, final ListenerAdapter listener) {
+            return new Stream(name, requireNonNull(listener), List.of());
+        }
+
+        static Stream ofNotifications(final String name, final List<NotificationListenerAdapter> listeners) {
+            return new Stream(name, null, listeners);
+        }
+
+        List<? extends AbstractCommonSubscriber> listeners() {
+            return dataListener != null ? List.of(dataListener) : notificationListeners;
+        }
+
+        boolean isRetired() {
+            return references.get() == RETIRED;
+        }
+
+        int references() {
+            return references.get();
+        }
+
+        @Nullable Instant idleSince() {
+            return idleSince;
+        }
+
+        /**
+         * Acquire a reference, unless the stream is torn down.
+         */
+        boolean acquire() {
+            int current;
+            do {
+                current = references.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            idleSince = null;
+            return true;
+        }
+
+        /**
+         * Release a reference. Returns true if it has been the last one, in which case the stream is idle since the
+         * specified time, until a reference is acquired again.
+         */
+        boolean release(final Instant now) {
+            int current;
+            do {
+                current = references.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current - 1));
+            if (current != 1) {
+                return false;
+            }
+            idleSince = now;
+            return true;
+        }
+
+        /**
+         * Retire the stream if no references are held to it. Returns true if the caller is to tear it down.
+         */
+        boolean retireIfIdle() {
+            return references.compareAndSet(0, RETIRED);
+        }
+
+        /**
+         * Retire the stream regardless of references held to it. Returns true if the caller is to tear it down.
+         */
+        boolean retire() {
+            return references.getAndSet(RETIRED) != RETIRED;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Query parameters of a single subscriber of a stream. They are attached to the subscriber's {@link Channel}, or kept
+ * alongside its Server-Sent Events connection, so that subscribers of the same stream do not overwrite each other's
+ * parameters. They travel from the subscription to the connection as the query of the stream's location.
+ */
+public final class SubscriberParams {
+    static final AttributeKey<SubscriberParams> KEY = AttributeKey.valueOf(SubscriberParams.class, "params");
+    static final SubscriberParams DEFAULT = new SubscriberParams(null, null, null, null, false, false, Batching.NONE);
+
+    private static final String START_TIME = "start-time";
+    private static final String STOP_TIME = "stop-time";
+    private static final String FILTER = "filter";
+    private static final String LEAF_NODES_ONLY = "odl-leaf-nodes-only";
+    private static final String SKIP_NOTIFICATION_DATA = "odl-skip-notification-data";
+    private static final String BATCH_WINDOW = "odl-batch-window";
+    private static final String BATCH_SIZE = "odl-batch-size";
+
+    /**
+     * Form of the encoded events a subscriber gets. Subscribers asking for the same variant share its encoding.
+     */
+    enum Variant {
+        /**
+         * Events with all changed data.
+         */
+        FULL,
+        /**
+         * Events with changed leaf nodes only.
+         */
+        LEAF_NODES_ONLY,
+        /**
+         * Events without changed data.
+         */
+        WITHOUT_DATA
+    }
+
+    /**
+     * Batching of data change events a subscriber asks for. Events are collected for a time window and sent together
+     * in a single notification, subscribers with the same batching share the batches.
+     */
+    static final class Batching {
+        /**
+         * Events are sent as they come.
+         */
+        static final Batching NONE = new Batching(0, 0);
+
+        private final long windowMillis;
+        private final int maxEvents;
+
+        private Batching(final long windowMillis, final int maxEvents) {
+            this.windowMillis = windowMillis;
+            this.maxEvents = maxEvents;
+        }
+
+        /**
+         * Return batching with the specified parameters.
+         *
+         * @param windowMillis length of the time window in milliseconds, 0 to send each change as it comes
+         * @param maxEvents maximum number of events in a single notification, 0 for no limit
+         * @return Batching
+         */
+        static Batching of(final long windowMillis, final int maxEvents) {
+            return windowMillis == 0 ? NONE : new Batching(windowMillis, maxEvents);
+        }
+
+        long getWindowMillis() {
+            return windowMillis;
+        }
+
+        int getMaxEvents() {
+            return maxEvents;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(windowMillis) * 31 + maxEvents;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Batching)) {
+                return false;
+            }
+            final Batching other = (Batching) obj;
+            return windowMillis == other.windowMillis && maxEvents == other.maxEvents;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("windowMillis", windowMillis).add("maxEvents", maxEvents)
+                .toString();
+        }
+    }
+
+    private final @Nullable Instant start;
+    private final @Nullable Instant stop;
+    private final @Nullable String filterExpression;
+    private final @Nullable NotificationFilter filter;
+    private final boolean leafNodesOnly;
+    private final boolean skipNotificationData;
+    private final Batching batching;
+
+    private SubscriberParams(final Instant start, final Instant stop, final String filterExpression,
+            final NotificationFilter filter, final boolean leafNodesOnly, final boolean skipNotificationData,
+            final Batching batching) {
+        this.start = start;
+        this.stop = stop;
+        this.filterExpression = filterExpression;
+        this.filter = filter;
+        this.leafNodesOnly = leafNodesOnly;
+        this.skipNotificationData = skipNotificationData;
+        this.batching = batching;
+    }
+
+    /**
+     * Create subscriber parameters.
+     *
+     * @param start start-time of getting notifications, or null to get notifications right away
+     * @param stop stop-time of getting notifications, or null to get them until unsubscribed
+     * @param filter expression selecting events of interest, or null to get all events
+     * @param leafNodesOnly if true, notifications will contain changes to leaf nodes only
+     * @param skipNotificationData if true, notifications will not contain changed data
+     * @param schemaContext supplier of the model context used to resolve prefixes of the filter
+     * @return Subscriber parameters
+     * @throws RestconfDocumentedException if the filter is not valid
+     */
+    static SubscriberParams of(final @Nullable Instant start, final @Nullable Instant stop,
+            final @Nullable String filter, final boolean leafNodesOnly, final boolean skipNotificationData,
+            final Supplier<EffectiveModelContext> schemaContext) {
+        return of(start, stop, filter, leafNodesOnly, skipNotificationData, Batching.NONE, schemaContext);
+    }
+
+    /**
+     * Create subscriber parameters of a subscriber asking for batched data change events.
+     *
+     * @param start start-time of getting notifications, or null to get notifications right away
+     * @param stop stop-time of getting notifications, or null to get them until unsubscribed
+     * @param filter expression selecting events of interest, or null to get all events
+     * @param leafNodesOnly if true, notifications will contain changes to leaf nodes only
+     * @param skipNotificationData if true, notifications will not contain changed data
+     * @param batching batching of data change events
+     * @param schemaContext supplier of the model context used to resolve prefixes of the filter
+     * @return Subscriber parameters
+     * @throws RestconfDocumentedException if the filter is not valid
+     */
+    static SubscriberParams of(final @Nullable Instant start, final @Nullable Instant stop,
+            final @Nullable String filter, final boolean leafNodesOnly, final boolean skipNotificationData,
+            final Batching batching, final Supplier<EffectiveModelContext> schemaContext) {
+        return new SubscriberParams(start, stop, filter,
+            filter == null ? null : NotificationFilter.compile(filter, schemaContext), leafNodesOnly,
+            skipNotificationData, requireNonNull(batching));
+    }
+
+    /**
+     * Parse subscriber parameters from the query of a stream location, as written by
+     * {@link #toQuery(Instant, Instant, String, boolean, boolean, long, int)}. Unknown parameters are ignored.
+     *
+     * @param query decoded query parameters
+     * @param schemaContext supplier of the model context used to resolve prefixes of the filter
+     * @param dataOptions whether the stream supports {@code odl-leaf-nodes-only}, {@code odl-skip-notification-data},
+     *                    {@code odl-batch-window} and {@code odl-batch-size}, which are ignored otherwise
+     * @return Subscriber parameters
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    static SubscriberParams fromQuery(final Map<String, List<String>> query,
+            final Supplier<EffectiveModelContext> schemaContext, final boolean dataOptions) {
+        return of(parseTime(query, START_TIME), parseTime(query, STOP_TIME), first(query, FILTER),
+            dataOptions && Boolean.parseBoolean(first(query, LEAF_NODES_ONLY)),
+            dataOptions && Boolean.parseBoolean(first(query, SKIP_NOTIFICATION_DATA)),
+            dataOptions ? Batching.of(parseNonNegative(query, BATCH_WINDOW),
+                (int) Math.min(parseNonNegative(query, BATCH_SIZE), Integer.MAX_VALUE)) : Batching.NONE,
+            schemaContext);
+    }
+
+    /**
+     * Write subscriber parameters as the query of a stream location.
+     *
+     * @param start start-time of getting notifications
+     * @param stop stop-time of getting notifications, or null
+     * @param filter filter expression, or null
+     * @param leafNodesOnly if true, notifications will contain changes to leaf nodes only
+     * @param skipNotificationData if true, notifications will not contain changed data
+     * @param batchWindow time window of batched data change events in milliseconds, 0 if events are not batched
+     * @param batchSize maximum number of batched data change events, 0 for no limit
+     * @return URL-encoded query, without the leading question mark
+     */
+    public static String toQuery(final Instant start, final @Nullable Instant stop, final @Nullable String filter,
+            final boolean leafNodesOnly, final boolean skipNotificationData, final long batchWindow,
+            final int batchSize) {
+        final StringJoiner query = new StringJoiner("&");
+        appendParam(query, START_TIME, start.toString());
+        if (stop != null) {
+            appendParam(query, STOP_TIME, stop.toString());
+        }
+        if (filter != null) {
+            appendParam(query, FILTER, filter);
+        }
+        if (leafNodesOnly) {
+            appendParam(query, LEAF_NODES_ONLY, "true");
+        }
+        if (skipNotificationData) {
+            appendParam(query, SKIP_NOTIFICATION_DATA, "true");
+        }
+        if (batchWindow != 0) {
+            appendParam(query, BATCH_WINDOW, Long.toString(batchWindow));
+            if (batchSize != 0) {
+                appendParam(query, BATCH_SIZE, Integer.toString(batchSize));
+            }
+        }
+        return query.toString();
+    }
+
+    /**
+     * Return parameters of a subscriber.
+     *
+     * @param subscriber subscriber channel
+     * @param defaults parameters used if the subscriber has none of its own
+     * @return Subscriber parameters
+     */
+    static SubscriberParams of(final Channel subscriber, final SubscriberParams defaults) {
+        final SubscriberParams params = subscriber.attr(KEY).get();
+        return params != null ? params : defaults;
+    }
+
+    /**
+     * Return these parameters with another start-time.
+     *
+     * @param newStart start-time of getting notifications
+     * @return Subscriber parameters
+     */
+    SubscriberParams withStart(final Instant newStart) {
+        return new SubscriberParams(newStart, stop, filterExpression, filter, leafNodesOnly, skipNotificationData,
+            batching);
+    }
+
+    @Nullable Instant getStart() {
+        return start;
+    }
+
+    @Nullable Instant getStop() {
+        return stop;
+    }
+
+    @Nullable NotificationFilter getFilter() {
+        return filter;
+    }
+
+    boolean isLeafNodesOnly() {
+        return leafNodesOnly;
+    }
+
+    boolean isSkipNotificationData() {
+        return skipNotificationData;
+    }
+
+    Batching getBatching() {
+        return batching;
+    }
+
+    /**
+     * Return the variant of encoded events this subscriber gets. Skipping data takes precedence over leaf nodes only.
+     *
+     * @return Variant of encoded events
+     */
+    Variant variant() {
+        return skipNotificationData ? Variant.WITHOUT_DATA : leafNodesOnly ? Variant.LEAF_NODES_ONLY : Variant.FULL;
+    }
+
+    /**
+     * Check whether events sent at the specified time fall between start-time and stop-time.
+     *
+     * @param now time the event is sent
+     * @return true if the event is of interest
+     */
+    boolean isActive(final Instant now) {
+        return (start == null || !start.isAfter(now)) && !isExpired(now);
+    }
+
+    /**
+     * Check whether stop-time has passed.
+     *
+     * @param now current time
+     * @return true if no more events are of interest
+     */
+    boolean isExpired(final Instant now) {
+        return stop != null && stop.isBefore(now);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues().add("start", start).add("stop", stop)
+            .add("filter", filterExpression).add("leafNodesOnly", leafNodesOnly)
+            .add("skipNotificationData", skipNotificationData)
+            .add("batching", batching == Batching.NONE ? null : batching).toString();
+    }
+
+    private static void appendParam(final StringJoiner query, final String name, final String value) {
+        query.add(name + '=' + URLEncoder.encode(value, StandardCharsets.UTF_8));
+    }
+
+    private static @Nullable String first(final Map<String, List<String>> query, final String name) {
+        final List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static long parseNonNegative(final Map<String, List<String>> query, final String name) {
+        final String value = first(query, name);
+        if (value == null) {
+            return 0;
+        }
+        final long parsed;
+        try {
+            parsed = Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            throw new RestconfDocumentedException("Cannot parse value of " + name + ": " + value, ErrorType.PROTOCOL,
+                ErrorTag.INVALID_VALUE, e);
+        }
+        if (parsed < 0) {
+            throw new RestconfDocumentedException("Value of " + name + " cannot be negative: " + value,
+                ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
+        }
+        return parsed;
+    }
+
+    private static @Nullable Instant parseTime(final Map<String, List<String>> query, final String name) {
+        final String value = first(query, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (final DateTimeParseException e) {
+            throw new RestconfDocumentedException("Cannot parse value of " + name + ": " + value, ErrorType.PROTOCOL,
+                ErrorTag.INVALID_VALUE, e);
+        }
+    }
+}
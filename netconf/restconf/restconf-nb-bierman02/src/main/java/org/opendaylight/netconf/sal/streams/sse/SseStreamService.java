@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.sse;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.UriInfo;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server-Sent Events transport of streams, served by the RESTCONF application alongside the websocket server, hence
+ * secured the same way as the rest of RESTCONF. Once a stream has been subscribed to, its events are delivered to
+ * {@code GET /streams/sse/<stream-name>?<query>}, where the stream name and the query are the path and the query of
+ * the location returned by the subscription. A subscriber reconnecting with the {@code Last-Event-ID} header gets
+ * the events recorded after that event, if the stream keeps any.
+ */
+@Path("/streams/sse")
+public final class SseStreamService {
+    public static final String SERVER_SENT_EVENTS = "text/event-stream";
+    public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SseStreamService.class);
+
+    private final SseSubscribers subscribers;
+    private final StreamRegistry streams;
+
+    public SseStreamService(final SseSubscribers subscribers, final StreamRegistry streams) {
+        this.subscribers = requireNonNull(subscribers);
+        this.streams = requireNonNull(streams);
+    }
+
+    /**
+     * Subscribe to events of a stream.
+     *
+     * @param identifier stream name
+     * @param lastEventId id of the last event got before reconnecting, or null
+     * @param uriInfo URI info carrying query parameters of the subscription
+     * @return Output events are written to until the subscriber disconnects or its stop-time passes
+     * @throws RestconfDocumentedException if the stream does not exist or any parameter is not valid
+     */
+    @GET
+    @Path("/{identifier:.+}")
+    @Produces(SERVER_SENT_EVENTS)
+    public ChunkedOutput<String> subscribe(@PathParam("identifier") final String identifier,
+            @HeaderParam(LAST_EVENT_ID) final String lastEventId, @Context final UriInfo uriInfo) {
+        final String streamName = StreamRegistry.createStreamNameFromUri(identifier);
+        final Long resumeAfter = parseLastEventId(lastEventId);
+        final Map<String, List<String>> query = uriInfo.getQueryParameters();
+
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+        final SseSubscriber subscriber = subscribers.newSubscriber(output, streamName);
+        try {
+            if (!streams.subscribe(streamName, subscriber, query, resumeAfter)) {
+                throw streamNotFound(streamName);
+            }
+        } catch (RestconfDocumentedException e) {
+            subscriber.close();
+            throw e;
+        }
+
+        LOG.debug("Subscriber {} successfully registered.", subscriber);
+        return output;
+    }
+
+    private static Long parseLastEventId(final String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId);
+        } catch (NumberFormatException e) {
+            throw new RestconfDocumentedException("Cannot parse value of " + LAST_EVENT_ID + ": " + lastEventId,
+                ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE, e);
+        }
+    }
+
+    private static RestconfDocumentedException streamNotFound(final String streamName) {
+        LOG.debug("Listener for stream with name '{}' was not found.", streamName);
+        return new RestconfDocumentedException("Stream was not found.", ErrorType.PROTOCOL, ErrorTag.UNKNOWN_ELEMENT);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.sse;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+import org.eclipse.jdt.annotation.Nullable;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscriber of one or more listeners of a stream, which gets events as Server-Sent Events over the response to its
+ * request. Events are queued and written by a single writer task at a time, which writes all events pending at the
+ * time as a single chunk, so that a burst of events is flushed once rather than once per event. Live events carry
+ * their id, from which the subscriber may resume after reconnecting, replayed events do not.
+ */
+public final class SseSubscriber {
+    private static final Logger LOG = LoggerFactory.getLogger(SseSubscriber.class);
+    private static final Pattern LINE_BREAK = Pattern.compile("\r\n|\r|\n");
+
+    private final List<Runnable> closeListeners = new CopyOnWriteArrayList<>();
+    private final Deque<String> queue = new ArrayDeque<>();
+    private final SseSubscribers subscribers;
+    private final ChunkedOutput<String> output;
+    private final Executor writers;
+    private final String description;
+    private final int maxQueuedEvents;
+    private final int maxBatchChars;
+
+    private Iterator<ByteBuf> replayed;
+    private boolean writing;
+    private volatile boolean closed;
+
+    SseSubscriber(final SseSubscribers subscribers, final ChunkedOutput<String> output, final Executor writers,
+            final String description, final int maxQueuedEvents, final int maxBatchChars) {
+        this.subscribers = requireNonNull(subscribers);
+        this.output = requireNonNull(output);
+        this.writers = requireNonNull(writers);
+        this.description = requireNonNull(description);
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.maxBatchChars = maxBatchChars;
+    }
+
+    /**
+     * Queue a live event. The oldest queued event is dropped if the queue is full.
+     *
+     * @param id Id of the event
+     * @param data Encoded event
+     */
+    public synchronized void send(final long id, final String data) {
+        if (closed) {
+            return;
+        }
+        if (queue.size() >= maxQueuedEvents) {
+            LOG.debug("Queue of subscriber {} is full, dropping its oldest event", description);
+            queue.poll();
+        }
+        queue.add(format(Long.toString(id), data));
+        scheduleWrite();
+    }
+
+    /**
+     * Replay events ahead of queued live events. Events are converted as they are written, and released once
+     * written or once the subscriber is closed.
+     *
+     * @param contents Replayed events
+     */
+    public synchronized void replay(final Iterator<ByteBuf> contents) {
+        if (closed || replayed != null) {
+            contents.forEachRemaining(ByteBuf::release);
+            return;
+        }
+        replayed = contents;
+        scheduleWrite();
+    }
+
+    /**
+     * Check whether this subscriber has been closed, either by the server or because it has disconnected.
+     *
+     * @return True if no more events are written to the subscriber
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Close the subscriber, dropping any queued events, and notify its close listeners.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            if (replayed != null) {
+                replayed.forEachRemaining(ByteBuf::release);
+                replayed = null;
+            }
+        }
+        subscribers.unregister(this);
+        try {
+            output.close();
+        } catch (IOException e) {
+            LOG.debug("Failed to close output of subscriber {}", description, e);
+        }
+        closeListeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Add a task run once this subscriber is closed.
+     *
+     * @param listener Task to run
+     */
+    public void addCloseListener(final Runnable listener) {
+        closeListeners.add(listener);
+    }
+
+    /**
+     * Format an event as a Server-Sent Events message. Each line of the event is sent as a separate data field.
+     *
+     * @param id Id of the event, or null if it has none
+     * @param data Encoded event
+     * @return Formatted message
+     */
+    static String format(final @Nullable String id, final String data) {
+        final StringBuilder sb = new StringBuilder(data.length() + 32);
+        if (id != null) {
+            sb.append("id: ").append(id).append('\n');
+        }
+        for (final String line : LINE_BREAK.split(data, -1)) {
+            sb.append("data: ").append(line).append('\n');
+        }
+        return sb.append('\n').toString();
+    }
+
+    private void scheduleWrite() {
+        if (writing) {
+            return;
+        }
+        writing = true;
+        try {
+            writers.execute(this::write);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Writers of subscriber {} are shut down", description, e);
+            writing = false;
+            close();
+        }
+    }
+
+    private void write() {
+        for (String chunk = nextChunk(); chunk != null; chunk = nextChunk()) {
+            try {
+                output.write(chunk);
+            } catch (IOException e) {
+                LOG.debug("Subscriber {} has disconnected", description, e);
+                close();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Take pending events up to the batch size. Ends the current writer task if there are none.
+     */
+    private synchronized @Nullable String nextChunk() {
+        final StringBuilder chunk = new StringBuilder();
+        while (!closed && chunk.length() < maxBatchChars) {
+            final String event = nextEvent();
+            if (event == null) {
+                break;
+            }
+            chunk.append(event);
+        }
+        if (closed || chunk.length() == 0) {
+            writing = false;
+            return null;
+        }
+        return chunk.toString();
+    }
+
+    private @Nullable String nextEvent() {
+        if (replayed != null) {
+            if (replayed.hasNext()) {
+                final ByteBuf content = replayed.next();
+                try {
+                    return format(null, content.toString(StandardCharsets.UTF_8));
+                } finally {
+                    content.release();
+                }
+            }
+            replayed = null;
+        }
+        return queue.poll();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.sse;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.glassfish.jersey.server.ChunkedOutput;
+
+/**
+ * Server-Sent Events subscribers of all streams. Each subscriber holds at most the configured number of events while
+ * its connection is being written to, and the events pending once a write completes are written and flushed as a
+ * single chunk of about the configured size. Writes are blocking, they run on a shared pool of threads, which are
+ * released once idle, so that neither the threads delivering events nor other subscribers wait for a slow subscriber.
+ */
+public final class SseSubscribers {
+    static final int DEFAULT_MAX_QUEUED_EVENTS = 1024;
+    static final int DEFAULT_MAX_BATCH_CHARS = 64 * 1024;
+
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong ids = new AtomicLong();
+    private final ExecutorService writers = Executors.newCachedThreadPool(
+        new ThreadFactoryBuilder().setNameFormat("restconf-sse-%d").setDaemon(true).build());
+
+    private volatile int maxQueuedEvents = DEFAULT_MAX_QUEUED_EVENTS;
+    private volatile int maxBatchChars = DEFAULT_MAX_BATCH_CHARS;
+
+    public SseSubscribers() {
+        // Configured through setters
+    }
+
+    /**
+     * Set the maximum number of events queued for a single subscriber. The oldest events are dropped once exceeded.
+     *
+     * @param maxQueuedEvents Number of events
+     */
+    public void setMaxQueuedEvents(final int maxQueuedEvents) {
+        checkArgument(maxQueuedEvents > 0, "Invalid maximum queued events %s", maxQueuedEvents);
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    /**
+     * Set the size of the chunk above which no more pending events are added to it before it is flushed. A single
+     * event larger than this is still written as a whole.
+     *
+     * @param maxBatchChars Number of characters
+     */
+    public void setMaxBatchChars(final int maxBatchChars) {
+        checkArgument(maxBatchChars > 0, "Invalid maximum batch characters %s", maxBatchChars);
+        this.maxBatchChars = maxBatchChars;
+    }
+
+    public void close() {
+        subscribers.forEach(SseSubscriber::close);
+        writers.shutdown();
+    }
+
+    /**
+     * Create a subscriber writing events to an output.
+     *
+     * @param output Output of the subscriber's response
+     * @param streamName Name of the stream the subscriber subscribes to
+     * @return A new subscriber
+     */
+    SseSubscriber newSubscriber(final ChunkedOutput<String> output, final String streamName) {
+        final SseSubscriber subscriber = new SseSubscriber(this, output, writers,
+            "SSE subscriber " + ids.incrementAndGet() + " of " + streamName, maxQueuedEvents, maxBatchChars);
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    void unregister(final SseSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+}
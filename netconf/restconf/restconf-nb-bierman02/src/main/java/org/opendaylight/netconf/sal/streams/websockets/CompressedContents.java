@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Compressed forms of the contents of a single event, shared by all subscribers which have negotiated
+ * {@code permessage-deflate} with the same compression level. Instances are not thread-safe, they are used by the
+ * thread delivering the event, and release all compressed contents once closed.
+ */
+public final class CompressedContents implements AutoCloseable {
+    // Keyed by identity of the uncompressed content, then by compression level
+    private final Map<ByteBuf, Map<Integer, ByteBuf>> compressed = new IdentityHashMap<>();
+
+    /**
+     * Create a text frame of an event for a subscriber, compressed if the subscriber has negotiated
+     * {@code permessage-deflate}.
+     *
+     * @param subscriber Subscriber's channel
+     * @param content Content of the event, which is retained by the frame if it is sent uncompressed
+     * @return Text frame
+     */
+    public TextWebSocketFrame newFrame(final Channel subscriber, final ByteBuf content) {
+        final PerMessageDeflate deflate = subscriber.attr(PerMessageDeflate.KEY).get();
+        if (deflate == null || !deflate.compresses(content)) {
+            return new TextWebSocketFrame(content.retainedDuplicate());
+        }
+        final ByteBuf compressedContent = compressed.computeIfAbsent(content, key -> new HashMap<>())
+            .computeIfAbsent(deflate.compressionLevel(), level -> PerMessageDeflate.compress(content, level));
+        return new TextWebSocketFrame(true, WebSocketExtension.RSV1, compressedContent.retainedDuplicate());
+    }
+
+    @Override
+    public void close() {
+        compressed.values().forEach(byLevel -> byLevel.values().forEach(ByteBuf::release));
+        compressed.clear();
+    }
+}
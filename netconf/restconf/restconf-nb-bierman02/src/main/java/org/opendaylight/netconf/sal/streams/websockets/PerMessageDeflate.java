@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionDecoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.netty.util.AttributeKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * The {@code permessage-deflate} extension (RFC 7692) of websocket subscribers. The extension is negotiated by Netty,
+ * but the server always answers with {@code server_no_context_takeover}, so that each message is compressed on its
+ * own. The compressed form of a message then depends only on the compression level, hence it is computed once and
+ * shared by all subscribers getting the message, see {@link CompressedContents}. Frames which have not been compressed
+ * up front are compressed by the channel's encoder, messages smaller than the minimum frame size are sent as they are.
+ */
+final class PerMessageDeflate implements WebSocketServerExtensionHandshaker {
+    static final AttributeKey<PerMessageDeflate> KEY = AttributeKey.valueOf(PerMessageDeflate.class, "deflate");
+
+    private static final String SERVER_NO_CONTEXT = "server_no_context_takeover";
+    // Trailer of a sync flush, which is not sent
+    private static final int TRAILER_LENGTH = 4;
+    private static final int MAX_WINDOW_SIZE = 15;
+
+    private final PerMessageDeflateServerExtensionHandshaker delegate;
+    private final int compressionLevel;
+    private final int minFrameSize;
+
+    PerMessageDeflate(final int compressionLevel, final int minFrameSize) {
+        // Deflater always uses the maximum window size, hence clients cannot ask the server to use a smaller one
+        this.delegate = new PerMessageDeflateServerExtensionHandshaker(compressionLevel, false, MAX_WINDOW_SIZE, true,
+            false);
+        this.compressionLevel = compressionLevel;
+        this.minFrameSize = minFrameSize;
+    }
+
+    @Override
+    public WebSocketServerExtension handshakeExtension(final WebSocketExtensionData extensionData) {
+        final WebSocketServerExtension extension = delegate.handshakeExtension(extensionData);
+        return extension == null ? null : new Extension(extension);
+    }
+
+    int compressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Check whether content of a message is large enough to be compressed.
+     *
+     * @param content Content of the message
+     * @return True if the message is sent compressed
+     */
+    boolean compresses(final ByteBuf content) {
+        return content.readableBytes() >= minFrameSize;
+    }
+
+    /**
+     * Compress content of a message on its own, as described in RFC 7692 section 7.2.1.
+     *
+     * @param content Content of the message, which is not consumed
+     * @param compressionLevel Compression level
+     * @return Compressed content
+     */
+    static ByteBuf compress(final ByteBuf content, final int compressionLevel) {
+        final byte[] input = ByteBufUtil.getBytes(content);
+        final Deflater deflater = new Deflater(compressionLevel, true);
+        try {
+            deflater.setInput(input);
+            final byte[] buffer = new byte[Math.max(64, input.length / 2)];
+            final ByteBuf output = Unpooled.buffer(buffer.length);
+            int written;
+            do {
+                written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                output.writeBytes(buffer, 0, written);
+            } while (written == buffer.length);
+            output.writerIndex(output.writerIndex() - TRAILER_LENGTH);
+            return output;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private final class Extension implements WebSocketServerExtension {
+        private final WebSocketServerExtension delegate;
+
+        Extension(final WebSocketServerExtension delegate) {
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        public int rsv() {
+            return delegate.rsv();
+        }
+
+        @Override
+        public WebSocketExtensionEncoder newExtensionEncoder() {
+            return new Encoder();
+        }
+
+        @Override
+        public WebSocketExtensionDecoder newExtensionDecoder() {
+            return delegate.newExtensionDecoder();
+        }
+
+        @Override
+        public WebSocketExtensionData newReponseData() {
+            final WebSocketExtensionData data = delegate.newReponseData();
+            if (data.parameters().containsKey(SERVER_NO_CONTEXT)) {
+                return data;
+            }
+            final Map<String, String> parameters = new HashMap<>(data.parameters());
+            parameters.put(SERVER_NO_CONTEXT, null);
+            return new WebSocketExtensionData(data.name(), parameters);
+        }
+    }
+
+    /**
+     * Encoder compressing whole messages which have not been compressed up front. It marks the channel as one getting
+     * compressed messages while it is in the pipeline.
+     */
+    private final class Encoder extends MessageToMessageEncoder<WebSocketFrame> implements WebSocketExtensionEncoder {
+        @Override
+        public void handlerAdded(final ChannelHandlerContext ctx) {
+            ctx.channel().attr(KEY).set(PerMessageDeflate.this);
+        }
+
+        @Override
+        public void handlerRemoved(final ChannelHandlerContext ctx) {
+            ctx.channel().attr(KEY).set(null);
+        }
+
+        @Override
+        public boolean acceptOutboundMessage(final Object msg) throws Exception {
+            if (!(msg instanceof TextWebSocketFrame) && !(msg instanceof BinaryWebSocketFrame)) {
+                return false;
+            }
+            final WebSocketFrame frame = (WebSocketFrame) msg;
+            return frame.isFinalFragment() && (frame.rsv() & WebSocketExtension.RSV1) == 0
+                && compresses(frame.content());
+        }
+
+        @Override
+        protected void encode(final ChannelHandlerContext ctx, final WebSocketFrame msg, final List<Object> out) {
+            final ByteBuf compressed = compress(msg.content(), compressionLevel);
+            final int rsv = msg.rsv() | WebSocketExtension.RSV1;
+            out.add(msg instanceof TextWebSocketFrame ? new TextWebSocketFrame(true, rsv, compressed)
+                : new BinaryWebSocketFrame(true, rsv, compressed));
+        }
+    }
+}
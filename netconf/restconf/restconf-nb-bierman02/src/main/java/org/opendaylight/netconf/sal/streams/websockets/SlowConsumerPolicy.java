@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+/**
+ * Policy applied to a subscriber whose queue of pending events overflows, because the subscriber does not keep up
+ * with the events of its streams.
+ */
+public enum SlowConsumerPolicy {
+    /**
+     * Drop the oldest pending event.
+     */
+    DROP_OLDEST("drop-oldest"),
+    /**
+     * Drop all pending events but the most recent one.
+     */
+    COALESCE("coalesce"),
+    /**
+     * Drop all pending events and close the subscriber's connection.
+     */
+    DISCONNECT("disconnect");
+
+    private final String value;
+
+    SlowConsumerPolicy(final String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Return the policy with the specified value.
+     *
+     * @param value Policy value, such as {@code drop-oldest}
+     * @return Policy
+     * @throws IllegalArgumentException if there is no such policy
+     */
+    public static SlowConsumerPolicy forValue(final String value) {
+        for (final SlowConsumerPolicy policy : values()) {
+            if (policy.value.equals(value)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown slow consumer policy " + value);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.Iterators;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.AttributeKey;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.WebSocketSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of events pending for a single subscriber. Events are written straight through as long as the
+ * subscriber's channel is writable, i.e. its outbound buffer is below the high water mark. Once it is not, events are
+ * queued until the buffer drains below the low water mark. If the queue overflows, the {@link SlowConsumerPolicy} is
+ * applied. All methods but statistics are invoked on the channel's event loop.
+ *
+ * <p>
+ * Replayed events take precedence: while a replay is in progress, it is written as fast as the channel allows and live
+ * events are queued behind it, subject to the same policy.
+ */
+final class SubscriberQueue extends ChannelInboundHandlerAdapter {
+    private static final Logger LOG = LoggerFactory.getLogger(SubscriberQueue.class);
+
+    static final AttributeKey<SubscriberQueue> KEY = AttributeKey.valueOf(SubscriberQueue.class, "queue");
+
+    private final ArrayDeque<WebSocketFrame> frames = new ArrayDeque<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final SubscriberQueues owner;
+    private final SlowConsumerPolicy policy;
+    private final int maxQueuedEvents;
+
+    private volatile int queued;
+    private Channel channel;
+    private Iterator<? extends WebSocketFrame> replay;
+
+    SubscriberQueue(final SubscriberQueues owner, final SlowConsumerPolicy policy, final int maxQueuedEvents) {
+        this.owner = requireNonNull(owner);
+        this.policy = requireNonNull(policy);
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        channel = ctx.channel();
+        channel.attr(KEY).set(this);
+        owner.register(this);
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        channel.attr(KEY).set(null);
+        owner.unregister(this);
+        releaseAll();
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        releaseAll();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        drain();
+        super.channelWritabilityChanged(ctx);
+    }
+
+    /**
+     * Write an event, or queue it if the channel is not writable.
+     *
+     * @param frame Event frame
+     */
+    void offer(final WebSocketFrame frame) {
+        if (!channel.isActive()) {
+            frame.release();
+            return;
+        }
+        if (replay == null && frames.isEmpty() && channel.isWritable()) {
+            channel.writeAndFlush(frame);
+            sent.increment();
+            return;
+        }
+
+        frames.add(frame);
+        if (frames.size() > maxQueuedEvents) {
+            overflow();
+        }
+        queued = frames.size();
+    }
+
+    /**
+     * Replay events ahead of any queued live events. Replays requested while another one is in progress follow it.
+     *
+     * @param frames Replayed event frames, created as they are written
+     */
+    void replay(final Iterator<? extends WebSocketFrame> frames) {
+        if (!channel.isActive()) {
+            frames.forEachRemaining(WebSocketFrame::release);
+            return;
+        }
+        replay = replay == null ? frames : Iterators.concat(replay, frames);
+        drain();
+    }
+
+    WebSocketSubscriber toSubscriber() {
+        final WebSocketSubscriber ret = new WebSocketSubscriber();
+        final Channel current = channel;
+        ret.setRemoteAddress(current == null ? null : String.valueOf(current.remoteAddress()));
+        ret.setWritable(current != null && current.isWritable());
+        ret.setQueuedEvents(queued);
+        ret.setSentEvents(sent.sum());
+        ret.setDroppedEvents(dropped.sum());
+        return ret;
+    }
+
+    private void overflow() {
+        switch (policy) {
+            case DROP_OLDEST:
+                frames.poll().release();
+                dropped.increment();
+                break;
+            case COALESCE:
+                while (frames.size() > 1) {
+                    frames.poll().release();
+                    dropped.increment();
+                }
+                break;
+            case DISCONNECT:
+                LOG.warn("Subscriber {} does not keep up with {} pending events, disconnecting it",
+                    channel.remoteAddress(), frames.size());
+                owner.disconnected();
+                releaseAll();
+                channel.close();
+                break;
+            default:
+                throw new IllegalStateException("Unhandled policy " + policy);
+        }
+    }
+
+    private void drain() {
+        boolean written = false;
+        // Writing updates writability right away, hence we stop as soon as the high water mark is reached
+        while (channel.isWritable()) {
+            final WebSocketFrame frame;
+            if (replay != null) {
+                if (!replay.hasNext()) {
+                    replay = null;
+                    continue;
+                }
+                frame = replay.next();
+            } else {
+                frame = frames.poll();
+                if (frame == null) {
+                    break;
+                }
+            }
+            channel.write(frame);
+            sent.increment();
+            written = true;
+        }
+        if (written) {
+            channel.flush();
+        }
+        queued = frames.size();
+    }
+
+    private void releaseAll() {
+        if (replay != null) {
+            replay.forEachRemaining(WebSocketFrame::release);
+            replay = null;
+        }
+        dropped.add(frames.size());
+        frames.forEach(WebSocketFrame::release);
+        frames.clear();
+        queued = 0;
+    }
+}
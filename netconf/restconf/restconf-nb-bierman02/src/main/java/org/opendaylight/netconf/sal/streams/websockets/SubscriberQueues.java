@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import io.netty.channel.Channel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.SubscriberQueuesRuntimeMXBean;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.WebSocketSubscriber;
+
+/**
+ * Outbound queues of websocket subscribers. Each subscriber's channel is given the configured write buffer water
+ * marks and a {@link SubscriberQueue} holding at most the configured number of events while the channel is not
+ * writable, so that a slow subscriber neither grows the heap without bounds nor holds back other subscribers.
+ * A subscriber whose queue overflows is disconnected unless a dropping policy is configured, hence it never misses
+ * events without noticing and may catch up by replay once it reconnects.
+ */
+public final class SubscriberQueues extends AbstractMXBean implements SubscriberQueuesRuntimeMXBean {
+    static final int DEFAULT_MAX_QUEUED_EVENTS = 1024;
+    static final int DEFAULT_LOW_WATER_MARK = 32 * 1024;
+    static final int DEFAULT_HIGH_WATER_MARK = 64 * 1024;
+
+    private final Set<SubscriberQueue> queues = ConcurrentHashMap.newKeySet();
+    private final LongAdder disconnected = new LongAdder();
+
+    private volatile SlowConsumerPolicy policy = SlowConsumerPolicy.DISCONNECT;
+    private volatile int maxQueuedEvents = DEFAULT_MAX_QUEUED_EVENTS;
+    private volatile int lowWaterMark = DEFAULT_LOW_WATER_MARK;
+    private volatile int highWaterMark = DEFAULT_HIGH_WATER_MARK;
+
+    public SubscriberQueues() {
+        super("SubscriberQueues", "restconf-connector", null);
+    }
+
+    /**
+     * Set the policy applied to subscribers whose queue overflows.
+     *
+     * @param policy Policy value, one of {@code drop-oldest}, {@code coalesce} or {@code disconnect}
+     */
+    public void setSlowConsumerPolicy(final String policy) {
+        this.policy = SlowConsumerPolicy.forValue(policy);
+    }
+
+    /**
+     * Set the maximum number of events queued for a single subscriber.
+     *
+     * @param maxQueuedEvents Number of events
+     */
+    public void setMaxQueuedEvents(final int maxQueuedEvents) {
+        checkArgument(maxQueuedEvents > 0, "Invalid maximum queued events %s", maxQueuedEvents);
+        this.maxQueuedEvents = maxQueuedEvents;
+    }
+
+    /**
+     * Set the number of bytes pending in a subscriber's outbound buffer below which queued events are written again.
+     *
+     * @param lowWaterMark Number of bytes
+     */
+    public void setLowWaterMark(final int lowWaterMark) {
+        checkArgument(lowWaterMark >= 0, "Invalid low water mark %s", lowWaterMark);
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    /**
+     * Set the number of bytes pending in a subscriber's outbound buffer above which events are queued.
+     *
+     * @param highWaterMark Number of bytes
+     */
+    public void setHighWaterMark(final int highWaterMark) {
+        checkArgument(highWaterMark > 0, "Invalid high water mark %s", highWaterMark);
+        this.highWaterMark = highWaterMark;
+    }
+
+    public void start() {
+        checkState(lowWaterMark <= highWaterMark, "Low water mark %s exceeds high water mark %s", lowWaterMark,
+            highWaterMark);
+        registerMBean();
+    }
+
+    public void close() {
+        unregisterMBean();
+    }
+
+    /**
+     * Write an event to a subscriber, through its queue if it has one. Must be invoked on the channel's event loop.
+     *
+     * @param channel Subscriber's channel
+     * @param frame Event frame
+     */
+    public static void write(final Channel channel, final WebSocketFrame frame) {
+        final SubscriberQueue queue = channel.attr(SubscriberQueue.KEY).get();
+        if (queue != null) {
+            queue.offer(frame);
+        } else {
+            channel.writeAndFlush(frame);
+        }
+    }
+
+    /**
+     * Replay events to a subscriber ahead of live events, through its queue if it has one. Must be invoked on the
+     * channel's event loop.
+     *
+     * @param channel Subscriber's channel
+     * @param frames Replayed event frames, created as they are written
+     */
+    public static void replay(final Channel channel, final Iterator<? extends WebSocketFrame> frames) {
+        final SubscriberQueue queue = channel.attr(SubscriberQueue.KEY).get();
+        if (queue != null) {
+            queue.replay(frames);
+        } else {
+            frames.forEachRemaining(channel::write);
+            channel.flush();
+        }
+    }
+
+    WriteBufferWaterMark writeBufferWaterMark() {
+        return new WriteBufferWaterMark(lowWaterMark, highWaterMark);
+    }
+
+    SubscriberQueue newQueue() {
+        return new SubscriberQueue(this, policy, maxQueuedEvents);
+    }
+
+    void register(final SubscriberQueue queue) {
+        queues.add(queue);
+    }
+
+    void unregister(final SubscriberQueue queue) {
+        queues.remove(queue);
+    }
+
+    void disconnected() {
+        disconnected.increment();
+    }
+
+    @Override
+    public String getSlowConsumerPolicy() {
+        return policy.getValue();
+    }
+
+    @Override
+    public int getMaxQueuedEvents() {
+        return maxQueuedEvents;
+    }
+
+    @Override
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    @Override
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    @Override
+    public long getDisconnectedSubscribers() {
+        return disconnected.sum();
+    }
+
+    @Override
+    public List<WebSocketSubscriber> getSubscribers() {
+        final List<WebSocketSubscriber> ret = new ArrayList<>(queues.size());
+        for (SubscriberQueue queue : queues) {
+            ret.add(queue.toSubscriber());
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import java.util.zip.Deflater;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Compression of websocket subscribers' events. Subscribers which offer {@code permessage-deflate} get events of at
+ * least the configured size compressed at the configured level, see {@link PerMessageDeflate}.
+ */
+public final class WebSocketCompression {
+    static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    static final int DEFAULT_MIN_FRAME_SIZE = 256;
+
+    private volatile boolean enabled = true;
+    private volatile int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    private volatile int minFrameSize = DEFAULT_MIN_FRAME_SIZE;
+
+    public WebSocketCompression() {
+        // Configured through setters
+    }
+
+    /**
+     * Set whether {@code permessage-deflate} is negotiated with subscribers offering it.
+     *
+     * @param enabled True to negotiate compression
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Set the compression level of events.
+     *
+     * @param compressionLevel Compression level, 0 to 9
+     */
+    public void setCompressionLevel(final int compressionLevel) {
+        checkArgument(compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+            "Invalid compression level %s", compressionLevel);
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Set the size of events below which they are sent uncompressed.
+     *
+     * @param minFrameSize Number of bytes
+     */
+    public void setMinFrameSize(final int minFrameSize) {
+        checkArgument(minFrameSize >= 0, "Invalid minimum frame size %s", minFrameSize);
+        this.minFrameSize = minFrameSize;
+    }
+
+    /**
+     * Create the handler negotiating extensions of a new channel.
+     *
+     * @return Extension handler, or null if compression is disabled
+     */
+    @Nullable ChannelHandler newExtensionHandler() {
+        return enabled ? new WebSocketServerExtensionHandler(new PerMessageDeflate(compressionLevel, minFrameSize))
+            : null;
+    }
+}
@@ -12,17 +12,29 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * {@link WebSocketServer} is the singleton responsible for starting and stopping the
- * web socket server.
+ * web socket server. Its transport and threads are set by {@link WebSocketServerConfig}, subscribers find
+ * their streams in a {@link StreamRegistry}, are given outbound queues by {@link SubscriberQueues} and negotiate
+ * compression configured in {@link WebSocketCompression}.
  */
 public final class WebSocketServer implements Runnable {
 
@@ -34,33 +46,59 @@ public final class WebSocketServer implements Runnable {
 
     private final String address;
     private final int port;
+    private final WebSocketServerConfig config;
+    private final StreamRegistry streams;
+    private final SubscriberQueues subscriberQueues;
+    private final WebSocketCompression compression;
 
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
 
 
-    private WebSocketServer(final String address, final int port) {
+    private WebSocketServer(final String address, final int port, final WebSocketServerConfig config,
+            final StreamRegistry streams, final SubscriberQueues subscriberQueues,
+            final WebSocketCompression compression) {
         this.address = address;
         this.port = port;
+        this.config = config;
+        this.streams = streams;
+        this.subscriberQueues = subscriberQueues;
+        this.compression = compression;
     }
 
     /**
      * Create singleton instance of {@link WebSocketServer}.
      *
      * @param port TCP port used for this server
+     * @param streams registry of streams subscribers subscribe to
      * @return instance of {@link WebSocketServer}
      */
-    private static WebSocketServer createInstance(final int port) {
-        instance = createInstance(DEFAULT_ADDRESS, port);
-        return instance;
+    private static WebSocketServer createInstance(final int port, final StreamRegistry streams) {
+        return createInstance(DEFAULT_ADDRESS, port, WebSocketServerConfig.DEFAULT, streams, new SubscriberQueues(),
+            new WebSocketCompression());
     }
 
-    public static WebSocketServer createInstance(final String address, final int port) {
+    /**
+     * Create singleton instance of {@link WebSocketServer}.
+     *
+     * @param address IP address used for this server
+     * @param port TCP port used for this server
+     * @param config transport and threads of this server
+     * @param streams registry of streams subscribers subscribe to
+     * @param subscriberQueues outbound queues of subscribers
+     * @param compression compression of subscribers' events
+     * @return instance of {@link WebSocketServer}
+     */
+    public static WebSocketServer createInstance(final String address, final int port,
+            final WebSocketServerConfig config, final StreamRegistry streams, final SubscriberQueues subscriberQueues,
+            final WebSocketCompression compression) {
         checkState(instance == null, "createInstance() has already been called");
         checkArgument(port >= 1024, "Privileged port (below 1024) is not allowed");
 
-        instance = new WebSocketServer(requireNonNull(address, "Address cannot be null."), port);
-        LOG.info("Created WebSocketServer on {}:{}", address, port);
+        instance = new WebSocketServer(requireNonNull(address, "Address cannot be null."), port,
+            requireNonNull(config), requireNonNull(streams), requireNonNull(subscriberQueues),
+            requireNonNull(compression));
+        LOG.info("Created WebSocketServer on {}:{} with {}", address, port, config);
         return instance;
     }
 
@@ -74,7 +112,7 @@ public final class WebSocketServer implements Runnable {
     }
 
     /**
-     * Get instance of {@link WebSocketServer} created by {@link #createInstance(int)}.
+     * Get instance of {@link WebSocketServer} created by {@link #createInstance(int, StreamRegistry)}.
      *
      * @return instance of {@link WebSocketServer}
      */
@@ -83,18 +121,20 @@ public final class WebSocketServer implements Runnable {
     }
 
     /**
-     * Get instance of {@link WebSocketServer} created by {@link #createInstance(int)}.
+     * Get instance of {@link WebSocketServer} created by {@link #createInstance(int, StreamRegistry)}.
      * If an instance doesnt exist create one with the provided fallback port.
      *
+     * @param fallbackPort TCP port of the instance created if none exists
+     * @param streams registry of streams subscribers of the created instance subscribe to
      * @return instance of {@link WebSocketServer}
      */
-    public static WebSocketServer getInstance(final int fallbackPort) {
+    public static WebSocketServer getInstance(final int fallbackPort, final StreamRegistry streams) {
         if (instance != null) {
             return instance;
         }
 
         LOG.warn("No instance for WebSocketServer found, creating one with a fallback port: {}", fallbackPort);
-        return createInstance(fallbackPort);
+        return createInstance(fallbackPort, streams);
     }
 
     /**
@@ -111,17 +151,41 @@ public final class WebSocketServer implements Runnable {
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void run() {
-        bossGroup = new NioEventLoopGroup();
-        workerGroup = new NioEventLoopGroup();
+        final boolean epoll = useEpoll(config.getTransport());
+        final ThreadFactory acceptFactory = new DefaultThreadFactory("websocket-accept");
+        final ThreadFactory workerFactory = new DefaultThreadFactory("websocket-worker");
+        if (epoll) {
+            bossGroup = new EpollEventLoopGroup(config.getAcceptThreads(), acceptFactory);
+            workerGroup = new EpollEventLoopGroup(config.getWorkerThreads(), workerFactory);
+        } else {
+            bossGroup = new NioEventLoopGroup(config.getAcceptThreads(), acceptFactory);
+            workerGroup = new NioEventLoopGroup(config.getWorkerThreads(), workerFactory);
+        }
         try {
             final ServerBootstrap serverBootstrap = new ServerBootstrap();
-            serverBootstrap.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class)
-                    .childHandler(new WebSocketServerInitializer());
-
-            final Channel channel = serverBootstrap.bind(address, port).sync().channel();
-            LOG.info("Web socket server started at address {}, port {}.", address, port);
-
-            channel.closeFuture().sync();
+            serverBootstrap.group(bossGroup, workerGroup)
+                    .channel(epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
+                    .childHandler(new WebSocketServerInitializer(subscriberQueues, compression, streams));
+            if (config.isPooledAllocator()) {
+                serverBootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+            }
+
+            // A NIO server socket is served by a single accept thread, while each epoll accept thread gets a socket of
+            // its own and the kernel spreads connections among them
+            final int sockets = epoll ? config.getAcceptThreads() : 1;
+            if (epoll) {
+                serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+            final List<Channel> channels = new ArrayList<>(sockets);
+            for (int i = 0; i < sockets; i++) {
+                channels.add(serverBootstrap.bind(address, port).sync().channel());
+            }
+            LOG.info("Web socket server started at address {}, port {}, using {} with {} listening sockets.", address,
+                port, epoll ? "epoll" : "NIO", sockets);
+
+            for (final Channel channel : channels) {
+                channel.closeFuture().sync();
+            }
         } catch (final InterruptedException e) {
             LOG.error("Web socket server encountered an error during startup attempt on port {}", port, e);
         } catch (Throwable throwable) {
@@ -133,12 +197,29 @@ public final class WebSocketServer implements Runnable {
         }
     }
 
+    private static boolean useEpoll(final WebSocketTransport transport) {
+        switch (transport) {
+            case AUTO:
+                return Epoll.isAvailable();
+            case EPOLL:
+                if (Epoll.isAvailable()) {
+                    return true;
+                }
+                LOG.warn("Native epoll transport is not available, falling back to NIO", Epoll.unavailabilityCause());
+                return false;
+            case NIO:
+                return false;
+            default:
+                throw new IllegalStateException("Unhandled transport " + transport);
+        }
+    }
+
     /**
      * Stops the web socket server and removes all listeners.
      */
     private void stop() {
         LOG.info("Stopping the web socket server instance on port {}", port);
-        Notificator.removeAllListeners();
+        streams.removeAll();
         if (bossGroup != null) {
             bossGroup.shutdownGracefully();
             bossGroup = null;
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Threading and transport of the {@link WebSocketServer}.
+ */
+public final class WebSocketServerConfig {
+    public static final WebSocketServerConfig DEFAULT = new WebSocketServerConfig(WebSocketTransport.AUTO, 1, 0, false);
+
+    private final WebSocketTransport transport;
+    private final int acceptThreads;
+    private final int workerThreads;
+    private final boolean pooledAllocator;
+
+    /**
+     * Create a configuration.
+     *
+     * @param transport Transport value, one of {@code auto}, {@code epoll} or {@code nio}
+     * @param acceptThreads Number of threads accepting connections. With native epoll each of them gets a listening
+     *                      socket of its own, sharing the port through {@code SO_REUSEPORT}.
+     * @param workerThreads Number of threads serving connections, 0 for Netty's default of twice the number of
+     *                      available processors
+     * @param pooledAllocator True to allocate buffers of connections from the pooled allocator, false for Netty's
+     *                        default allocator
+     */
+    public WebSocketServerConfig(final String transport, final int acceptThreads, final int workerThreads,
+            final boolean pooledAllocator) {
+        this(WebSocketTransport.forValue(transport), acceptThreads, workerThreads, pooledAllocator);
+    }
+
+    public WebSocketServerConfig(final WebSocketTransport transport, final int acceptThreads,
+            final int workerThreads, final boolean pooledAllocator) {
+        checkArgument(acceptThreads > 0, "Invalid number of accept threads %s", acceptThreads);
+        checkArgument(workerThreads >= 0, "Invalid number of worker threads %s", workerThreads);
+        this.transport = requireNonNull(transport);
+        this.acceptThreads = acceptThreads;
+        this.workerThreads = workerThreads;
+        this.pooledAllocator = pooledAllocator;
+    }
+
+    public WebSocketTransport getTransport() {
+        return transport;
+    }
+
+    public int getAcceptThreads() {
+        return acceptThreads;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public boolean isPooledAllocator() {
+        return pooledAllocator;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("transport", transport.getValue())
+            .add("acceptThreads", acceptThreads).add("workerThreads", workerThreads)
+            .add("pooledAllocator", pooledAllocator).toString();
+    }
+}
@@ -16,6 +16,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpUtil.isKeepAlive;
 import static io.netty.handler.codec.http.HttpUtil.setContentLength;
 import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static java.util.Objects.requireNonNull;
 
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -25,6 +26,7 @@ import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
@@ -33,10 +35,9 @@ import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 import io.netty.util.CharsetUtil;
 import java.util.List;
-import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
-import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.NotificationListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import java.util.Map;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,8 +48,14 @@ import org.slf4j.LoggerFactory;
 public class WebSocketServerHandler extends SimpleChannelInboundHandler<Object> {
     private static final Logger LOG = LoggerFactory.getLogger(WebSocketServerHandler.class);
 
+    private final StreamRegistry streams;
+
     private WebSocketServerHandshaker handshaker;
 
+    public WebSocketServerHandler(final StreamRegistry streams) {
+        this.streams = requireNonNull(streams);
+    }
+
     @Override
     protected void channelRead0(final ChannelHandlerContext ctx, final Object msg) {
         if (msg instanceof FullHttpRequest) {
@@ -77,33 +84,23 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler<Object>
             return;
         }
 
-        final String streamName = Notificator.createStreamNameFromUri(req.uri());
-        if (streamName.contains(RestconfImpl.DATA_SUBSCR)) {
-            final ListenerAdapter listener = Notificator.getListenerFor(streamName);
-            if (listener != null) {
-                listener.addSubscriber(ctx.channel());
-                LOG.debug("Subscriber successfully registered.");
-            } else {
-                LOG.error("Listener for stream with name '{}' was not found.", streamName);
-                sendHttpResponse(ctx, req, new DefaultFullHttpResponse(HTTP_1_1, INTERNAL_SERVER_ERROR));
-            }
-        } else if (streamName.contains(RestconfImpl.NOTIFICATION_STREAM)) {
-            final List<NotificationListenerAdapter> listeners = Notificator.getNotificationListenerFor(streamName);
-            if (listeners != null && !listeners.isEmpty()) {
-                for (final NotificationListenerAdapter listener : listeners) {
-                    listener.addSubscriber(ctx.channel());
-                    LOG.debug("Subscriber successfully registered.");
-                }
-            } else {
-                LOG.error("Listener for stream with name '{}' was not found.", streamName);
-                sendHttpResponse(ctx, req, new DefaultFullHttpResponse(HTTP_1_1, INTERNAL_SERVER_ERROR));
+        // The query carries parameters of the subscription, see SubscriberParams
+        final QueryStringDecoder uri = new QueryStringDecoder(req.uri());
+        final String streamName = StreamRegistry.createStreamNameFromUri(uri.path());
+        try {
+            if (!addSubscriber(ctx, req, streamName, uri.parameters())) {
+                return;
             }
+        } catch (RestconfDocumentedException e) {
+            LOG.debug("Subscriber {} has invalid parameters", ctx.channel().remoteAddress(), e);
+            sendHttpResponse(ctx, req, new DefaultFullHttpResponse(HTTP_1_1, BAD_REQUEST));
+            return;
         }
 
         // Handshake
         final WebSocketServerHandshakerFactory wsFactory =
                 new WebSocketServerHandshakerFactory(getWebSocketLocation(req),
-                null, false);
+                null, true);
         this.handshaker = wsFactory.newHandshaker(req);
         if (this.handshaker == null) {
             WebSocketServerHandshakerFactory.sendUnsupportedVersionResponse(ctx.channel());
@@ -112,6 +109,27 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler<Object>
         }
     }
 
+    /**
+     * Subscribes the channel to listeners of the stream, with query parameters of the subscription.
+     *
+     * @param ctx ChannelHandlerContext
+     * @param req HttpRequest
+     * @param streamName name of the stream
+     * @param params decoded query parameters
+     * @return True if the channel has been subscribed, false if the stream has not been found
+     * @throws RestconfDocumentedException if any parameter is not valid
+     */
+    private boolean addSubscriber(final ChannelHandlerContext ctx, final HttpRequest req, final String streamName,
+            final Map<String, List<String>> params) {
+        if (!streams.subscribe(streamName, ctx.channel(), params)) {
+            LOG.error("Listener for stream with name '{}' was not found.", streamName);
+            sendHttpResponse(ctx, req, new DefaultFullHttpResponse(HTTP_1_1, INTERNAL_SERVER_ERROR));
+            return false;
+        }
+        LOG.debug("Subscriber successfully registered.");
+        return true;
+    }
+
     /**
      * Checks response status, send response and close connection if necessary.
      *
@@ -143,24 +161,8 @@ public class WebSocketServerHandler extends SimpleChannelInboundHandler<Object>
      */
     private void handleWebSocketFrame(final ChannelHandlerContext ctx, final WebSocketFrame frame) {
         if (frame instanceof CloseWebSocketFrame) {
+            // The channel is unsubscribed from its stream once it is closed
             this.handshaker.close(ctx.channel(), (CloseWebSocketFrame) frame.retain());
-            final String streamName = Notificator.createStreamNameFromUri(((CloseWebSocketFrame) frame).reasonText());
-            if (streamName.contains(RestconfImpl.DATA_SUBSCR)) {
-                final ListenerAdapter listener = Notificator.getListenerFor(streamName);
-                if (listener != null) {
-                    listener.removeSubscriber(ctx.channel());
-                    LOG.debug("Subscriber successfully registered.");
-
-                    Notificator.removeListenerIfNoSubscriberExists(listener);
-                }
-            } else if (streamName.contains(RestconfImpl.NOTIFICATION_STREAM)) {
-                final List<NotificationListenerAdapter> listeners = Notificator.getNotificationListenerFor(streamName);
-                if (listeners != null && !listeners.isEmpty()) {
-                    for (final NotificationListenerAdapter listener : listeners) {
-                        listener.removeSubscriber(ctx.channel());
-                    }
-                }
-            }
             return;
         } else if (frame instanceof PingWebSocketFrame) {
             ctx.channel().writeAndFlush(new PongWebSocketFrame(frame.content().retain()));
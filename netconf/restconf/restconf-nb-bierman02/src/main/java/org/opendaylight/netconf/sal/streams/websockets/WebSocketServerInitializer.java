@@ -8,24 +8,46 @@
 
 package org.opendaylight.netconf.sal.streams.websockets;
 
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 
 /**
  * {@link WebSocketServerInitializer} is used to setup the {@link ChannelPipeline} of a {@link io.netty.channel.Channel}
- * .
+ * . Channels are given the write buffer water marks and the outbound queue configured in {@link SubscriberQueues},
+ * and negotiate compression configured in {@link WebSocketCompression}. Subscribers find their streams in
+ * a {@link StreamRegistry}.
  */
 public class WebSocketServerInitializer extends ChannelInitializer<SocketChannel> {
+    private final SubscriberQueues subscriberQueues;
+    private final WebSocketCompression compression;
+    private final StreamRegistry streams;
+
+    public WebSocketServerInitializer(final SubscriberQueues subscriberQueues,
+            final WebSocketCompression compression, final StreamRegistry streams) {
+        this.subscriberQueues = requireNonNull(subscriberQueues);
+        this.compression = requireNonNull(compression);
+        this.streams = requireNonNull(streams);
+    }
 
     @Override
     protected void initChannel(final SocketChannel ch) {
+        ch.config().setWriteBufferWaterMark(subscriberQueues.writeBufferWaterMark());
         ChannelPipeline pipeline = ch.pipeline();
         pipeline.addLast("codec-http", new HttpServerCodec());
         pipeline.addLast("aggregator", new HttpObjectAggregator(65536));
-        pipeline.addLast("handler", new WebSocketServerHandler());
+        final ChannelHandler extensions = compression.newExtensionHandler();
+        if (extensions != null) {
+            pipeline.addLast("extensions", extensions);
+        }
+        pipeline.addLast("subscriber-queue", subscriberQueues.newQueue());
+        pipeline.addLast("handler", new WebSocketServerHandler(streams));
     }
 
 }
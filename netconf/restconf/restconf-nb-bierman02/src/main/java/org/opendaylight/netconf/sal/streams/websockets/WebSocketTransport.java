@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+/**
+ * Netty transport of the {@link WebSocketServer}.
+ */
+public enum WebSocketTransport {
+    /**
+     * Native epoll if it is available, NIO otherwise.
+     */
+    AUTO("auto"),
+    /**
+     * Native epoll, falling back to NIO if it is not available.
+     */
+    EPOLL("epoll"),
+    /**
+     * NIO.
+     */
+    NIO("nio");
+
+    private final String value;
+
+    WebSocketTransport(final String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Return the transport with the specified value.
+     *
+     * @param value Transport value, such as {@code auto}
+     * @return Transport
+     * @throws IllegalArgumentException if there is no such transport
+     */
+    public static WebSocketTransport forValue(final String value) {
+        for (final WebSocketTransport transport : values()) {
+            if (transport.value.equals(value)) {
+                return transport;
+            }
+        }
+        throw new IllegalArgumentException("Unknown websocket transport " + value);
+    }
+}
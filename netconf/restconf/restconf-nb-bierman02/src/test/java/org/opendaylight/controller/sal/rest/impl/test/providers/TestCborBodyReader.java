@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.rest.impl.test.providers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import javax.ws.rs.core.MediaType;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.netconf.sal.rest.api.RestconfService;
+import org.opendaylight.netconf.sal.rest.impl.CborNormalizedNodeBodyReader;
+import org.opendaylight.netconf.sal.rest.impl.JsonNormalizedNodeBodyReader;
+import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeCborBodyWriter;
+import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class TestCborBodyReader extends AbstractBodyReaderTest {
+    private static final QName CONT = QName.create("cbor:types", "2026-10-19", "cont");
+
+    private final JsonNormalizedNodeBodyReader jsonBodyReader;
+    private final CborNormalizedNodeBodyReader cborBodyReader;
+    private final NormalizedNodeCborBodyWriter cborBodyWriter;
+    private static EffectiveModelContext schemaContext;
+
+    public TestCborBodyReader() {
+        super(schemaContext, null);
+        jsonBodyReader = new JsonNormalizedNodeBodyReader(controllerContext);
+        cborBodyReader = new CborNormalizedNodeBodyReader(controllerContext);
+        cborBodyWriter = new NormalizedNodeCborBodyWriter();
+    }
+
+    @Override
+    protected MediaType getMediaType() {
+        return MediaType.valueOf(RestconfService.YANG_DATA_CBOR);
+    }
+
+    @BeforeClass
+    public static void initialization() throws Exception {
+        final Collection<File> testFiles = TestRestconfUtils.loadFiles("/instanceidentifier/yang");
+        testFiles.addAll(TestRestconfUtils.loadFiles("/cbor/yang"));
+        schemaContext = YangParserTestUtils.parseYangFiles(testFiles);
+    }
+
+    @Test
+    public void moduleDataRoundTripTest() throws Exception {
+        assertRoundTrip("instance-identifier-module:cont", "/instanceidentifier/json/jsondata.json");
+    }
+
+    @Test
+    public void moduleSubContainerRoundTripTest() throws Exception {
+        assertRoundTrip("instance-identifier-module:cont/cont1", "/instanceidentifier/json/json_sub_container.json");
+    }
+
+    @Test
+    public void int64EncodingTest() throws Exception {
+        // Major type 1, -1 - 4999999999
+        assertEncoding("int64", -5000000000L, 0x3b, 0, 0, 0, 1, 0x2a, 0x05, 0xf1, 0xff);
+    }
+
+    @Test
+    public void uint64EncodingTest() throws Exception {
+        assertEncoding("uint64", Uint64.MAX_VALUE, 0x1b, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff);
+    }
+
+    @Test
+    public void decimal64EncodingTest() throws Exception {
+        // Decimal fraction [-2, 257], as in RFC 9254 section 6.3
+        final Object value = assertEncoding("decimal64", null, 0xc4, 0x82, 0x21, 0x19, 0x01, 0x01);
+        assertEquals("2.57", value.toString());
+    }
+
+    @Test
+    public void binaryEncodingTest() throws Exception {
+        final Object value = assertEncoding("binary", null, 0x43, 0x01, 0x02, 0x03);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) value);
+    }
+
+    @Test
+    public void emptyEncodingTest() throws Exception {
+        assertEncoding("empty", Empty.value(), 0xf6);
+    }
+
+    /**
+     * Read a container holding a single leaf, encoded as RFC 9254 specifies, and check it is written back the same.
+     *
+     * @return Value of the leaf
+     */
+    private Object assertEncoding(final String leaf, final Object expected, final int... value) throws Exception {
+        final ByteArrayOutputStream member = new ByteArrayOutputStream();
+        writeText(member, leaf);
+        for (final int b : value) {
+            member.write(b);
+        }
+        member.write(0xff);
+        member.write(0xff);
+
+        final ByteArrayOutputStream input = new ByteArrayOutputStream();
+        input.write(0xbf);
+        writeText(input, "cbor-types:cont");
+        input.write(0xbf);
+        member.writeTo(input);
+
+        mockBodyReader("cbor-types:cont", cborBodyReader, false);
+        final NormalizedNodeContext context = cborBodyReader.readFrom(null, null, null, mediaType, null,
+            new ByteArrayInputStream(input.toByteArray()));
+        checkNormalizedNodeContext(context);
+        final Object actual = ((LeafNode<?>) ((ContainerNode) context.getData())
+            .getChildByArg(new NodeIdentifier(QName.create(CONT, leaf)))).body();
+        if (expected != null) {
+            assertEquals(expected, actual);
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cborBodyWriter.writeTo(context, null, null, null, mediaType, null, output);
+        // The container may be written with or without its module name, its only member has to be the same
+        final byte[] written = output.toByteArray();
+        final byte[] expectedMember = member.toByteArray();
+        assertArrayEquals(expectedMember, Arrays.copyOfRange(written, written.length - expectedMember.length,
+            written.length));
+        return actual;
+    }
+
+    private static void writeText(final ByteArrayOutputStream out, final String text) {
+        // Short text strings only, the length fits the initial byte
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        out.write(0x60 | bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private void assertRoundTrip(final String uri, final String jsonPath) throws Exception {
+        mockBodyReader(uri, jsonBodyReader, false);
+        final InputStream inputStream = TestCborBodyReader.class.getResourceAsStream(jsonPath);
+        final NormalizedNodeContext jsonContext = jsonBodyReader.readFrom(null, null, null, mediaType, null,
+            inputStream);
+        checkNormalizedNodeContext(jsonContext);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cborBodyWriter.writeTo(jsonContext, null, null, null, mediaType, null, output);
+
+        mockBodyReader(uri, cborBodyReader, false);
+        final NormalizedNodeContext cborContext = cborBodyReader.readFrom(null, null, null, mediaType, null,
+            new ByteArrayInputStream(output.toByteArray()));
+        checkNormalizedNodeContext(cborContext);
+        assertEquals(jsonContext.getData(), cborContext.getData());
+    }
+}
@@ -8,15 +8,20 @@
 package org.opendaylight.controller.sal.rest.impl.test.providers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 
 import java.io.InputStream;
+import java.util.List;
 import javax.ws.rs.core.MediaType;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.opendaylight.netconf.sal.rest.impl.XmlToPatchBodyReader;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.patch.PatchContext;
+import org.opendaylight.restconf.common.patch.PatchEditOperation;
+import org.opendaylight.restconf.common.patch.PatchEntity;
 import org.opendaylight.yangtools.yang.common.ErrorTag;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
@@ -48,6 +53,32 @@ public class TestXmlPatchBodyReader extends AbstractBodyReaderTest {
             "/instanceidentifier/xml/xmlPATCHdata.xml");
         final PatchContext returnValue = xmlToPatchBodyReader.readFrom(null, null, null, mediaType, null, inputStream);
         checkPatchContext(returnValue);
+        checkEdits(returnValue, PatchEditOperation.CREATE, PatchEditOperation.CREATE);
+    }
+
+    /**
+     * Test of Yang Patch with edit children in other than the usual order, the value preceding the target and the
+     * operation, with prefixed Yang Patch elements. The result has to be the same as for the usual order.
+     */
+    @Test
+    public void moduleDataReorderedEditChildrenTest() throws Exception {
+        final String uri = "instance-identifier-patch-module:patch-cont/my-list1/leaf1";
+        mockBodyReader(uri, xmlToPatchBodyReader, false);
+        final PatchContext expected = xmlToPatchBodyReader.readFrom(null, null, null, mediaType, null,
+            TestXmlBodyReader.class.getResourceAsStream("/instanceidentifier/xml/xmlPATCHdata.xml"));
+        final PatchContext returnValue = xmlToPatchBodyReader.readFrom(null, null, null, mediaType, null,
+            TestXmlBodyReader.class.getResourceAsStream(
+                "/instanceidentifier/xml/xmlPATCHdataReorderedEditChildren.xml"));
+        checkPatchContext(returnValue);
+        checkEdits(returnValue, PatchEditOperation.CREATE, PatchEditOperation.CREATE);
+
+        assertEquals(expected.getPatchId(), returnValue.getPatchId());
+        for (int i = 0; i < expected.getData().size(); ++i) {
+            final PatchEntity expectedEdit = expected.getData().get(i);
+            final PatchEntity edit = returnValue.getData().get(i);
+            assertEquals(expectedEdit.getTargetNode(), edit.getTargetNode());
+            assertEquals(expectedEdit.getNode(), edit.getNode());
+        }
     }
 
     /**
@@ -93,6 +124,7 @@ public class TestXmlPatchBodyReader extends AbstractBodyReaderTest {
                 .getResourceAsStream("/instanceidentifier/xml/xmlPATCHdataAbsoluteTargetPath.xml");
         final PatchContext returnValue = xmlToPatchBodyReader.readFrom(null, null, null, mediaType, null, inputStream);
         checkPatchContext(returnValue);
+        checkEdits(returnValue, PatchEditOperation.CREATE, PatchEditOperation.CREATE);
     }
 
     /**
@@ -107,6 +139,7 @@ public class TestXmlPatchBodyReader extends AbstractBodyReaderTest {
         final PatchContext returnValue = xmlToPatchBodyReader
                 .readFrom(null, null, null, mediaType, null, inputStream);
         checkPatchContext(returnValue);
+        checkEdits(returnValue, PatchEditOperation.CREATE, PatchEditOperation.REPLACE);
     }
 
     /**
@@ -120,6 +153,7 @@ public class TestXmlPatchBodyReader extends AbstractBodyReaderTest {
                 .getResourceAsStream("/instanceidentifier/xml/xmlPATCHdataMergeOperationOnList.xml");
         final PatchContext returnValue = xmlToPatchBodyReader.readFrom(null, null, null, mediaType, null, inputStream);
         checkPatchContext(returnValue);
+        checkEdits(returnValue, PatchEditOperation.REPLACE, PatchEditOperation.MERGE);
     }
 
     /**
@@ -133,5 +167,23 @@ public class TestXmlPatchBodyReader extends AbstractBodyReaderTest {
                 .getResourceAsStream("/instanceidentifier/xml/xmlPATCHdataMergeOperationOnContainer.xml");
         final PatchContext returnValue = xmlToPatchBodyReader.readFrom(null, null, null, mediaType, null, inputStream);
         checkPatchContext(returnValue);
+        checkEdits(returnValue, PatchEditOperation.CREATE, PatchEditOperation.MERGE);
+    }
+
+    /**
+     * Check that edits have been read in document order with their operations and values, each edit having its own
+     * value.
+     */
+    private static void checkEdits(final PatchContext patchContext, final PatchEditOperation... operations) {
+        final List<PatchEntity> edits = patchContext.getData();
+        assertEquals(operations.length, edits.size());
+        for (int i = 0; i < operations.length; ++i) {
+            final PatchEntity edit = edits.get(i);
+            assertEquals("edit" + (i + 1), edit.getEditId());
+            assertEquals(operations[i], edit.getOperation());
+            assertNotNull(edit.getTargetNode());
+            assertNotNull(edit.getNode());
+        }
+        assertNotEquals(edits.get(0).getNode(), edits.get(1).getNode());
     }
 }
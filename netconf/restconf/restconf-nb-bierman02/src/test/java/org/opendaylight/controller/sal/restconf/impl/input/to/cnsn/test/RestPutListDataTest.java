@@ -32,6 +32,9 @@ import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.PutResult;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.restconf.common.errors.RestconfError;
@@ -72,7 +75,8 @@ public class RestPutListDataTest {
     public void initialize() throws FileNotFoundException {
         final ControllerContext controllerContext = TestRestconfUtils.newControllerContext(schemaContextTestModule);
         brokerFacade = mock(BrokerFacade.class);
-        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
+        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext,
+                new StreamRegistry(new ReplayBuffers(), new EventJournals()));
         final PutResult result = mock(PutResult.class);
         when(brokerFacade.commitConfigurationDataPut(any(EffectiveModelContext.class),
                 any(YangInstanceIdentifier.class), any(NormalizedNode.class), Mockito.anyString(), Mockito.anyString()))
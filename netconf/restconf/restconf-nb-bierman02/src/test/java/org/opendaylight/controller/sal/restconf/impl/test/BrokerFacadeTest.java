@@ -58,9 +58,11 @@ import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.PutResult;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
 import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
 import org.opendaylight.netconf.sal.streams.listeners.NotificationListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.ErrorTags;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
@@ -107,6 +109,7 @@ public class BrokerFacadeTest {
     @Mock
     private DOMDataTreeReadWriteTransaction rwTransaction;
 
+    private final StreamRegistry streams = new StreamRegistry(new ReplayBuffers(), new EventJournals());
     private BrokerFacade brokerFacade;
     private final NormalizedNode dummyNode = createDummyNode("test:module", "2014-01-09", "interfaces");
     private final FluentFuture<Optional<NormalizedNode>> dummyNodeInFuture = wrapDummyNode(dummyNode);
@@ -172,7 +175,7 @@ public class BrokerFacadeTest {
                 .when(readTransaction).read(any(LogicalDatastoreType.class), any(YangInstanceIdentifier.class));
 
         final RestconfDocumentedException ex = assertThrows(RestconfDocumentedException.class,
-            () -> brokerFacade.readConfigurationData(instanceID, "explicit"));
+            () -> brokerFacade.readConfigurationData(instanceID));
         final List<RestconfError> errors = ex.getErrors();
         assertEquals(1, errors.size());
         assertEquals("getErrorTag", ErrorTags.RESOURCE_DENIED_TRANSPORT, errors.get(0).getErrorTag());
@@ -298,7 +301,7 @@ public class BrokerFacadeTest {
 
     @Test
     public void testRegisterToListenDataChanges() {
-        final ListenerAdapter listener = Notificator.createListener(instanceID, "stream",
+        final ListenerAdapter listener = streams.putListener(instanceID, "stream",
                 NotificationOutputType.XML, controllerContext);
 
         @SuppressWarnings("unchecked")
@@ -307,16 +310,30 @@ public class BrokerFacadeTest {
         DOMDataTreeChangeService changeService = domDataBroker.getExtensions()
                 .getInstance(DOMDataTreeChangeService.class);
         DOMDataTreeIdentifier loc = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, instanceID);
-        when(changeService.registerDataTreeChangeListener(eq(loc), eq(listener))).thenReturn(mockRegistration);
+        doReturn(mockRegistration).when(changeService).registerDataTreeChangeListener(eq(loc), any());
 
         brokerFacade.registerToListenDataChanges(LogicalDatastoreType.CONFIGURATION, Scope.BASE, listener);
 
-        verify(changeService).registerDataTreeChangeListener(loc, listener);
+        verify(changeService).registerDataTreeChangeListener(eq(loc), any());
 
         assertEquals("isListening", true, listener.isListening());
 
         brokerFacade.registerToListenDataChanges(LogicalDatastoreType.CONFIGURATION, Scope.BASE, listener);
         verifyNoMoreInteractions(changeService);
+
+        // A stream of the same path shares its registration
+        final ListenerAdapter same = streams.putListener(instanceID, "same-stream", NotificationOutputType.XML,
+                controllerContext);
+        brokerFacade.registerToListenDataChanges(LogicalDatastoreType.CONFIGURATION, Scope.BASE, same);
+        assertTrue(same.isListening());
+        verifyNoMoreInteractions(changeService);
+
+        // A stream below it shares its registration as well
+        final ListenerAdapter child = streams.putListener(instanceID.node(QName.create(qname, "child")),
+                "child-stream", NotificationOutputType.XML, controllerContext);
+        brokerFacade.registerToListenDataChanges(LogicalDatastoreType.CONFIGURATION, Scope.BASE, child);
+        assertTrue(child.isListening());
+        verifyNoMoreInteractions(changeService);
     }
 
     /**
@@ -326,10 +343,10 @@ public class BrokerFacadeTest {
     public void testRegisterToListenNotificationChanges() throws Exception {
         // create test notification listener
         final String identifier = "create-notification-stream/toaster:toastDone";
-        Notificator.createNotificationListener(
+        streams.putNotificationListener(
             List.of(Absolute.of(QName.create("http://netconfcentral.org/ns/toaster", "2009-11-20", "toastDone"))),
             identifier, "XML", controllerContext);
-        final NotificationListenerAdapter listener = Notificator.getNotificationListenerFor(identifier).get(0);
+        final NotificationListenerAdapter listener = streams.getNotificationListenerFor(identifier).get(0);
 
         // mock registration
         final ListenerRegistration<NotificationListenerAdapter> registration = mock(ListenerRegistration.class);
@@ -351,7 +368,7 @@ public class BrokerFacadeTest {
         final DOMDataTreeWriteTransaction wTx = mock(DOMDataTreeWriteTransaction.class);
         // close and remove test notification listener
         listener.close();
-        Notificator.removeListenerIfNoSubscriberExists(listener);
+        streams.removeIfUnused(listener);
     }
 
     /**
@@ -391,6 +408,7 @@ public class BrokerFacadeTest {
             mock(DataSchemaNode.class), YangInstanceIdentifier.empty(), mountPoint))
                 .when(patchContext).getInstanceIdentifierContext();
 
+        when(mountPoint.getIdentifier()).thenReturn(YangInstanceIdentifier.empty());
         when(mountPoint.getService(DOMDataBroker.class)).thenReturn(Optional.of(mountDataBroker));
         when(mountPoint.getService(DOMSchemaService.class)).thenReturn(Optional.empty());
         when(mountDataBroker.newReadWriteTransaction()).thenReturn(transaction);
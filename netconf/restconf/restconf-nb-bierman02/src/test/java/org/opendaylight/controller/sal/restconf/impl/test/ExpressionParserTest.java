@@ -7,27 +7,14 @@
  */
 package org.opendaylight.controller.sal.restconf.impl.test;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.lang.reflect.Method;
-import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.util.Collection;
-import java.util.Optional;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mockito;
 import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
-import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
-import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
-import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.netconf.sal.streams.listeners.NotificationFilter;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
 
 public class ExpressionParserTest {
 
@@ -132,40 +119,9 @@ public class ExpressionParserTest {
                 xml = file;
             }
         }
-        final YangInstanceIdentifier path = Mockito.mock(YangInstanceIdentifier.class);
-        final PathArgument pathValue = NodeIdentifier.create(QName.create("module", "2016-12-14", "localName"));
-        Mockito.when(path.getLastPathArgument()).thenReturn(pathValue);
-        final ListenerAdapter listener = Notificator.createListener(path, "streamName", NotificationOutputType.JSON,
-                null);
-        listener.setQueryParams(Instant.now(), Optional.empty(), Optional.ofNullable(filter), false, false);
-
-        // FIXME: do not use reflection here
-        final Class<?> superclass = listener.getClass().getSuperclass().getSuperclass();
-        Method method = null;
-        for (final Method met : superclass.getDeclaredMethods()) {
-            if (met.getName().equals("parseFilterParam")) {
-                method = met;
-            }
-        }
-        if (method == null) {
-            throw new Exception("Methode parseFilterParam doesn't exist in " + superclass.getName());
-        }
-        method.setAccessible(true);
-        return (boolean) method.invoke(listener, readFile(xml));
+        final NotificationFilter notificationFilter = NotificationFilter.compile(filter, () -> {
+            throw new AssertionError("Filter " + filter + " should not resolve any prefix");
+        });
+        return notificationFilter.test(UntrustedXML.newDocumentBuilder().parse(xml));
     }
-
-    private static String readFile(final File xml) throws IOException {
-        try (BufferedReader br = new BufferedReader(new FileReader(xml, StandardCharsets.UTF_8))) {
-            final StringBuilder sb = new StringBuilder();
-            String line = br.readLine();
-
-            while (line != null) {
-                sb.append(line);
-                sb.append("\n");
-                line = br.readLine();
-            }
-            return sb.toString();
-        }
-    }
-
 }
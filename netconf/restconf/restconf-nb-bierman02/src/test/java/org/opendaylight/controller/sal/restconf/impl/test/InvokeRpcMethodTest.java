@@ -42,6 +42,9 @@ import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.ErrorTags;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
@@ -81,7 +84,8 @@ public class InvokeRpcMethodTest {
 
     public InvokeRpcMethodTest() {
         controllerContext = TestRestconfUtils.newControllerContext(schemaContext);
-        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
+        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext,
+                new StreamRegistry(new ReplayBuffers(), new EventJournals()));
     }
 
     @BeforeClass
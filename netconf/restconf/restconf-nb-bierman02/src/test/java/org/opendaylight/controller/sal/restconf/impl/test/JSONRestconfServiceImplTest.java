@@ -51,6 +51,9 @@ import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.JSONRestconfServiceImpl;
 import org.opendaylight.netconf.sal.restconf.impl.PutResult;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.patch.PatchContext;
 import org.opendaylight.restconf.common.patch.PatchStatusContext;
 import org.opendaylight.restconf.common.patch.PatchStatusEntity;
@@ -126,7 +129,8 @@ public class JSONRestconfServiceImplTest {
                 .getService(eq(DOMSchemaService.class));
 
         service = new JSONRestconfServiceImpl(controllerContext,
-                RestconfImpl.newInstance(brokerFacade, controllerContext));
+                RestconfImpl.newInstance(brokerFacade, controllerContext,
+                    new StreamRegistry(new ReplayBuffers(), new EventJournals())));
     }
 
     private static String loadData(final String path) throws IOException {
@@ -381,7 +385,7 @@ public class JSONRestconfServiceImplTest {
 
     @Test
     public void testGetWithNoData() throws OperationFailedException {
-        doReturn(null).when(brokerFacade).readConfigurationData(any(YangInstanceIdentifier.class), anyString());
+        doReturn(null).when(brokerFacade).readConfigurationData(any(YangInstanceIdentifier.class));
         final String uriPath = "ietf-interfaces:interfaces";
         service.get(uriPath, LogicalDatastoreType.CONFIGURATION);
     }
@@ -468,8 +472,7 @@ public class JSONRestconfServiceImplTest {
                 .build();
 
         if (datastoreType == LogicalDatastoreType.CONFIGURATION) {
-            doReturn(entryNode).when(brokerFacade).readConfigurationData(any(YangInstanceIdentifier.class),
-                    isNull());
+            doReturn(entryNode).when(brokerFacade).readConfigurationData(any(YangInstanceIdentifier.class));
         } else {
             doReturn(entryNode).when(brokerFacade).readOperationalData(any(YangInstanceIdentifier.class));
         }
@@ -489,7 +492,7 @@ public class JSONRestconfServiceImplTest {
         final ArgumentCaptor<YangInstanceIdentifier> capturedPath =
                 ArgumentCaptor.forClass(YangInstanceIdentifier.class);
         if (datastoreType == LogicalDatastoreType.CONFIGURATION) {
-            verify(brokerFacade).readConfigurationData(capturedPath.capture(), isNull());
+            verify(brokerFacade).readConfigurationData(capturedPath.capture());
         } else {
             verify(brokerFacade).readOperationalData(capturedPath.capture());
         }
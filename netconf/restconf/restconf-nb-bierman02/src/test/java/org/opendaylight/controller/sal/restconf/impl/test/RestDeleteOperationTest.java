@@ -34,6 +34,9 @@ import org.opendaylight.netconf.sal.rest.impl.XmlNormalizedNodeBodyReader;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -61,7 +64,8 @@ public class RestDeleteOperationTest extends JerseyTest {
         controllerContext = TestRestconfUtils.newControllerContext(schemaContext);
         controllerContext.setSchemas(schemaContext);
         brokerFacade = mock(BrokerFacade.class);
-        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
+        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext,
+                new StreamRegistry(new ReplayBuffers(), new EventJournals()));
 
         ResourceConfig resourceConfig = new ResourceConfig();
         resourceConfig = resourceConfig.registerInstances(restconfImpl, new NormalizedNodeJsonBodyWriter(),
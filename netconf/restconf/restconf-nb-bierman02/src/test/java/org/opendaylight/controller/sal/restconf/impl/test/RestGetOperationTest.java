@@ -15,7 +15,6 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +51,9 @@ import org.opendaylight.netconf.sal.rest.impl.XmlNormalizedNodeBodyReader;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -120,7 +122,8 @@ public class RestGetOperationTest extends JerseyTest {
         mountInstance = mock(DOMMountPoint.class);
         controllerContext = TestRestconfUtils.newControllerContext(schemaContextYangsIetf, mountInstance);
         brokerFacade = mock(BrokerFacade.class);
-        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
+        restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext,
+                new StreamRegistry(new ReplayBuffers(), new EventJournals()));
 
         ResourceConfig resourceConfig = new ResourceConfig();
         resourceConfig = resourceConfig.registerInstances(restconfImpl, new NormalizedNodeJsonBodyWriter(),
@@ -167,8 +170,8 @@ public class RestGetOperationTest extends JerseyTest {
      */
     @Test
     public void getDataWithUrlMountPoint() throws Exception {
-        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), any(YangInstanceIdentifier.class),
-                isNull())).thenReturn(prepareCnDataForMountPointTest(false));
+        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), any(YangInstanceIdentifier.class)))
+                .thenReturn(prepareCnDataForMountPointTest(false));
         when(mountInstance.getService(DOMSchemaService.class))
                 .thenReturn(Optional.of(FixedDOMSchemaService.of(schemaContextTestModule)));
 
@@ -190,8 +193,8 @@ public class RestGetOperationTest extends JerseyTest {
     @Test
     public void getDataWithSlashesBehindMountPoint() throws Exception {
         final YangInstanceIdentifier awaitedInstanceIdentifier = prepareInstanceIdentifierForList();
-        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), eq(awaitedInstanceIdentifier),
-                isNull())).thenReturn(prepareCnDataForSlashesBehindMountPointTest());
+        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), eq(awaitedInstanceIdentifier)))
+                .thenReturn(prepareCnDataForSlashesBehindMountPointTest());
         when(mountInstance.getService(DOMSchemaService.class))
                 .thenReturn(Optional.of(FixedDOMSchemaService.of(schemaContextTestModule)));
 
@@ -219,8 +222,8 @@ public class RestGetOperationTest extends JerseyTest {
 
     @Test
     public void getDataMountPointIntoHighestElement() throws Exception {
-        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), any(YangInstanceIdentifier.class),
-                isNull())).thenReturn(prepareCnDataForMountPointTest(true));
+        when(brokerFacade.readConfigurationData(any(DOMMountPoint.class), any(YangInstanceIdentifier.class)))
+                .thenReturn(prepareCnDataForMountPointTest(true));
         when(mountInstance.getService(DOMSchemaService.class))
                 .thenReturn(Optional.of(FixedDOMSchemaService.of(schemaContextTestModule)));
 
@@ -245,7 +248,7 @@ public class RestGetOperationTest extends JerseyTest {
                     .withChild(ImmutableNodes.leafNode(newTestModuleQName("type"), newTestModuleQName("test-identity")))
                     .withChild(ImmutableNodes.leafNode(newTestModuleQName("name"), "foo"))
                     .withChild(ImmutableNodes.leafNode(newTestModuleQName("data"), "bar")).build()).build();
-        when(brokerFacade.readConfigurationData(iid, null)).thenReturn(data);
+        when(brokerFacade.readConfigurationData(iid)).thenReturn(data);
 
         final String uri = "/config/test-module:modules/module/test-module:test-identity/foo";
         assertEquals(200, get(uri, MediaType.APPLICATION_XML));
@@ -601,8 +604,7 @@ public class RestGetOperationTest extends JerseyTest {
     }
 
     private void mockReadConfigurationDataMethod() {
-        when(brokerFacade.readConfigurationData(any(YangInstanceIdentifier.class), isNull()))
-                .thenReturn(answerFromGet);
+        when(brokerFacade.readConfigurationData(any(YangInstanceIdentifier.class))).thenReturn(answerFromGet);
     }
 
     private static NormalizedNode prepareCnDataForSlashesBehindMountPointTest() throws Exception {
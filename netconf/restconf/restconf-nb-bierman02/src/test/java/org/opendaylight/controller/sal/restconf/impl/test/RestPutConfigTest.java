@@ -26,6 +26,9 @@ import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.PutResult;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -53,7 +56,8 @@ public class RestPutConfigTest {
     @Before
     public void init() {
         controllerCx = TestRestconfUtils.newControllerContext(schemaContext);
-        restconfService = RestconfImpl.newInstance(brokerFacade, controllerCx);
+        restconfService = RestconfImpl.newInstance(brokerFacade, controllerCx,
+                new StreamRegistry(new ReplayBuffers(), new EventJournals()));
     }
 
     @Test
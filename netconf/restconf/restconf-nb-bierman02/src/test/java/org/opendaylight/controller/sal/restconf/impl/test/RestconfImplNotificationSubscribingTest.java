@@ -7,13 +7,13 @@
  */
 package org.opendaylight.controller.sal.restconf.impl.test;
 
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.FileNotFoundException;
-import java.time.Instant;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -29,18 +29,18 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
 import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.netconf.sal.streams.websockets.WebSocketServer;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
-import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
 
@@ -57,6 +57,7 @@ public class RestconfImplNotificationSubscribingTest {
     @Mock
     private UriInfo uriInfo;
 
+    private final StreamRegistry streams = new StreamRegistry(new ReplayBuffers(), new EventJournals());
     private ControllerContext controllerContext;
     private RestconfImpl restconfImpl;
 
@@ -73,96 +74,127 @@ public class RestconfImplNotificationSubscribingTest {
     @Before
     public void setup() {
         controllerContext = TestRestconfUtils.newControllerContext(schemaContext);
-        restconfImpl = RestconfImpl.newInstance(broker, controllerContext);
+        restconfImpl = RestconfImpl.newInstance(broker, controllerContext, streams);
 
         final YangInstanceIdentifier path = mock(YangInstanceIdentifier.class);
-        Notificator.createListener(path, identifier, NotificationOutputType.XML, controllerContext);
+        streams.putListener(path, identifier, NotificationOutputType.XML, controllerContext);
     }
 
     @Test
     public void startTimeTest() {
         subscribe(Set.of(Map.entry("start-time",  List.of("2014-10-25T10:02:00Z"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test
     public void milisecsTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00.12345Z"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test
     public void zonesPlusTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00+01:00"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test
     public void zonesMinusTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00-01:00"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test
     public void startAndStopTimeTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00Z")),
             Map.entry("stop-time", List.of("2014-10-25T12:31:00Z"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test(expected = RestconfDocumentedException.class)
     public void stopTimeTest() {
         subscribe(Set.of(Map.entry("stop-time", List.of("2014-10-25T12:31:00Z"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test(expected = RestconfDocumentedException.class)
     public void badParamTest() {
         subscribe(Set.of(Map.entry("time", List.of("2014-10-25T12:31:00Z"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void badValueTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("badvalue"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void badZonesTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00Z+1:00"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void badMilisecsTest() {
         subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00:0026Z"))));
-        Notificator.removeAllListeners();
+        streams.removeAll();
+    }
+
+    @Test
+    public void batchTest() {
+        final NormalizedNodeContext context = subscribe(Set.of(
+            Map.entry("start-time", List.of("2014-10-25T10:02:00Z")),
+            Map.entry("odl-batch-window", List.of("500")), Map.entry("odl-batch-size", List.of("100"))));
+
+        // Batching is a parameter of the subscriber, it does not change the shared listener
+        final URI location = (URI) context.getNewHeaders().get("Location");
+        assertEquals("start-time=2014-10-25T10:02:00Z&odl-batch-window=500&odl-batch-size=100", location.getQuery());
+        streams.removeAll();
+    }
+
+    @Test(expected = RestconfDocumentedException.class)
+    public void batchSizeWithoutWindowTest() {
+        subscribe(Set.of(Map.entry("odl-batch-size", List.of("100"))));
+        streams.removeAll();
+    }
+
+    @Test(expected = RestconfDocumentedException.class)
+    public void badBatchWindowTest() {
+        subscribe(Set.of(Map.entry("odl-batch-window", List.of("-1"))));
+        streams.removeAll();
     }
 
     @Test
     public void onNotifiTest() throws Exception {
         final YangInstanceIdentifier path = mock(YangInstanceIdentifier.class);
-        final PathArgument pathValue = NodeIdentifier.create(QName.create("module", "2016-12-14", "localName"));
-        final ListenerAdapter listener = Notificator.createListener(path, identifier, NotificationOutputType.XML,
+        final ListenerAdapter listener = streams.putListener(path, identifier, NotificationOutputType.XML,
                 controllerContext);
 
-        subscribe(Set.of(Map.entry("start-time", List.of("2014-10-25T10:02:00Z"))));
+        final NormalizedNodeContext context = subscribe(Set.of(
+            Map.entry("start-time", List.of("2014-10-25T10:02:00Z")),
+            Map.entry("odl-leaf-nodes-only", List.of("true"))));
 
-        Instant startOrig = listener.getStart();
-        assertNotNull(startOrig);
+        // Parameters travel with the location to the subscriber, the listener is shared by other subscribers
+        assertNull(listener.getStart());
+        final URI location = (URI) context.getNewHeaders().get("Location");
+        assertEquals("start-time=2014-10-25T10:02:00Z&odl-leaf-nodes-only=true", location.getQuery());
         listener.onDataTreeChanged(List.of());
+        streams.removeAll();
+    }
 
-        startOrig = listener.getStart();
-        assertNull(startOrig);
+    @Test(expected = RestconfDocumentedException.class)
+    public void badFilterTest() {
+        subscribe(Set.of(Map.entry("filter", List.of("/notification["))));
+        streams.removeAll();
     }
 
-    private void subscribe(final Set<Entry<String, List<String>>> entries) {
+    private NormalizedNodeContext subscribe(final Set<Entry<String, List<String>>> entries) {
         final MultivaluedMap<String, String> map = mock(MultivaluedMap.class);
         when(uriInfo.getQueryParameters()).thenReturn(map);
         final UriBuilder uriBuilder = UriBuilder.fromPath("http://localhost:8181/" + identifier);
         when(uriInfo.getAbsolutePathBuilder()).thenReturn(uriBuilder);
         when(map.entrySet()).thenReturn(entries);
-        restconfImpl.subscribeToStream(identifier, uriInfo);
+        return restconfImpl.subscribeToStream(identifier, uriInfo);
     }
 }
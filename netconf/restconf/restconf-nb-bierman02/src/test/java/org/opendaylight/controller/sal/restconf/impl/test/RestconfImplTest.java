@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -41,7 +42,6 @@ import org.junit.Test;
 import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
-import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.mdsal.dom.spi.FixedDOMSchemaService;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
@@ -49,7 +49,9 @@ import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.netconf.sal.streams.websockets.WebSocketServer;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
@@ -92,7 +94,8 @@ public class RestconfImplTest {
 
     private final BrokerFacade brokerFacade = mock(BrokerFacade.class);
     private final ControllerContext controllerContext = TestRestconfUtils.newControllerContext(schemaContext);
-    private final RestconfImpl restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext);
+    private final StreamRegistry streams = new StreamRegistry(new ReplayBuffers(), new EventJournals());
+    private final RestconfImpl restconfImpl = RestconfImpl.newInstance(brokerFacade, controllerContext, streams);
 
     @BeforeClass
     public static void init() throws FileNotFoundException, ReactorException {
@@ -186,13 +189,11 @@ public class RestconfImplTest {
         doReturn(InstanceIdentifierContext.ofRpcInput(mountContext, rpc, mount))
             .when(ctx).getInstanceIdentifierContext();
 
-        final DOMRpcService rpcService = mock(DOMRpcService.class);
-        doReturn(Optional.of(rpcService)).when(mount).getService(DOMRpcService.class);
-        doReturn(immediateFluentFuture(mock(DOMRpcResult.class))).when(rpcService)
-                .invokeRpc(any(QName.class), any(NormalizedNode.class));
+        doReturn(immediateFluentFuture(mock(DOMRpcResult.class))).when(brokerFacade)
+                .invokeRpc(eq(mount), any(QName.class), any(NormalizedNode.class));
         restconfImpl.invokeRpc("randomId", ctx, uriInfo);
         restconfImpl.invokeRpc("ietf-netconf", ctx, uriInfo);
-        verify(rpcService, times(2)).invokeRpc(any(QName.class), any());
+        verify(brokerFacade, times(2)).invokeRpc(eq(mount), any(QName.class), any());
     }
 
     /**
@@ -281,7 +282,7 @@ public class RestconfImplTest {
         final String identifier = "create-notification-stream/toaster:toastDone";
 
         // register test notification stream
-        Notificator.createNotificationListener(
+        streams.putNotificationListener(
             List.of(Absolute.of(QName.create("http://netconfcentral.org/ns/toaster", "2009-11-20", "toastDone"))),
             identifier, "XML", controllerContext);
 
@@ -301,6 +302,6 @@ public class RestconfImplTest {
         final NormalizedNodeContext response = restconfImpl.subscribeToStream(identifier, uriInfo);
 
         // remove test notification stream
-        Notificator.removeAllListeners();
+        streams.removeAll();
     }
 }
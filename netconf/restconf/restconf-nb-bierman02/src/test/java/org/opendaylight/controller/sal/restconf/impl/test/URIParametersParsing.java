@@ -27,8 +27,10 @@ import org.opendaylight.netconf.sal.rest.impl.NormalizedNodeContext;
 import org.opendaylight.netconf.sal.restconf.impl.BrokerFacade;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.netconf.sal.streams.listeners.EventJournals;
 import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
-import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import org.opendaylight.netconf.sal.streams.listeners.ReplayBuffers;
+import org.opendaylight.netconf.sal.streams.listeners.StreamRegistry;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.CreateDataChangeEventSubscriptionInput1.Scope;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
@@ -55,6 +57,7 @@ import org.opendaylight.yangtools.yang.parser.spi.meta.ReactorException;
 
 public class URIParametersParsing {
 
+    private final StreamRegistry streams = new StreamRegistry(new ReplayBuffers(), new EventJournals());
     private RestconfImpl restconf;
     private BrokerFacade mockedBrokerFacade;
     private ControllerContext controllerContext;
@@ -64,7 +67,7 @@ public class URIParametersParsing {
         mockedBrokerFacade = mock(BrokerFacade.class);
         controllerContext = TestRestconfUtils.newControllerContext(
                 TestUtils.loadSchemaContext("/datastore-and-scope-specification"));
-        restconf = RestconfImpl.newInstance(mockedBrokerFacade, controllerContext);
+        restconf = RestconfImpl.newInstance(mockedBrokerFacade, controllerContext, streams);
     }
 
     @Test
@@ -85,7 +88,7 @@ public class URIParametersParsing {
 
         final String datastoreValue = datastore == null ? "CONFIGURATION" : datastore;
         final String scopeValue = scope == null ? "BASE" : scope + "";
-        Notificator.createListener(iiBuilder.build(), "dummyStreamName/datastore=" + datastoreValue + "/scope="
+        streams.putListener(iiBuilder.build(), "dummyStreamName/datastore=" + datastoreValue + "/scope="
                 + scopeValue, NotificationOutputType.XML, controllerContext);
 
         final UriInfo mockedUriInfo = mock(UriInfo.class);
@@ -103,7 +106,7 @@ public class URIParametersParsing {
             prepareDomRpcNode(datastoreValue, scopeValue), mockedUriInfo);
 
         final ListenerAdapter listener =
-                Notificator.getListenerFor("data-change-event-subscription/opendaylight-inventory:nodes/datastore="
+                streams.getListenerFor("data-change-event-subscription/opendaylight-inventory:nodes/datastore="
                 + datastoreValue + "/scope=" + scopeValue);
         assertNotNull(listener);
     }
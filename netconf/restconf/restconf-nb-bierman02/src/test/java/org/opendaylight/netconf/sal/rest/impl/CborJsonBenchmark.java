@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the JSON and CBOR encodings of a large list payload, both for serialization and parsing. Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class CborJsonBenchmark {
+    private static final String NAMESPACE = "instance:identifier:patch:module";
+    private static final String REVISION = "2015-11-21";
+    private static final QName PATCH_CONT = QName.create(NAMESPACE, REVISION, "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+    private static final QName NAME = QName.create(PATCH_CONT, "name");
+    private static final QName MY_LEAF11 = QName.create(PATCH_CONT, "my-leaf11");
+    private static final QName MY_LEAF12 = QName.create(PATCH_CONT, "my-leaf12");
+
+    @Param({ "1000", "100000" })
+    public int entries;
+
+    private JSONCodecFactory codecs;
+    private Inference inference;
+    private ContainerNode data;
+    private byte[] json;
+    private byte[] cbor;
+
+    @Setup
+    public void setup() throws IOException {
+        final EffectiveModelContext context = YangParserTestUtils.parseYangFiles(
+            TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+        codecs = JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context);
+        inference = SchemaInferenceStack.of(context).toInference();
+
+        final CollectionNodeBuilder<MapEntryNode, MapNode> list = Builders.mapBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(MY_LIST1));
+        for (int i = 0; i < entries; ++i) {
+            list.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(MY_LIST1, NAME, "entry-" + i))
+                .withChild(ImmutableNodes.leafNode(NAME, "entry-" + i))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF11, "leaf 11 of entry " + i))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF12, "leaf 12 of entry " + i))
+                .build());
+        }
+        data = Builders.containerBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(PATCH_CONT))
+            .withChild(list.build())
+            .build();
+
+        json = writeJson();
+        cbor = writeCbor();
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        write(new JsonWriter(new OutputStreamWriter(bos, StandardCharsets.UTF_8)));
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeCbor() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        write(new CborWriter(bos));
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public NormalizedNode readJson() {
+        return read(new JsonReader(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public NormalizedNode readCbor() {
+        return read(new CborReader(new ByteArrayInputStream(cbor)));
+    }
+
+    private void write(final JsonWriter writer) throws IOException {
+        final NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(
+            JSONNormalizedNodeStreamWriter.createNestedWriter(codecs, inference, null, writer));
+        writer.beginObject();
+        nnWriter.write(data);
+        nnWriter.flush();
+        writer.endObject();
+        writer.close();
+    }
+
+    private NormalizedNode read(final JsonReader reader) {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), codecs, inference).parse(reader);
+        return result.getResult();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CborJsonBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.stream.JsonToken;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.Test;
+
+public class CborReaderWriterTest {
+    @Test
+    public void testWriteEncoding() throws Exception {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (CborWriter writer = new CborWriter(bos)) {
+            writer.beginObject().name("a").value(1).name("b").beginArray().value(-2).nullValue().endArray()
+                .endObject();
+        }
+        assertArrayEquals(new byte[] {
+            (byte) 0xbf, 0x61, 'a', 0x01, 0x61, 'b', (byte) 0x9f, 0x21, (byte) 0xf6, (byte) 0xff, (byte) 0xff
+        }, bos.toByteArray());
+    }
+
+    @Test
+    public void testReadDefiniteLength() throws Exception {
+        final CborReader reader = new CborReader(new ByteArrayInputStream(new byte[] {
+            (byte) 0xa5,
+            0x61, 'a', (byte) 0x83, 0x01, 0x21, (byte) 0xf9, 0x3e, 0x00,
+            0x61, 'b', 0x42, 0x01, 0x02,
+            0x61, 'c', (byte) 0xc4, (byte) 0x82, 0x21, 0x19, 0x30, 0x39,
+            0x61, 'd', (byte) 0xf5,
+            0x61, 'e', (byte) 0xf6
+        }));
+
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.beginArray();
+        assertEquals(JsonToken.NUMBER, reader.peek());
+        assertEquals("1", reader.nextString());
+        assertEquals("-2", reader.nextString());
+        assertEquals("1.5", reader.nextString());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("b", reader.nextName());
+        assertEquals(JsonToken.STRING, reader.peek());
+        assertEquals("AQI=", reader.nextString());
+        assertEquals("c", reader.nextName());
+        assertEquals("123.45", reader.nextString());
+        assertEquals("d", reader.nextName());
+        assertTrue(reader.nextBoolean());
+        assertEquals("e", reader.nextName());
+        // A null member value is an empty leaf, reported in its JSON form
+        reader.beginArray();
+        reader.nextNull();
+        reader.endArray();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (CborWriter writer = new CborWriter(bos)) {
+            writer.beginObject()
+                .name("module:text").value("text \u00e9")
+                .name("big").value(new BigInteger("123456789012345678901234567890"))
+                .name("decimal").value(new BigDecimal("-0.0125"))
+                .name("double").value(2.5)
+                .name("list").beginArray().beginObject().name("flag").value(false).endObject().endArray()
+                .endObject();
+        }
+
+        final CborReader reader = new CborReader(new ByteArrayInputStream(bos.toByteArray()));
+        reader.beginObject();
+        assertEquals("module:text", reader.nextName());
+        assertEquals("text \u00e9", reader.nextString());
+        assertEquals("big", reader.nextName());
+        assertEquals("123456789012345678901234567890", reader.nextString());
+        assertEquals("decimal", reader.nextName());
+        assertEquals("-0.0125", reader.nextString());
+        assertEquals("double", reader.nextName());
+        assertEquals(2.5, reader.nextDouble(), 0);
+        assertEquals("list", reader.nextName());
+        reader.beginArray();
+        reader.beginObject();
+        assertEquals("flag", reader.nextName());
+        assertFalse(reader.nextBoolean());
+        reader.endObject();
+        reader.endArray();
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+}
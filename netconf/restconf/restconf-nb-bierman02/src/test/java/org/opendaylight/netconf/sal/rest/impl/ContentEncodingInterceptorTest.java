@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.junit.Test;
+
+public class ContentEncodingInterceptorTest {
+    private static final byte[] LARGE_BODY = "{\"data\":\"value\"}".repeat(200).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SMALL_BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final ContentEncodingInterceptor interceptor = new ContentEncodingInterceptor(64, 6);
+
+    @Test
+    public void testNegotiate() {
+        assertNull(ContentEncodingInterceptor.negotiate(null));
+        assertNull(ContentEncodingInterceptor.negotiate("identity"));
+        assertNull(ContentEncodingInterceptor.negotiate("gzip;q=0"));
+        assertEquals("gzip", ContentEncodingInterceptor.negotiate("deflate, gzip;q=0.5"));
+        assertEquals("gzip", ContentEncodingInterceptor.negotiate("*"));
+        assertEquals("deflate", ContentEncodingInterceptor.negotiate("br, deflate"));
+        assertEquals("deflate", ContentEncodingInterceptor.negotiate("gzip; q=0, deflate"));
+        assertEquals("deflate", ContentEncodingInterceptor.negotiate("gzip;q=0, *"));
+        assertEquals("deflate", ContentEncodingInterceptor.negotiate("*, x-gzip;q=0"));
+        assertNull(ContentEncodingInterceptor.negotiate("gzip;q=0, deflate;q=0, *"));
+        assertNull(ContentEncodingInterceptor.negotiate("*;q=0"));
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        final byte[] written = write(LARGE_BODY, "gzip, deflate", headers);
+
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, headers.getFirst(HttpHeaders.VARY));
+        assertArrayEquals(LARGE_BODY, new GZIPInputStream(new ByteArrayInputStream(written)).readAllBytes());
+    }
+
+    @Test
+    public void testDeflateResponse() throws Exception {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        final byte[] written = write(LARGE_BODY, "deflate", headers);
+
+        assertEquals("deflate", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(LARGE_BODY, new InflaterInputStream(new ByteArrayInputStream(written)).readAllBytes());
+    }
+
+    @Test
+    public void testPooledDeflaterReuse() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            final byte[] written = write(LARGE_BODY, "gzip", new MultivaluedHashMap<>());
+            assertArrayEquals(LARGE_BODY, new GZIPInputStream(new ByteArrayInputStream(written)).readAllBytes());
+        }
+    }
+
+    @Test
+    public void testSmallResponseNotCompressed() throws Exception {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        final byte[] written = write(SMALL_BODY, "gzip", headers);
+
+        assertFalse(headers.containsKey(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, headers.getFirst(HttpHeaders.VARY));
+        assertArrayEquals(SMALL_BODY, written);
+    }
+
+    @Test
+    public void testNoAcceptEncoding() throws Exception {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        final byte[] written = write(LARGE_BODY, null, headers);
+
+        assertFalse(headers.containsKey(HttpHeaders.CONTENT_ENCODING));
+        assertFalse(headers.containsKey(HttpHeaders.VARY));
+        assertArrayEquals(LARGE_BODY, written);
+    }
+
+    @Test
+    public void testGzipRequest() throws Exception {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(LARGE_BODY);
+        }
+        assertArrayEquals(LARGE_BODY, read(compressed.toByteArray(), "gzip"));
+    }
+
+    @Test
+    public void testDeflateRequest() throws Exception {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(compressed)) {
+            out.write(LARGE_BODY);
+        }
+        assertArrayEquals(LARGE_BODY, read(compressed.toByteArray(), "deflate"));
+    }
+
+    @Test
+    public void testEmptyGzipRequest() throws Exception {
+        assertArrayEquals(new byte[0], read(new byte[0], "gzip"));
+    }
+
+    private byte[] write(final byte[] body, final String acceptEncoding,
+            final MultivaluedMap<String, Object> headers) throws IOException {
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        final AtomicReference<OutputStream> stream = new AtomicReference<>(sink);
+        final WriterInterceptorContext context = mock(WriterInterceptorContext.class);
+        doReturn(headers).when(context).getHeaders();
+        doAnswer(inv -> stream.get()).when(context).getOutputStream();
+        doAnswer(inv -> {
+            stream.set(inv.getArgument(0));
+            return null;
+        }).when(context).setOutputStream(any());
+        doAnswer(inv -> {
+            // Write in small chunks to cross the threshold mid-write
+            final OutputStream out = stream.get();
+            for (int off = 0; off < body.length; off += 50) {
+                out.write(body, off, Math.min(50, body.length - off));
+            }
+            out.flush();
+            return null;
+        }).when(context).proceed();
+
+        interceptor.aroundWriteTo(context, acceptEncoding);
+        return sink.toByteArray();
+    }
+
+    private byte[] read(final byte[] body, final String contentEncoding) throws IOException {
+        final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        final AtomicReference<InputStream> stream = new AtomicReference<>(new ByteArrayInputStream(body));
+        final ReaderInterceptorContext context = mock(ReaderInterceptorContext.class);
+        doReturn(headers).when(context).getHeaders();
+        doAnswer(inv -> stream.get()).when(context).getInputStream();
+        doAnswer(inv -> {
+            stream.set(inv.getArgument(0));
+            return null;
+        }).when(context).setInputStream(any());
+        doAnswer(inv -> stream.get().readAllBytes()).when(context).proceed();
+
+        final byte[] result = (byte[]) interceptor.aroundReadFrom(context);
+        assertFalse(headers.containsKey(HttpHeaders.CONTENT_ENCODING));
+        return result;
+    }
+}
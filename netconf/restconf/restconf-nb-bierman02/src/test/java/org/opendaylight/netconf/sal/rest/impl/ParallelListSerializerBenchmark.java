@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.MediaType;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures writing a 1M entry list as JSON with increasing parallelism, where parallelism 1 is the sequential writer.
+ * Run with {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ParallelListSerializerBenchmark {
+    private static final QName PATCH_CONT = QName.create("instance:identifier:patch:module", "2015-11-21",
+        "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+
+    @Param({ "1", "2", "4", "8", "16" })
+    public int parallelism;
+
+    private ParallelListSerializer serializer;
+    private NormalizedNodeJsonBodyWriter writer;
+    private NormalizedNodeContext context;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final EffectiveModelContext schemaContext = YangParserTestUtils.parseYangFiles(
+            TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+        context = new NormalizedNodeContext(InstanceIdentifierContext.ofLocalPath(schemaContext,
+            YangInstanceIdentifier.create(new NodeIdentifier(PATCH_CONT), new NodeIdentifier(MY_LIST1))),
+            ParallelListSerializerTest.createList(1_000_000));
+        serializer = parallelism == 1 ? ParallelListSerializer.disabled()
+            : new ParallelListSerializer(10_000, 8192, parallelism);
+        writer = new NormalizedNodeJsonBodyWriter(ResponseBodyCache.disabled(), serializer);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serializer.close();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        writer.writeTo(context, null, null, null, MediaType.APPLICATION_JSON_TYPE, null,
+            OutputStream.nullOutputStream());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParallelListSerializerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
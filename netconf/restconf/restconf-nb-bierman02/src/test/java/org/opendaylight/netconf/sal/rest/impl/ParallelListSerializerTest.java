@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.ws.rs.core.MediaType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.WriterParametersBuilder;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class ParallelListSerializerTest {
+    private static final QName PATCH_CONT = QName.create("instance:identifier:patch:module", "2015-11-21",
+        "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+    private static final QName NAME = QName.create(PATCH_CONT, "name");
+    private static final QName MY_LEAF11 = QName.create(PATCH_CONT, "my-leaf11");
+
+    private static InstanceIdentifierContext iiContext;
+    private static MapNode list;
+    private static ParallelListSerializer serializer;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        final EffectiveModelContext schemaContext = YangParserTestUtils.parseYangFiles(
+            TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+        iiContext = InstanceIdentifierContext.ofLocalPath(schemaContext,
+            YangInstanceIdentifier.create(new NodeIdentifier(PATCH_CONT), new NodeIdentifier(MY_LIST1)));
+        list = createList(100);
+        // Small chunks which do not divide the list evenly
+        serializer = new ParallelListSerializer(10, 7, 3);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        serializer.close();
+    }
+
+    @Test
+    public void testAccepts() {
+        assertTrue(serializer.accepts(list));
+        assertFalse(serializer.accepts(createList(9)));
+        assertFalse(serializer.accepts(ImmutableNodes.leafNode(NAME, "name")));
+        assertFalse(ParallelListSerializer.disabled().accepts(list));
+    }
+
+    @Test
+    public void testJsonIdentical() throws IOException {
+        assertIdentical(new NormalizedNodeJsonBodyWriter(),
+            new NormalizedNodeJsonBodyWriter(ResponseBodyCache.disabled(), serializer), false);
+    }
+
+    @Test
+    public void testPrettyJsonIdentical() throws IOException {
+        assertIdentical(new NormalizedNodeJsonBodyWriter(),
+            new NormalizedNodeJsonBodyWriter(ResponseBodyCache.disabled(), serializer), true);
+    }
+
+    @Test
+    public void testCborIdentical() throws IOException {
+        assertIdentical(new NormalizedNodeCborBodyWriter(),
+            new NormalizedNodeCborBodyWriter(ResponseBodyCache.disabled(), serializer), false);
+    }
+
+    private static void assertIdentical(final NormalizedNodeJsonBodyWriter sequential,
+            final NormalizedNodeJsonBodyWriter parallel, final boolean prettyPrint) throws IOException {
+        final NormalizedNodeContext context = new NormalizedNodeContext(iiContext, list,
+            new WriterParametersBuilder().setPrettyPrint(prettyPrint).build());
+        assertArrayEquals(write(sequential, context), write(parallel, context));
+    }
+
+    private static byte[] write(final NormalizedNodeJsonBodyWriter writer, final NormalizedNodeContext context)
+            throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(context, null, null, null, MediaType.APPLICATION_JSON_TYPE, null, out);
+        return out.toByteArray();
+    }
+
+    static MapNode createList(final int size) {
+        final CollectionNodeBuilder<MapEntryNode, ? extends MapNode> builder = Builders.mapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(MY_LIST1));
+        for (int i = 0; i < size; ++i) {
+            builder.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(MY_LIST1, NAME, "entry-" + i))
+                .withChild(ImmutableNodes.leafNode(NAME, "entry-" + i))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF11, "value of entry " + i))
+                .build());
+        }
+        return builder.build();
+    }
+}
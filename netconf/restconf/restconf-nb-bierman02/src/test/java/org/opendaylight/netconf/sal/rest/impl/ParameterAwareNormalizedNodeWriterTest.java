@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.Content;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.WithDefaults;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.WriterParametersBuilder;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class ParameterAwareNormalizedNodeWriterTest {
+    private static final QName CONT = QName.create("urn:read:parameters", "2026-10-19", "cont");
+    private static final QName NAME = QName.create(CONT, "name");
+    private static final QName MTU = QName.create(CONT, "mtu");
+    private static final QName STATE = QName.create(CONT, "state");
+    private static final QName COUNTER = QName.create(CONT, "counter");
+    private static final QName ITEM = QName.create(CONT, "item");
+    private static final QName ID = QName.create(CONT, "id");
+    private static final QName VALUE = QName.create(CONT, "value");
+    private static final QName NESTED = QName.create(CONT, "nested");
+    private static final QName DEEP = QName.create(CONT, "deep");
+
+    private static InstanceIdentifierContext iiContext;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        final EffectiveModelContext schemaContext = YangParserTestUtils.parseYangFiles(
+            TestRestconfUtils.loadFiles("/read-parameters"));
+        iiContext = InstanceIdentifierContext.ofLocalPath(schemaContext,
+            YangInstanceIdentifier.create(new NodeIdentifier(CONT)));
+    }
+
+    @Test
+    public void testNoParameters() throws IOException {
+        assertEquals(cont(1500, true), write(cont(1500, true), new WriterParametersBuilder().build()));
+    }
+
+    @Test
+    public void testDepth() throws IOException {
+        assertEquals(container(CONT,
+                ImmutableNodes.leafNode(NAME, "eth0"),
+                ImmutableNodes.leafNode(MTU, Uint16.valueOf(1500)),
+                container(STATE),
+                items(item(ImmutableNodes.leafNode(ID, "a")))),
+            write(cont(1500, true), new WriterParametersBuilder().setDepth(2).build()));
+    }
+
+    @Test
+    public void testFields() throws IOException {
+        assertEquals(container(CONT,
+                ImmutableNodes.leafNode(NAME, "eth0"),
+                items(item(ImmutableNodes.leafNode(ID, "a"), ImmutableNodes.leafNode(VALUE, "v")))),
+            write(cont(1500, true), new WriterParametersBuilder()
+                .setFields(FieldsFilter.parse("read-parameters:name;item(value)"))
+                .build()));
+    }
+
+    @Test
+    public void testFieldsNested() throws IOException {
+        assertEquals(container(CONT,
+                items(item(ImmutableNodes.leafNode(ID, "a"), container(NESTED, ImmutableNodes.leafNode(DEEP, "d"))))),
+            write(cont(1500, true), new WriterParametersBuilder()
+                .setFields(FieldsFilter.parse("item/nested/deep"))
+                .build()));
+    }
+
+    @Test
+    public void testContentConfig() throws IOException {
+        assertEquals(cont(1500, false), write(cont(1500, true), new WriterParametersBuilder()
+            .setContent(Content.CONFIG)
+            .build()));
+    }
+
+    @Test
+    public void testContentNonconfig() throws IOException {
+        // Configuration-only interior nodes are left out
+        assertEquals(container(CONT, container(STATE, ImmutableNodes.leafNode(COUNTER, Uint32.valueOf(42)))),
+            write(cont(1500, true), new WriterParametersBuilder().setContent(Content.NONCONFIG).build()));
+    }
+
+    @Test
+    public void testTrimDefaults() throws IOException {
+        final WriterParameters params = new WriterParametersBuilder().setWithDefaults(WithDefaults.TRIM).build();
+        assertEquals(cont(9000, true), write(cont(9000, true), params));
+
+        final ContainerNode trimmed = (ContainerNode) write(cont(1500, true), params);
+        assertEquals(cont(1500, true).size() - 1, trimmed.size());
+        assertNull(trimmed.childByArg(new NodeIdentifier(MTU)));
+    }
+
+    @Test
+    public void testExplicitDefaults() throws IOException {
+        final WriterParameters params = new WriterParametersBuilder().setWithDefaults(WithDefaults.EXPLICIT).build();
+        assertEquals(container(CONT,
+                ImmutableNodes.leafNode(MTU, Uint16.valueOf(1500)),
+                container(STATE),
+                items(item(ImmutableNodes.leafNode(ID, "a"), container(NESTED)))),
+            write(cont(1500, true), params));
+        assertEquals(container(CONT,
+                container(STATE),
+                items(item(ImmutableNodes.leafNode(ID, "a"), container(NESTED)))),
+            write(cont(9000, true), params));
+    }
+
+    @Test
+    public void testReportAllDefaults() throws IOException {
+        assertEquals(cont(1500, true), write(cont(1500, true), new WriterParametersBuilder()
+            .setWithDefaults(WithDefaults.REPORT_ALL)
+            .build()));
+    }
+
+    @Test
+    public void testParseFields() {
+        assertEquals(FieldsFilter.parse("a(b;c)"), FieldsFilter.parse("a/b;a/c"));
+        assertEquals(FieldsFilter.parse("a"), FieldsFilter.parse("a;a/b"));
+        assertThrows(IllegalArgumentException.class, () -> FieldsFilter.parse("a(b"));
+        assertThrows(IllegalArgumentException.class, () -> FieldsFilter.parse("a;;b"));
+        assertThrows(IllegalArgumentException.class, () -> FieldsFilter.parse("mod:"));
+        assertThrows(IllegalArgumentException.class, () -> FieldsFilter.parse(""));
+    }
+
+    private static NormalizedNode write(final NormalizedNode data, final WriterParameters params)
+            throws IOException {
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        try (ParameterAwareNormalizedNodeWriter writer = ParameterAwareNormalizedNodeWriter.forTarget(
+                ImmutableNormalizedNodeStreamWriter.from(result), iiContext, params)) {
+            writer.write(data);
+        }
+        return result.getResult();
+    }
+
+    private static ContainerNode cont(final int mtu, final boolean withState) {
+        final var builder = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(CONT))
+            .withChild(ImmutableNodes.leafNode(NAME, "eth0"))
+            .withChild(ImmutableNodes.leafNode(MTU, Uint16.valueOf(mtu)))
+            .withChild(items(item(ImmutableNodes.leafNode(ID, "a"), ImmutableNodes.leafNode(VALUE, "v"),
+                container(NESTED, ImmutableNodes.leafNode(DEEP, "d")))));
+        if (withState) {
+            builder.withChild(container(STATE, ImmutableNodes.leafNode(COUNTER, Uint32.valueOf(42))));
+        }
+        return builder.build();
+    }
+
+    private static ContainerNode container(final QName qname, final DataContainerChild... children) {
+        final var builder = Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(qname));
+        for (final DataContainerChild child : children) {
+            builder.withChild(child);
+        }
+        return builder.build();
+    }
+
+    private static DataContainerChild items(final MapEntryNode entry) {
+        return Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(ITEM)).withChild(entry).build();
+    }
+
+    private static MapEntryNode item(final DataContainerChild... children) {
+        final var builder = Builders.mapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(ITEM, ID, "a"));
+        for (final DataContainerChild child : children) {
+            builder.withChild(child);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.MediaType;
+import org.junit.Test;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class ResponseBodyCacheTest {
+    private static final QName LEAF = QName.create("urn:test", "leaf");
+    private static final ResponseBodyCache.Scope SCOPE = ResponseBodyCache.Scope.of(
+        YangInstanceIdentifier.of(LEAF), LogicalDatastoreType.OPERATIONAL);
+    private static final byte[] BODY = "{\"leaf\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final NormalizedNode data = ImmutableNodes.leafNode(LEAF, "value");
+
+    @Test
+    public void testHeapHit() throws IOException {
+        assertHit(new ResponseBodyCache(1024 * 1024, false));
+    }
+
+    @Test
+    public void testOffHeapHit() throws IOException {
+        assertHit(new ResponseBodyCache(1024 * 1024, true));
+    }
+
+    @Test
+    public void testChangedDataMisses() throws IOException {
+        final ResponseBodyCache cache = new ResponseBodyCache(1024 * 1024, false);
+        write(cache, context(data, SCOPE), MediaType.APPLICATION_JSON_TYPE);
+
+        // Equal, but not the same node, as produced by a modification of the datastore
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        assertNotNull(cache.open(context(ImmutableNodes.leafNode(LEAF, "value"), SCOPE),
+            MediaType.APPLICATION_JSON_TYPE, sink));
+        assertEquals(0, sink.size());
+    }
+
+    @Test
+    public void testMediaTypeIsPartOfKey() throws IOException {
+        final ResponseBodyCache cache = new ResponseBodyCache(1024 * 1024, false);
+        write(cache, context(data, SCOPE), MediaType.APPLICATION_JSON_TYPE);
+        assertNotNull(cache.open(context(data, SCOPE), MediaType.APPLICATION_XML_TYPE, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testUncacheable() throws IOException {
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        final ResponseBodyCache cache = new ResponseBodyCache(1024 * 1024, false);
+        assertSame(sink, cache.open(context(data, null), MediaType.APPLICATION_JSON_TYPE, sink));
+        assertSame(sink, ResponseBodyCache.disabled().open(context(data, SCOPE), MediaType.APPLICATION_JSON_TYPE,
+            sink));
+    }
+
+    @Test
+    public void testOversizedBodyNotStored() throws IOException {
+        // Entries are limited to an eighth of the budget
+        final ResponseBodyCache cache = new ResponseBodyCache(BODY.length * 4, false);
+        assertArrayEquals(BODY, write(cache, context(data, SCOPE), MediaType.APPLICATION_JSON_TYPE));
+        assertEquals(0, cache.size());
+    }
+
+    private void assertHit(final ResponseBodyCache cache) throws IOException {
+        assertArrayEquals(BODY, write(cache, context(data, SCOPE), MediaType.APPLICATION_JSON_TYPE));
+        assertEquals(1, cache.size());
+
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        assertNull(cache.open(context(data, SCOPE), MediaType.APPLICATION_JSON_TYPE, sink));
+        assertArrayEquals(BODY, sink.toByteArray());
+    }
+
+    private static byte[] write(final ResponseBodyCache cache, final NormalizedNodeContext context,
+            final MediaType mediaType) throws IOException {
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        final OutputStream out = cache.open(context, mediaType, sink);
+        assertNotNull(out);
+        out.write(BODY, 0, 5);
+        out.write(BODY, 5, BODY.length - 5);
+        ResponseBodyCache.publish(out);
+        return sink.toByteArray();
+    }
+
+    private static NormalizedNodeContext context(final NormalizedNode data, final ResponseBodyCache.Scope scope) {
+        final NormalizedNodeContext context = mock(NormalizedNodeContext.class);
+        doReturn(data).when(context).getData();
+        doReturn(scope).when(context).getCacheScope();
+        doReturn(WriterParameters.EMPTY).when(context).getWriterParameters();
+        return context;
+    }
+}
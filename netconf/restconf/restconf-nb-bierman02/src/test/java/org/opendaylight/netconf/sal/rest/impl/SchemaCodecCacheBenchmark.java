@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures writing a small list entry, as is typical for reads from a mounted device, with the parent inference
+ * resolved for each request versus taken from {@link SchemaCodecCache}. The model context is parsed
+ * separately from the one used by the rest of the tests, mimicking a device's model context. Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SchemaCodecCacheBenchmark {
+    private static final QName PATCH_CONT = QName.create("instance:identifier:patch:module", "2015-11-21",
+        "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+    private static final QName NAME = QName.create(PATCH_CONT, "name");
+    private static final QName MY_LEAF11 = QName.create(PATCH_CONT, "my-leaf11");
+
+    private final SchemaCodecCache cache = new SchemaCodecCache();
+
+    private EffectiveModelContext context;
+    private Inference inference;
+    private MapNode data;
+
+    @Setup
+    public void setup() throws Exception {
+        context = YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+        final SchemaInferenceStack stack = SchemaInferenceStack.of(context);
+        stack.enterSchemaTree(PATCH_CONT);
+        stack.enterSchemaTree(MY_LIST1);
+        inference = stack.toInference();
+        data = Builders.mapBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(MY_LIST1))
+            .withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(MY_LIST1, NAME, "entry"))
+                .withChild(ImmutableNodes.leafNode(NAME, "entry"))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF11, "value"))
+                .build())
+            .build();
+    }
+
+    @Benchmark
+    public byte[] uncached() throws IOException {
+        final SchemaInferenceStack stack = inference.toSchemaInferenceStack();
+        stack.exit();
+        return write(JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context),
+            stack.toInference());
+    }
+
+    @Benchmark
+    public byte[] cached() throws IOException {
+        return write(JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context),
+            cache.parentInference(inference));
+    }
+
+    private byte[] write(final JSONCodecFactory codecs, final Inference parent) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final JsonWriter writer = new JsonWriter(new OutputStreamWriter(bos, StandardCharsets.UTF_8));
+        final NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(
+            JSONNormalizedNodeStreamWriter.createNestedWriter(codecs, parent, PATCH_CONT.getNamespace(), writer));
+        writer.beginObject();
+        nnWriter.write(data);
+        nnWriter.flush();
+        writer.endObject();
+        writer.close();
+        return bos.toByteArray();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SchemaCodecCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.mdsal.dom.api.DOMMountPointService;
+import org.opendaylight.mdsal.dom.api.DOMSchemaService;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class SchemaCodecCacheTest {
+    private static final QName PATCH_CONT = QName.create("instance:identifier:patch:module", "2015-11-21",
+        "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+
+    private static EffectiveModelContext schemaContext;
+
+    private final SchemaCodecCache cache = new SchemaCodecCache();
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        schemaContext = YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+    }
+
+    @Test
+    public void testParentInference() {
+        final Inference parent = cache.parentInference(listInference());
+        assertEquals(1, parent.statementPath().size());
+        assertEquals(PATCH_CONT, parent.statementPath().get(0).argument());
+        assertEquals(0, cache.getInferenceHits());
+        assertEquals(1, cache.getInferenceMisses());
+
+        // A distinct inference for the same statement hits the cache
+        assertSame(parent, cache.parentInference(listInference()));
+        assertEquals(1, cache.getInferenceHits());
+        assertEquals(1, cache.getInferenceMisses());
+    }
+
+    @Test
+    public void testRootInference() {
+        final Inference root = SchemaInferenceStack.of(schemaContext).toInference();
+        assertSame(root, cache.parentInference(root));
+        assertEquals(0, cache.getInferenceHits() + cache.getInferenceMisses());
+    }
+
+    @Test
+    public void testCodecs() {
+        assertSame(cache.xmlCodecs(schemaContext), cache.xmlCodecs(schemaContext));
+        assertSame(cache.instanceIdentifierCodec(schemaContext, "instance-identifier-patch-module"),
+            cache.instanceIdentifierCodec(schemaContext, "instance-identifier-patch-module"));
+        assertEquals(2, cache.getCodecHits());
+        assertEquals(2, cache.getCodecMisses());
+        assertEquals(0.5, cache.getHitRatio(), 0);
+        assertEquals(1, cache.getCachedContexts());
+    }
+
+    @Test
+    public void testContextsAreSeparate() throws Exception {
+        final EffectiveModelContext other = parseOther();
+        assertNotSame(cache.xmlCodecs(schemaContext), cache.xmlCodecs(other));
+        assertEquals(2, cache.getCodecMisses());
+        assertEquals(2, cache.getCachedContexts());
+    }
+
+    @Test
+    public void testModelContextUpdateDropsEntries() throws Exception {
+        final EffectiveModelContext other = parseOther();
+        cache.onModelContextUpdated(schemaContext);
+        cache.xmlCodecs(schemaContext);
+        cache.xmlCodecs(other);
+        assertEquals(2, cache.getCachedContexts());
+
+        cache.onModelContextUpdated(other);
+        assertEquals(0, cache.getCachedContexts());
+    }
+
+    @Test
+    public void testMountPointRemovalDropsItsContext() throws Exception {
+        final EffectiveModelContext firstContext = parseOther();
+        final EffectiveModelContext secondContext = parseOther();
+        final DOMMountPointService mountPointService = mock(DOMMountPointService.class);
+        final YangInstanceIdentifier first = mountPoint(mountPointService, "first", firstContext);
+        final YangInstanceIdentifier second = mountPoint(mountPointService, "second", secondContext);
+        final YangInstanceIdentifier third = mountPoint(mountPointService, "third", secondContext);
+        cache.setMountPointService(mountPointService);
+        cache.onModelContextUpdated(schemaContext);
+        cache.onMountPointCreated(first);
+        cache.onMountPointCreated(second);
+        cache.onMountPointCreated(third);
+
+        final XmlCodecFactory globalCodecs = cache.xmlCodecs(schemaContext);
+        cache.xmlCodecs(firstContext);
+        final XmlCodecFactory secondCodecs = cache.xmlCodecs(secondContext);
+        assertEquals(3, cache.getCachedContexts());
+
+        // Only the removed device's context is dropped
+        cache.onMountPointRemoved(first);
+        assertEquals(2, cache.getCachedContexts());
+        assertSame(globalCodecs, cache.xmlCodecs(schemaContext));
+        assertSame(secondCodecs, cache.xmlCodecs(secondContext));
+
+        // A context shared by several mount points is dropped with the last of them
+        cache.onMountPointRemoved(second);
+        assertSame(secondCodecs, cache.xmlCodecs(secondContext));
+        cache.onMountPointRemoved(third);
+        assertEquals(1, cache.getCachedContexts());
+
+        // Mount points which have not been seen created do not drop anything
+        cache.onMountPointRemoved(YangInstanceIdentifier.empty());
+        assertEquals(1, cache.getCachedContexts());
+    }
+
+    @Test
+    public void testMaxContexts() throws Exception {
+        cache.setMaxContexts(1);
+        cache.xmlCodecs(schemaContext);
+        cache.xmlCodecs(parseOther());
+        assertEquals(1, cache.getCachedContexts());
+    }
+
+    private static YangInstanceIdentifier mountPoint(final DOMMountPointService mountPointService,
+            final String name, final EffectiveModelContext context) {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(QName.create(PATCH_CONT, name));
+        final DOMSchemaService schemaService = mock(DOMSchemaService.class);
+        doReturn(context).when(schemaService).getGlobalContext();
+        final DOMMountPoint mountPoint = mock(DOMMountPoint.class);
+        doReturn(Optional.of(schemaService)).when(mountPoint).getService(DOMSchemaService.class);
+        doReturn(Optional.of(mountPoint)).when(mountPointService).getMountPoint(path);
+        return path;
+    }
+
+    private static EffectiveModelContext parseOther() throws Exception {
+        return YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+    }
+
+    private static Inference listInference() {
+        final SchemaInferenceStack stack = SchemaInferenceStack.of(schemaContext);
+        stack.enterSchemaTree(PATCH_CONT);
+        stack.enterSchemaTree(MY_LIST1);
+        return stack.toInference();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+
+public class XmlSubtreeStreamReaderTest {
+    private static final String XML = "<root><first><a>1</a><b/></first><second>2</second></root>";
+
+    @Test
+    public void testSubtreeBoundaries() throws Exception {
+        final XMLStreamReader reader = UntrustedXML.createXMLStreamReader(
+            new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals("first", reader.getLocalName());
+
+        final XmlSubtreeStreamReader subtree = new XmlSubtreeStreamReader(reader);
+        assertEquals(XMLStreamConstants.START_DOCUMENT, subtree.getEventType());
+        assertEquals(XMLStreamConstants.START_ELEMENT, subtree.nextTag());
+        assertEquals("first", subtree.getLocalName());
+        assertEquals(XMLStreamConstants.START_ELEMENT, subtree.nextTag());
+        assertEquals("1", subtree.getElementText());
+        assertEquals(XMLStreamConstants.START_ELEMENT, subtree.nextTag());
+        assertEquals("b", subtree.getLocalName());
+        assertEquals(XMLStreamConstants.END_ELEMENT, subtree.nextTag());
+        assertEquals(XMLStreamConstants.END_ELEMENT, subtree.nextTag());
+        assertEquals("first", subtree.getLocalName());
+        assertTrue(subtree.hasNext());
+        assertEquals(XMLStreamConstants.END_DOCUMENT, subtree.next());
+        assertFalse(subtree.hasNext());
+
+        // The underlying reader continues right after the subtree
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.nextTag());
+        assertEquals("second", reader.getLocalName());
+        reader.close();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.mdsal.common.api.ReadFailedException;
+import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.netconf.sal.restconf.impl.MountPointBulkhead.BreakerState;
+import org.opendaylight.netconf.sal.restconf.impl.MountPointBulkhead.Limits;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.MountPointRequests;
+import org.opendaylight.restconf.common.ErrorTags;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class MountPointBulkheadTest {
+    private final DOMMountPoint mountPoint = mock(DOMMountPoint.class);
+    private final DOMMountPoint otherMountPoint = mock(DOMMountPoint.class);
+
+    private MountPointBulkhead bulkhead;
+
+    @Before
+    public void setUp() {
+        doReturn(YangInstanceIdentifier.of(QName.create("bulkhead:test", "device-1"))).when(mountPoint)
+            .getIdentifier();
+        doReturn(YangInstanceIdentifier.of(QName.create("bulkhead:test", "device-2"))).when(otherMountPoint)
+            .getIdentifier();
+        bulkhead = new MountPointBulkhead(null, 1, 0, 0, 100, 2, 60000);
+    }
+
+    @After
+    public void tearDown() {
+        bulkhead.close();
+    }
+
+    @Test
+    public void testRejectWhenBusy() throws Exception {
+        final SettableFuture<String> pending = SettableFuture.create();
+        bulkhead.submit(mountPoint, () -> pending, IllegalStateException::new);
+
+        final MountPointUnavailableException ex = assertThrows(MountPointUnavailableException.class,
+            () -> bulkhead.submit(mountPoint, () -> Futures.immediateFuture("busy"), IllegalStateException::new));
+        assertEquals(ErrorTags.RESOURCE_DENIED_TRANSPORT, ex.getErrors().get(0).getErrorTag());
+        assertEquals(1, ex.getRetryAfterSeconds());
+
+        // Other mount points are not affected
+        assertEquals("free", bulkhead.submit(otherMountPoint, () -> Futures.immediateFuture("free"),
+            IllegalStateException::new).get());
+
+        pending.set("done");
+        assertEquals("ok", bulkhead.submit(mountPoint, () -> Futures.immediateFuture("ok"),
+            IllegalStateException::new).get());
+    }
+
+    @Test
+    public void testTimeoutOpensBreaker() throws Exception {
+        for (int i = 0; i < 2; ++i) {
+            final ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> bulkhead.submit(mountPoint, SettableFuture::create, IllegalStateException::new).get());
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(BreakerState.OPEN, bulkhead.breakerState(mountPoint));
+
+        final MountPointUnavailableException open = assertThrows(MountPointUnavailableException.class,
+            () -> bulkhead.submit(mountPoint, () -> Futures.immediateFuture("open"), IllegalStateException::new));
+        assertEquals(60, open.getRetryAfterSeconds());
+
+        final MountPointRequests requests = bulkhead.getMountPoints().get(0);
+        assertEquals(BreakerState.OPEN.name(), requests.getBreakerState());
+        assertEquals(2, requests.getTimedOutRequests());
+        assertEquals(1, requests.getRejectedRequests());
+        assertEquals(0, requests.getActiveRequests());
+    }
+
+    @Test
+    public void testSynchronousFailureReleasesPermit() throws Exception {
+        assertThrows(RestconfDocumentedException.class, () -> bulkhead.submit(mountPoint, () -> {
+            throw new RestconfDocumentedException("invalid request");
+        }, IllegalStateException::new));
+
+        assertEquals("ok", bulkhead.submit(mountPoint, () -> Futures.immediateFuture("ok"),
+            IllegalStateException::new).get());
+        assertEquals(BreakerState.CLOSED, bulkhead.breakerState(mountPoint));
+    }
+
+    @Test
+    public void testRequestErrorsDoNotOpenBreaker() throws Exception {
+        for (int i = 0; i < 3; ++i) {
+            assertThrows(ExecutionException.class, () -> bulkhead.submit(mountPoint,
+                () -> Futures.immediateFailedFuture(new ReadFailedException("missing",
+                    RpcResultBuilder.newError(ErrorType.APPLICATION, ErrorTag.DATA_MISSING, "missing"))),
+                IllegalStateException::new).get());
+        }
+        assertEquals(BreakerState.CLOSED, bulkhead.breakerState(mountPoint));
+        assertEquals(3, bulkhead.getMountPoints().get(0).getFailedResponses());
+
+        // Server and transport errors count against the device
+        assertFalse(MountPointBulkhead.isRequestError(new RestconfDocumentedException("failed",
+            ErrorType.APPLICATION, ErrorTag.OPERATION_FAILED)));
+        assertFalse(MountPointBulkhead.isRequestError(new ReadFailedException("timed out",
+            RpcResultBuilder.newError(ErrorType.TRANSPORT, ErrorTag.RESOURCE_DENIED, "timed out"))));
+        assertTrue(MountPointBulkhead.isRequestError(new RestconfDocumentedException("invalid",
+            ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE)));
+    }
+
+    @Test
+    public void testLimitsOverride() throws Exception {
+        bulkhead.setLimits(mountPoint.getIdentifier(), bulkhead.getDefaults().with("max-concurrent-requests=2"));
+
+        final SettableFuture<String> pending = SettableFuture.create();
+        bulkhead.submit(mountPoint, () -> pending, IllegalStateException::new);
+        bulkhead.submit(mountPoint, () -> pending, IllegalStateException::new);
+        assertEquals(2, bulkhead.getMountPoints().get(0).getActiveRequests());
+
+        // Other mount points keep the defaults
+        bulkhead.submit(otherMountPoint, () -> pending, IllegalStateException::new);
+        assertThrows(MountPointUnavailableException.class,
+            () -> bulkhead.submit(otherMountPoint, () -> pending, IllegalStateException::new));
+        pending.set("done");
+    }
+
+    @Test
+    public void testPathOverrides() {
+        final ControllerContext controllerContext = TestRestconfUtils.newControllerContext(
+            YangParserTestUtils.parseYangResource("/instanceidentifier/yang/instance-identifier-patch-module.yang"));
+        final QName list = QName.create("instance:identifier:patch:module", "2015-11-21", "my-list1");
+        final YangInstanceIdentifier device = YangInstanceIdentifier.builder()
+            .node(QName.create(list, "patch-cont"))
+            .node(list)
+            .nodeWithKey(list, QName.create(list, "name"), "device-1")
+            .build();
+        final DOMMountPoint pathMountPoint = mock(DOMMountPoint.class);
+        doReturn(device).when(pathMountPoint).getIdentifier();
+
+        try (MountPointBulkhead pathBulkhead = new MountPointBulkhead(null, controllerContext, 16, 32, 500, 60000, 5,
+                30000)) {
+            pathBulkhead.setOverrides("instance-identifier-patch-module:patch-cont/my-list1/device-1 "
+                + "request-timeout=120000, failure-threshold=1");
+            final Limits limits = pathBulkhead.limitsOf(pathMountPoint);
+            assertEquals(120000, limits.getRequestTimeoutMillis());
+            assertEquals(1, limits.getFailureThreshold());
+            assertEquals(16, limits.getMaxConcurrentRequests());
+            assertEquals(500, limits.getQueueTimeoutMillis());
+            assertEquals(pathBulkhead.getDefaults().getRequestTimeoutMillis(),
+                pathBulkhead.limitsOf(mountPoint).getRequestTimeoutMillis());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> bulkhead.getDefaults().with("request-timeout=soon"));
+        assertThrows(IllegalArgumentException.class, () -> bulkhead.getDefaults().with("unknown=1"));
+        // Paths cannot be resolved without a controller context
+        assertThrows(IllegalStateException.class,
+            () -> bulkhead.setOverrides("instance-identifier-patch-module:patch-cont request-timeout=1"));
+    }
+
+    @Test
+    public void testDefaultQueueTimeout() {
+        try (MountPointBulkhead defaultBulkhead = new MountPointBulkhead()) {
+            assertTrue(defaultBulkhead.getDefaults().getQueueTimeoutMillis() > 0);
+        }
+    }
+
+    @Test
+    public void testRemovedMountPointDropsCompartment() throws Exception {
+        bulkhead.submit(mountPoint, () -> Futures.immediateFuture("ok"), IllegalStateException::new).get();
+        bulkhead.submit(otherMountPoint, () -> Futures.immediateFuture("ok"), IllegalStateException::new).get();
+        assertEquals(2, bulkhead.compartments());
+
+        bulkhead.onMountPointRemoved(mountPoint.getIdentifier());
+        assertEquals(1, bulkhead.compartments());
+        assertEquals(otherMountPoint.getIdentifier().toString(), bulkhead.getMountPoints().get(0).getMountPoint());
+    }
+}
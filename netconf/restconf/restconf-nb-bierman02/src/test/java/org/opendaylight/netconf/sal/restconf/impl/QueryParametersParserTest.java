@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.UriInfo;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.rest.impl.WriterParameters.WithDefaults;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+
+public class QueryParametersParserTest {
+    @Test
+    public void testWithDefaults() {
+        assertEquals(WithDefaults.REPORT_ALL, withDefaults(null, true));
+        assertEquals(WithDefaults.TRIM, withDefaults("trim", true));
+        assertEquals(WithDefaults.EXPLICIT, withDefaults("explicit", true));
+        assertEquals(WithDefaults.REPORT_ALL, withDefaults("report-all", true));
+        assertEquals(WithDefaults.REPORT_ALL, withDefaults("report-all-tagged", true));
+        assertThrows(RestconfDocumentedException.class, () -> withDefaults("all", true));
+    }
+
+    @Test
+    public void testWithDefaultsIgnored() {
+        // Only reads of configuration honour with-defaults
+        assertEquals(WithDefaults.REPORT_ALL, withDefaults("trim", false));
+        assertEquals(WithDefaults.REPORT_ALL, withDefaults("explicit", false));
+    }
+
+    private static WithDefaults withDefaults(final String value, final boolean configRead) {
+        final MultivaluedMap<String, String> params = new MultivaluedHashMap<>();
+        if (value != null) {
+            params.add("with-defaults", value);
+        }
+        final UriInfo uriInfo = mock(UriInfo.class);
+        doReturn(params).when(uriInfo).getQueryParameters(false);
+        return QueryParametersParser.parseWriterParameters(uriInfo, configRead).getWithDefaults();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import javax.xml.XMLConstants;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+public class AbstractNotificationsDataTest {
+    private static final String NOTIFICATION_NS = "urn:ietf:params:xml:ns:netconf:notification:1.0";
+    private static final String SAL_REMOTE_NS = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote";
+    private static final QName PATCH_CONT = QName.create("instance:identifier:patch:module", "2015-11-21",
+        "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+    private static final QName NAME = QName.create(PATCH_CONT, "name");
+
+    @Test
+    public void testWriteNotification() throws Exception {
+        final EffectiveModelContext context = YangParserTestUtils.parseYangFiles(
+            TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+
+        final String xml = AbstractNotificationsData.writeNotification("data-changed-notification", writer -> {
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "data-change-event", SAL_REMOTE_NS);
+            AbstractNotificationsData.writeTextElement(writer, SAL_REMOTE_NS, "path", "/a<b>&c");
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "data", SAL_REMOTE_NS);
+            AbstractNotificationsData.writeNormalizedNode(writer, Builders.containerBuilder()
+                .withNodeIdentifier(NodeIdentifier.create(PATCH_CONT))
+                .withChild(Builders.mapBuilder()
+                    .withNodeIdentifier(NodeIdentifier.create(MY_LIST1))
+                    .withChild(Builders.mapEntryBuilder()
+                        .withNodeIdentifier(NodeIdentifierWithPredicates.of(MY_LIST1, NAME, "value"))
+                        .withChild(ImmutableNodes.leafNode(NAME, "value"))
+                        .build())
+                    .build())
+                .build(), SchemaInferenceStack.of(context).toInference());
+            writer.writeEndElement();
+            writer.writeEndElement();
+        });
+
+        final Document doc = UntrustedXML.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        final Element notification = doc.getDocumentElement();
+        assertEquals(NOTIFICATION_NS, notification.getNamespaceURI());
+        assertEquals("notification", notification.getLocalName());
+
+        // Elements without namespace of their own inherit their parent's default namespace
+        final Element eventTime = (Element) notification.getElementsByTagNameNS(NOTIFICATION_NS, "eventTime").item(0);
+        assertEquals(notification, eventTime.getParentNode());
+
+        final Element event = (Element) doc.getElementsByTagNameNS(SAL_REMOTE_NS, "data-change-event").item(0);
+        assertEquals("data-changed-notification", event.getParentNode().getLocalName());
+        assertEquals("/a<b>&c", doc.getElementsByTagNameNS(SAL_REMOTE_NS, "path").item(0).getTextContent());
+
+        final Element data = (Element) doc.getElementsByTagNameNS(SAL_REMOTE_NS, "data").item(0);
+        final Element cont = (Element) data.getFirstChild();
+        assertEquals(PATCH_CONT.getNamespace().toString(), cont.getNamespaceURI());
+        assertEquals("patch-cont", cont.getLocalName());
+        assertEquals("value", cont.getElementsByTagNameNS(PATCH_CONT.getNamespace().toString(), "name").item(0)
+            .getTextContent());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.builder.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Compares the cost of writing a data change event through a DOM document pretty-printed by a {@link Transformer},
+ * as {@link ListenerAdapter} used to, with writing it straight through an {@link XMLStreamWriter}. Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DataChangeEventBenchmark {
+    private static final String NAMESPACE = "instance:identifier:patch:module";
+    private static final String REVISION = "2015-11-21";
+    private static final QName PATCH_CONT = QName.create(NAMESPACE, REVISION, "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+    private static final QName NAME = QName.create(PATCH_CONT, "name");
+    private static final QName MY_LEAF11 = QName.create(PATCH_CONT, "my-leaf11");
+    private static final QName MY_LEAF12 = QName.create(PATCH_CONT, "my-leaf12");
+    private static final String PATH = "/instance-identifier-patch-module:patch-cont";
+    private static final String SAL_REMOTE = "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote";
+    private static final TransformerFactory TF = TransformerFactory.newInstance();
+    private static final XMLOutputFactory OF = XMLOutputFactory.newFactory();
+
+    @Param({ "1", "100" })
+    public int entries;
+
+    private Inference inference;
+    private ContainerNode data;
+
+    @Setup
+    public void setup() {
+        final EffectiveModelContext context = YangParserTestUtils.parseYangFiles(
+            TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+        inference = SchemaInferenceStack.of(context).toInference();
+
+        final CollectionNodeBuilder<MapEntryNode, MapNode> list = Builders.mapBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(MY_LIST1));
+        for (int i = 0; i < entries; ++i) {
+            list.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(MY_LIST1, NAME, "entry-" + i))
+                .withChild(ImmutableNodes.leafNode(NAME, "entry-" + i))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF11, "leaf 11 of entry " + i))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF12, "leaf 12 of entry " + i))
+                .build());
+        }
+        data = Builders.containerBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(PATCH_CONT))
+            .withChild(list.build())
+            .build();
+    }
+
+    @Benchmark
+    public String writeDom() throws IOException, XMLStreamException, TransformerException {
+        final Document doc = UntrustedXML.newDocumentBuilder().newDocument();
+        final Element notification = doc.createElementNS("urn:ietf:params:xml:ns:netconf:notification:1.0",
+            "notification");
+        doc.appendChild(notification);
+        final Element eventTime = doc.createElement("eventTime");
+        eventTime.setTextContent(AbstractNotificationsData.toRFC3339(Instant.now()));
+        notification.appendChild(eventTime);
+
+        final Element changed = doc.createElementNS(SAL_REMOTE, "data-changed-notification");
+        final Element event = doc.createElement("data-change-event");
+        final Element path = doc.createElement("path");
+        path.setTextContent(PATH);
+        event.appendChild(path);
+        final Element operation = doc.createElement("operation");
+        operation.setTextContent("created");
+        event.appendChild(operation);
+
+        final DOMResult result = new DOMResult(UntrustedXML.newDocumentBuilder().newDocument());
+        final XMLStreamWriter writer = OF.createXMLStreamWriter(result);
+        final NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(
+            XMLStreamNormalizedNodeStreamWriter.create(writer, inference));
+        nnWriter.write(data);
+        nnWriter.close();
+
+        final Element dataElement = doc.createElement("data");
+        dataElement.appendChild(doc.importNode(result.getNode().getFirstChild(), true));
+        event.appendChild(dataElement);
+        changed.appendChild(event);
+        notification.appendChild(changed);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final Transformer transformer = TF.newTransformer();
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
+        transformer.setOutputProperty(OutputKeys.METHOD, "xml");
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+        transformer.transform(new DOMSource(doc), new StreamResult(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String writeStreaming() throws IOException, XMLStreamException {
+        return AbstractNotificationsData.writeNotification("data-changed-notification", writer -> {
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "data-change-event", SAL_REMOTE);
+            AbstractNotificationsData.writeTextElement(writer, SAL_REMOTE, "path", PATH);
+            AbstractNotificationsData.writeTextElement(writer, SAL_REMOTE, "operation", "created");
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "data", SAL_REMOTE);
+            AbstractNotificationsData.writeNormalizedNode(writer, data, inference);
+            writer.writeEndElement();
+            writer.writeEndElement();
+        });
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DataChangeEventBenchmark.class.getSimpleName()).build()).run();
+    }
+}
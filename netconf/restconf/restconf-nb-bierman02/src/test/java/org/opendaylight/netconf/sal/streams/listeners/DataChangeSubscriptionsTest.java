@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeService;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+public class DataChangeSubscriptionsTest {
+    private static final QName TOASTER = QName.create("http://netconfcentral.org/ns/toaster", "2009-11-20", "toaster");
+    private static final NodeIdentifier STATUS = new NodeIdentifier(QName.create(TOASTER, "toasterStatus"));
+    private static final NodeIdentifier DONENESS = new NodeIdentifier(QName.create(TOASTER, "darknessFactor"));
+    private static final YangInstanceIdentifier TOASTER_PATH = YangInstanceIdentifier.of(TOASTER);
+    private static final YangInstanceIdentifier STATUS_PATH = TOASTER_PATH.node(STATUS);
+    private static final YangInstanceIdentifier DONENESS_PATH = TOASTER_PATH.node(DONENESS);
+    private static final DOMDataTreeIdentifier TOASTER_ID =
+        new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, TOASTER_PATH);
+    private static final DOMDataTreeIdentifier STATUS_ID =
+        new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, STATUS_PATH);
+
+    private final DataChangeSubscriptions subscriptions = new DataChangeSubscriptions();
+    private final DOMDataTreeChangeService changeService = mock(DOMDataTreeChangeService.class);
+    private final Map<DOMDataTreeIdentifier, ListenerRegistration<?>> registrations = new HashMap<>();
+    private final Map<DOMDataTreeIdentifier, DOMDataTreeChangeListener> registered = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> register(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(changeService).registerDataTreeChangeListener(any(), any());
+    }
+
+    @Test
+    public void testSharedRegistration() {
+        final ListenerRegistration<ListenerAdapter> toaster = subscribe(TOASTER_PATH);
+        final ListenerRegistration<ListenerAdapter> status = subscribe(STATUS_PATH);
+        verify(changeService).registerDataTreeChangeListener(eq(TOASTER_ID), any());
+        assertEquals(1, subscriptions.registrations());
+
+        // Other datastores are registered on their own
+        subscriptions.subscribe(changeService, LogicalDatastoreType.OPERATIONAL, listener(STATUS_PATH));
+        assertEquals(2, subscriptions.registrations());
+
+        // The remaining stream is registered at its own path, the previous registration is closed once it has
+        // caught up
+        toaster.close();
+        toaster.close();
+        verify(changeService).registerDataTreeChangeListener(eq(STATUS_ID), any());
+        verify(registrations.get(TOASTER_ID), never()).close();
+        registered.get(STATUS_ID).onInitialData();
+        verify(registrations.get(TOASTER_ID)).close();
+
+        status.close();
+        verify(registrations.get(STATUS_ID)).close();
+        assertEquals(1, subscriptions.registrations());
+
+        // Subscribed again, the node is registered anew
+        subscribe(TOASTER_PATH);
+        verify(changeService, times(2)).registerDataTreeChangeListener(eq(TOASTER_ID), any());
+    }
+
+    @Test
+    public void testCommonAncestor() {
+        final ListenerAdapter status = listener(STATUS_PATH);
+        subscriptions.subscribe(changeService, LogicalDatastoreType.CONFIGURATION, status);
+        verify(changeService).registerDataTreeChangeListener(eq(STATUS_ID), any());
+
+        // Another stream below the same top-level node moves the registration to their common ancestor
+        final ListenerAdapter doneness = listener(DONENESS_PATH);
+        subscriptions.subscribe(changeService, LogicalDatastoreType.CONFIGURATION, doneness);
+        verify(changeService).registerDataTreeChangeListener(eq(TOASTER_ID), any());
+
+        // Until the new registration catches up, changes come through the previous one
+        final DataTreeCandidateNode statusNode = mock(DataTreeCandidateNode.class);
+        doReturn(ModificationType.WRITE).when(statusNode).getModificationType();
+        final DataTreeCandidate statusChange = candidate(STATUS_PATH, statusNode);
+        registered.get(STATUS_ID).onDataTreeChanged(List.of(statusChange));
+        assertSame(statusNode, delivered(status).getRootNode());
+
+        // Initial data of the new registration is not delivered, the previous registration is closed
+        final DataTreeCandidateNode toasterNode = mock(DataTreeCandidateNode.class);
+        doReturn(ModificationType.WRITE).when(toasterNode).getModificationType();
+        doReturn(Optional.of(statusNode)).when(toasterNode).getModifiedChild(STATUS);
+        doReturn(Optional.empty()).when(toasterNode).getModifiedChild(DONENESS);
+        final DataTreeCandidate toasterChange = candidate(TOASTER_PATH, toasterNode);
+        registered.get(TOASTER_ID).onDataTreeChanged(List.of(toasterChange));
+        verify(status, times(1)).onDataTreeChanged(any());
+        verify(registrations.get(STATUS_ID)).close();
+
+        // Late changes of the previous registration are dropped, the new one delivers them
+        registered.get(STATUS_ID).onDataTreeChanged(List.of(statusChange));
+        verify(status, times(1)).onDataTreeChanged(any());
+        registered.get(TOASTER_ID).onDataTreeChanged(List.of(toasterChange));
+        verify(status, times(2)).onDataTreeChanged(any());
+        verify(doneness, never()).onDataTreeChanged(any());
+    }
+
+    @Test
+    public void testSubscribeWhileRegistering() {
+        // The change service may call back into subscriptions while a listener is being registered
+        doAnswer(invocation -> {
+            subscribe(TOASTER_PATH).close();
+            return register(invocation.getArgument(0), invocation.getArgument(1));
+        }).when(changeService).registerDataTreeChangeListener(eq(TOASTER_ID), any());
+
+        final ListenerRegistration<ListenerAdapter> toaster = subscribe(TOASTER_PATH);
+        verify(changeService).registerDataTreeChangeListener(eq(TOASTER_ID), any());
+        verify(registrations.get(TOASTER_ID), never()).close();
+        assertEquals(1, subscriptions.registrations());
+
+        toaster.close();
+        verify(registrations.get(TOASTER_ID)).close();
+        assertEquals(0, subscriptions.registrations());
+    }
+
+    @Test
+    public void testFanOut() {
+        final ListenerAdapter toaster = listener(TOASTER_PATH);
+        final ListenerAdapter status = listener(STATUS_PATH);
+        final ListenerAdapter doneness = listener(DONENESS_PATH);
+        subscriptions.subscribe(changeService, LogicalDatastoreType.CONFIGURATION, toaster);
+        subscriptions.subscribe(changeService, LogicalDatastoreType.CONFIGURATION, status);
+        subscriptions.subscribe(changeService, LogicalDatastoreType.CONFIGURATION, doneness);
+        verify(changeService).registerDataTreeChangeListener(any(), any());
+
+        // Only the status of the toaster has changed
+        final DataTreeCandidateNode statusNode = mock(DataTreeCandidateNode.class);
+        doReturn(ModificationType.WRITE).when(statusNode).getModificationType();
+        final DataTreeCandidateNode toasterNode = mock(DataTreeCandidateNode.class);
+        doReturn(ModificationType.SUBTREE_MODIFIED).when(toasterNode).getModificationType();
+        doReturn(Optional.of(statusNode)).when(toasterNode).getModifiedChild(STATUS);
+        doReturn(Optional.empty()).when(toasterNode).getModifiedChild(DONENESS);
+
+        registered.get(TOASTER_ID).onDataTreeChanged(List.of(candidate(TOASTER_PATH, toasterNode)));
+
+        assertSame(toasterNode, delivered(toaster).getRootNode());
+        final DataTreeCandidate statusChange = delivered(status);
+        assertEquals(STATUS_PATH, statusChange.getRootPath());
+        assertSame(statusNode, statusChange.getRootNode());
+        verify(doneness, never()).onDataTreeChanged(any());
+
+        // Changes narrowed down below a stream's path are delivered as they are
+        final DataTreeCandidate narrowed = candidate(STATUS_PATH, statusNode);
+        registered.get(TOASTER_ID).onDataTreeChanged(List.of(narrowed));
+
+        verify(toaster).onDataTreeChanged(List.of(narrowed));
+        verify(doneness, never()).onDataTreeChanged(any());
+    }
+
+    private ListenerRegistration<?> register(final DOMDataTreeIdentifier id, final DOMDataTreeChangeListener listener) {
+        registered.put(id, listener);
+        return registrations.computeIfAbsent(id, key -> mock(ListenerRegistration.class));
+    }
+
+    private ListenerRegistration<ListenerAdapter> subscribe(final YangInstanceIdentifier path) {
+        return subscriptions.subscribe(changeService, LogicalDatastoreType.CONFIGURATION, listener(path));
+    }
+
+    private static ListenerAdapter listener(final YangInstanceIdentifier path) {
+        final ListenerAdapter listener = mock(ListenerAdapter.class);
+        doReturn(path).when(listener).getPath();
+        return listener;
+    }
+
+    private static DataTreeCandidate candidate(final YangInstanceIdentifier path, final DataTreeCandidateNode node) {
+        final DataTreeCandidate candidate = mock(DataTreeCandidate.class);
+        doReturn(path).when(candidate).getRootPath();
+        doReturn(node).when(candidate).getRootNode();
+        return candidate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataTreeCandidate delivered(final ListenerAdapter listener) {
+        final ArgumentCaptor<List<DataTreeCandidate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onDataTreeChanged(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().get(0);
+    }
+}
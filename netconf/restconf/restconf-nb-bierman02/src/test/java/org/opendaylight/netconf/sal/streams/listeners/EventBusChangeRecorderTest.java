@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Batching;
+import org.opendaylight.netconf.sal.streams.listeners.SubscriberParams.Variant;
+
+public class EventBusChangeRecorderTest {
+    private static final String DATA = "<notification>\u017elu\u0165ou\u010dk\u00fd</notification>";
+
+    private final ReplayBuffers replayBuffers = new ReplayBuffers();
+    private final EventJournals journals = new EventJournals();
+
+    @After
+    public void after() {
+        replayBuffers.close();
+    }
+
+    @Test
+    public void testNotifySharesEncodedContent() {
+        final EmbeddedChannel first = new EmbeddedChannel();
+        final EmbeddedChannel second = new EmbeddedChannel();
+        final EmbeddedChannel inactive = new EmbeddedChannel();
+        inactive.close();
+
+        final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+        subscribers.add(first);
+        subscribers.add(second);
+        subscribers.add(inactive);
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(subscribers).when(listener).getSubscribers();
+
+        final Event event = new Event(EventType.NOTIFY);
+        event.setData(DATA);
+        new EventBusChangeRecorder<>(listener, replayBuffers, journals).recordCustomerChange(event);
+
+        assertEquals(2, subscribers.size());
+        assertFalse(subscribers.contains(inactive));
+
+        first.runPendingTasks();
+        second.runPendingTasks();
+        final TextWebSocketFrame firstFrame = first.readOutbound();
+        final TextWebSocketFrame secondFrame = second.readOutbound();
+        assertNull(first.readOutbound());
+        assertEquals(DATA, firstFrame.text());
+        assertEquals(DATA, secondFrame.text());
+
+        // Both frames share the encoded content, which is released with the last frame
+        assertEquals(2, firstFrame.refCnt());
+        assertFalse(firstFrame.release());
+        assertTrue(secondFrame.release());
+        assertEquals(0, secondFrame.refCnt());
+    }
+
+    @Test
+    public void testSubscriberParams() {
+        final EmbeddedChannel full = new EmbeddedChannel();
+        final EmbeddedChannel fullToo = new EmbeddedChannel();
+        final EmbeddedChannel withoutData = subscriber(null, null, false, true);
+        final EmbeddedChannel matching = subscriber(null, "//path = 'FULL'", false, false);
+        final EmbeddedChannel notMatching = subscriber(null, "//path = 'other'", false, false);
+        final EmbeddedChannel expired = subscriber(Instant.now().minusSeconds(1), null, false, false);
+        final EmbeddedChannel batched = new EmbeddedChannel();
+        batched.attr(SubscriberParams.KEY).set(SubscriberParams.of(null, null, null, false, false,
+            Batching.of(1000, 0), () -> null));
+
+        final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+        subscribers.addAll(List.of(full, fullToo, withoutData, matching, notMatching, expired, batched));
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(subscribers).when(listener).getSubscribers();
+        doReturn(true).when(listener).hasSubscribers();
+
+        final Map<Variant, Integer> encoded = new EnumMap<>(Variant.class);
+        final Event event = new Event(EventType.NOTIFY);
+        event.setEncoded(new EncodedEvent(Instant.now(), "event", new EncodedEvent.Source() {
+            @Override
+            public String encode(final Variant variant) {
+                encoded.merge(variant, 1, Integer::sum);
+                return variant.name();
+            }
+
+            @Override
+            public AbstractNotificationsData.EventContentWriter content(final Variant variant) {
+                return writer -> AbstractNotificationsData.writeTextElement(writer,
+                    AbstractNotificationsData.SAL_REMOTE_NAMESPACE, "path", variant.name());
+            }
+        }, SubscriberParams.DEFAULT, Batching.NONE));
+        new EventBusChangeRecorder<>(listener, replayBuffers, journals).recordCustomerChange(event);
+
+        // Each variant is encoded once, no matter how many subscribers get it
+        assertEquals(Map.of(Variant.FULL, 1, Variant.WITHOUT_DATA, 1), encoded);
+        assertReceived(full, "FULL");
+        assertReceived(fullToo, "FULL");
+        assertReceived(withoutData, "WITHOUT_DATA");
+        assertReceived(matching, "FULL");
+        assertReceived(notMatching);
+        // Batched subscribers get batches only
+        assertReceived(batched);
+
+        // Subscribers past their stop-time are disconnected
+        assertFalse(subscribers.contains(expired));
+        expired.runPendingTasks();
+        final Object close = expired.readOutbound();
+        assertTrue(close instanceof CloseWebSocketFrame);
+        ((CloseWebSocketFrame) close).release();
+        assertFalse(expired.isOpen());
+    }
+
+    @Test
+    public void testReplayOnRegister() {
+        final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(subscribers).when(listener).getSubscribers();
+        doReturn("replay-test").when(listener).getReplayKey();
+        final EventBusChangeRecorder<BaseListenerInterface> recorder =
+            new EventBusChangeRecorder<>(listener, replayBuffers, journals);
+
+        // Sent while there is nobody listening
+        final Instant start = Instant.now();
+        final Event notify = new Event(EventType.NOTIFY);
+        notify.setData(DATA);
+        recorder.recordCustomerChange(notify);
+
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final Event register = new Event(EventType.REGISTER);
+        register.setSubscriber(channel);
+        register.setReplayFrom(start);
+        recorder.recordCustomerChange(register);
+
+        channel.runPendingTasks();
+        final TextWebSocketFrame frame = channel.readOutbound();
+        assertEquals(DATA, frame.text());
+        frame.release();
+        assertNull(channel.readOutbound());
+
+        // Subscribers without a start-time in the past get live events only
+        final EmbeddedChannel live = new EmbeddedChannel();
+        final Event registerLive = new Event(EventType.REGISTER);
+        registerLive.setSubscriber(live);
+        registerLive.setReplayFrom(Instant.now().plusSeconds(60));
+        recorder.recordCustomerChange(registerLive);
+        live.runPendingTasks();
+        assertNull(live.readOutbound());
+
+    }
+
+    @Test
+    public void testReplayFiltered() {
+        final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(subscribers).when(listener).getSubscribers();
+        doReturn("replay-filtered-test").when(listener).getReplayKey();
+        final EventBusChangeRecorder<BaseListenerInterface> recorder =
+            new EventBusChangeRecorder<>(listener, replayBuffers, journals);
+
+        final Instant start = Instant.now();
+        for (final String path : List.of("first", "second", "first")) {
+            final Event notify = new Event(EventType.NOTIFY);
+            notify.setData("<notification><path>" + path + "</path></notification>");
+            recorder.recordCustomerChange(notify);
+        }
+
+        // Only recorded events which pass the filter of the subscriber are replayed
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final Event register = new Event(EventType.REGISTER);
+        register.setSubscriber(channel);
+        register.setReplayFrom(start);
+        register.setReplayFilter(NotificationFilter.compile("//path = 'first'", () -> {
+            throw new AssertionError("Filters without prefixes do not need a model");
+        }));
+        recorder.recordCustomerChange(register);
+
+        assertReceived(channel, "<notification><path>first</path></notification>",
+            "<notification><path>first</path></notification>");
+
+        // A filter no recorded event passes replays nothing
+        final EmbeddedChannel none = new EmbeddedChannel();
+        final Event registerNone = new Event(EventType.REGISTER);
+        registerNone.setSubscriber(none);
+        registerNone.setReplayFrom(start);
+        registerNone.setReplayFilter(NotificationFilter.compile("//path = 'other'", () -> null));
+        recorder.recordCustomerChange(registerNone);
+        assertReceived(none);
+
+        // Skipped events have been released, buffered ones are released with the buffer
+        final ReplayBuffer buffer = replayBuffers.findBuffer("replay-filtered-test");
+        final List<ByteBuf> buffered = buffer.between(start, null, Instant.now());
+        assertEquals(3, buffered.size());
+        for (final ByteBuf content : buffered) {
+            assertEquals(2, content.refCnt());
+            content.release();
+        }
+    }
+
+    private static EmbeddedChannel subscriber(final Instant stop, final String filter, final boolean leafNodesOnly,
+            final boolean skipNotificationData) {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        channel.attr(SubscriberParams.KEY).set(SubscriberParams.of(null, stop, filter, leafNodesOnly,
+            skipNotificationData, () -> {
+                throw new AssertionError("Filters without prefixes do not need a model");
+            }));
+        return channel;
+    }
+
+    private static void assertReceived(final EmbeddedChannel channel, final String... texts) {
+        channel.runPendingTasks();
+        for (final String text : texts) {
+            final TextWebSocketFrame frame = channel.readOutbound();
+            try {
+                assertEquals(text, frame.text());
+            } finally {
+                frame.release();
+            }
+        }
+        assertNull(channel.readOutbound());
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EventJournalTest {
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private EventJournals journals;
+    private Path directory;
+
+    @Before
+    public void before() throws Exception {
+        journals = new EventJournals();
+        journals.setSegmentBytes(64);
+        directory = folder.getRoot().toPath().resolve("stream");
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            for (int i = 0; i < 10; i++) {
+                append(journal, T0.plusSeconds(i), "event" + i);
+            }
+            // 12 bytes of header and 6 bytes of event, three of which fit into a segment
+            assertEquals(4, journal.segmentCount());
+
+            assertRead(journal.read(T0.plusSeconds(4), T0.plusSeconds(6)), "event4", "event5", "event6");
+            assertRead(journal.read(T0.plusSeconds(8), null), "event8", "event9");
+            assertRead(journal.read(T0.plusSeconds(10), null));
+
+            // Events appended after the read has started are not returned
+            final Iterator<ByteBuf> events = journal.read(T0.plusSeconds(9), null);
+            append(journal, T0.plusSeconds(10), "event10");
+            assertRead(events, "event9");
+        }
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        journals.setSegmentBytes(1024 * 1024);
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            for (int i = 0; i < 1000; i++) {
+                append(journal, T0.plusSeconds(i / 2), "event" + i);
+            }
+            assertRead(journal.read(T0.plusSeconds(300), T0.plusSeconds(300)), "event600", "event601");
+            assertRead(journal.read(T0, T0), "event0", "event1");
+        }
+    }
+
+    @Test
+    public void testRecovery() throws Exception {
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            for (int i = 0; i < 5; i++) {
+                append(journal, T0.plusSeconds(i), "event" + i);
+            }
+        }
+
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            assertEquals(2, journal.segmentCount());
+            append(journal, T0.plusSeconds(5), "event5");
+            assertEquals(2, journal.segmentCount());
+            assertRead(journal.read(T0.plusSeconds(2), null), "event2", "event3", "event4", "event5");
+        }
+    }
+
+    @Test
+    public void testRetention() throws Exception {
+        journals.setMaxBytes(128);
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            for (int i = 0; i < 9; i++) {
+                append(journal, T0.plusSeconds(i), "event" + i);
+            }
+            assertEquals(2, journal.segmentCount());
+            assertRead(journal.read(T0, null), "event3", "event4", "event5", "event6", "event7", "event8");
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+
+        journals.setMaxBytes(1024);
+        journals.setMaxAgeMillis(5000);
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            append(journal, T0.plusSeconds(20), "event20");
+            assertEquals(1, journal.segmentCount());
+            assertRead(journal.read(T0, null), "event20");
+        }
+    }
+
+    @Test
+    public void testRetentionReleasesSegments() throws Exception {
+        journals.setMaxBytes(128);
+        final Path first = directory.resolve(String.format("%019d.segment", 0));
+        final List<ByteBuf> held = new ArrayList<>();
+        try (EventJournal journal = EventJournal.open(directory, journals)) {
+            for (int i = 0; i < 3; i++) {
+                append(journal, T0.plusSeconds(i), "event" + i);
+            }
+            journal.read(T0, null).forEachRemaining(held::add);
+
+            for (int i = 3; i < 7; i++) {
+                append(journal, T0.plusSeconds(i), "event" + i);
+            }
+            assertEquals(2, journal.segmentCount());
+
+            // The dropped segment stays mapped while its events are being read
+            assertTrue(Files.exists(first));
+            assertEquals("event0", held.get(0).toString(StandardCharsets.UTF_8));
+            held.forEach(ByteBuf::release);
+            assertFalse(Files.exists(first));
+        }
+
+        // Closing the journal keeps its segments
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void testJournalFor() {
+        assertNull(journals.journalFor("data-change-event-subscription/audit", "audit"));
+
+        journals.setDirectory(folder.getRoot().getPath());
+        journals.setStreams("data-change-event-subscription/audit.*");
+        assertNotNull(journals.journalFor("data-change-event-subscription/audit", "audit"));
+        assertNull(journals.journalFor("data-change-event-subscription/other", "other"));
+        journals.close();
+    }
+
+    private static void append(final EventJournal journal, final Instant time, final String text) throws Exception {
+        final ByteBuf content = Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+        try {
+            journal.append(time, content);
+        } finally {
+            content.release();
+        }
+    }
+
+    private static void assertRead(final Iterator<ByteBuf> events, final String... expected) {
+        final List<String> texts = new ArrayList<>();
+        events.forEachRemaining(event -> {
+            texts.add(event.toString(StandardCharsets.UTF_8));
+            event.release();
+        });
+        assertEquals(List.of(expected), texts);
+    }
+}
@@ -8,15 +8,23 @@
 package org.opendaylight.netconf.sal.streams.listeners;
 
 import static java.time.Instant.EPOCH;
+import static org.junit.Assert.assertEquals;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.netty.channel.embedded.EmbeddedChannel;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
-import org.json.JSONObject;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -38,6 +46,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.skyscreamer.jsonassert.JSONAssert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +72,8 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
 
     private static EffectiveModelContext schemaContext;
 
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher();
+
     private DataBroker dataBroker;
     private DOMDataBroker domDataBroker;
     private ControllerContext controllerContext;
@@ -80,6 +91,11 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
         controllerContext = TestRestconfUtils.newControllerContext(schemaContext);
     }
 
+    @After
+    public void closeDispatcher() {
+        dispatcher.close();
+    }
+
     class ListenerAdapterTester extends ListenerAdapter {
 
         private String lastNotification = null;
@@ -87,7 +103,8 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
         ListenerAdapterTester(final YangInstanceIdentifier path, final String streamName,
                 final NotificationOutputTypeGrouping.NotificationOutputType outputType,
                 final boolean leafNodesOnly, final boolean skipNotificationData) {
-            super(path, streamName, outputType, controllerContext);
+            super(path, streamName, outputType, controllerContext, dispatcher, new ReplayBuffers(),
+                new EventJournals());
             setQueryParams(EPOCH, Optional.empty(), Optional.empty(), leafNodesOnly, skipNotificationData);
         }
 
@@ -109,17 +126,20 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
                 Thread.sleep(200);
             }
 
+            LOG.debug("Comparing {} {}", json, lastNotification);
+            // Events may come in any order
+            JSONAssert.assertEquals(json, withFakeDate(lastNotification), false);
             this.lastNotification = null;
         }
     }
 
     static String withFakeDate(final String in) {
-        JSONObject doc = new JSONObject(in);
-        JSONObject notification = doc.getJSONObject("notification");
+        JsonObject doc = JsonParser.parseString(in).getAsJsonObject();
+        JsonObject notification = doc.getAsJsonObject("ietf-restconf:notification");
         if (notification == null) {
             return in;
         }
-        notification.put("eventTime", "someDate");
+        notification.addProperty("eventTime", "someDate");
         return doc.toString();
     }
 
@@ -215,4 +235,78 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
         writeTransaction.commit();
         adapter.assertGot(getNotifJson(JSON_NOTIF_WITHOUT_DATA_DELETE));
     }
+
+    @Test
+    public void testJsonNotifsBatched() throws Exception {
+        // Subscribers of the same stream, one of them asking for batched events
+        final EmbeddedChannel immediate = new EmbeddedChannel();
+        final EmbeddedChannel batched = new EmbeddedChannel();
+        batched.attr(SubscriberParams.KEY).set(SubscriberParams.of(EPOCH, null, null, true, false,
+            SubscriberParams.Batching.of(1000, 0), controllerContext::getGlobalSchema));
+
+        final List<String> immediateNotifications = new CopyOnWriteArrayList<>();
+        final List<String> notifications = new CopyOnWriteArrayList<>();
+        final ListenerAdapter adapter = new ListenerAdapter(PATCH_CONT_YIID, "Casey",
+                NotificationOutputTypeGrouping.NotificationOutputType.JSON, controllerContext, dispatcher,
+                new ReplayBuffers(), new EventJournals()) {
+            @Override
+            protected void post(final Event event) {
+                addIfPresent(immediateNotifications, event.getData(immediate));
+                addIfPresent(notifications, event.getData(batched));
+            }
+        };
+        adapter.setQueryParams(EPOCH, Optional.empty(), Optional.empty(), true, false);
+        adapter.getSubscribers().add(immediate);
+        adapter.getSubscribers().add(batched);
+        DOMDataTreeChangeService changeService = domDataBroker.getExtensions()
+                .getInstance(DOMDataTreeChangeService.class);
+        DOMDataTreeIdentifier root = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, PATCH_CONT_YIID);
+        changeService.registerDataTreeChangeListener(root, adapter);
+
+        InstanceIdentifier<MyList1> iid = InstanceIdentifier.create(PatchCont.class)
+                .child(MyList1.class, new MyList1Key("Althea"));
+        WriteTransaction writeTransaction = dataBroker.newWriteOnlyTransaction();
+        writeTransaction.mergeParentStructurePut(LogicalDatastoreType.CONFIGURATION, iid,
+                new MyList1Builder().setMyLeaf11("Jed").setName("Althea").build());
+        writeTransaction.commit().get();
+
+        writeTransaction = dataBroker.newWriteOnlyTransaction();
+        writeTransaction.mergeParentStructureMerge(LogicalDatastoreType.CONFIGURATION, iid,
+                new MyList1Builder().withKey(new MyList1Key("Althea")).setMyLeaf12("Bertha").build());
+        writeTransaction.commit().get();
+
+        writeTransaction = dataBroker.newWriteOnlyTransaction();
+        writeTransaction.mergeParentStructureMerge(LogicalDatastoreType.CONFIGURATION, iid,
+                new MyList1Builder().withKey(new MyList1Key("Althea")).setMyLeaf11("Jay").build());
+        writeTransaction.commit().get();
+
+        final long start = System.currentTimeMillis();
+        while (notifications.isEmpty() && System.currentTimeMillis() - start < 5000) {
+            Thread.sleep(100);
+        }
+        // Make sure the window has passed and nothing else follows
+        Thread.sleep(1500);
+        assertEquals(1, notifications.size());
+        assertEquals(3, immediateNotifications.size());
+
+        final JsonArray events = JsonParser.parseString(notifications.get(0)).getAsJsonObject()
+            .getAsJsonObject("ietf-restconf:notification")
+            .getAsJsonObject("sal-remote:data-changed-notification")
+            .getAsJsonArray("data-change-event");
+        assertEquals(3, events.size());
+        for (JsonElement element : events) {
+            final JsonObject event = element.getAsJsonObject();
+            assertEquals("created", event.get("operation").getAsString());
+            if (event.get("path").getAsString().endsWith("my-leaf11")) {
+                assertEquals("Jay", event.getAsJsonObject("data")
+                    .get("instance-identifier-patch-module:my-leaf11").getAsString());
+            }
+        }
+    }
+
+    private static void addIfPresent(final List<String> notifications, final String data) {
+        if (data != null) {
+            notifications.add(data);
+        }
+    }
 }
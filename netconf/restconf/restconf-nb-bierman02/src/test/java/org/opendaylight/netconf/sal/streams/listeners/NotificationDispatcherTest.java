@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.streams.listeners.NotificationDispatcher.StreamExecutor;
+
+public class NotificationDispatcherTest {
+    private static final int EVENTS = 1000;
+
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher();
+
+    @After
+    public void after() {
+        dispatcher.close();
+    }
+
+    @Test
+    public void testPerStreamOrdering() throws Exception {
+        dispatcher.setThreads(4);
+
+        final List<List<Integer>> received = new ArrayList<>();
+        final List<StreamExecutor> executors = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            received.add(Collections.synchronizedList(new ArrayList<>()));
+            executors.add(dispatcher.newStreamExecutor());
+        }
+        assertEquals(8, dispatcher.getStreams());
+
+        final CountDownLatch done = new CountDownLatch(EVENTS * executors.size());
+        for (int event = 0; event < EVENTS; event++) {
+            for (int stream = 0; stream < executors.size(); stream++) {
+                final List<Integer> events = received.get(stream);
+                final Integer value = event;
+                executors.get(stream).execute(() -> {
+                    events.add(value);
+                    done.countDown();
+                });
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        for (final List<Integer> events : received) {
+            assertEquals(EVENTS, events.size());
+            for (int i = 0; i < EVENTS; i++) {
+                assertEquals(i, events.get(i).intValue());
+            }
+        }
+        assertEquals(EVENTS * executors.size(), dispatcher.getDispatchedEvents());
+        assertEquals(0, dispatcher.getQueuedEvents());
+        assertTrue(dispatcher.getThreads() <= 4);
+    }
+
+    @Test
+    public void testClosedStream() throws Exception {
+        final StreamExecutor executor = dispatcher.newStreamExecutor();
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        executor.close();
+        executor.close();
+        assertEquals(0, dispatcher.getStreams());
+
+        executor.execute(() -> {
+            throw new AssertionError("Event of a closed stream has been run");
+        });
+        assertEquals(1, dispatcher.getDispatchedEvents());
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        final StreamExecutor executor = dispatcher.newStreamExecutor();
+        dispatcher.close();
+        dispatcher.start();
+
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+}
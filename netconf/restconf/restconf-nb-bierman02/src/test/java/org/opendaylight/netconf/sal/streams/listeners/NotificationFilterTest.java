@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import javax.xml.XMLConstants;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.w3c.dom.Document;
+
+public class NotificationFilterTest {
+    private static final QName PATCH_CONT = QName.create("instance:identifier:patch:module", "2015-11-21",
+        "patch-cont");
+    private static final QName MY_LIST1 = QName.create(PATCH_CONT, "my-list1");
+    private static final QName NAME = QName.create(PATCH_CONT, "name");
+
+    private static EffectiveModelContext context;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        context = YangParserTestUtils.parseYangFiles(TestRestconfUtils.loadFiles("/instanceidentifier/yang"));
+    }
+
+    @Test
+    public void testUnqualified() throws Exception {
+        assertTrue(filter("notification/data-changed-notification/data-change-event/data/patch-cont/my-list1/"
+            + "name='Althea'").test(notification("Althea")));
+        assertFalse(filter("notification/data-changed-notification/data-change-event/data/patch-cont/my-list1/"
+            + "name='Althea'").test(notification("Bertha")));
+        assertTrue(filter("//path='/patch-cont'").test(notification("Althea")));
+    }
+
+    @Test
+    public void testQualified() throws Exception {
+        final NotificationFilter filter = filter("//instance-identifier-patch-module:my-list1/"
+            + "instance-identifier-patch-module:name='Althea'");
+        assertTrue(filter.test(notification("Althea")));
+        assertFalse(filter.test(notification("Bertha")));
+
+        // Plain names do not match namespaced elements once prefixes are used
+        assertFalse(filter("//instance-identifier-patch-module:patch-cont and //path").test(notification("Althea")));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertEquals(ErrorTag.INVALID_VALUE, assertThrows(RestconfDocumentedException.class,
+            () -> filter("//unknown-module:name")).getErrors().get(0).getErrorTag());
+        assertEquals(ErrorTag.INVALID_VALUE, assertThrows(RestconfDocumentedException.class,
+            () -> filter("//name[")).getErrors().get(0).getErrorTag());
+    }
+
+    private static NotificationFilter filter(final String expression) {
+        return NotificationFilter.compile(expression, () -> context);
+    }
+
+    private static Document notification(final String name) throws Exception {
+        final String salRemote = AbstractNotificationsData.SAL_REMOTE_NAMESPACE;
+        return AbstractNotificationsData.writeNotificationDocument("data-changed-notification", writer -> {
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "data-change-event", salRemote);
+            AbstractNotificationsData.writeTextElement(writer, salRemote, "path", "/patch-cont");
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, "data", salRemote);
+            AbstractNotificationsData.writeNormalizedNode(writer, Builders.containerBuilder()
+                .withNodeIdentifier(NodeIdentifier.create(PATCH_CONT))
+                .withChild(Builders.mapBuilder()
+                    .withNodeIdentifier(NodeIdentifier.create(MY_LIST1))
+                    .withChild(Builders.mapEntryBuilder()
+                        .withNodeIdentifier(NodeIdentifierWithPredicates.of(MY_LIST1, NAME, name))
+                        .withChild(ImmutableNodes.leafNode(NAME, name))
+                        .build())
+                    .build())
+                .build(), SchemaInferenceStack.of(context).toInference());
+            writer.writeEndElement();
+            writer.writeEndElement();
+        });
+    }
+}
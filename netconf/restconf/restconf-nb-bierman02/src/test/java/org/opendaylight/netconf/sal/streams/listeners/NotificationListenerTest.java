@@ -51,6 +51,7 @@ public class NotificationListenerTest {
 
     private static EffectiveModelContext schemaContext;
 
+    private final StreamRegistry streams = new StreamRegistry(new ReplayBuffers(), new EventJournals());
     private ControllerContext controllerContext;
 
     @BeforeClass
@@ -198,7 +199,7 @@ public class NotificationListenerTest {
     }
 
     private String prepareJson(final DOMNotification notificationData, final Absolute schemaPathNotifi) {
-        final List<NotificationListenerAdapter> listNotifi = Notificator.createNotificationListener(
+        final List<NotificationListenerAdapter> listNotifi = streams.putNotificationListener(
             List.of(schemaPathNotifi), "stream-name", NotificationOutputType.JSON.toString(), controllerContext);
         final NotificationListenerAdapter notifi = listNotifi.get(0);
         return requireNonNull(notifi.prepareJson(schemaContext, notificationData));
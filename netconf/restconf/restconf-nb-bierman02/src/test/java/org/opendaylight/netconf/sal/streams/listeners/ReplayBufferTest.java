@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReplayBufferTest {
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final List<ByteBuf> contents = new ArrayList<>();
+
+    private ReplayBuffers buffers;
+    private ReplayBuffer buffer;
+
+    @Before
+    public void before() {
+        buffers = new ReplayBuffers();
+        buffer = buffers.bufferFor("stream");
+    }
+
+    @After
+    public void after() {
+        buffers.close();
+        contents.forEach(ByteBuf::release);
+    }
+
+    @Test
+    public void testBetween() {
+        add(T0, "first");
+        add(T0.plusSeconds(1), "second");
+        add(T0.plusSeconds(2), "third");
+
+        assertReplayed(buffer.between(T0.plusSeconds(1), null, T0.plusSeconds(2)), "second", "third");
+        assertReplayed(buffer.between(T0.minusSeconds(1), null, T0.plusSeconds(2)), "first", "second", "third");
+        assertReplayed(buffer.between(T0.plusSeconds(3), null, T0.plusSeconds(3)));
+        assertReplayed(buffer.between(T0, T0.plusSeconds(1), T0.plusSeconds(3)), "first", "second");
+    }
+
+    @Test
+    public void testSharedContent() {
+        final ByteBuf content = add(T0, "first");
+        assertEquals(2, content.refCnt());
+
+        final List<ByteBuf> replayed = buffer.between(T0, null, T0);
+        assertEquals(3, content.refCnt());
+        replayed.forEach(ByteBuf::release);
+
+        buffer.close();
+        assertEquals(1, content.refCnt());
+        add(T0, "second");
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void testMaxEvents() {
+        buffers.setMaxEvents(2);
+        final ByteBuf first = add(T0, "first");
+        add(T0, "second");
+        add(T0, "third");
+        assertEquals(1, first.refCnt());
+        assertReplayed(buffer.between(T0, null, T0), "second", "third");
+    }
+
+    @Test
+    public void testMaxBytes() {
+        buffers.setMaxBytes(10);
+        add(T0, "first");
+        add(T0, "second");
+        assertEquals(6, buffer.bytes());
+        assertReplayed(buffer.between(T0, null, T0), "second");
+    }
+
+    @Test
+    public void testMaxAge() {
+        buffers.setMaxAgeMillis(1000);
+        add(T0, "first");
+        add(T0.plusMillis(500), "second");
+        assertReplayed(buffer.between(T0, null, T0.plusMillis(1200)), "second");
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    public void testTrim() {
+        buffers.setMaxAgeMillis(1000);
+        final ByteBuf first = add(T0, "first");
+        buffers.trim(T0.plusMillis(500));
+        assertEquals(1, buffers.buffers());
+        assertEquals(2, first.refCnt());
+
+        // Aged events are released even if nothing is added, the empty buffer is removed
+        buffers.trim(T0.plusMillis(1500));
+        assertEquals(1, first.refCnt());
+        assertEquals(0, buffers.buffers());
+        assertNull(buffers.findBuffer("stream"));
+
+        // Events of the stream go to a new buffer
+        buffers.add("stream", T0.plusMillis(1600), first);
+        assertEquals(2, first.refCnt());
+        assertReplayed(buffers.findBuffer("stream").between(T0, null, T0.plusMillis(1600)), "first");
+    }
+
+    @Test
+    public void testRemove() {
+        final ByteBuf first = add(T0, "first");
+        buffers.remove("stream");
+        assertEquals(1, first.refCnt());
+        assertNull(buffers.findBuffer("stream"));
+        add(T0, "second");
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        buffers.setMaxEvents(0);
+        assertNull(buffers.bufferFor("stream"));
+        assertEquals(0, buffer.size());
+    }
+
+    private ByteBuf add(final Instant time, final String text) {
+        final ByteBuf content = Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+        contents.add(content);
+        buffer.add(time, content);
+        return content;
+    }
+
+    private static void assertReplayed(final List<ByteBuf> replayed, final String... expected) {
+        final List<String> texts = new ArrayList<>(replayed.size());
+        for (ByteBuf content : replayed) {
+            texts.add(content.toString(StandardCharsets.UTF_8));
+            content.release();
+        }
+        assertEquals(List.of(expected), texts);
+    }
+}
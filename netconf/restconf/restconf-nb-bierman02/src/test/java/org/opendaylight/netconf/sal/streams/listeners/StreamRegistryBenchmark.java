@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link StreamRegistry} with many streams under concurrent subscribe and unsubscribe churn: looking up
+ * streams, subscribers coming and going on streams kept alive by a long-lived subscriber, and subscribers of
+ * short-lived streams which are torn down with their last subscriber and created again on the next request. Run with
+ * {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class StreamRegistryBenchmark {
+    private static final String PREFIX = "data-change-event-subscription/stream-";
+    private static final String SUFFIX = "/datastore=CONFIGURATION/scope=BASE";
+    private static final int SHORT_LIVED_STREAMS = 1024;
+
+    @Param({ "100000" })
+    public int streams;
+
+    private StreamRegistry registry;
+    private String[] names;
+    private String[] shortLivedNames;
+
+    @Setup
+    public void setup() {
+        registry = new StreamRegistry(new ReplayBuffers(), new EventJournals());
+        names = new String[streams];
+        for (int i = 0; i < streams; ++i) {
+            names[i] = PREFIX + i + SUFFIX;
+            registry.createListener(YangInstanceIdentifier.empty(), names[i], NotificationOutputType.XML, null);
+            // A long-lived subscriber keeps the stream alive
+            registry.acquire(names[i]);
+        }
+        shortLivedNames = new String[SHORT_LIVED_STREAMS];
+        for (int i = 0; i < SHORT_LIVED_STREAMS; ++i) {
+            shortLivedNames[i] = PREFIX + "short-lived-" + i + SUFFIX;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public ListenerAdapter lookup() {
+        return registry.getListenerFor(names[ThreadLocalRandom.current().nextInt(streams)]);
+    }
+
+    @Benchmark
+    public boolean subscribeUnsubscribe() {
+        final StreamRegistry.Stream stream = registry.acquire(names[ThreadLocalRandom.current().nextInt(streams)]);
+        registry.release(stream);
+        return stream.isRetired();
+    }
+
+    @Benchmark
+    public boolean createSubscribeTearDown() {
+        final String name = shortLivedNames[ThreadLocalRandom.current().nextInt(SHORT_LIVED_STREAMS)];
+        registry.createListener(YangInstanceIdentifier.empty(), name, NotificationOutputType.XML, null);
+        final StreamRegistry.Stream stream = registry.acquire(name);
+        if (stream == null) {
+            // Torn down by another subscriber between the two calls, as a client would see it
+            return false;
+        }
+        registry.release(stream);
+        return stream.isRetired();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StreamRegistryBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+public class StreamRegistryTest {
+    private static final String DATA_STREAM =
+        "data-change-event-subscription/toaster:toaster/datastore=CONFIGURATION/scope=BASE";
+    private static final String NOTIFICATION_STREAM = "create-notification-stream/toaster:toastDone";
+    private static final Absolute TOAST_DONE =
+        Absolute.of(QName.create("http://netconfcentral.org/ns/toaster", "2009-11-20", "toastDone"));
+
+    private final ReplayBuffers replayBuffers = new ReplayBuffers();
+    private final StreamRegistry registry = new StreamRegistry(replayBuffers, new EventJournals());
+
+    @After
+    public void after() {
+        registry.close();
+        replayBuffers.close();
+    }
+
+    @Test
+    public void testCreateOrGet() {
+        final ListenerAdapter listener = createListener();
+        assertSame(listener, createListener());
+        assertSame(listener, registry.getListenerFor(DATA_STREAM));
+        assertEquals(List.of(), registry.getNotificationListenerFor(DATA_STREAM));
+        assertThrows(IllegalStateException.class,
+            () -> registry.createNotificationListener(List.of(TOAST_DONE), DATA_STREAM, "XML", null));
+
+        final List<NotificationListenerAdapter> listeners = createNotificationListener();
+        assertEquals(1, listeners.size());
+        assertSame(listeners, createNotificationListener());
+        assertSame(listeners, registry.getNotificationListenerFor(NOTIFICATION_STREAM));
+        assertNull(registry.getListenerFor(NOTIFICATION_STREAM));
+
+        // Only data change streams are listed
+        assertEquals(Set.of(DATA_STREAM), registry.getStreamNames());
+    }
+
+    @Test
+    public void testTearDownWithLastSubscriber() {
+        // Without replay there is nothing to keep the stream for
+        replayBuffers.setMaxEvents(0);
+        final ListenerAdapter listener = createListener();
+        final EmbeddedChannel first = new EmbeddedChannel();
+        final EmbeddedChannel second = new EmbeddedChannel();
+        assertTrue(registry.subscribe(DATA_STREAM, first, Map.of()));
+        assertTrue(registry.subscribe(DATA_STREAM, second, Map.of()));
+        assertFalse(registry.subscribe("data-change-event-subscription/missing", second, Map.of()));
+
+        first.close();
+        assertSame(listener, registry.getListenerFor(DATA_STREAM));
+        second.close();
+        assertNull(registry.getListenerFor(DATA_STREAM));
+        assertFalse(registry.subscribe(DATA_STREAM, new EmbeddedChannel(), Map.of()));
+
+        // Requested again, the stream is created anew
+        final ListenerAdapter recreated = createListener();
+        assertNotSame(listener, recreated);
+        assertSame(recreated, registry.getListenerFor(DATA_STREAM));
+    }
+
+    @Test
+    public void testKeptForReplay() {
+        final ListenerAdapter listener = createListener();
+        final EmbeddedChannel subscriber = new EmbeddedChannel();
+        assertTrue(registry.subscribe(DATA_STREAM, subscriber, Map.of()));
+        subscriber.close();
+
+        // The stream is kept while its events may still be replayed
+        final Instant maxAge = Instant.now().plusMillis(replayBuffers.getMaxAgeMillis());
+        registry.expireIdle(maxAge.minusSeconds(1));
+        assertSame(listener, registry.getListenerFor(DATA_STREAM));
+
+        // Subscribing again keeps it for another maximum age after the subscriber leaves
+        final EmbeddedChannel reconnected = new EmbeddedChannel();
+        assertTrue(registry.subscribe(DATA_STREAM, reconnected, Map.of()));
+        registry.expireIdle(maxAge.plusSeconds(1));
+        assertSame(listener, registry.getListenerFor(DATA_STREAM));
+
+        reconnected.close();
+        registry.expireIdle(Instant.now().plusMillis(replayBuffers.getMaxAgeMillis() + 1000));
+        assertNull(registry.getListenerFor(DATA_STREAM));
+    }
+
+    @Test
+    public void testTearDownReleasesReplayBuffers() {
+        final ListenerAdapter listener = createListener();
+        final List<NotificationListenerAdapter> listeners = createNotificationListener();
+        final ByteBuf dataEvent = Unpooled.copiedBuffer("data", StandardCharsets.UTF_8);
+        final ByteBuf notification = Unpooled.copiedBuffer("notification", StandardCharsets.UTF_8);
+        replayBuffers.add(listener.getReplayKey(), Instant.now(), dataEvent);
+        replayBuffers.add(listeners.get(0).getReplayKey(), Instant.now(), notification);
+        assertEquals(2, dataEvent.refCnt());
+        assertEquals(2, notification.refCnt());
+
+        final EmbeddedChannel subscriber = new EmbeddedChannel();
+        assertTrue(registry.subscribe(DATA_STREAM, subscriber, Map.of()));
+        subscriber.close();
+        assertNotNull(replayBuffers.findBuffer(listener.getReplayKey()));
+        assertEquals(2, dataEvent.refCnt());
+
+        registry.expireIdle(Instant.now().plusMillis(replayBuffers.getMaxAgeMillis() + 1000));
+        assertNull(replayBuffers.findBuffer(listener.getReplayKey()));
+        assertEquals(1, dataEvent.refCnt());
+
+        registry.removeAll();
+        assertNull(replayBuffers.findBuffer(listeners.get(0).getReplayKey()));
+        assertEquals(1, notification.refCnt());
+
+        assertTrue(dataEvent.release());
+        assertTrue(notification.release());
+    }
+
+    @Test
+    public void testNotificationStreamKept() {
+        final List<NotificationListenerAdapter> listeners = createNotificationListener();
+        final EmbeddedChannel subscriber = new EmbeddedChannel();
+        assertTrue(registry.subscribe(NOTIFICATION_STREAM, subscriber, Map.of()));
+        subscriber.close();
+
+        // Notification streams stay registered until they are removed
+        registry.expireIdle(Instant.now().plusMillis(replayBuffers.getMaxAgeMillis() + 1000));
+        assertSame(listeners, registry.getNotificationListenerFor(NOTIFICATION_STREAM));
+        registry.removeAll();
+        assertEquals(List.of(), registry.getNotificationListenerFor(NOTIFICATION_STREAM));
+    }
+
+    @Test
+    public void testReferences() {
+        createListener();
+        final StreamRegistry.Stream stream = registry.acquire(DATA_STREAM);
+        assertNotNull(stream);
+        assertSame(stream, registry.acquire(DATA_STREAM));
+        assertEquals(2, stream.references());
+
+        registry.release(stream);
+        assertFalse(stream.isRetired());
+        assertNull(stream.idleSince());
+        registry.release(stream);
+        assertFalse(stream.isRetired());
+        assertNotNull(stream.idleSince());
+
+        // Acquired again while idle
+        assertSame(stream, registry.acquire(DATA_STREAM));
+        assertNull(stream.idleSince());
+        registry.release(stream);
+        registry.expireIdle(Instant.now().plusMillis(replayBuffers.getMaxAgeMillis() + 1000));
+        assertTrue(stream.isRetired());
+        assertNull(registry.acquire(DATA_STREAM));
+
+        // Releasing a reference of a stream torn down has no effect
+        registry.release(stream);
+        assertTrue(stream.isRetired());
+    }
+
+    @Test
+    public void testRemoveAll() {
+        createListener();
+        createNotificationListener();
+        final StreamRegistry.Stream stream = registry.acquire(DATA_STREAM);
+
+        registry.removeAll();
+        assertNull(registry.getListenerFor(DATA_STREAM));
+        assertEquals(List.of(), registry.getNotificationListenerFor(NOTIFICATION_STREAM));
+        assertEquals(Set.of(), registry.getStreamNames());
+
+        registry.release(stream);
+        assertTrue(stream.isRetired());
+    }
+
+    private ListenerAdapter createListener() {
+        return registry.createListener(YangInstanceIdentifier.empty(), DATA_STREAM, NotificationOutputType.XML, null);
+    }
+
+    private List<NotificationListenerAdapter> createNotificationListener() {
+        return registry.createNotificationListener(List.of(TOAST_DONE), NOTIFICATION_STREAM, "XML", null);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.sse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SseSubscriberTest {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor writers = tasks::add;
+
+    private SseSubscribers subscribers;
+    private RecordingOutput output;
+
+    @Before
+    public void before() {
+        subscribers = new SseSubscribers();
+        output = new RecordingOutput();
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("id: 7\ndata: {\"a\":1}\n\n", SseSubscriber.format("7", "{\"a\":1}"));
+        assertEquals("data: <a>\ndata: b\ndata: </a>\n\n", SseSubscriber.format(null, "<a>\r\nb\r</a>"));
+    }
+
+    @Test
+    public void testBatching() {
+        final SseSubscriber subscriber = new SseSubscriber(subscribers, output, writers, "test", 10, 1024);
+        subscriber.send(1, "one");
+        subscriber.send(2, "two");
+        subscriber.send(3, "three");
+
+        // A single writer task writes all pending events as one chunk
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(List.of("id: 1\ndata: one\n\nid: 2\ndata: two\n\nid: 3\ndata: three\n\n"), output.chunks);
+
+        subscriber.send(4, "four");
+        runTasks();
+        assertEquals("id: 4\ndata: four\n\n", output.chunks.get(1));
+    }
+
+    @Test
+    public void testBatchSize() {
+        final SseSubscriber subscriber = new SseSubscriber(subscribers, output, writers, "test", 10, 20);
+        subscriber.send(1, "one");
+        subscriber.send(2, "two");
+        subscriber.send(3, "three");
+        runTasks();
+        assertEquals(List.of("id: 1\ndata: one\n\nid: 2\ndata: two\n\n", "id: 3\ndata: three\n\n"), output.chunks);
+    }
+
+    @Test
+    public void testDropOldest() {
+        final SseSubscriber subscriber = new SseSubscriber(subscribers, output, writers, "test", 2, 1024);
+        subscriber.send(1, "one");
+        subscriber.send(2, "two");
+        subscriber.send(3, "three");
+        runTasks();
+        assertEquals(List.of("id: 2\ndata: two\n\nid: 3\ndata: three\n\n"), output.chunks);
+    }
+
+    @Test
+    public void testReplay() {
+        final SseSubscriber subscriber = new SseSubscriber(subscribers, output, writers, "test", 10, 1024);
+        final ByteBuf first = content("first");
+        final ByteBuf second = content("second");
+        subscriber.replay(List.of(first, second).iterator());
+        subscriber.send(3, "live");
+        runTasks();
+
+        // Replayed events go ahead of live ones and carry no id
+        assertEquals(List.of("data: first\n\ndata: second\n\nid: 3\ndata: live\n\n"), output.chunks);
+        assertEquals(0, first.refCnt());
+        assertEquals(0, second.refCnt());
+    }
+
+    @Test
+    public void testClose() {
+        final SseSubscriber subscriber = subscribers.newSubscriber(output, "stream");
+        final AtomicInteger closed = new AtomicInteger();
+        subscriber.addCloseListener(closed::incrementAndGet);
+
+        final ByteBuf replayed = content("replayed");
+        subscriber.close();
+        subscriber.close();
+        subscriber.replay(List.of(replayed).iterator());
+        subscriber.send(1, "one");
+
+        assertTrue(subscriber.isClosed());
+        assertTrue(output.closed);
+        assertEquals(1, closed.get());
+        assertEquals(0, replayed.refCnt());
+        assertTrue(output.chunks.isEmpty());
+    }
+
+    @Test
+    public void testDisconnect() {
+        final SseSubscriber subscriber = new SseSubscriber(subscribers, output, writers, "test", 10, 1024);
+        final AtomicInteger closed = new AtomicInteger();
+        subscriber.addCloseListener(closed::incrementAndGet);
+
+        output.failing = true;
+        subscriber.send(1, "one");
+        assertFalse(subscriber.isClosed());
+        runTasks();
+        assertTrue(subscriber.isClosed());
+        assertEquals(1, closed.get());
+    }
+
+    private void runTasks() {
+        for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+            task.run();
+        }
+    }
+
+    private static ByteBuf content(final String text) {
+        return Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordingOutput extends ChunkedOutput<String> {
+        final List<String> chunks = new ArrayList<>();
+        boolean failing;
+        boolean closed;
+
+        RecordingOutput() {
+            super(String.class);
+        }
+
+        @Override
+        public void write(final String chunk) throws IOException {
+            if (failing) {
+                throw new IOException("Connection reset");
+            }
+            chunks.add(chunk);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
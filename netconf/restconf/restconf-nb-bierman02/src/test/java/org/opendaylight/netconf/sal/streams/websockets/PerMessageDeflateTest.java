@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.Inflater;
+import org.junit.Test;
+
+public class PerMessageDeflateTest {
+    private static final String EVENT = "<notification><data-changed-notification>".repeat(20);
+
+    private final PerMessageDeflate deflate = new PerMessageDeflate(6, 64);
+
+    @Test
+    public void testResponseData() {
+        final WebSocketServerExtension extension = deflate.handshakeExtension(
+            new WebSocketExtensionData("permessage-deflate", Map.of()));
+        assertNotNull(extension);
+        final WebSocketExtensionData data = extension.newReponseData();
+        assertEquals("permessage-deflate", data.name());
+        assertTrue(data.parameters().containsKey("server_no_context_takeover"));
+
+        assertNull(deflate.handshakeExtension(new WebSocketExtensionData("x-webkit-deflate-frame", Map.of())));
+    }
+
+    @Test
+    public void testEncoder() throws Exception {
+        final WebSocketServerExtension extension = deflate.handshakeExtension(
+            new WebSocketExtensionData("permessage-deflate", Map.of()));
+        final EmbeddedChannel channel = new EmbeddedChannel(extension.newExtensionEncoder());
+        assertSame(deflate, channel.attr(PerMessageDeflate.KEY).get());
+
+        // Large frames are compressed, small ones are not
+        channel.writeOutbound(new TextWebSocketFrame(EVENT));
+        final TextWebSocketFrame compressed = channel.readOutbound();
+        assertEquals(WebSocketExtension.RSV1, compressed.rsv());
+        assertEquals(EVENT, inflate(compressed.content()));
+        compressed.release();
+
+        channel.writeOutbound(new TextWebSocketFrame("small"));
+        final TextWebSocketFrame small = channel.readOutbound();
+        assertEquals(0, small.rsv());
+        assertEquals("small", small.text());
+        small.release();
+
+        // Frames compressed up front are passed through
+        final ByteBuf content = Unpooled.copiedBuffer(EVENT, StandardCharsets.UTF_8);
+        try (CompressedContents contents = new CompressedContents()) {
+            channel.writeOutbound(contents.newFrame(channel, content));
+        }
+        final TextWebSocketFrame shared = channel.readOutbound();
+        assertEquals(WebSocketExtension.RSV1, shared.rsv());
+        assertEquals(EVENT, inflate(shared.content()));
+        shared.release();
+        content.release();
+    }
+
+    @Test
+    public void testSharedCompression() throws Exception {
+        final EmbeddedChannel plain = new EmbeddedChannel();
+        final EmbeddedChannel first = new EmbeddedChannel();
+        final EmbeddedChannel second = new EmbeddedChannel();
+        first.attr(PerMessageDeflate.KEY).set(deflate);
+        second.attr(PerMessageDeflate.KEY).set(deflate);
+
+        final ByteBuf content = Unpooled.copiedBuffer(EVENT, StandardCharsets.UTF_8);
+        final TextWebSocketFrame plainFrame;
+        final TextWebSocketFrame firstFrame;
+        final TextWebSocketFrame secondFrame;
+        try (CompressedContents contents = new CompressedContents()) {
+            plainFrame = contents.newFrame(plain, content);
+            firstFrame = contents.newFrame(first, content);
+            secondFrame = contents.newFrame(second, content);
+        }
+        content.release();
+
+        assertEquals(0, plainFrame.rsv());
+        assertEquals(EVENT, plainFrame.text());
+        assertTrue(plainFrame.release());
+
+        // Both subscribers share the compressed content, which is released with the last frame
+        assertEquals(WebSocketExtension.RSV1, firstFrame.rsv());
+        assertEquals(2, firstFrame.refCnt());
+        assertEquals(EVENT, inflate(secondFrame.content()));
+        firstFrame.release();
+        assertTrue(secondFrame.release());
+    }
+
+    private static String inflate(final ByteBuf compressed) throws Exception {
+        final Inflater inflater = new Inflater(true);
+        try {
+            // Restore the trailer of the sync flush, which is not sent
+            final byte[] message = ByteBufUtil.getBytes(compressed);
+            final byte[] input = Arrays.copyOf(message, message.length + 4);
+            input[input.length - 2] = (byte) 0xff;
+            input[input.length - 1] = (byte) 0xff;
+            inflater.setInput(input);
+            final byte[] output = new byte[EVENT.length() * 2];
+            final int length = inflater.inflate(output);
+            return new String(output, 0, length, StandardCharsets.UTF_8);
+        } finally {
+            inflater.end();
+        }
+    }
+}
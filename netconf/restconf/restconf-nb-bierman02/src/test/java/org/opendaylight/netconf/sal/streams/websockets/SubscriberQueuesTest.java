@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.restconf.impl.jmx.WebSocketSubscriber;
+
+public class SubscriberQueuesTest {
+    private SubscriberQueues queues;
+
+    @Before
+    public void before() {
+        queues = new SubscriberQueues();
+        queues.setMaxQueuedEvents(2);
+    }
+
+    @Test
+    public void testWriteThrough() {
+        final EmbeddedChannel channel = new EmbeddedChannel(queues.newQueue());
+        SubscriberQueues.write(channel, new TextWebSocketFrame("first"));
+        assertReceived(channel, "first");
+        assertNull(channel.readOutbound());
+
+        final WebSocketSubscriber subscriber = onlySubscriber();
+        assertTrue(subscriber.isWritable());
+        assertEquals(0, subscriber.getQueuedEvents());
+        assertEquals(1, subscriber.getSentEvents());
+        assertEquals(0, subscriber.getDroppedEvents());
+    }
+
+    @Test
+    public void testWithoutQueue() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        SubscriberQueues.write(channel, new TextWebSocketFrame("first"));
+        assertReceived(channel, "first");
+        assertTrue(queues.getSubscribers().isEmpty());
+    }
+
+    @Test
+    public void testDropOldest() {
+        queues.setSlowConsumerPolicy("drop-oldest");
+        final EmbeddedChannel channel = new EmbeddedChannel(queues.newQueue());
+        setWritable(channel, false);
+        final TextWebSocketFrame first = new TextWebSocketFrame("first");
+        SubscriberQueues.write(channel, first);
+        SubscriberQueues.write(channel, new TextWebSocketFrame("second"));
+        SubscriberQueues.write(channel, new TextWebSocketFrame("third"));
+        assertNull(channel.readOutbound());
+        assertEquals(0, first.refCnt());
+
+        WebSocketSubscriber subscriber = onlySubscriber();
+        assertFalse(subscriber.isWritable());
+        assertEquals(2, subscriber.getQueuedEvents());
+        assertEquals(1, subscriber.getDroppedEvents());
+
+        setWritable(channel, true);
+        assertReceived(channel, "second");
+        assertReceived(channel, "third");
+        assertNull(channel.readOutbound());
+
+        subscriber = onlySubscriber();
+        assertEquals(0, subscriber.getQueuedEvents());
+        assertEquals(2, subscriber.getSentEvents());
+    }
+
+    @Test
+    public void testCoalesce() {
+        queues.setSlowConsumerPolicy("coalesce");
+        final EmbeddedChannel channel = new EmbeddedChannel(queues.newQueue());
+        setWritable(channel, false);
+        SubscriberQueues.write(channel, new TextWebSocketFrame("first"));
+        SubscriberQueues.write(channel, new TextWebSocketFrame("second"));
+        SubscriberQueues.write(channel, new TextWebSocketFrame("third"));
+
+        final WebSocketSubscriber subscriber = onlySubscriber();
+        assertEquals(1, subscriber.getQueuedEvents());
+        assertEquals(2, subscriber.getDroppedEvents());
+
+        setWritable(channel, true);
+        assertReceived(channel, "third");
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testDisconnect() {
+        queues.setSlowConsumerPolicy("disconnect");
+        final EmbeddedChannel channel = new EmbeddedChannel(queues.newQueue());
+        setWritable(channel, false);
+        final TextWebSocketFrame first = new TextWebSocketFrame("first");
+        SubscriberQueues.write(channel, first);
+        SubscriberQueues.write(channel, new TextWebSocketFrame("second"));
+        SubscriberQueues.write(channel, new TextWebSocketFrame("third"));
+        channel.runPendingTasks();
+
+        assertFalse(channel.isActive());
+        assertEquals(0, first.refCnt());
+        assertEquals(1, queues.getDisconnectedSubscribers());
+        assertTrue(queues.getSubscribers().isEmpty());
+
+        // Events of a closed subscriber are released right away
+        final TextWebSocketFrame late = new TextWebSocketFrame("late");
+        SubscriberQueues.write(channel, late);
+        assertEquals(0, late.refCnt());
+    }
+
+    @Test
+    public void testReplay() {
+        final EmbeddedChannel channel = new EmbeddedChannel(queues.newQueue());
+        setWritable(channel, false);
+        SubscriberQueues.replay(channel, List.of(new TextWebSocketFrame("replayed1"),
+            new TextWebSocketFrame("replayed2")).iterator());
+        SubscriberQueues.write(channel, new TextWebSocketFrame("live"));
+        assertNull(channel.readOutbound());
+
+        // Live events wait until the replay is done
+        setWritable(channel, true);
+        assertReceived(channel, "replayed1");
+        assertReceived(channel, "replayed2");
+        assertReceived(channel, "live");
+        assertNull(channel.readOutbound());
+
+        SubscriberQueues.write(channel, new TextWebSocketFrame("direct"));
+        assertReceived(channel, "direct");
+    }
+
+    @Test
+    public void testConfiguration() {
+        assertEquals("disconnect", queues.getSlowConsumerPolicy());
+        assertEquals(SubscriberQueues.DEFAULT_LOW_WATER_MARK, queues.getLowWaterMark());
+        assertEquals(SubscriberQueues.DEFAULT_HIGH_WATER_MARK, queues.getHighWaterMark());
+        assertThrows(IllegalArgumentException.class, () -> queues.setSlowConsumerPolicy("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> queues.setMaxQueuedEvents(0));
+
+        queues.setLowWaterMark(1024);
+        queues.setHighWaterMark(4096);
+        assertEquals(1024, queues.writeBufferWaterMark().low());
+        assertEquals(4096, queues.writeBufferWaterMark().high());
+    }
+
+    private WebSocketSubscriber onlySubscriber() {
+        final List<WebSocketSubscriber> subscribers = queues.getSubscribers();
+        assertEquals(1, subscribers.size());
+        return subscribers.get(0);
+    }
+
+    private static void setWritable(final EmbeddedChannel channel, final boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        channel.runPendingTasks();
+    }
+
+    private static void assertReceived(final EmbeddedChannel channel, final String text) {
+        final TextWebSocketFrame frame = channel.readOutbound();
+        try {
+            assertEquals(text, frame.text());
+        } finally {
+            frame.release();
+        }
+    }
+}
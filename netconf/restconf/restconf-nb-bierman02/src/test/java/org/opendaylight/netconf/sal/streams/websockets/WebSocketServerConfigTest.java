@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 ONAP and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.websockets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class WebSocketServerConfigTest {
+    @Test
+    public void testConfig() {
+        final WebSocketServerConfig config = new WebSocketServerConfig("epoll", 4, 64, true);
+        assertEquals(WebSocketTransport.EPOLL, config.getTransport());
+        assertEquals(4, config.getAcceptThreads());
+        assertEquals(64, config.getWorkerThreads());
+        assertTrue(config.isPooledAllocator());
+
+        assertEquals(WebSocketTransport.AUTO, WebSocketServerConfig.DEFAULT.getTransport());
+        assertEquals(WebSocketTransport.NIO, WebSocketTransport.forValue("nio"));
+    }
+
+    @Test
+    public void testInvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new WebSocketServerConfig("kqueue", 1, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> new WebSocketServerConfig("nio", 0, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> new WebSocketServerConfig("nio", 1, -1, false));
+    }
+}